@@ -69,6 +69,47 @@ public class RangerAuthorizationProperties extends AuthorizationProperties {
 
   public static final String DEFAULT_JDBC_URL = "jdbc:hive2://127.0.0.1:8081";
 
+  /**
+   * How role, ownership and user changes are pushed to Ranger, `sync` applies them inside the
+   * Gravitino request, `async` journals them and applies them in batches in the background.
+   */
+  public static final String RANGER_SYNC_MODE = "authorization.ranger.sync.mode";
+
+  public static final String SYNC_MODE_SYNC = "sync";
+  public static final String SYNC_MODE_ASYNC = "async";
+  public static final String DEFAULT_SYNC_MODE = SYNC_MODE_SYNC;
+
+  /** The directory of the local journal that keeps the pending changes in `async` mode. */
+  public static final String RANGER_SYNC_QUEUE_DIR = "authorization.ranger.sync.queue-dir";
+
+  /** The max number of pending changes, requests block when the queue is full. */
+  public static final String RANGER_SYNC_QUEUE_CAPACITY =
+      "authorization.ranger.sync.queue-capacity";
+
+  public static final int DEFAULT_SYNC_QUEUE_CAPACITY = 10000;
+
+  /** How long a request waits for room in a full queue before it fails. */
+  public static final String RANGER_SYNC_SUBMIT_TIMEOUT_MS =
+      "authorization.ranger.sync.submit-timeout-ms";
+
+  public static final long DEFAULT_SYNC_SUBMIT_TIMEOUT_MS = 30000L;
+
+  /** The max number of pending changes applied to Ranger in one batch. */
+  public static final String RANGER_SYNC_BATCH_SIZE = "authorization.ranger.sync.batch-size";
+
+  public static final int DEFAULT_SYNC_BATCH_SIZE = 200;
+
+  /** The max number of retries of a failed batch before its changes are dropped. */
+  public static final String RANGER_SYNC_MAX_RETRIES = "authorization.ranger.sync.max-retries";
+
+  public static final int DEFAULT_SYNC_MAX_RETRIES = 5;
+
+  /** The initial backoff between retries, doubled after every failed attempt. */
+  public static final String RANGER_SYNC_RETRY_BACKOFF_MS =
+      "authorization.ranger.sync.retry-backoff-ms";
+
+  public static final long DEFAULT_SYNC_RETRY_BACKOFF_MS = 1000L;
+
   public RangerAuthorizationProperties(Map<String, String> properties) {
     super(properties);
   }
@@ -111,5 +152,31 @@ public class RangerAuthorizationProperties extends AuthorizationProperties {
     Preconditions.checkArgument(
         properties.get(RANGER_SERVICE_NAME) != null,
         String.format(ErrorMessages.MISSING_REQUIRED_ARGUMENT, RANGER_SERVICE_NAME));
+
+    String syncMode = properties.getOrDefault(RANGER_SYNC_MODE, DEFAULT_SYNC_MODE);
+    Preconditions.checkArgument(
+        SYNC_MODE_SYNC.equals(syncMode) || SYNC_MODE_ASYNC.equals(syncMode),
+        "%s must be `%s` or `%s`, but got `%s`",
+        RANGER_SYNC_MODE,
+        SYNC_MODE_SYNC,
+        SYNC_MODE_ASYNC,
+        syncMode);
+    checkPositive(RANGER_SYNC_QUEUE_CAPACITY);
+    checkPositive(RANGER_SYNC_SUBMIT_TIMEOUT_MS);
+    checkPositive(RANGER_SYNC_BATCH_SIZE);
+    checkPositive(RANGER_SYNC_RETRY_BACKOFF_MS);
+    if (properties.containsKey(RANGER_SYNC_MAX_RETRIES)) {
+      Preconditions.checkArgument(
+          Integer.parseInt(properties.get(RANGER_SYNC_MAX_RETRIES)) >= 0,
+          "%s must be non-negative",
+          RANGER_SYNC_MAX_RETRIES);
+    }
+  }
+
+  private void checkPositive(String key) {
+    if (properties.containsKey(key)) {
+      Preconditions.checkArgument(
+          Long.parseLong(properties.get(key)) > 0, "%s must be positive", key);
+    }
   }
 }
@@ -142,4 +142,30 @@ public class TestRangerAuthorizationProperties {
           rangerAuthProperties.validate();
         });
   }
+
+  @Test
+  void testRangerSyncProperties() {
+    Map<String, String> properties = Maps.newHashMap();
+    properties.put("authorization.ranger.auth.type", "simple");
+    properties.put("authorization.ranger.admin.url", "http://localhost:6080");
+    properties.put("authorization.ranger.username", "admin");
+    properties.put("authorization.ranger.password", "admin");
+    properties.put("authorization.ranger.service.type", "hive");
+    properties.put("authorization.ranger.service.name", "hiveDev");
+    properties.put("authorization.ranger.sync.mode", "async");
+    properties.put("authorization.ranger.sync.batch-size", "100");
+    properties.put("authorization.ranger.sync.max-retries", "0");
+    Assertions.assertDoesNotThrow(() -> new RangerAuthorizationProperties(properties).validate());
+
+    properties.put("authorization.ranger.sync.mode", "eventual");
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new RangerAuthorizationProperties(properties).validate());
+
+    properties.put("authorization.ranger.sync.mode", "sync");
+    properties.put("authorization.ranger.sync.queue-capacity", "0");
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new RangerAuthorizationProperties(properties).validate());
+  }
 }
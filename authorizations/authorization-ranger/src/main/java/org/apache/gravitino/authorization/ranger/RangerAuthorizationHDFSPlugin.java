@@ -693,6 +693,7 @@ public class RangerAuthorizationHDFSPlugin extends RangerAuthorizationPlugin {
 
   @Override
   public Boolean onMetadataUpdated(MetadataObjectChange... changes) throws RuntimeException {
+    awaitPendingSync();
     for (MetadataObjectChange change : changes) {
       if (change instanceof MetadataObjectChange.RenameMetadataObject) {
         MetadataObjectChange.RenameMetadataObject renameChange =
@@ -739,6 +739,7 @@ public class RangerAuthorizationHadoopSQLPlugin extends RangerAuthorizationPlugi
 
   @Override
   public Boolean onMetadataUpdated(MetadataObjectChange... changes) throws RuntimeException {
+    awaitPendingSync();
     for (MetadataObjectChange change : changes) {
       if (change instanceof MetadataObjectChange.RenameMetadataObject) {
         MetadataObject metadataObject =
@@ -23,9 +23,12 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.sun.jersey.api.client.ClientResponse;
 import java.io.IOException;
-import java.time.Instant;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,10 +57,6 @@ import org.apache.gravitino.authorization.ranger.reference.VXUser;
 import org.apache.gravitino.authorization.ranger.reference.VXUserList;
 import org.apache.gravitino.connector.authorization.AuthorizationPlugin;
 import org.apache.gravitino.exceptions.AuthorizationPluginException;
-import org.apache.gravitino.meta.AuditInfo;
-import org.apache.gravitino.meta.GroupEntity;
-import org.apache.gravitino.meta.UserEntity;
-import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.ranger.RangerServiceException;
 import org.apache.ranger.plugin.model.RangerPolicy;
 import org.apache.ranger.plugin.model.RangerService;
@@ -87,6 +86,9 @@ public abstract class RangerAuthorizationPlugin
   protected RangerClientExtension rangerClient;
   protected RangerHelper rangerHelper;
   @VisibleForTesting public final String rangerAdminName;
+  // Applies the changes in the background in the `async` sync mode, null in the `sync` mode.
+  private RangerSyncPipeline syncPipeline;
+  private long syncSubmitTimeoutMs;
 
   protected RangerAuthorizationPlugin(String metalake, Map<String, String> config) {
     this.metalake = metalake;
@@ -114,6 +116,64 @@ public abstract class RangerAuthorizationPlugin
             rangerServiceName,
             ownerMappingRule(),
             policyResourceDefinesRule());
+
+    if (RangerAuthorizationProperties.SYNC_MODE_ASYNC.equals(
+        config.get(RangerAuthorizationProperties.RANGER_SYNC_MODE))) {
+      this.syncPipeline = createSyncPipeline(config);
+    }
+  }
+
+  private RangerSyncPipeline createSyncPipeline(Map<String, String> config) {
+    String queueDir = config.get(RangerAuthorizationProperties.RANGER_SYNC_QUEUE_DIR);
+    if (queueDir == null) {
+      String gravitinoHome = System.getenv("GRAVITINO_HOME");
+      queueDir =
+          gravitinoHome != null
+              ? Paths.get(gravitinoHome, "data", "ranger-sync").toString()
+              : Paths.get(System.getProperty("java.io.tmpdir"), "gravitino-ranger-sync").toString();
+    }
+    this.syncSubmitTimeoutMs =
+        Long.parseLong(
+            getConfValue(
+                config,
+                RangerAuthorizationProperties.RANGER_SYNC_SUBMIT_TIMEOUT_MS,
+                String.valueOf(RangerAuthorizationProperties.DEFAULT_SYNC_SUBMIT_TIMEOUT_MS)));
+
+    String name = metalake + "-" + rangerServiceName;
+    RangerSyncJournal journal;
+    try {
+      journal = RangerSyncJournal.open(Paths.get(queueDir), name);
+    } catch (IOException e) {
+      throw new AuthorizationPluginException(
+          e, "Failed to open the Ranger sync journal in %s", queueDir);
+    }
+    LOG.info(
+        "Sync the changes to Ranger service {} asynchronously, journal: {}", name, journal.path());
+    return new RangerSyncPipeline(
+        name,
+        journal,
+        this::applySyncOperations,
+        Integer.parseInt(
+            getConfValue(
+                config,
+                RangerAuthorizationProperties.RANGER_SYNC_QUEUE_CAPACITY,
+                String.valueOf(RangerAuthorizationProperties.DEFAULT_SYNC_QUEUE_CAPACITY))),
+        Integer.parseInt(
+            getConfValue(
+                config,
+                RangerAuthorizationProperties.RANGER_SYNC_BATCH_SIZE,
+                String.valueOf(RangerAuthorizationProperties.DEFAULT_SYNC_BATCH_SIZE))),
+        Integer.parseInt(
+            getConfValue(
+                config,
+                RangerAuthorizationProperties.RANGER_SYNC_MAX_RETRIES,
+                String.valueOf(RangerAuthorizationProperties.DEFAULT_SYNC_MAX_RETRIES))),
+        Long.parseLong(
+            getConfValue(
+                config,
+                RangerAuthorizationProperties.RANGER_SYNC_RETRY_BACKOFF_MS,
+                String.valueOf(RangerAuthorizationProperties.DEFAULT_SYNC_RETRY_BACKOFF_MS))),
+        syncSubmitTimeoutMs);
   }
 
   @VisibleForTesting
@@ -286,6 +346,18 @@ public abstract class RangerAuthorizationPlugin
       return false;
     }
 
+    if (syncPipeline != null) {
+      List<RangerSyncOperation> operations = new ArrayList<>();
+      operations.add(RangerSyncOperation.createRole(role.name()));
+      role.securableObjects()
+          .forEach(
+              securableObject ->
+                  operations.add(
+                      RangerSyncOperation.addSecurableObject(role.name(), securableObject)));
+      syncPipeline.submit(operations);
+      return Boolean.TRUE;
+    }
+
     rangerHelper.createRangerRoleIfNotExists(role.name(), false);
     return onRoleUpdated(
         role,
@@ -308,6 +380,18 @@ public abstract class RangerAuthorizationPlugin
     if (!validAuthorizationOperation(role.securableObjects())) {
       return false;
     }
+    if (syncPipeline != null) {
+      List<RangerSyncOperation> operations = new ArrayList<>();
+      role.securableObjects()
+          .forEach(
+              securableObject ->
+                  operations.add(
+                      RangerSyncOperation.removeSecurableObject(role.name(), securableObject)));
+      operations.add(RangerSyncOperation.deleteRole(role.name()));
+      syncPipeline.submit(operations);
+      return Boolean.TRUE;
+    }
+
     // First, remove the role in the Ranger policy
     onRoleUpdated(
         role,
@@ -315,24 +399,86 @@ public abstract class RangerAuthorizationPlugin
             .map(securableObject -> RoleChange.removeSecurableObject(role.name(), securableObject))
             .toArray(RoleChange[]::new));
     // Lastly, delete the role in the Ranger
+    deleteRangerRole(role.name());
+    return Boolean.TRUE;
+  }
+
+  private void deleteRangerRole(String roleName) {
     try {
       rangerClient.deleteRole(
-          rangerHelper.generateGravitinoRoleName(role.name()), rangerAdminName, rangerServiceName);
+          rangerHelper.generateGravitinoRoleName(roleName), rangerAdminName, rangerServiceName);
     } catch (RangerServiceException e) {
-      if (rangerHelper.getRangerRole(role.name()) == null) {
+      if (rangerHelper.getRangerRole(roleName) == null) {
         // Ignore exception to support idempotent operation
-        LOG.info("Ranger delete role: {} failed!", role, e);
+        LOG.info("Ranger delete role: {} failed!", roleName, e);
       } else {
         throw new AuthorizationPluginException(
-            "Fail to delete role %s exception: %s", role, e.getMessage());
+            "Fail to delete role %s exception: %s", roleName, e.getMessage());
       }
     }
-    return Boolean.TRUE;
   }
 
   @Override
   public Boolean onRoleUpdated(Role role, RoleChange... changes)
       throws AuthorizationPluginException {
+    if (syncPipeline != null) {
+      return submitRoleChanges(role.name(), changes);
+    }
+    return doRoleUpdated(role.name(), null, changes);
+  }
+
+  private Boolean submitRoleChanges(String roleName, RoleChange... changes) {
+    List<RangerSyncOperation> operations = new ArrayList<>();
+    for (RoleChange change : changes) {
+      if (change instanceof RoleChange.AddSecurableObject) {
+        SecurableObject securableObject =
+            ((RoleChange.AddSecurableObject) change).getSecurableObject();
+        if (!validAuthorizationOperation(Arrays.asList(securableObject))) {
+          return Boolean.FALSE;
+        }
+        operations.add(RangerSyncOperation.addSecurableObject(roleName, securableObject));
+      } else if (change instanceof RoleChange.RemoveSecurableObject) {
+        SecurableObject securableObject =
+            ((RoleChange.RemoveSecurableObject) change).getSecurableObject();
+        if (!validAuthorizationOperation(Arrays.asList(securableObject))) {
+          return Boolean.FALSE;
+        }
+        operations.add(RangerSyncOperation.removeSecurableObject(roleName, securableObject));
+      } else if (change instanceof RoleChange.UpdateSecurableObject) {
+        SecurableObject oldSecurableObject =
+            ((RoleChange.UpdateSecurableObject) change).getSecurableObject();
+        SecurableObject newSecurableObject =
+            ((RoleChange.UpdateSecurableObject) change).getNewSecurableObject();
+        if (!validAuthorizationOperation(Arrays.asList(oldSecurableObject, newSecurableObject))) {
+          return Boolean.FALSE;
+        }
+        Preconditions.checkArgument(
+            (oldSecurableObject.fullName().equals(newSecurableObject.fullName())
+                && oldSecurableObject.type().equals(newSecurableObject.type())),
+            "The old and new securable objects metadata must be equal!");
+        operations.add(RangerSyncOperation.removeSecurableObject(roleName, oldSecurableObject));
+        operations.add(RangerSyncOperation.addSecurableObject(roleName, newSecurableObject));
+      } else {
+        throw new IllegalArgumentException(
+            "Unsupported role change type: "
+                + (change == null ? "null" : change.getClass().getSimpleName()));
+      }
+    }
+    syncPipeline.submit(operations);
+    return Boolean.TRUE;
+  }
+
+  /**
+   * Applies the role changes to Ranger.
+   *
+   * @param roleName The name of the role.
+   * @param pendingPolicies The policies of the policy run being applied by the sync pipeline, or
+   *     null to write every changed policy to Ranger right away.
+   * @param changes The role changes.
+   * @return True if the changes are applied.
+   */
+  private Boolean doRoleUpdated(
+      String roleName, Map<String, PendingPolicy> pendingPolicies, RoleChange... changes) {
     for (RoleChange change : changes) {
       if (change instanceof RoleChange.AddSecurableObject) {
         SecurableObject securableObject =
@@ -345,7 +491,7 @@ public abstract class RangerAuthorizationPlugin
             translatePrivilege(securableObject);
         authzSecurableObjects.forEach(
             authzSecurableObject -> {
-              if (!doAddSecurableObject(role.name(), authzSecurableObject)) {
+              if (!doAddSecurableObject(roleName, authzSecurableObject, pendingPolicies)) {
                 throw new AuthorizationPluginException(
                     "Failed to add the securable object to the Ranger policy!");
               }
@@ -362,7 +508,7 @@ public abstract class RangerAuthorizationPlugin
         authzSecurableObjects.stream()
             .forEach(
                 authzSecurableObject -> {
-                  if (!removeSecurableObject(role.name(), authzSecurableObject)) {
+                  if (!removeSecurableObject(roleName, authzSecurableObject, pendingPolicies)) {
                     throw new AuthorizationPluginException(
                         "Failed to add the securable object to the Ranger policy!");
                   }
@@ -389,11 +535,11 @@ public abstract class RangerAuthorizationPlugin
             translatePrivilege(newSecurableObject);
         rangerOldSecurableObjects.forEach(
             AuthorizationSecurableObject -> {
-              removeSecurableObject(role.name(), AuthorizationSecurableObject);
+              removeSecurableObject(roleName, AuthorizationSecurableObject, pendingPolicies);
             });
         rangerNewSecurableObjects.forEach(
             AuthorizationSecurableObject -> {
-              doAddSecurableObject(role.name(), AuthorizationSecurableObject);
+              doAddSecurableObject(roleName, AuthorizationSecurableObject, pendingPolicies);
             });
       } else {
         throw new IllegalArgumentException(
@@ -407,6 +553,7 @@ public abstract class RangerAuthorizationPlugin
 
   @Override
   public Boolean onMetadataUpdated(MetadataObjectChange... changes) throws RuntimeException {
+    awaitPendingSync();
     for (MetadataObjectChange change : changes) {
       if (change instanceof MetadataObjectChange.RenameMetadataObject) {
         MetadataObject metadataObject =
@@ -474,17 +621,35 @@ public abstract class RangerAuthorizationPlugin
   public Boolean onOwnerSet(MetadataObject metadataObject, Owner preOwner, Owner newOwner)
       throws AuthorizationPluginException {
     Preconditions.checkArgument(newOwner != null, "The newOwner must be not null");
+    if (syncPipeline != null) {
+      syncPipeline.submit(
+          Collections.singletonList(
+              RangerSyncOperation.setOwner(metadataObject, preOwner, newOwner)));
+      return Boolean.TRUE;
+    }
+    return doOwnerSet(metadataObject, preOwner, newOwner, null);
+  }
 
+  /**
+   * Sets the owner of the metadata object in Ranger.
+   *
+   * @param metadataObject The metadata object to set the owner.
+   * @param preOwner The previous owner of the metadata object.
+   * @param newOwner The new owner of the metadata object.
+   * @param pendingPolicies The policies of the policy run being applied by the sync pipeline, or
+   *     null to write every changed policy to Ranger right away.
+   * @return True if the owner is set.
+   */
+  private Boolean doOwnerSet(
+      MetadataObject metadataObject,
+      Owner preOwner,
+      Owner newOwner,
+      Map<String, PendingPolicy> pendingPolicies) {
     // Add the user or group to the Ranger
     String preOwnerUserName = null,
         preOwnerGroupName = null,
         newOwnerUserName = null,
         newOwnerGroupName = null;
-    AuditInfo auditInfo =
-        AuditInfo.builder()
-            .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
-            .withCreateTime(Instant.now())
-            .build();
     if (preOwner != null) {
       if (preOwner.type() == Owner.Type.USER) {
         preOwnerUserName = preOwner.name();
@@ -494,26 +659,10 @@ public abstract class RangerAuthorizationPlugin
     }
     if (newOwner.type() == Owner.Type.USER) {
       newOwnerUserName = newOwner.name();
-      UserEntity userEntity =
-          UserEntity.builder()
-              .withId(1L)
-              .withName(newOwnerUserName)
-              .withRoleNames(Collections.emptyList())
-              .withRoleIds(Collections.emptyList())
-              .withAuditInfo(auditInfo)
-              .build();
-      onUserAdded(userEntity);
+      addRangerUser(newOwnerUserName);
     } else {
       newOwnerGroupName = newOwner.name();
-      GroupEntity groupEntity =
-          GroupEntity.builder()
-              .withId(1L)
-              .withName(newOwnerGroupName)
-              .withRoleNames(Collections.emptyList())
-              .withRoleIds(Collections.emptyList())
-              .withAuditInfo(auditInfo)
-              .build();
-      onGroupAdded(groupEntity);
+      addRangerGroup(newOwnerGroupName);
     }
 
     List<AuthorizationSecurableObject> rangerSecurableObjects = translateOwner(metadataObject);
@@ -549,15 +698,14 @@ public abstract class RangerAuthorizationPlugin
 
         rangerSecurableObjects.forEach(
             rangerSecurableObject -> {
-              RangerPolicy policy = findManagedPolicy(rangerSecurableObject);
+              RangerPolicy policy = findPolicyForUpdate(rangerSecurableObject, pendingPolicies);
               try {
                 if (policy == null) {
                   policy = addOwnerRoleToNewPolicy(rangerSecurableObject, ownerRoleName);
-                  rangerClient.createPolicy(policy);
                 } else {
                   rangerHelper.updatePolicyOwnerRole(policy, ownerRoleName);
-                  rangerClient.updatePolicy(policy.getId(), policy);
                 }
+                savePolicy(rangerSecurableObject, policy, pendingPolicies);
               } catch (RangerServiceException e) {
                 throw new AuthorizationPluginException(e, "Failed to add the owner to the Ranger!");
               }
@@ -570,15 +718,15 @@ public abstract class RangerAuthorizationPlugin
         rangerSecurableObjects.stream()
             .forEach(
                 AuthorizationSecurableObject -> {
-                  RangerPolicy policy = findManagedPolicy(AuthorizationSecurableObject);
+                  RangerPolicy policy =
+                      findPolicyForUpdate(AuthorizationSecurableObject, pendingPolicies);
                   try {
                     if (policy == null) {
                       policy = addOwnerToNewPolicy(AuthorizationSecurableObject, newOwner);
-                      rangerClient.createPolicy(policy);
                     } else {
                       rangerHelper.updatePolicyOwner(policy, preOwner, newOwner);
-                      rangerClient.updatePolicy(policy.getId(), policy);
                     }
+                    savePolicy(AuthorizationSecurableObject, policy, pendingPolicies);
                   } catch (RangerServiceException e) {
                     throw new AuthorizationPluginException(
                         e, "Failed to add the owner to the Ranger!");
@@ -608,6 +756,17 @@ public abstract class RangerAuthorizationPlugin
     if (roles.stream().anyMatch(role -> !validAuthorizationOperation(role.securableObjects()))) {
       return false;
     }
+    if (syncPipeline != null) {
+      List<RangerSyncOperation> operations = new ArrayList<>();
+      operations.add(RangerSyncOperation.addUser(user.name()));
+      roles.forEach(
+          role -> {
+            operations.add(RangerSyncOperation.createRole(role.name()));
+            operations.add(RangerSyncOperation.grantRole(role.name(), user.name(), null));
+          });
+      syncPipeline.submit(operations);
+      return Boolean.TRUE;
+    }
 
     // If the user does not exist, then create it.
     onUserAdded(user);
@@ -645,6 +804,14 @@ public abstract class RangerAuthorizationPlugin
     if (roles.stream().anyMatch(role -> !validAuthorizationOperation(role.securableObjects()))) {
       return false;
     }
+    if (syncPipeline != null) {
+      List<RangerSyncOperation> operations = new ArrayList<>();
+      operations.add(RangerSyncOperation.addUser(user.name()));
+      roles.forEach(
+          role -> operations.add(RangerSyncOperation.revokeRole(role.name(), user.name(), null)));
+      syncPipeline.submit(operations);
+      return Boolean.TRUE;
+    }
     // If the user does not exist, then create it.
     onUserAdded(user);
 
@@ -681,6 +848,17 @@ public abstract class RangerAuthorizationPlugin
     if (roles.stream().anyMatch(role -> !validAuthorizationOperation(role.securableObjects()))) {
       return false;
     }
+    if (syncPipeline != null) {
+      List<RangerSyncOperation> operations = new ArrayList<>();
+      operations.add(RangerSyncOperation.addGroup(group.name()));
+      roles.forEach(
+          role -> {
+            operations.add(RangerSyncOperation.createRole(role.name()));
+            operations.add(RangerSyncOperation.grantRole(role.name(), null, group.name()));
+          });
+      syncPipeline.submit(operations);
+      return Boolean.TRUE;
+    }
     // If the group does not exist, then create it.
     onGroupAdded(group);
 
@@ -716,6 +894,14 @@ public abstract class RangerAuthorizationPlugin
     if (roles.stream().anyMatch(role -> !validAuthorizationOperation(role.securableObjects()))) {
       return false;
     }
+    if (syncPipeline != null) {
+      List<RangerSyncOperation> operations = new ArrayList<>();
+      operations.add(RangerSyncOperation.addGroup(group.name()));
+      roles.forEach(
+          role -> operations.add(RangerSyncOperation.revokeRole(role.name(), null, group.name())));
+      syncPipeline.submit(operations);
+      return Boolean.TRUE;
+    }
     onGroupAdded(group);
     roles.stream()
         .forEach(
@@ -737,27 +923,43 @@ public abstract class RangerAuthorizationPlugin
 
   @Override
   public Boolean onUserAdded(User user) throws AuthorizationPluginException {
-    return getUserId(user.name())
+    if (syncPipeline != null) {
+      syncPipeline.submit(Collections.singletonList(RangerSyncOperation.addUser(user.name())));
+      return Boolean.TRUE;
+    }
+    return addRangerUser(user.name());
+  }
+
+  private Boolean addRangerUser(String userName) {
+    return getUserId(userName)
         .map(
             id -> {
-              LOG.warn("The user({}) already exists in the Ranger!", user.name());
+              LOG.warn("The user({}) already exists in the Ranger!", userName);
               return Boolean.FALSE;
             })
         .orElseGet(
             () -> {
               VXUser rangerUser =
-                  VXUser.builder().withName(user.name()).withDescription(user.name()).build();
+                  VXUser.builder().withName(userName).withDescription(userName).build();
               return rangerClient.createUser(rangerUser);
             });
   }
 
   @Override
   public Boolean onUserRemoved(User user) throws AuthorizationPluginException {
-    return getUserId(user.name())
+    if (syncPipeline != null) {
+      syncPipeline.submit(Collections.singletonList(RangerSyncOperation.removeUser(user.name())));
+      return Boolean.TRUE;
+    }
+    return removeRangerUser(user.name());
+  }
+
+  private Boolean removeRangerUser(String userName) {
+    return getUserId(userName)
         .map(id -> rangerClient.deleteUser(id))
         .orElseGet(
             () -> {
-              LOG.warn("The user({}) doesn't exist in the Ranger!", user.name());
+              LOG.warn("The user({}) doesn't exist in the Ranger!", userName);
               return Boolean.FALSE;
             });
   }
@@ -775,18 +977,34 @@ public abstract class RangerAuthorizationPlugin
 
   @Override
   public Boolean onGroupAdded(Group group) throws AuthorizationPluginException {
+    if (syncPipeline != null) {
+      syncPipeline.submit(Collections.singletonList(RangerSyncOperation.addGroup(group.name())));
+      return Boolean.TRUE;
+    }
+    return addRangerGroup(group.name());
+  }
+
+  private Boolean addRangerGroup(String groupName) {
     return rangerClient.createGroup(
-        VXGroup.builder().withName(group.name()).withDescription(group.name()).build());
+        VXGroup.builder().withName(groupName).withDescription(groupName).build());
   }
 
   @Override
   public Boolean onGroupRemoved(Group group) throws AuthorizationPluginException {
-    Optional<Long> groupId = getGroupId(group.name());
+    if (syncPipeline != null) {
+      syncPipeline.submit(Collections.singletonList(RangerSyncOperation.removeGroup(group.name())));
+      return Boolean.TRUE;
+    }
+    return removeRangerGroup(group.name());
+  }
+
+  private Boolean removeRangerGroup(String groupName) {
+    Optional<Long> groupId = getGroupId(groupName);
     return groupId
         .map(id -> rangerClient.deleteGroup(id))
         .orElseGet(
             () -> {
-              LOG.warn("The group({}) doesn't exist in the Ranger!", group.name());
+              LOG.warn("The group({}) doesn't exist in the Ranger!", groupName);
               return Boolean.FALSE;
             });
   }
@@ -838,8 +1056,10 @@ public abstract class RangerAuthorizationPlugin
    * 3. If the policy does not exist, then create a new policy. <br>
    */
   private boolean doAddSecurableObject(
-      String roleName, AuthorizationSecurableObject securableObject) {
-    RangerPolicy policy = findManagedPolicy(securableObject);
+      String roleName,
+      AuthorizationSecurableObject securableObject,
+      Map<String, PendingPolicy> pendingPolicies) {
+    RangerPolicy policy = findPolicyForUpdate(securableObject, pendingPolicies);
     if (policy != null) {
       // Check the policy item's accesses and roles equal the Ranger securable object's privilege
       List<AuthorizationPrivilege> allowPrivileges =
@@ -891,11 +1111,7 @@ public abstract class RangerAuthorizationPlugin
 
     rangerHelper.addPolicyItem(policy, roleName, securableObject);
     try {
-      if (policy.getId() == null) {
-        rangerClient.createPolicy(policy);
-      } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
-      }
+      savePolicy(securableObject, policy, pendingPolicies);
     } catch (RangerServiceException e) {
       throw new AuthorizationPluginException(
           e, "Failed to add the securable object to the Ranger!");
@@ -912,8 +1128,10 @@ public abstract class RangerAuthorizationPlugin
    * 3. If policy does not contain any policy item, then delete this policy. <br>
    */
   private boolean removeSecurableObject(
-      String roleName, AuthorizationSecurableObject authzSecurableObject) {
-    RangerPolicy policy = findManagedPolicy(authzSecurableObject);
+      String roleName,
+      AuthorizationSecurableObject authzSecurableObject,
+      Map<String, PendingPolicy> pendingPolicies) {
+    RangerPolicy policy = findPolicyForUpdate(authzSecurableObject, pendingPolicies);
     if (policy == null) {
       LOG.warn(
           "Cannot find the Ranger policy for the Ranger securable object({})!",
@@ -962,9 +1180,9 @@ public abstract class RangerAuthorizationPlugin
 
     try {
       if (policy.getPolicyItems().isEmpty() && policy.getDenyPolicyItems().isEmpty()) {
-        rangerClient.deletePolicy(policy.getId());
+        deletePolicy(authzSecurableObject, policy, pendingPolicies);
       } else {
-        rangerClient.updatePolicy(policy.getId(), policy);
+        savePolicy(authzSecurableObject, policy, pendingPolicies);
       }
     } catch (RangerServiceException e) {
       LOG.error("Failed to remove the policy item from the Ranger policy {}!", policy);
@@ -995,6 +1213,113 @@ public abstract class RangerAuthorizationPlugin
     }
   }
 
+  /**
+   * Find the managed policy of the metadata object to modify it. While the sync pipeline applies a
+   * policy run, the policy is read from Ranger only once and the later changes of the run modify
+   * the same instance.
+   *
+   * @param authzMetadataObject The metadata object of the policy.
+   * @param pendingPolicies The policies read and changed by the policy run being applied by the
+   *     sync pipeline, keyed by the metadata object, or null outside a policy run.
+   * @return The policy, or null if there is no managed policy for the metadata object.
+   */
+  private RangerPolicy findPolicyForUpdate(
+      AuthorizationMetadataObject authzMetadataObject, Map<String, PendingPolicy> pendingPolicies) {
+    if (pendingPolicies == null) {
+      return findManagedPolicy(authzMetadataObject);
+    }
+    return pendingPolicies.computeIfAbsent(
+            policyKey(authzMetadataObject),
+            key -> new PendingPolicy(findManagedPolicy(authzMetadataObject)))
+        .policy;
+  }
+
+  /**
+   * Creates or updates the policy in Ranger, or records it in the pending policies of the policy
+   * run, which are written back to Ranger once when the run ends.
+   */
+  private void savePolicy(
+      AuthorizationMetadataObject authzMetadataObject,
+      RangerPolicy policy,
+      Map<String, PendingPolicy> pendingPolicies)
+      throws RangerServiceException {
+    if (pendingPolicies != null) {
+      PendingPolicy pendingPolicy =
+          pendingPolicies.computeIfAbsent(
+              policyKey(authzMetadataObject), key -> new PendingPolicy(null));
+      pendingPolicy.policy = policy;
+      pendingPolicy.dirty = true;
+      return;
+    }
+
+    if (policy.getId() == null) {
+      rangerClient.createPolicy(policy);
+    } else {
+      rangerClient.updatePolicy(policy.getId(), policy);
+    }
+  }
+
+  /**
+   * Deletes the policy from Ranger, or records the deletion in the pending policies of the policy
+   * run, which are written back to Ranger once when the run ends.
+   */
+  private void deletePolicy(
+      AuthorizationMetadataObject authzMetadataObject,
+      RangerPolicy policy,
+      Map<String, PendingPolicy> pendingPolicies)
+      throws RangerServiceException {
+    if (pendingPolicies != null) {
+      PendingPolicy pendingPolicy =
+          pendingPolicies.computeIfAbsent(
+              policyKey(authzMetadataObject), key -> new PendingPolicy(null));
+      pendingPolicy.policy = null;
+      pendingPolicy.dirty = true;
+      return;
+    }
+
+    rangerClient.deletePolicy(policy.getId());
+  }
+
+  /** Writes every policy changed by the policy run once. */
+  private void flushPendingPolicies(Map<String, PendingPolicy> pendingPolicies)
+      throws RangerServiceException {
+    for (PendingPolicy pendingPolicy : pendingPolicies.values()) {
+      if (!pendingPolicy.dirty) {
+        continue;
+      }
+
+      RangerPolicy policy = pendingPolicy.policy;
+      if (policy == null) {
+        if (pendingPolicy.originalId != null) {
+          rangerClient.deletePolicy(pendingPolicy.originalId);
+        }
+      } else if (policy.getId() != null) {
+        rangerClient.updatePolicy(policy.getId(), policy);
+      } else if (pendingPolicy.originalId != null) {
+        // The policy was deleted and created again in the run, replace the original one.
+        policy.setId(pendingPolicy.originalId);
+        rangerClient.updatePolicy(pendingPolicy.originalId, policy);
+      } else {
+        rangerClient.createPolicy(policy);
+      }
+    }
+  }
+
+  private static String policyKey(AuthorizationMetadataObject authzMetadataObject) {
+    return authzMetadataObject.type() + ":" + authzMetadataObject.fullName();
+  }
+
+  private static final class PendingPolicy {
+    private final Long originalId;
+    private RangerPolicy policy;
+    private boolean dirty = false;
+
+    private PendingPolicy(RangerPolicy policy) {
+      this.originalId = policy == null ? null : policy.getId();
+      this.policy = policy;
+    }
+  }
+
   /**
    * IF rename the SCHEMA, Need to rename these the relevant policies, `{schema}`, `{schema}.*`,
    * `{schema}.*.*` <br>
@@ -1039,8 +1364,130 @@ public abstract class RangerAuthorizationPlugin
     return RangerAuthorizationProperties.RANGER_PREFIX.length() + 1;
   }
 
+  /**
+   * Wait for the pending changes of the `async` sync mode before changes that aren't queued, like
+   * renaming a metadata object, so they are applied to Ranger in order.
+   */
+  protected void awaitPendingSync() {
+    if (syncPipeline == null) {
+      return;
+    }
+
+    try {
+      if (!syncPipeline.awaitDrained(syncSubmitTimeoutMs)) {
+        LOG.warn(
+            "The pending Ranger sync changes aren't applied in {} ms, continue without them",
+            syncSubmitTimeoutMs);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AuthorizationPluginException(e, "Interrupted while waiting for the Ranger sync");
+    }
+  }
+
+  /** Applies a run of operations of the same kind, it's only called by the sync pipeline. */
+  private void applySyncOperations(List<RangerSyncOperation> run) throws RangerServiceException {
+    switch (run.get(0).type().kind()) {
+      case MEMBERSHIP:
+        applyMembershipOperations(run);
+        break;
+      case POLICY:
+        applyPolicyOperations(run);
+        break;
+      default:
+        for (RangerSyncOperation operation : run) {
+          applyStandaloneOperation(operation);
+        }
+    }
+  }
+
+  /**
+   * Creates the users, groups and roles of the run once, then grants and revokes the final members
+   * of every role with one request each.
+   */
+  private void applyMembershipOperations(List<RangerSyncOperation> run)
+      throws RangerServiceException {
+    Set<String> users = new LinkedHashSet<>();
+    Set<String> groups = new LinkedHashSet<>();
+    Set<String> roles = new LinkedHashSet<>();
+    for (RangerSyncOperation operation : run) {
+      if (operation.type() == RangerSyncOperation.Type.ADD_USER) {
+        users.add(operation.user());
+      } else if (operation.type() == RangerSyncOperation.Type.ADD_GROUP) {
+        groups.add(operation.group());
+      } else if (operation.type() == RangerSyncOperation.Type.CREATE_ROLE) {
+        roles.add(operation.role());
+      }
+    }
+    users.forEach(this::addRangerUser);
+    groups.forEach(this::addRangerGroup);
+    roles.forEach(role -> rangerHelper.createRangerRoleIfNotExists(role, false));
+
+    for (Map.Entry<String, RangerSyncPipeline.RoleMembershipChange> entry :
+        RangerSyncPipeline.coalesceMemberships(run).entrySet()) {
+      RangerSyncPipeline.RoleMembershipChange change = entry.getValue();
+      if (!change.revokeUsers.isEmpty() || !change.revokeGroups.isEmpty()) {
+        rangerClient.revokeRole(
+            rangerServiceName,
+            rangerHelper.createGrantRevokeRoleRequest(
+                entry.getKey(), change.revokeUsers, change.revokeGroups));
+      }
+      if (!change.grantUsers.isEmpty() || !change.grantGroups.isEmpty()) {
+        rangerClient.grantRole(
+            rangerServiceName,
+            rangerHelper.createGrantRevokeRoleRequest(
+                entry.getKey(), change.grantUsers, change.grantGroups));
+      }
+    }
+  }
+
+  /** Applies the policy changes of the run in order, then writes every touched policy once. */
+  private void applyPolicyOperations(List<RangerSyncOperation> run) throws RangerServiceException {
+    Map<String, PendingPolicy> pendingPolicies = new LinkedHashMap<>();
+    for (RangerSyncOperation operation : run) {
+      if (operation.type() == RangerSyncOperation.Type.ADD_SECURABLE_OBJECT) {
+        doRoleUpdated(
+            operation.role(),
+            pendingPolicies,
+            RoleChange.addSecurableObject(operation.role(), operation.securableObject()));
+      } else if (operation.type() == RangerSyncOperation.Type.REMOVE_SECURABLE_OBJECT) {
+        doRoleUpdated(
+            operation.role(),
+            pendingPolicies,
+            RoleChange.removeSecurableObject(operation.role(), operation.securableObject()));
+      } else {
+        doOwnerSet(
+            operation.metadataObject(),
+            operation.preOwner(),
+            operation.newOwner(),
+            pendingPolicies);
+      }
+    }
+    flushPendingPolicies(pendingPolicies);
+  }
+
+  private void applyStandaloneOperation(RangerSyncOperation operation) {
+    switch (operation.type()) {
+      case REMOVE_USER:
+        removeRangerUser(operation.user());
+        break;
+      case REMOVE_GROUP:
+        removeRangerGroup(operation.group());
+        break;
+      case DELETE_ROLE:
+        deleteRangerRole(operation.role());
+        break;
+      default:
+        throw new IllegalArgumentException("Unexpected Ranger sync operation: " + operation);
+    }
+  }
+
   @Override
-  public void close() throws IOException {}
+  public void close() throws IOException {
+    if (syncPipeline != null) {
+      syncPipeline.close();
+    }
+  }
 
   /**
    * Generate authorization securable object.
@@ -230,12 +230,17 @@ public class RangerHelper {
 
   protected GrantRevokeRoleRequest createGrantRevokeRoleRequest(
       String roleName, String userName, String groupName) {
-    roleName = generateGravitinoRoleName(roleName);
     Set<String> users =
         StringUtils.isEmpty(userName) ? Sets.newHashSet() : Sets.newHashSet(userName);
     Set<String> groups =
         StringUtils.isEmpty(groupName) ? Sets.newHashSet() : Sets.newHashSet(groupName);
+    return createGrantRevokeRoleRequest(roleName, users, groups);
+  }
 
+  /** Create a request to grant or revoke the role for all the users and groups at once. */
+  protected GrantRevokeRoleRequest createGrantRevokeRoleRequest(
+      String roleName, Set<String> users, Set<String> groups) {
+    roleName = generateGravitinoRoleName(roleName);
     if (users.isEmpty() && groups.isEmpty()) {
       throw new AuthorizationPluginException("The user and group cannot be empty!");
     }
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The local append-only journal of a {@link RangerSyncPipeline}. Every submitted operation is
+ * written as `O {sequence} {operation}` and forced to disk before the Gravitino request returns,
+ * and `A {sequence}` marks all the operations up to the sequence as applied to Ranger. The journal
+ * is rewritten with only the pending operations when it's opened and whenever the pipeline asks to
+ * compact it. Operations that are still failing after all the retries are moved to the
+ * `{journal}.failed` file.
+ */
+class RangerSyncJournal implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(RangerSyncJournal.class);
+
+  private static final String OPERATION = "O";
+  private static final String ACKNOWLEDGE = "A";
+
+  // Journals opened by the plugins of this process, a plugin never shares its journal.
+  private static final Set<Path> OPEN_JOURNALS = ConcurrentHashMap.newKeySet();
+
+  private final Path path;
+  private final Path failedPath;
+  private final Map<Long, RangerSyncOperation> recovered;
+  private FileChannel channel;
+  private long lastSequence;
+  private long linesSinceRewrite;
+
+  private RangerSyncJournal(Path path) throws IOException {
+    this.path = path;
+    this.failedPath = path.resolveSibling(path.getFileName() + ".failed");
+    this.recovered = read(path);
+    rewrite(recovered);
+  }
+
+  /**
+   * Opens the journal named {@code name} in the directory, the pending operations of the previous
+   * run are returned by {@link #recovered()}.
+   */
+  static RangerSyncJournal open(Path directory, String name) throws IOException {
+    Files.createDirectories(directory);
+    Path path = directory.resolve(name + ".journal");
+    for (int i = 1; !OPEN_JOURNALS.add(path); i++) {
+      path = directory.resolve(name + "-" + i + ".journal");
+    }
+
+    try {
+      return new RangerSyncJournal(path);
+    } catch (IOException | RuntimeException e) {
+      OPEN_JOURNALS.remove(path);
+      throw e;
+    }
+  }
+
+  Path path() {
+    return path;
+  }
+
+  /** Returns the operations that were pending when the journal was opened, by sequence. */
+  Map<Long, RangerSyncOperation> recovered() {
+    return recovered;
+  }
+
+  /**
+   * Appends the operations and forces them to disk.
+   *
+   * @return The sequence of the first operation.
+   */
+  synchronized long append(List<RangerSyncOperation> operations) throws IOException {
+    long first = lastSequence + 1;
+    StringBuilder builder = new StringBuilder();
+    for (RangerSyncOperation operation : operations) {
+      lastSequence++;
+      builder
+          .append(OPERATION)
+          .append('\t')
+          .append(lastSequence)
+          .append('\t')
+          .append(operation.encode())
+          .append('\n');
+    }
+    write(builder.toString());
+    channel.force(false);
+    linesSinceRewrite += operations.size();
+    return first;
+  }
+
+  /** Marks all the operations up to the sequence as applied. */
+  synchronized void acknowledge(long sequence) throws IOException {
+    write(ACKNOWLEDGE + '\t' + sequence + '\n');
+    linesSinceRewrite++;
+  }
+
+  synchronized long linesSinceRewrite() {
+    return linesSinceRewrite;
+  }
+
+  /** Rewrites the journal with only the given pending operations. */
+  synchronized void rewrite(Map<Long, RangerSyncOperation> pending) throws IOException {
+    Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+    StringBuilder builder = new StringBuilder();
+    pending.forEach(
+        (sequence, operation) ->
+            builder
+                .append(OPERATION)
+                .append('\t')
+                .append(sequence)
+                .append('\t')
+                .append(operation.encode())
+                .append('\n'));
+
+    FileChannel newChannel =
+        FileChannel.open(
+            tmpPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+      while (buffer.hasRemaining()) {
+        newChannel.write(buffer);
+      }
+      newChannel.force(true);
+      Files.move(
+          tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      newChannel.close();
+      throw e;
+    }
+
+    if (channel != null) {
+      channel.close();
+    }
+    channel = newChannel;
+    linesSinceRewrite = pending.size();
+    for (long sequence : pending.keySet()) {
+      lastSequence = Math.max(lastSequence, sequence);
+    }
+  }
+
+  /** Moves the operations to the failed file, they have to be replayed manually. */
+  synchronized void fail(Collection<RangerSyncOperation> operations) {
+    StringBuilder builder = new StringBuilder();
+    operations.forEach(operation -> builder.append(operation.encode()).append('\n'));
+    try {
+      Files.write(
+          failedPath,
+          builder.toString().getBytes(StandardCharsets.UTF_8),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE,
+          StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      LOG.error(
+          "Failed to write the failed Ranger sync operations {} to {}", operations, failedPath, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+    } finally {
+      OPEN_JOURNALS.remove(path);
+    }
+  }
+
+  private void write(String lines) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static Map<Long, RangerSyncOperation> read(Path path) throws IOException {
+    Map<Long, RangerSyncOperation> operations = new LinkedHashMap<>();
+    if (!Files.exists(path)) {
+      return operations;
+    }
+
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int first = line.indexOf('\t');
+        if (first < 0) {
+          // A torn write of the last line before a crash, its submission never returned.
+          LOG.warn("Skip the malformed line of Ranger sync journal {}: {}", path, line);
+          continue;
+        }
+
+        String kind = line.substring(0, first);
+        try {
+          if (ACKNOWLEDGE.equals(kind)) {
+            long sequence = Long.parseLong(line.substring(first + 1));
+            Iterator<Long> pending = operations.keySet().iterator();
+            while (pending.hasNext() && pending.next() <= sequence) {
+              pending.remove();
+            }
+          } else if (OPERATION.equals(kind)) {
+            int second = line.indexOf('\t', first + 1);
+            long sequence = Long.parseLong(line.substring(first + 1, second));
+            operations.put(sequence, RangerSyncOperation.decode(line.substring(second + 1)));
+          } else {
+            LOG.warn("Skip the malformed line of Ranger sync journal {}: {}", path, line);
+          }
+        } catch (RuntimeException e) {
+          LOG.warn("Skip the malformed line of Ranger sync journal {}: {}", path, line, e);
+        }
+      }
+    }
+
+    if (!operations.isEmpty()) {
+      LOG.info("Recovered {} pending Ranger sync operations from {}", operations.size(), path);
+    }
+    return operations;
+  }
+}
@@ -0,0 +1,319 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.authorization.Owner;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.authorization.Privileges;
+import org.apache.gravitino.authorization.SecurableObject;
+import org.apache.gravitino.authorization.SecurableObjects;
+
+/**
+ * A change to push to Ranger in the `async` sync mode. The operations only keep names, so they can
+ * be written to the local journal of {@link RangerSyncPipeline} and replayed after a restart.
+ */
+final class RangerSyncOperation {
+
+  /** How the pipeline groups consecutive operations into one run. */
+  enum Kind {
+    /** Users, groups and role memberships, the grants and revokes of a run are coalesced. */
+    MEMBERSHIP,
+    /** Changes of policy items, every touched policy is written once per run. */
+    POLICY,
+    /** Deletions, they are applied one by one. */
+    STANDALONE
+  }
+
+  enum Type {
+    ADD_USER(Kind.MEMBERSHIP),
+    ADD_GROUP(Kind.MEMBERSHIP),
+    CREATE_ROLE(Kind.MEMBERSHIP),
+    GRANT_ROLE(Kind.MEMBERSHIP),
+    REVOKE_ROLE(Kind.MEMBERSHIP),
+    ADD_SECURABLE_OBJECT(Kind.POLICY),
+    REMOVE_SECURABLE_OBJECT(Kind.POLICY),
+    SET_OWNER(Kind.POLICY),
+    REMOVE_USER(Kind.STANDALONE),
+    REMOVE_GROUP(Kind.STANDALONE),
+    DELETE_ROLE(Kind.STANDALONE);
+
+    private final Kind kind;
+
+    Type(Kind kind) {
+      this.kind = kind;
+    }
+
+    Kind kind() {
+      return kind;
+    }
+  }
+
+  private static final String ROLE = "role";
+  private static final String USER = "user";
+  private static final String GROUP = "group";
+  private static final String OBJECT_NAME = "objectName";
+  private static final String OBJECT_TYPE = "objectType";
+  private static final String PRIVILEGES = "privileges";
+  private static final String PRE_OWNER = "preOwner";
+  private static final String NEW_OWNER = "newOwner";
+
+  private static final Joiner LIST_JOINER = Joiner.on(',');
+  private static final Splitter LIST_SPLITTER = Splitter.on(',').omitEmptyStrings();
+
+  private final Type type;
+  private final Map<String, String> fields;
+
+  private RangerSyncOperation(Type type, Map<String, String> fields) {
+    this.type = type;
+    this.fields = fields;
+  }
+
+  static RangerSyncOperation addUser(String user) {
+    return new Builder(Type.ADD_USER).with(USER, user).build();
+  }
+
+  static RangerSyncOperation removeUser(String user) {
+    return new Builder(Type.REMOVE_USER).with(USER, user).build();
+  }
+
+  static RangerSyncOperation addGroup(String group) {
+    return new Builder(Type.ADD_GROUP).with(GROUP, group).build();
+  }
+
+  static RangerSyncOperation removeGroup(String group) {
+    return new Builder(Type.REMOVE_GROUP).with(GROUP, group).build();
+  }
+
+  static RangerSyncOperation createRole(String role) {
+    return new Builder(Type.CREATE_ROLE).with(ROLE, role).build();
+  }
+
+  static RangerSyncOperation deleteRole(String role) {
+    return new Builder(Type.DELETE_ROLE).with(ROLE, role).build();
+  }
+
+  static RangerSyncOperation grantRole(String role, String user, String group) {
+    return new Builder(Type.GRANT_ROLE)
+        .with(ROLE, role)
+        .with(USER, user)
+        .with(GROUP, group)
+        .build();
+  }
+
+  static RangerSyncOperation revokeRole(String role, String user, String group) {
+    return new Builder(Type.REVOKE_ROLE)
+        .with(ROLE, role)
+        .with(USER, user)
+        .with(GROUP, group)
+        .build();
+  }
+
+  static RangerSyncOperation addSecurableObject(String role, SecurableObject securableObject) {
+    return securableObjectOperation(Type.ADD_SECURABLE_OBJECT, role, securableObject);
+  }
+
+  static RangerSyncOperation removeSecurableObject(String role, SecurableObject securableObject) {
+    return securableObjectOperation(Type.REMOVE_SECURABLE_OBJECT, role, securableObject);
+  }
+
+  static RangerSyncOperation setOwner(
+      MetadataObject metadataObject, Owner preOwner, Owner newOwner) {
+    return new Builder(Type.SET_OWNER)
+        .with(OBJECT_NAME, metadataObject.fullName())
+        .with(OBJECT_TYPE, metadataObject.type().name())
+        .with(PRE_OWNER, preOwner == null ? null : encodeOwner(preOwner))
+        .with(NEW_OWNER, encodeOwner(newOwner))
+        .build();
+  }
+
+  private static RangerSyncOperation securableObjectOperation(
+      Type type, String role, SecurableObject securableObject) {
+    List<String> privileges =
+        securableObject.privileges().stream()
+            .map(privilege -> privilege.condition().name() + ":" + privilege.name().name())
+            .collect(Collectors.toList());
+    return new Builder(type)
+        .with(ROLE, role)
+        .with(OBJECT_NAME, securableObject.fullName())
+        .with(OBJECT_TYPE, securableObject.type().name())
+        .with(PRIVILEGES, LIST_JOINER.join(privileges))
+        .build();
+  }
+
+  Type type() {
+    return type;
+  }
+
+  String role() {
+    return fields.get(ROLE);
+  }
+
+  String user() {
+    return fields.get(USER);
+  }
+
+  String group() {
+    return fields.get(GROUP);
+  }
+
+  MetadataObject metadataObject() {
+    return securableObject(Collections.emptyList());
+  }
+
+  SecurableObject securableObject() {
+    List<Privilege> privileges =
+        LIST_SPLITTER.splitToList(fields.getOrDefault(PRIVILEGES, "")).stream()
+            .map(
+                privilege -> {
+                  List<String> parts = Splitter.on(':').splitToList(privilege);
+                  return Privilege.Condition.valueOf(parts.get(0)) == Privilege.Condition.ALLOW
+                      ? Privileges.allow(parts.get(1))
+                      : Privileges.deny(parts.get(1));
+                })
+            .collect(Collectors.toList());
+    return securableObject(privileges);
+  }
+
+  private SecurableObject securableObject(List<Privilege> privileges) {
+    return SecurableObjects.parse(
+        fields.get(OBJECT_NAME), MetadataObject.Type.valueOf(fields.get(OBJECT_TYPE)), privileges);
+  }
+
+  Owner preOwner() {
+    return decodeOwner(fields.get(PRE_OWNER));
+  }
+
+  Owner newOwner() {
+    return decodeOwner(fields.get(NEW_OWNER));
+  }
+
+  /** Encodes the operation as a single line of the journal. */
+  String encode() {
+    StringBuilder builder = new StringBuilder(type.name());
+    fields.forEach(
+        (key, value) ->
+            builder
+                .append('\t')
+                .append(key)
+                .append('=')
+                .append(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+    return builder.toString();
+  }
+
+  static RangerSyncOperation decode(String line) {
+    List<String> parts = Splitter.on('\t').splitToList(line);
+    Builder builder = new Builder(Type.valueOf(parts.get(0)));
+    for (String part : parts.subList(1, parts.size())) {
+      int index = part.indexOf('=');
+      Preconditions.checkArgument(index > 0, "Malformed Ranger sync operation: %s", line);
+      builder.with(
+          part.substring(0, index),
+          URLDecoder.decode(part.substring(index + 1), StandardCharsets.UTF_8));
+    }
+    return builder.build();
+  }
+
+  private static String encodeOwner(Owner owner) {
+    return owner.type().name() + ":" + owner.name();
+  }
+
+  private static Owner decodeOwner(String owner) {
+    if (owner == null) {
+      return null;
+    }
+    int index = owner.indexOf(':');
+    return new JournaledOwner(
+        owner.substring(index + 1), Owner.Type.valueOf(owner.substring(0, index)));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof RangerSyncOperation)) {
+      return false;
+    }
+    RangerSyncOperation that = (RangerSyncOperation) o;
+    return type == that.type && fields.equals(that.fields);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, fields);
+  }
+
+  @Override
+  public String toString() {
+    return type + fields.toString();
+  }
+
+  private static final class Builder {
+    private final Type type;
+    private final Map<String, String> fields = new LinkedHashMap<>();
+
+    private Builder(Type type) {
+      this.type = type;
+    }
+
+    private Builder with(String key, String value) {
+      if (value != null) {
+        fields.put(key, value);
+      }
+      return this;
+    }
+
+    private RangerSyncOperation build() {
+      return new RangerSyncOperation(type, Collections.unmodifiableMap(fields));
+    }
+  }
+
+  private static final class JournaledOwner implements Owner {
+    private final String name;
+    private final Owner.Type type;
+
+    private JournaledOwner(String name, Owner.Type type) {
+      this.name = name;
+      this.type = type;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public Owner.Type type() {
+      return type;
+    }
+  }
+}
@@ -0,0 +1,370 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Sets;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies the Ranger changes of the `async` sync mode in the background. <br>
+ * 1. A submission is written to the {@link RangerSyncJournal} before it returns, so the pending
+ * changes survive a restart. When the queue is full the submission waits for room and fails after
+ * the submit timeout. <br>
+ * 2. The worker takes up to a batch of operations and splits them into runs of consecutive
+ * operations of the same {@link RangerSyncOperation.Kind}, the {@link Applier} coalesces every run,
+ * e.g. all the grants of a role in a run become one Ranger request. <br>
+ * 3. A failed run is retried with exponential backoff. After the max retries its operations are
+ * moved to the failed file, so one bad change doesn't block the queue. <br>
+ */
+class RangerSyncPipeline implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(RangerSyncPipeline.class);
+
+  private static final long MAX_RETRY_BACKOFF_MS = 60_000L;
+  private static final long CLOSE_TIMEOUT_MS = 10_000L;
+
+  /** Applies a run of operations of the same kind to Ranger. */
+  @FunctionalInterface
+  interface Applier {
+    void apply(List<RangerSyncOperation> run) throws Exception;
+  }
+
+  private static final class Entry {
+    private final long sequence;
+    private final RangerSyncOperation operation;
+
+    private Entry(long sequence, RangerSyncOperation operation) {
+      this.sequence = sequence;
+      this.operation = operation;
+    }
+  }
+
+  private final RangerSyncJournal journal;
+  private final Applier applier;
+  private final int capacity;
+  private final int batchSize;
+  private final int maxRetries;
+  private final long retryBackoffMs;
+  private final long submitTimeoutMs;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final Condition drained = lock.newCondition();
+  // The operations not applied yet, the head ones may be being applied by the worker.
+  private final Deque<Entry> pending = new ArrayDeque<>();
+  private volatile boolean closed = false;
+  private final Thread worker;
+
+  RangerSyncPipeline(
+      String name,
+      RangerSyncJournal journal,
+      Applier applier,
+      int capacity,
+      int batchSize,
+      int maxRetries,
+      long retryBackoffMs,
+      long submitTimeoutMs) {
+    this.journal = journal;
+    this.applier = applier;
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.maxRetries = maxRetries;
+    this.retryBackoffMs = retryBackoffMs;
+    this.submitTimeoutMs = submitTimeoutMs;
+    journal
+        .recovered()
+        .forEach((sequence, operation) -> pending.add(new Entry(sequence, operation)));
+
+    this.worker = new Thread(this::run, "ranger-sync-" + name);
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /**
+   * Journals the operations and queues them, the operations of one submission stay in order and
+   * are never interleaved with other submissions.
+   *
+   * @throws AuthorizationPluginException If the queue stays full until the submit timeout.
+   */
+  void submit(List<RangerSyncOperation> operations) {
+    if (operations.isEmpty()) {
+      return;
+    }
+
+    lock.lock();
+    try {
+      long remainingNanos = TimeUnit.MILLISECONDS.toNanos(submitTimeoutMs);
+      // A submission larger than the capacity is accepted once the queue is empty.
+      while (!closed && !pending.isEmpty() && pending.size() + operations.size() > capacity) {
+        if (remainingNanos <= 0) {
+          throw new AuthorizationPluginException(
+              "The Ranger sync queue is full, %d changes are pending", pending.size());
+        }
+        remainingNanos = notFull.awaitNanos(remainingNanos);
+      }
+      if (closed) {
+        throw new AuthorizationPluginException("The Ranger sync pipeline is closed");
+      }
+
+      long sequence = journal.append(operations);
+      for (RangerSyncOperation operation : operations) {
+        pending.add(new Entry(sequence++, operation));
+      }
+      notEmpty.signalAll();
+    } catch (IOException e) {
+      throw new AuthorizationPluginException(
+          e, "Failed to write the Ranger sync journal %s", journal.path());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AuthorizationPluginException(e, "Interrupted while waiting for the Ranger sync");
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until all the submitted operations are applied.
+   *
+   * @return true if the queue was drained before the timeout.
+   */
+  boolean awaitDrained(long timeoutMs) throws InterruptedException {
+    lock.lock();
+    try {
+      long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+      while (!pending.isEmpty()) {
+        if (remainingNanos <= 0 || closed) {
+          return false;
+        }
+        remainingNanos = drained.awaitNanos(remainingNanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @VisibleForTesting
+  int pendingSize() {
+    lock.lock();
+    try {
+      return pending.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops the worker after the run in progress. The operations not applied yet stay in the journal
+   * and are replayed when the plugin is created again.
+   */
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      closed = true;
+      notEmpty.signalAll();
+      notFull.signalAll();
+      drained.signalAll();
+    } finally {
+      lock.unlock();
+    }
+
+    try {
+      worker.join(CLOSE_TIMEOUT_MS);
+      if (worker.isAlive()) {
+        worker.interrupt();
+        worker.join(CLOSE_TIMEOUT_MS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      journal.close();
+    }
+  }
+
+  private void run() {
+    while (!closed) {
+      List<Entry> batch;
+      try {
+        batch = takeBatch();
+      } catch (InterruptedException e) {
+        return;
+      }
+
+      for (List<Entry> run : splitRuns(batch)) {
+        List<RangerSyncOperation> operations =
+            run.stream().map(entry -> entry.operation).collect(Collectors.toList());
+        try {
+          if (!applyWithRetries(operations)) {
+            LOG.error(
+                "Give up syncing {} to Ranger after {} retries, moved them to the failed file",
+                operations,
+                maxRetries);
+            journal.fail(operations);
+          }
+        } catch (InterruptedException e) {
+          // Closed while retrying, the run is replayed from the journal next time.
+          return;
+        }
+        complete(run.size(), run.get(run.size() - 1).sequence);
+        if (closed) {
+          return;
+        }
+      }
+    }
+  }
+
+  private List<Entry> takeBatch() throws InterruptedException {
+    lock.lock();
+    try {
+      while (pending.isEmpty() && !closed) {
+        notEmpty.await();
+      }
+      List<Entry> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+      for (Entry entry : pending) {
+        if (batch.size() == batchSize) {
+          break;
+        }
+        batch.add(entry);
+      }
+      return batch;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean applyWithRetries(List<RangerSyncOperation> run) throws InterruptedException {
+    for (int attempt = 0; ; attempt++) {
+      try {
+        applier.apply(run);
+        return true;
+      } catch (Exception e) {
+        if (attempt >= maxRetries) {
+          LOG.error("Failed to sync {} to Ranger", run, e);
+          return false;
+        }
+        long backoffMs = Math.min(retryBackoffMs << Math.min(attempt, 20), MAX_RETRY_BACKOFF_MS);
+        LOG.warn(
+            "Failed to sync {} operations to Ranger, retry {} of {} in {} ms",
+            run.size(),
+            attempt + 1,
+            maxRetries,
+            backoffMs,
+            e);
+        if (closed) {
+          throw new InterruptedException("The Ranger sync pipeline is closed");
+        }
+        Thread.sleep(backoffMs);
+      }
+    }
+  }
+
+  private void complete(int count, long sequence) {
+    lock.lock();
+    try {
+      for (int i = 0; i < count; i++) {
+        pending.poll();
+      }
+      journal.acknowledge(sequence);
+      if (pending.isEmpty() || journal.linesSinceRewrite() > 2L * capacity) {
+        Map<Long, RangerSyncOperation> remaining = new LinkedHashMap<>();
+        pending.forEach(entry -> remaining.put(entry.sequence, entry.operation));
+        journal.rewrite(remaining);
+      }
+    } catch (IOException e) {
+      // The operations are applied, they may be replayed after a restart, which is idempotent.
+      LOG.warn("Failed to update the Ranger sync journal {}", journal.path(), e);
+    } finally {
+      notFull.signalAll();
+      if (pending.isEmpty()) {
+        drained.signalAll();
+      }
+      lock.unlock();
+    }
+  }
+
+  private static List<List<Entry>> splitRuns(List<Entry> batch) {
+    List<List<Entry>> runs = new ArrayList<>();
+    List<Entry> run = new ArrayList<>();
+    for (Entry entry : batch) {
+      RangerSyncOperation.Kind kind = entry.operation.type().kind();
+      if (!run.isEmpty()
+          && (kind == RangerSyncOperation.Kind.STANDALONE
+              || run.get(0).operation.type().kind() != kind)) {
+        runs.add(run);
+        run = new ArrayList<>();
+      }
+      run.add(entry);
+    }
+    if (!run.isEmpty()) {
+      runs.add(run);
+    }
+    return runs;
+  }
+
+  /**
+   * Folds the grants and revokes of a run into the final membership changes of every role, the
+   * last operation of a user or group in a role wins.
+   */
+  static Map<String, RoleMembershipChange> coalesceMemberships(List<RangerSyncOperation> run) {
+    Map<String, RoleMembershipChange> changes = new LinkedHashMap<>();
+    for (RangerSyncOperation operation : run) {
+      boolean grant = operation.type() == RangerSyncOperation.Type.GRANT_ROLE;
+      if (!grant && operation.type() != RangerSyncOperation.Type.REVOKE_ROLE) {
+        continue;
+      }
+
+      RoleMembershipChange change =
+          changes.computeIfAbsent(operation.role(), role -> new RoleMembershipChange());
+      if (operation.user() != null) {
+        (grant ? change.grantUsers : change.revokeUsers).add(operation.user());
+        (grant ? change.revokeUsers : change.grantUsers).remove(operation.user());
+      }
+      if (operation.group() != null) {
+        (grant ? change.grantGroups : change.revokeGroups).add(operation.group());
+        (grant ? change.revokeGroups : change.grantGroups).remove(operation.group());
+      }
+    }
+    return changes;
+  }
+
+  /** The users and groups to grant to or revoke from a role. */
+  static final class RoleMembershipChange {
+    final Set<String> grantUsers = Sets.newLinkedHashSet();
+    final Set<String> grantGroups = Sets.newLinkedHashSet();
+    final Set<String> revokeUsers = Sets.newLinkedHashSet();
+    final Set<String> revokeGroups = Sets.newLinkedHashSet();
+  }
+}
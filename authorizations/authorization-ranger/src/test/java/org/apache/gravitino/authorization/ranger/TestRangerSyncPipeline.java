@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.authorization.ranger;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.authorization.Owner;
+import org.apache.gravitino.authorization.Privileges;
+import org.apache.gravitino.authorization.SecurableObject;
+import org.apache.gravitino.authorization.SecurableObjects;
+import org.apache.gravitino.exceptions.AuthorizationPluginException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestRangerSyncPipeline {
+
+  @TempDir private Path tempDir;
+
+  @Test
+  public void testEncodeAndDecodeOperation() {
+    SecurableObject table =
+        SecurableObjects.parse(
+            "catalog.db.table",
+            MetadataObject.Type.TABLE,
+            ImmutableList.of(Privileges.SelectTable.allow(), Privileges.ModifyTable.deny()));
+    RangerSyncOperation addObject = RangerSyncOperation.addSecurableObject("role 1", table);
+    RangerSyncOperation decoded = RangerSyncOperation.decode(addObject.encode());
+    Assertions.assertEquals(addObject, decoded);
+    Assertions.assertEquals("role 1", decoded.role());
+    Assertions.assertEquals(table.fullName(), decoded.securableObject().fullName());
+    Assertions.assertEquals(table.privileges(), decoded.securableObject().privileges());
+
+    RangerSyncOperation setOwner =
+        RangerSyncOperation.setOwner(
+            MetadataObjects.parse("catalog.db", MetadataObject.Type.SCHEMA),
+            null,
+            owner("group=a\tb", Owner.Type.GROUP));
+    decoded = RangerSyncOperation.decode(setOwner.encode());
+    Assertions.assertEquals(setOwner, decoded);
+    Assertions.assertNull(decoded.preOwner());
+    Assertions.assertEquals("group=a\tb", decoded.newOwner().name());
+    Assertions.assertEquals(Owner.Type.GROUP, decoded.newOwner().type());
+    Assertions.assertEquals("catalog.db", decoded.metadataObject().fullName());
+  }
+
+  @Test
+  public void testCoalesceMemberships() {
+    Map<String, RangerSyncPipeline.RoleMembershipChange> changes =
+        RangerSyncPipeline.coalesceMemberships(
+            ImmutableList.of(
+                RangerSyncOperation.addUser("user1"),
+                RangerSyncOperation.grantRole("role1", "user1", null),
+                RangerSyncOperation.grantRole("role1", "user2", null),
+                RangerSyncOperation.revokeRole("role1", "user1", null),
+                RangerSyncOperation.grantRole("role1", null, "group1"),
+                RangerSyncOperation.revokeRole("role2", null, "group1"),
+                RangerSyncOperation.grantRole("role2", null, "group1")));
+
+    Assertions.assertEquals(ImmutableSet.of("role1", "role2"), changes.keySet());
+    RangerSyncPipeline.RoleMembershipChange role1 = changes.get("role1");
+    Assertions.assertEquals(ImmutableSet.of("user2"), role1.grantUsers);
+    Assertions.assertEquals(ImmutableSet.of("user1"), role1.revokeUsers);
+    Assertions.assertEquals(ImmutableSet.of("group1"), role1.grantGroups);
+    Assertions.assertTrue(role1.revokeGroups.isEmpty());
+    RangerSyncPipeline.RoleMembershipChange role2 = changes.get("role2");
+    Assertions.assertEquals(ImmutableSet.of("group1"), role2.grantGroups);
+    Assertions.assertTrue(role2.revokeGroups.isEmpty());
+  }
+
+  @Test
+  public void testApplyRunsInOrder() throws Exception {
+    List<List<RangerSyncOperation>> runs = new CopyOnWriteArrayList<>();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocked = new CountDownLatch(1);
+    RangerSyncPipeline.Applier applier =
+        run -> {
+          started.countDown();
+          blocked.await();
+          runs.add(run);
+        };
+
+    try (RangerSyncPipeline pipeline = createPipeline("order", applier, 100, 0)) {
+      // The first submission is taken alone, the rest queue up behind it as one batch.
+      pipeline.submit(Collections.singletonList(RangerSyncOperation.addUser("user0")));
+      started.await();
+      pipeline.submit(
+          ImmutableList.of(
+              RangerSyncOperation.addUser("user1"),
+              RangerSyncOperation.grantRole("role1", "user1", null),
+              RangerSyncOperation.addSecurableObject("role1", schema("catalog.db")),
+              RangerSyncOperation.deleteRole("role2"),
+              RangerSyncOperation.deleteRole("role3"),
+              RangerSyncOperation.grantRole("role1", "user2", null)));
+      blocked.countDown();
+      Assertions.assertTrue(pipeline.awaitDrained(10_000L));
+    }
+
+    Assertions.assertEquals(6, runs.size());
+    Assertions.assertEquals(1, runs.get(0).size());
+    Assertions.assertEquals(2, runs.get(1).size());
+    Assertions.assertEquals(
+        RangerSyncOperation.Type.ADD_SECURABLE_OBJECT, runs.get(2).get(0).type());
+    Assertions.assertEquals(RangerSyncOperation.deleteRole("role2"), runs.get(3).get(0));
+    Assertions.assertEquals(RangerSyncOperation.deleteRole("role3"), runs.get(4).get(0));
+    Assertions.assertEquals(
+        RangerSyncOperation.grantRole("role1", "user2", null), runs.get(5).get(0));
+  }
+
+  @Test
+  public void testReplayJournal() throws Exception {
+    List<RangerSyncOperation> operations =
+        ImmutableList.of(
+            RangerSyncOperation.addGroup("group1"),
+            RangerSyncOperation.grantRole("role1", null, "group1"),
+            RangerSyncOperation.removeUser("user1"));
+    RangerSyncJournal journal = RangerSyncJournal.open(tempDir, "replay");
+    long first = journal.append(operations);
+    journal.acknowledge(first);
+    journal.close();
+
+    List<RangerSyncOperation> applied = new CopyOnWriteArrayList<>();
+    try (RangerSyncPipeline pipeline = createPipeline("replay", applied::addAll, 100, 0)) {
+      Assertions.assertTrue(pipeline.awaitDrained(10_000L));
+    }
+    Assertions.assertEquals(operations.subList(1, 3), applied);
+
+    // The applied operations are compacted away and are not replayed again.
+    try (RangerSyncJournal reopened = RangerSyncJournal.open(tempDir, "replay")) {
+      Assertions.assertTrue(reopened.recovered().isEmpty());
+    }
+  }
+
+  @Test
+  public void testFailedOperationsMovedAside() throws Exception {
+    List<RangerSyncOperation> attempts = new CopyOnWriteArrayList<>();
+    RangerSyncPipeline.Applier applier =
+        run -> {
+          attempts.addAll(run);
+          if (run.get(0).type() == RangerSyncOperation.Type.DELETE_ROLE) {
+            throw new AuthorizationPluginException("Ranger is unavailable");
+          }
+        };
+
+    try (RangerSyncPipeline pipeline = createPipeline("failed", applier, 100, 2)) {
+      pipeline.submit(
+          ImmutableList.of(
+              RangerSyncOperation.deleteRole("role1"), RangerSyncOperation.removeUser("user1")));
+      Assertions.assertTrue(pipeline.awaitDrained(10_000L));
+    }
+
+    Assertions.assertEquals(
+        Lists.newArrayList(
+            RangerSyncOperation.deleteRole("role1"),
+            RangerSyncOperation.deleteRole("role1"),
+            RangerSyncOperation.deleteRole("role1"),
+            RangerSyncOperation.removeUser("user1")),
+        attempts);
+    List<String> failed = Files.readAllLines(tempDir.resolve("failed.journal.failed"));
+    Assertions.assertEquals(
+        Collections.singletonList(RangerSyncOperation.deleteRole("role1").encode()), failed);
+  }
+
+  @Test
+  public void testBackPressure() throws Exception {
+    CountDownLatch blocked = new CountDownLatch(1);
+    try (RangerSyncPipeline pipeline = createPipeline("full", run -> blocked.await(), 2, 0)) {
+      pipeline.submit(
+          ImmutableList.of(
+              RangerSyncOperation.addUser("user1"), RangerSyncOperation.addUser("user2")));
+      Assertions.assertThrows(
+          AuthorizationPluginException.class,
+          () -> pipeline.submit(Collections.singletonList(RangerSyncOperation.addUser("user3"))));
+      Assertions.assertEquals(2, pipeline.pendingSize());
+
+      blocked.countDown();
+      pipeline.submit(Collections.singletonList(RangerSyncOperation.addUser("user3")));
+      Assertions.assertTrue(pipeline.awaitDrained(10_000L));
+    }
+  }
+
+  private RangerSyncPipeline createPipeline(
+      String name, RangerSyncPipeline.Applier applier, int capacity, int maxRetries)
+      throws Exception {
+    return new RangerSyncPipeline(
+        name, RangerSyncJournal.open(tempDir, name), applier, capacity, 100, maxRetries, 1L, 200L);
+  }
+
+  private static SecurableObject schema(String fullName) {
+    return SecurableObjects.parse(
+        fullName, MetadataObject.Type.SCHEMA, ImmutableList.of(Privileges.UseSchema.allow()));
+  }
+
+  private static Owner owner(String name, Owner.Type type) {
+    return new Owner() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public Type type() {
+        return type;
+      }
+    };
+  }
+}
@@ -79,6 +79,8 @@ public class IcebergConstants {
   public static final String ICEBERG_METRICS_STORE = "metricsStore";
   public static final String ICEBERG_METRICS_STORE_RETAIN_DAYS = "metricsStoreRetainDays";
   public static final String ICEBERG_METRICS_QUEUE_CAPACITY = "metricsQueueCapacity";
+  public static final String ICEBERG_METRICS_BATCH_SIZE = "metricsBatchSize";
+  public static final String ICEBERG_METRICS_BATCH_LINGER_MS = "metricsBatchLingerMs";
 
   public static final String GRAVITINO_ICEBERG_REST_SERVICE_NAME = "iceberg-rest";
 
@@ -124,8 +126,17 @@ public class IcebergConstants {
   public static final String TABLE_METADATA_CACHE_CAPACITY = "table-metadata-cache-capacity";
   public static final String TABLE_METADATA_CACHE_EXPIRE_MINUTES =
       "table-metadata-cache-expire-minutes";
+  public static final String TABLE_METADATA_SHARED_STORE_IMPL = "table-metadata-shared-store-impl";
+  public static final String TABLE_METADATA_SHARED_STORE_PATH = "table-metadata-shared-store-path";
 
   public static final String SCAN_PLAN_CACHE_IMPL = "scan-plan-cache-impl";
   public static final String SCAN_PLAN_CACHE_CAPACITY = "scan-plan-cache-capacity";
   public static final String SCAN_PLAN_CACHE_EXPIRE_MINUTES = "scan-plan-cache-expire-minutes";
+  public static final String SCAN_PLAN_CACHE_MAX_WEIGHT_BYTES = "scan-plan-cache-max-weight-bytes";
+
+  public static final String MANIFEST_ENTRY_CACHE_ENABLED = "manifest-entry-cache-enabled";
+  public static final String MANIFEST_ENTRY_CACHE_MAX_WEIGHT_BYTES =
+      "manifest-entry-cache-max-weight-bytes";
+  public static final String MANIFEST_ENTRY_CACHE_EXPIRE_MINUTES =
+      "manifest-entry-cache-expire-minutes";
 }
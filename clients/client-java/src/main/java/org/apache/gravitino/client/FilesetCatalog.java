@@ -35,9 +35,12 @@ import org.apache.gravitino.credential.Credential;
 import org.apache.gravitino.credential.SupportsCredentials;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.requests.FileLocationAccessRequest;
+import org.apache.gravitino.dto.requests.FileLocationAccessesRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
@@ -56,7 +59,9 @@ import org.apache.gravitino.rest.RESTUtils;
  * metalake.
  */
 class FilesetCatalog extends BaseSchemaCatalog
-    implements org.apache.gravitino.file.FilesetCatalog, SupportsCredentials {
+    implements org.apache.gravitino.file.FilesetCatalog,
+        SupportsCredentials,
+        SupportsFileLocationAccessReport {
 
   FilesetCatalog(
       Namespace namespace,
@@ -269,6 +274,26 @@ class FilesetCatalog extends BaseSchemaCatalog
     }
   }
 
+  @Override
+  public void reportFileLocationAccesses(
+      NameIdentifier ident, List<FileLocationAccessRequest> accesses)
+      throws NoSuchFilesetException {
+    checkFilesetNameIdentifier(ident);
+    Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
+
+    FileLocationAccessesRequest req = new FileLocationAccessesRequest(accesses);
+    req.validate();
+
+    BaseResponse resp =
+        restClient.post(
+            formatFileLocationRequestPath(fullNamespace, ident.name()) + "/accesses",
+            req,
+            BaseResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler());
+    resp.validate();
+  }
+
   @Override
   public SupportsCredentials supportsCredentials() throws UnsupportedOperationException {
     return this;
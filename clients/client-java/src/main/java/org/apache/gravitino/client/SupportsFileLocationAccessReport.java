@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.client;
+
+import java.util.List;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.requests.FileLocationAccessRequest;
+import org.apache.gravitino.exceptions.NoSuchFilesetException;
+
+/**
+ * Interface for fileset catalogs which accept the file location accesses that the client resolved
+ * locally, so that the server can audit them without resolving every location on the server side.
+ */
+public interface SupportsFileLocationAccessReport {
+
+  /**
+   * Report a batch of file location accesses of a fileset. The server audits each access in the
+   * same way as a {@link org.apache.gravitino.file.FilesetCatalog#getFileLocation} request with the
+   * same sub path, location name and caller context.
+   *
+   * @param ident A fileset identifier, which should be "schema.fileset" format.
+   * @param accesses The file location accesses to report.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  void reportFileLocationAccesses(NameIdentifier ident, List<FileLocationAccessRequest> accesses)
+      throws NoSuchFilesetException;
+}
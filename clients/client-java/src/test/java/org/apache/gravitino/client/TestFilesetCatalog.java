@@ -46,9 +46,12 @@ import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
+import org.apache.gravitino.dto.requests.FileLocationAccessRequest;
+import org.apache.gravitino.dto.requests.FileLocationAccessesRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.CatalogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
@@ -521,6 +524,47 @@ public class TestFilesetCatalog extends TestBase {
         "location name not found");
   }
 
+  @Test
+  public void testReportFileLocationAccesses() throws JsonProcessingException {
+    NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
+    String accessesPath =
+        withSlash(
+            FilesetCatalog.formatFileLocationRequestPath(
+                    Namespace.of(metalakeName, catalogName, "schema1"), fileset.name())
+                + "/accesses");
+    List<FileLocationAccessRequest> accesses =
+        ImmutableList.of(
+            FileLocationAccessRequest.builder()
+                .subPath("/test/1")
+                .clientType(InternalClientType.HADOOP_GVFS.name())
+                .dataOperation(FilesetDataOperation.OPEN.name())
+                .build(),
+            FileLocationAccessRequest.builder()
+                .subPath("/test/2")
+                .locationName("location1")
+                .clientType(InternalClientType.HADOOP_GVFS.name())
+                .dataOperation(FilesetDataOperation.CREATE.name())
+                .build());
+    FileLocationAccessesRequest req = new FileLocationAccessesRequest(accesses);
+    SupportsFileLocationAccessReport reporter =
+        (SupportsFileLocationAccessReport) catalog.asFilesetCatalog();
+
+    buildMockResource(Method.POST, accessesPath, req, new BaseResponse(), SC_OK);
+    Assertions.assertDoesNotThrow(
+        () ->
+            reporter.reportFileLocationAccesses(
+                NameIdentifier.of(fileset.namespace().level(2), fileset.name()), accesses));
+
+    ErrorResponse errResp =
+        ErrorResponse.notFound(NoSuchFilesetException.class.getSimpleName(), "fileset not found");
+    buildMockResource(Method.POST, accessesPath, req, errResp, SC_NOT_FOUND);
+    Assertions.assertThrows(
+        NoSuchFilesetException.class,
+        () ->
+            reporter.reportFileLocationAccesses(
+                NameIdentifier.of(fileset.namespace().level(2), fileset.name()), accesses));
+  }
+
   @Test
   public void testCallerContextToHeader() throws JsonProcessingException {
     NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
@@ -27,6 +27,7 @@ import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemC
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemUtils.extractIdentifier;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemUtils.extractNonDefaultConfig;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemUtils.getSubPathFromGvfsPath;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemUtils.resolveFileLocation;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -43,6 +44,7 @@ import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
+import java.security.PrivilegedAction;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -52,9 +54,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -72,7 +79,10 @@ import org.apache.gravitino.catalog.hadoop.fs.GravitinoFileSystemCredentialsProv
 import org.apache.gravitino.catalog.hadoop.fs.HDFSFileSystemProxy;
 import org.apache.gravitino.catalog.hadoop.fs.SupportsCredentialVending;
 import org.apache.gravitino.client.GravitinoClient;
+import org.apache.gravitino.client.SupportsFileLocationAccessReport;
 import org.apache.gravitino.credential.Credential;
+import org.apache.gravitino.dto.requests.FileLocationAccessRequest;
+import org.apache.gravitino.dto.requests.FileLocationAccessesRequest;
 import org.apache.gravitino.exceptions.CatalogNotInUseException;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -89,7 +99,9 @@ import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.fs.permission.FsPermission;
 import org.apache.hadoop.security.Credentials;
 import org.apache.hadoop.security.UserGroupInformation;
@@ -112,6 +124,8 @@ import org.slf4j.LoggerFactory;
 public abstract class BaseGVFSOperations implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(BaseGVFSOperations.class);
   private static final String SLASH = "/";
+  private static final int ASYNC_READ_QUEUE_SIZE_PER_THREAD = 16;
+  private static final int WARM_UP_THREADS = 4;
   private static final Set<String> CATALOG_NECESSARY_PROPERTIES_TO_KEEP =
       Sets.newHashSet(
           OSSProperties.GRAVITINO_OSS_ENDPOINT,
@@ -155,6 +169,26 @@ public abstract class BaseGVFSOperations implements Closeable {
   private final boolean enableCredentialVending;
 
   private final boolean autoCreateLocation;
+
+  // Non-null only if the actual file locations are resolved on the client side.
+  @Nullable private final FileLocationAccessReporter fileLocationAccessReporter;
+
+  // Non-null only if the input streams are read asynchronously.
+  @Nullable private final ExecutorService asyncReadExecutor;
+
+  @Nullable private final GVFSInputStream.Options asyncReadOptions;
+
+  private final GVFSInputStreamStatistics inputStreamStatistics = new GVFSInputStreamStatistics();
+
+  private final List<NameIdentifier> warmUpFilesets;
+
+  @Nullable private volatile ExecutorService warmUpExecutor;
+
+  // Non-null only if the vended credentials are cached.
+  @Nullable private final FilesetCredentialsCache credentialsCache;
+
+  private final GVFSStartupStatistics startupStatistics = new GVFSStartupStatistics();
+
   /** A key class for caching FileSystem instances based on scheme, authority, and configuration. */
   public static class FileSystemCacheKey {
     private final String scheme;
@@ -260,6 +294,28 @@ public abstract class BaseGVFSOperations implements Closeable {
             GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_AUTO_CREATE_LOCATION,
             GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_AUTO_CREATE_LOCATION_DEFAULT);
 
+    this.fileLocationAccessReporter = initFileLocationAccessReporter(configuration);
+
+    boolean enableAsyncRead =
+        configuration.getBoolean(
+                GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_ENABLE,
+                GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_ENABLE_DEFAULT)
+            && isVectoredIOSupported();
+    this.asyncReadOptions =
+        enableAsyncRead ? GVFSInputStream.Options.fromConfiguration(configuration) : null;
+    this.asyncReadExecutor = enableAsyncRead ? newAsyncReadExecutor(configuration) : null;
+
+    this.warmUpFilesets = parseWarmUpFilesets(configuration);
+
+    this.credentialsCache =
+        enableCredentialVending
+                && configuration.getBoolean(
+                    GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CREDENTIAL_CACHE_ENABLE,
+                    GravitinoVirtualFileSystemConfiguration
+                        .FS_GRAVITINO_CREDENTIAL_CACHE_ENABLE_DEFAULT)
+            ? new FilesetCredentialsCache(this::loadCredentials)
+            : null;
+
     this.conf = configuration;
   }
 
@@ -285,6 +341,16 @@ public abstract class BaseGVFSOperations implements Closeable {
 
   @Override
   public void close() throws IOException {
+    // Cancel the pending warm-up first, so it doesn't create file systems while they are closed.
+    if (warmUpExecutor != null) {
+      warmUpExecutor.shutdownNow();
+    }
+
+    // Report the buffered accesses first since it needs the fileset catalogs and the client.
+    if (fileLocationAccessReporter != null) {
+      fileLocationAccessReporter.close();
+    }
+
     // Invalidate cache first so the removal listener can close cached FileSystems,
     // then close any remaining ones tracked in allCreatedFileSystems to avoid double-close.
     fileSystemCache.invalidateAll();
@@ -298,6 +364,15 @@ public abstract class BaseGVFSOperations implements Closeable {
     }
     allCreatedFileSystems.clear();
 
+    if (asyncReadExecutor != null) {
+      asyncReadExecutor.shutdownNow();
+      LOG.info("Input stream statistics of GVFS: {}", inputStreamStatistics);
+    }
+
+    if (credentialsCache != null) {
+      credentialsCache.close();
+    }
+
     try {
       if (filesetMetadataCache != null && filesetMetadataCache.isPresent()) {
         filesetMetadataCache.get().close();
@@ -409,6 +484,49 @@ public abstract class BaseGVFSOperations implements Closeable {
    */
   public abstract FileStatus[] listStatus(Path gvfsPath) throws IOException;
 
+  /**
+   * List the statuses of the files/directories in the given path lazily. Same as {@link
+   * FileSystem#listStatusIterator(Path)}. The default implementation iterates over the result of
+   * {@link #listStatus(Path)}, the implementations should override it to page through the listing
+   * of the actual file system.
+   *
+   * @param gvfsPath the virtual path of the directory.
+   * @return the iterator of file statuses.
+   * @throws IOException if an I/O error occurs.
+   */
+  public RemoteIterator<FileStatus> listStatusIterator(Path gvfsPath) throws IOException {
+    return FileStatusIterators.fromArray(listStatus(gvfsPath));
+  }
+
+  /**
+   * List the statuses and block locations of the files/directories in the given path lazily. Same
+   * as {@link FileSystem#listLocatedStatus(Path)}. The default implementation returns the statuses
+   * of {@link #listStatusIterator(Path)} without block locations.
+   *
+   * @param gvfsPath the virtual path of the directory.
+   * @return the iterator of located file statuses.
+   * @throws IOException if an I/O error occurs.
+   */
+  public RemoteIterator<LocatedFileStatus> listLocatedStatus(Path gvfsPath) throws IOException {
+    return FileStatusIterators.map(
+        listStatusIterator(gvfsPath), FileStatusIterators::toLocatedFileStatus);
+  }
+
+  /**
+   * List the statuses and block locations of the files in the given path lazily, and the files in
+   * the sub directories if recursive. Same as {@link FileSystem#listFiles(Path, boolean)}. The
+   * default implementation walks the directories with {@link #listLocatedStatus(Path)}.
+   *
+   * @param gvfsPath the virtual path of the file or directory.
+   * @param recursive whether to list the files in the sub directories.
+   * @return the iterator of located file statuses.
+   * @throws IOException if an I/O error occurs.
+   */
+  public RemoteIterator<LocatedFileStatus> listFiles(Path gvfsPath, boolean recursive)
+      throws IOException {
+    return FileStatusIterators.listFiles(gvfsPath, recursive, this::listLocatedStatus);
+  }
+
   /**
    * Make the given file and all non-existent parents directories. Same as {@link
    * FileSystem#mkdirs(Path, FsPermission)}.
@@ -477,6 +595,117 @@ public abstract class BaseGVFSOperations implements Closeable {
     return currentLocationName;
   }
 
+  /**
+   * Wrap the input stream of the actual file system to read asynchronously if it is enabled, see
+   * {@link GravitinoVirtualFileSystemConfiguration#FS_GRAVITINO_ASYNC_READ_ENABLE}. The subclass
+   * should call this method on the input streams returned by {@link #open(Path, int)}.
+   *
+   * @param actualFs the actual file system.
+   * @param actualFilePath the actual path of the file.
+   * @param in the input stream of the actual file system.
+   * @return the wrapped input stream, or the given one if the async read is disabled.
+   */
+  protected FSDataInputStream wrapInputStream(
+      FileSystem actualFs, Path actualFilePath, FSDataInputStream in) {
+    if (asyncReadExecutor == null) {
+      return in;
+    }
+    return new FSDataInputStream(
+        new GVFSInputStream(
+            in,
+            actualFilePath,
+            () -> actualFs.getFileStatus(actualFilePath).getLen(),
+            asyncReadExecutor,
+            asyncReadOptions,
+            inputStreamStatistics));
+  }
+
+  // The async read wraps the vectored IO API, which is only available since Hadoop 3.3.5.
+  private static boolean isVectoredIOSupported() {
+    try {
+      Class.forName(
+          "org.apache.hadoop.fs.FileRange", false, BaseGVFSOperations.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      LOG.warn(
+          "{} is ignored, since it requires Hadoop 3.3.5 or later",
+          GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_ENABLE);
+      return false;
+    }
+  }
+
+  /**
+   * Get the statistics of the input streams which are read asynchronously.
+   *
+   * @return the input stream statistics.
+   */
+  public GVFSInputStreamStatistics inputStreamStatistics() {
+    return inputStreamStatistics;
+  }
+
+  /**
+   * Get the statistics of the work done before serving the data, such as creating the actual file
+   * systems and loading the vended credentials.
+   *
+   * @return the startup statistics.
+   */
+  public GVFSStartupStatistics startupStatistics() {
+    return startupStatistics;
+  }
+
+  /**
+   * Start to warm up the filesets configured by {@link
+   * GravitinoVirtualFileSystemConfiguration#FS_GRAVITINO_WARM_UP_FILESETS} in the background. For
+   * each fileset, it loads the fileset and the vended credentials, creates the actual file system
+   * and connects to the storage location as the current user, so that the first access to the
+   * fileset finds them ready. A fileset which fails to warm up is logged and skipped, it will be
+   * set up again by the first access.
+   */
+  public void startWarmUp() {
+    if (warmUpFilesets.isEmpty()) {
+      return;
+    }
+
+    UserGroupInformation ugi;
+    try {
+      ugi = UserGroupInformation.getCurrentUser();
+    } catch (IOException e) {
+      LOG.warn("Cannot get the current user to warm up the filesets, skip the warm-up", e);
+      return;
+    }
+
+    long startNanos = System.nanoTime();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(warmUpFilesets.size(), WARM_UP_THREADS),
+            newDaemonThreadFactory("gvfs-warm-up"));
+    warmUpExecutor = executor;
+    List<CompletableFuture<Void>> futures =
+        warmUpFilesets.stream()
+            .map(
+                filesetIdent ->
+                    CompletableFuture.runAsync(
+                        () ->
+                            ugi.doAs(
+                                (PrivilegedAction<Void>)
+                                    () -> {
+                                      warmUp(filesetIdent);
+                                      return null;
+                                    }),
+                        executor))
+            .collect(Collectors.toList());
+    executor.shutdown();
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+        .whenComplete(
+            (result, e) ->
+                LOG.info(
+                    "Warmed up {} filesets in {} ms, statistics: {}",
+                    warmUpFilesets.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                    startupStatistics));
+  }
+
   /**
    * Get the metalake name.
    *
@@ -522,13 +751,27 @@ public abstract class BaseGVFSOperations implements Closeable {
         NameIdentifier.of(filesetIdent.namespace().level(0), filesetIdent.namespace().level(1));
     String fileLocation;
     try {
-      FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
-      setCallerContextForGetFileLocation(operation);
-      fileLocation =
-          filesetCatalog.getFileLocation(
-              NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
-              subPath,
-              locationName);
+      if (fileLocationAccessReporter != null) {
+        fileLocation =
+            resolveFileLocation(getFileset(filesetIdent), subPath, locationName, operation);
+        fileLocationAccessReporter.report(
+            filesetIdent,
+            FileLocationAccessRequest.builder()
+                .subPath(subPath)
+                .locationName(locationName)
+                .clientType(InternalClientType.HADOOP_GVFS.name())
+                .dataOperation(operation.name())
+                .accessTime(System.currentTimeMillis())
+                .build());
+      } else {
+        FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
+        setCallerContextForGetFileLocation(operation);
+        fileLocation =
+            filesetCatalog.getFileLocation(
+                NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
+                subPath,
+                locationName);
+      }
     } catch (NoSuchCatalogException | CatalogNotInUseException e) {
       String message = String.format("Cannot get fileset catalog by identifier: %s", catalogIdent);
       LOG.warn(message, e);
@@ -799,6 +1042,131 @@ public abstract class BaseGVFSOperations implements Closeable {
     return gravitinoClient;
   }
 
+  private List<NameIdentifier> parseWarmUpFilesets(Configuration configuration) {
+    return Arrays.stream(
+            configuration.getTrimmedStrings(
+                GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_WARM_UP_FILESETS))
+        .filter(StringUtils::isNotBlank)
+        .map(
+            fileset -> {
+              String[] names = fileset.split("\\.");
+              Preconditions.checkArgument(
+                  names.length == 3,
+                  "Invalid fileset '%s' in '%s', it should be in the format of "
+                      + "'catalog.schema.fileset'",
+                  fileset,
+                  GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_WARM_UP_FILESETS);
+              return NameIdentifier.of(metalakeName, names[0], names[1], names[2]);
+            })
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  private void warmUp(NameIdentifier filesetIdent) {
+    try {
+      FileSystem actualFs = getActualFileSystemByLocationName(filesetIdent, currentLocationName());
+      String location =
+          resolveFileLocation(
+              getFileset(filesetIdent), "", currentLocationName(), FilesetDataOperation.EXISTS);
+      // Access the storage once, so that the connection is also set up before the first access.
+      actualFs.exists(new Path(location));
+      LOG.debug("Warmed up fileset {}", filesetIdent);
+    } catch (Exception e) {
+      LOG.warn("Failed to warm up fileset {}", filesetIdent, e);
+    }
+  }
+
+  private Credential[] loadCredentials(NameIdentifier filesetIdent, @Nullable String locationName) {
+    long startNanos = System.nanoTime();
+    try {
+      Fileset fileset = getFileset(filesetIdent);
+      GravitinoVirtualFileSystemUtils.setCallerContextForGetCredentials(locationName);
+      return fileset.supportsCredentials().getCredentials();
+    } finally {
+      CallerContext.CallerContextHolder.remove();
+      startupStatistics.recordCredentialLoad(startNanos);
+    }
+  }
+
+  private ExecutorService newAsyncReadExecutor(Configuration configuration) {
+    int threads =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_THREADS,
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_THREADS_DEFAULT);
+    Preconditions.checkArgument(
+        threads > 0,
+        "'%s' should be positive",
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_THREADS);
+
+    // The queue is bounded so that the prefetches are dropped instead of piling up when the
+    // storage can't keep up, see GVFSInputStream.
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(threads * ASYNC_READ_QUEUE_SIZE_PER_THREAD),
+            newDaemonThreadFactory("gvfs-async-read"));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Nullable
+  private FileLocationAccessReporter initFileLocationAccessReporter(Configuration configuration) {
+    boolean enableLocalLocationResolution =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCAL_LOCATION_RESOLUTION_ENABLE,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_LOCAL_LOCATION_RESOLUTION_ENABLE_DEFAULT);
+    if (!enableLocalLocationResolution) {
+      return null;
+    }
+    // Resolving the locations without the cached filesets still loads a fileset per operation.
+    Preconditions.checkArgument(
+        enableFilesetMetadataCache,
+        "'%s' requires '%s' to be enabled",
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCAL_LOCATION_RESOLUTION_ENABLE,
+        FS_GRAVITINO_FILESET_METADATA_CACHE_ENABLE);
+
+    int batchSize =
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCATION_ACCESS_REPORT_BATCH_SIZE,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_LOCATION_ACCESS_REPORT_BATCH_SIZE_DEFAULT);
+    // The server rejects larger batches.
+    Preconditions.checkArgument(
+        batchSize <= FileLocationAccessesRequest.MAX_ACCESSES,
+        "'%s' cannot be larger than %s",
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCATION_ACCESS_REPORT_BATCH_SIZE,
+        FileLocationAccessesRequest.MAX_ACCESSES);
+    return new FileLocationAccessReporter(
+        this::sendFileLocationAccesses,
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCATION_ACCESS_REPORT_INTERVAL_MS,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_LOCATION_ACCESS_REPORT_INTERVAL_MS_DEFAULT),
+        batchSize,
+        configuration.getInt(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCATION_ACCESS_REPORT_BUFFER_SIZE,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_LOCATION_ACCESS_REPORT_BUFFER_SIZE_DEFAULT));
+  }
+
+  private void sendFileLocationAccesses(
+      NameIdentifier filesetIdent, List<FileLocationAccessRequest> accesses) {
+    NameIdentifier catalogIdent =
+        NameIdentifier.of(filesetIdent.namespace().level(0), filesetIdent.namespace().level(1));
+    FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
+    Preconditions.checkState(
+        filesetCatalog instanceof SupportsFileLocationAccessReport,
+        "Fileset catalog %s does not support reporting file location accesses",
+        catalogIdent);
+    ((SupportsFileLocationAccessReport) filesetCatalog)
+        .reportFileLocationAccesses(
+            NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()), accesses);
+  }
+
   private void setCallerContextForGetFileLocation(FilesetDataOperation operation) {
     Map<String, String> contextMap = Maps.newHashMap();
     contextMap.put(
@@ -836,6 +1204,7 @@ public abstract class BaseGVFSOperations implements Closeable {
     return fileSystemCache.get(
         new FileSystemCacheKey(scheme, authority, ugi),
         cacheKey -> {
+          long startNanos = System.nanoTime();
           try {
 
             // Reset the FileSystem service loader to make sure the FileSystem will reload the
@@ -852,6 +1221,7 @@ public abstract class BaseGVFSOperations implements Closeable {
             // Track every FS we create so we can guarantee close() at GVFS shutdown,
             // even if the entry is later evicted from the cache (see #11303).
             allCreatedFileSystems.add(created);
+            startupStatistics.recordFileSystemCreation(startNanos);
             return created;
           } catch (IOException e) {
             throw new GravitinoRuntimeException(
@@ -979,9 +1349,10 @@ public abstract class BaseGVFSOperations implements Closeable {
 
     ImmutableMap.Builder<String, String> mapBuilder = ImmutableMap.builder();
     try {
-      Fileset fileset = getFileset(filesetIdentifier);
-      GravitinoVirtualFileSystemUtils.setCallerContextForGetCredentials(locationName);
-      Credential[] credentials = fileset.supportsCredentials().getCredentials();
+      Credential[] credentials =
+          credentialsCache != null
+              ? credentialsCache.getCredentials(filesetIdentifier, locationName)
+              : loadCredentials(filesetIdentifier, locationName);
       if (credentials.length > 0) {
         mapBuilder.put(
             GravitinoFileSystemCredentialsProvider.GVFS_CREDENTIAL_PROVIDER,
@@ -989,6 +1360,13 @@ public abstract class BaseGVFSOperations implements Closeable {
         mapBuilder.put(
             GravitinoFileSystemCredentialsProvider.GVFS_NAME_IDENTIFIER,
             filesetIdentifier.toString());
+        // Let the credentials providers of the actual file system refresh from the cache.
+        if (credentialsCache != null) {
+          mapBuilder.put(FilesetCredentialsCache.CACHE_ID_KEY, credentialsCache.id());
+          if (locationName != null) {
+            mapBuilder.put(FilesetCredentialsCache.LOCATION_NAME_KEY, locationName);
+          }
+        }
 
         SupportsCredentialVending supportsCredentialVending =
             (SupportsCredentialVending) fileSystemProvider;
@@ -996,8 +1374,6 @@ public abstract class BaseGVFSOperations implements Closeable {
       }
     } catch (Exception e) {
       throw new RuntimeException(e);
-    } finally {
-      CallerContext.CallerContextHolder.remove();
     }
 
     return mapBuilder.build();
@@ -32,7 +32,9 @@ import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.fs.permission.FsPermission;
 import org.apache.hadoop.security.Credentials;
 import org.apache.hadoop.security.token.Token;
@@ -61,10 +63,14 @@ public class DefaultGVFSOperations extends BaseGVFSOperations {
 
   @Override
   public FSDataInputStream open(Path gvfsPath, int bufferSize) throws IOException {
+    long startNanos = System.nanoTime();
     FileSystem actualFs = getActualFileSystem(gvfsPath, currentLocationName());
     Path actualFilePath =
         getActualFilePath(gvfsPath, currentLocationName(), FilesetDataOperation.OPEN);
-    return actualFs.open(actualFilePath, bufferSize);
+    FSDataInputStream in =
+        wrapInputStream(actualFs, actualFilePath, actualFs.open(actualFilePath, bufferSize));
+    startupStatistics().recordOpen(gvfsPath, startNanos);
+    return in;
   }
 
   @Override
@@ -184,6 +190,36 @@ public class DefaultGVFSOperations extends BaseGVFSOperations {
         .toArray(FileStatus[]::new);
   }
 
+  @Override
+  public RemoteIterator<FileStatus> listStatusIterator(Path gvfsPath) throws IOException {
+    FileSystem actualFs = getActualFileSystem(gvfsPath, currentLocationName());
+    Path actualFilePath =
+        getActualFilePath(gvfsPath, currentLocationName(), FilesetDataOperation.LIST_STATUS);
+    return toVirtualFileStatuses(
+        gvfsPath, actualFilePath, actualFs.listStatusIterator(actualFilePath));
+  }
+
+  @Override
+  public RemoteIterator<LocatedFileStatus> listLocatedStatus(Path gvfsPath) throws IOException {
+    FileSystem actualFs = getActualFileSystem(gvfsPath, currentLocationName());
+    Path actualFilePath =
+        getActualFilePath(gvfsPath, currentLocationName(), FilesetDataOperation.LIST_STATUS);
+    return toVirtualFileStatuses(
+        gvfsPath, actualFilePath, actualFs.listLocatedStatus(actualFilePath));
+  }
+
+  @Override
+  public RemoteIterator<LocatedFileStatus> listFiles(Path gvfsPath, boolean recursive)
+      throws IOException {
+    FileSystem actualFs = getActualFileSystem(gvfsPath, currentLocationName());
+    Path actualFilePath =
+        getActualFilePath(gvfsPath, currentLocationName(), FilesetDataOperation.LIST_STATUS);
+    // Delegate the whole walk to the actual file system, which may list the files more
+    // efficiently than by directory, e.g. S3A lists all the objects under a prefix.
+    return toVirtualFileStatuses(
+        gvfsPath, actualFilePath, actualFs.listFiles(actualFilePath, recursive));
+  }
+
   @Override
   public boolean mkdirs(Path gvfsPath, FsPermission permission) throws IOException {
     try {
@@ -232,4 +268,24 @@ public class DefaultGVFSOperations extends BaseGVFSOperations {
   public Token<?>[] addDelegationTokens(String renewer, Credentials credentials) {
     return addDelegationTokensForAllFS(renewer, credentials);
   }
+
+  private <T extends FileStatus> RemoteIterator<T> toVirtualFileStatuses(
+      Path gvfsPath, Path actualFilePath, RemoteIterator<T> actualFileStatuses) {
+    NameIdentifier identifier = extractIdentifier(metalakeName(), gvfsPath.toString());
+    String subPath = getSubPathFromGvfsPath(identifier, gvfsPath.toString());
+    String filesetLocation =
+        actualFilePath
+            .toString()
+            .substring(0, actualFilePath.toString().length() - subPath.length());
+    String virtualLocation = getVirtualLocation(identifier, true);
+
+    // Rewrite the path of each status when it is fetched, so that the listing is never
+    // materialized.
+    return FileStatusIterators.map(
+        actualFileStatuses,
+        fileStatus -> {
+          convertFileStatusPathPrefix(fileStatus, filesetLocation, virtualLocation);
+          return fileStatus;
+        });
+  }
 }
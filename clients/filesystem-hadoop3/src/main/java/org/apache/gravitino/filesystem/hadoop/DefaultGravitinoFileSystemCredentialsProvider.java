@@ -57,6 +57,17 @@ public class DefaultGravitinoFileSystemCredentialsProvider
     String nameIdentifier = configuration.get(GVFS_NAME_IDENTIFIER);
     String[] idents = nameIdentifier.split("\\.");
 
+    // Get the credentials from the cache of the GVFS which creates the file system, if any.
+    Optional<FilesetCredentialsCache> cache =
+        FilesetCredentialsCache.get(configuration.get(FilesetCredentialsCache.CACHE_ID_KEY));
+    if (cache.isPresent()) {
+      return cache
+          .get()
+          .getCredentials(
+              NameIdentifier.of(idents),
+              configuration.get(FilesetCredentialsCache.LOCATION_NAME_KEY));
+    }
+
     try (GravitinoClient client = GravitinoVirtualFileSystemUtils.createClient(configuration)) {
       FilesetCatalog filesetCatalog = client.loadCatalog(idents[1]).asFilesetCatalog();
       Fileset fileset = filesetCatalog.loadFileset(NameIdentifier.of(idents[2], idents[3]));
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.filesystem.hadoop;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.requests.FileLocationAccessRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers the file location accesses which are resolved on the client side, and reports them to
+ * the Gravitino server in batches grouped by fileset. The buffered accesses are reported
+ * periodically, once a batch is full, and when the reporter is closed.
+ */
+class FileLocationAccessReporter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(FileLocationAccessReporter.class);
+  private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+  private final BiConsumer<NameIdentifier, List<FileLocationAccessRequest>> sender;
+  private final int batchSize;
+  private final BlockingQueue<Access> buffer;
+  private final ScheduledThreadPoolExecutor executor;
+  private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+  private final AtomicLong droppedAccesses = new AtomicLong(0);
+
+  private static class Access {
+    private final NameIdentifier filesetIdent;
+    private final FileLocationAccessRequest request;
+
+    private Access(NameIdentifier filesetIdent, FileLocationAccessRequest request) {
+      this.filesetIdent = filesetIdent;
+      this.request = request;
+    }
+  }
+
+  /**
+   * Creates a new instance of {@link FileLocationAccessReporter}.
+   *
+   * @param sender the function to send a batch of accesses of a fileset to the server.
+   * @param intervalMs the interval in milliseconds to report the buffered accesses.
+   * @param batchSize the maximum number of accesses in one report.
+   * @param bufferSize the maximum number of buffered accesses.
+   */
+  FileLocationAccessReporter(
+      BiConsumer<NameIdentifier, List<FileLocationAccessRequest>> sender,
+      long intervalMs,
+      int batchSize,
+      int bufferSize) {
+    Preconditions.checkArgument(intervalMs > 0, "The report interval must be positive");
+    Preconditions.checkArgument(batchSize > 0, "The report batch size must be positive");
+    Preconditions.checkArgument(bufferSize > 0, "The report buffer size must be positive");
+    this.sender = sender;
+    this.batchSize = batchSize;
+    this.buffer = new LinkedBlockingQueue<>(bufferSize);
+    this.executor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gvfs-location-access-reporter-%d")
+                .build());
+    executor.scheduleWithFixedDelay(
+        this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Buffers a file location access to be reported. The access is dropped if the buffer is full.
+   *
+   * @param filesetIdent the fileset identifier, which should be "metalake.catalog.schema.fileset".
+   * @param access the file location access.
+   */
+  void report(NameIdentifier filesetIdent, FileLocationAccessRequest access) {
+    if (!buffer.offer(new Access(filesetIdent, access))) {
+      droppedAccesses.incrementAndGet();
+      return;
+    }
+
+    if (buffer.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::flushQuietly);
+      } catch (Exception e) {
+        // The reporter is closing, the remaining accesses will be flushed by close().
+        flushScheduled.set(false);
+      }
+    }
+  }
+
+  /** Reports all the buffered accesses to the server. */
+  @VisibleForTesting
+  synchronized void flush() {
+    flushScheduled.set(false);
+    long dropped = droppedAccesses.getAndSet(0);
+    if (dropped > 0) {
+      LOG.warn("Dropped {} file location accesses since the report buffer is full", dropped);
+    }
+
+    List<Access> accesses = new ArrayList<>();
+    buffer.drainTo(accesses);
+    if (accesses.isEmpty()) {
+      return;
+    }
+
+    Map<NameIdentifier, List<FileLocationAccessRequest>> accessesByFileset = new LinkedHashMap<>();
+    for (Access access : accesses) {
+      accessesByFileset
+          .computeIfAbsent(access.filesetIdent, k -> new ArrayList<>())
+          .add(access.request);
+    }
+
+    for (Map.Entry<NameIdentifier, List<FileLocationAccessRequest>> entry :
+        accessesByFileset.entrySet()) {
+      for (List<FileLocationAccessRequest> batch : Lists.partition(entry.getValue(), batchSize)) {
+        try {
+          sender.accept(entry.getKey(), batch);
+        } catch (Exception e) {
+          LOG.warn(
+              "Failed to report {} file location accesses of fileset {}",
+              batch.size(),
+              entry.getKey(),
+              e);
+        }
+      }
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      LOG.warn("Failed to report file location accesses", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    flushQuietly();
+  }
+}
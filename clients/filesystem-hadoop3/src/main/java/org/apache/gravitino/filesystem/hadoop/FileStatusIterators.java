@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.filesystem.hadoop;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.hadoop.fs.BlockLocation;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+
+/** Utility methods to build the lazy {@link RemoteIterator}s returned by the listing operations. */
+class FileStatusIterators {
+
+  /** A function which lists the located file statuses of a path. */
+  @FunctionalInterface
+  interface LocatedStatusLister {
+    RemoteIterator<LocatedFileStatus> list(Path path) throws IOException;
+  }
+
+  private FileStatusIterators() {}
+
+  /**
+   * Returns an iterator over the given array.
+   *
+   * @param array the array, null is treated as an empty array.
+   * @param <T> the type of the elements.
+   * @return the iterator.
+   */
+  static <T> RemoteIterator<T> fromArray(T[] array) {
+    return new RemoteIterator<T>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return array != null && index < array.length;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return array[index++];
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator which applies the function to each element of the given iterator when the
+   * element is fetched.
+   *
+   * @param iterator the source iterator.
+   * @param function the function to apply.
+   * @param <S> the type of the source elements.
+   * @param <T> the type of the result elements.
+   * @return the iterator.
+   */
+  static <S, T> RemoteIterator<T> map(RemoteIterator<S> iterator, Function<S, T> function) {
+    return new RemoteIterator<T>() {
+      @Override
+      public boolean hasNext() throws IOException {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public T next() throws IOException {
+        return function.apply(iterator.next());
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator which replaces each element of the given iterator with the elements of the
+   * array the function returns for it, when the element is fetched.
+   *
+   * @param iterator the source iterator.
+   * @param function the function to apply, a null result is treated as an empty array.
+   * @param <S> the type of the source elements.
+   * @param <T> the type of the result elements.
+   * @return the iterator.
+   */
+  static <S, T> RemoteIterator<T> flatMap(RemoteIterator<S> iterator, Function<S, T[]> function) {
+    return new RemoteIterator<T>() {
+      private RemoteIterator<T> current = fromArray(null);
+
+      @Override
+      public boolean hasNext() throws IOException {
+        while (!current.hasNext() && iterator.hasNext()) {
+          current = fromArray(function.apply(iterator.next()));
+        }
+        return current.hasNext();
+      }
+
+      @Override
+      public T next() throws IOException {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return current.next();
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator which skips the elements of the given iterator not matching the predicate.
+   *
+   * @param iterator the source iterator.
+   * @param predicate the predicate the returned elements match.
+   * @param <T> the type of the elements.
+   * @return the iterator.
+   */
+  static <T> RemoteIterator<T> filter(RemoteIterator<T> iterator, Predicate<T> predicate) {
+    return new RemoteIterator<T>() {
+      private T next;
+
+      @Override
+      public boolean hasNext() throws IOException {
+        while (next == null && iterator.hasNext()) {
+          T candidate = iterator.next();
+          if (predicate.test(candidate)) {
+            next = candidate;
+          }
+        }
+        return next != null;
+      }
+
+      @Override
+      public T next() throws IOException {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        T result = next;
+        next = null;
+        return result;
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator over the files under the given path, which lists a sub directory only when
+   * the iteration reaches it, as {@link org.apache.hadoop.fs.FileSystem#listFiles(Path, boolean)}
+   * does.
+   *
+   * @param path the path to list.
+   * @param recursive whether to list the files in the sub directories.
+   * @param lister the function to list the located file statuses of a path.
+   * @return the iterator.
+   * @throws IOException if failed to list the path.
+   */
+  static RemoteIterator<LocatedFileStatus> listFiles(
+      Path path, boolean recursive, LocatedStatusLister lister) throws IOException {
+    Deque<RemoteIterator<LocatedFileStatus>> iterators = new ArrayDeque<>();
+    iterators.push(lister.list(path));
+    return new RemoteIterator<LocatedFileStatus>() {
+      private LocatedFileStatus next;
+
+      @Override
+      public boolean hasNext() throws IOException {
+        while (next == null && !iterators.isEmpty()) {
+          RemoteIterator<LocatedFileStatus> current = iterators.peek();
+          if (!current.hasNext()) {
+            iterators.pop();
+            continue;
+          }
+
+          LocatedFileStatus status = current.next();
+          if (status.isFile()) {
+            next = status;
+          } else if (recursive) {
+            iterators.push(lister.list(status.getPath()));
+          }
+        }
+        return next != null;
+      }
+
+      @Override
+      public LocatedFileStatus next() throws IOException {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        LocatedFileStatus result = next;
+        next = null;
+        return result;
+      }
+    };
+  }
+
+  /**
+   * Converts the file status to a located file status without block locations, if it is not one.
+   *
+   * @param status the file status.
+   * @return the located file status.
+   */
+  static LocatedFileStatus toLocatedFileStatus(FileStatus status) {
+    if (status instanceof LocatedFileStatus) {
+      return (LocatedFileStatus) status;
+    }
+    return new LocatedFileStatus(status, new BlockLocation[0]);
+  }
+}
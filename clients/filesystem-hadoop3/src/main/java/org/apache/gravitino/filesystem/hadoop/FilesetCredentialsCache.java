@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.filesystem.hadoop;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.credential.Credential;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the credentials vended for the filesets, and refreshes them in the background before they
+ * expire, so that the file operations don't wait for the credential vending. The credentials which
+ * are not used since the last refresh are dropped instead of being refreshed, and loaded on demand
+ * the next time.
+ *
+ * <p>The caches are registered by their ids, so that the {@link
+ * DefaultGravitinoFileSystemCredentialsProvider} used by the actual file systems can share the
+ * cache of the Gravitino Virtual File System which creates them, see {@link #CACHE_ID_KEY}.
+ */
+class FilesetCredentialsCache implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(FilesetCredentialsCache.class);
+
+  /** The configuration key of the actual file systems for the id of the cache to use. */
+  static final String CACHE_ID_KEY = "fs.gvfs.credentials.cache.id";
+
+  /** The configuration key of the actual file systems for the location name of the credentials. */
+  static final String LOCATION_NAME_KEY = "fs.gvfs.credentials.location.name";
+
+  // Refresh the credentials once this fraction of their lifetime has passed. It is lower than the
+  // fraction at which the credentials providers of the bundles refresh on demand, so that their
+  // refreshes get the refreshed credentials from the cache.
+  private static final double REFRESH_AHEAD_FACTOR = 0.4D;
+  private static final long MIN_REFRESH_DELAY_MS = 100;
+
+  private static final Map<String, FilesetCredentialsCache> CACHES = new ConcurrentHashMap<>();
+
+  private final String id = UUID.randomUUID().toString();
+  private final BiFunction<NameIdentifier, String, Credential[]> loader;
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final ScheduledThreadPoolExecutor refresher;
+
+  private static class Key {
+    private final NameIdentifier filesetIdent;
+    @Nullable private final String locationName;
+
+    private Key(NameIdentifier filesetIdent, @Nullable String locationName) {
+      this.filesetIdent = filesetIdent;
+      this.locationName = locationName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) return false;
+      Key that = (Key) o;
+      return Objects.equals(filesetIdent, that.filesetIdent)
+          && Objects.equals(locationName, that.locationName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(filesetIdent, locationName);
+    }
+
+    @Override
+    public String toString() {
+      return filesetIdent + (locationName == null ? "" : "@" + locationName);
+    }
+  }
+
+  private static class Loaded {
+    private final Credential[] credentials;
+    private final long loadTimeMs;
+    // The earliest expiration time of the credentials, Long.MAX_VALUE if they don't expire.
+    private final long expireTimeMs;
+
+    private Loaded(Credential[] credentials, long loadTimeMs) {
+      this.credentials = credentials;
+      this.loadTimeMs = loadTimeMs;
+      long earliest = Long.MAX_VALUE;
+      for (Credential credential : credentials) {
+        if (credential.expireTimeInMs() > 0) {
+          earliest = Math.min(earliest, credential.expireTimeInMs());
+        }
+      }
+      this.expireTimeMs = earliest;
+    }
+  }
+
+  private static class Entry {
+    @Nullable private volatile Loaded loaded;
+    // Whether the credentials are used since they are loaded.
+    private volatile boolean accessed;
+
+    @Nullable
+    private Credential[] credentialsIfValid(long nowMs) {
+      Loaded current = loaded;
+      return current != null && nowMs < current.expireTimeMs ? current.credentials : null;
+    }
+  }
+
+  /**
+   * Creates a new {@link FilesetCredentialsCache} and registers it.
+   *
+   * @param loader the function to load the credentials of a fileset and a location name, which is
+   *     null for the default location.
+   */
+  FilesetCredentialsCache(BiFunction<NameIdentifier, String, Credential[]> loader) {
+    this.loader = loader;
+    this.refresher =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gvfs-credentials-refresher-%d")
+                .build());
+    refresher.setRemoveOnCancelPolicy(true);
+    CACHES.put(id, this);
+  }
+
+  /**
+   * Get the registered cache by its id.
+   *
+   * @param id the id of the cache.
+   * @return the cache, or empty if it is not registered or already closed.
+   */
+  static Optional<FilesetCredentialsCache> get(@Nullable String id) {
+    return id == null ? Optional.empty() : Optional.ofNullable(CACHES.get(id));
+  }
+
+  /**
+   * Get the id of the cache.
+   *
+   * @return the id.
+   */
+  String id() {
+    return id;
+  }
+
+  /**
+   * Get the credentials of the fileset from the cache, or load them if they are not cached or
+   * expired.
+   *
+   * @param filesetIdent the fileset identifier.
+   * @param locationName the location name, null means the default location.
+   * @return the credentials.
+   */
+  Credential[] getCredentials(NameIdentifier filesetIdent, @Nullable String locationName) {
+    Key key = new Key(filesetIdent, locationName);
+    Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+    Credential[] credentials = entry.credentialsIfValid(System.currentTimeMillis());
+    if (credentials == null) {
+      synchronized (entry) {
+        credentials = entry.credentialsIfValid(System.currentTimeMillis());
+        if (credentials == null) {
+          return load(key, entry);
+        }
+      }
+    }
+    entry.accessed = true;
+    return credentials;
+  }
+
+  @VisibleForTesting
+  int size() {
+    return entries.size();
+  }
+
+  @Override
+  public void close() {
+    CACHES.remove(id);
+    refresher.shutdownNow();
+    entries.clear();
+  }
+
+  private Credential[] load(Key key, Entry entry) {
+    Credential[] credentials = loader.apply(key.filesetIdent, key.locationName);
+    Loaded loaded = new Loaded(credentials, System.currentTimeMillis());
+    entry.loaded = loaded;
+    entry.accessed = false;
+    if (loaded.expireTimeMs != Long.MAX_VALUE) {
+      long delayMs = (long) ((loaded.expireTimeMs - loaded.loadTimeMs) * REFRESH_AHEAD_FACTOR);
+      scheduleRefresh(key, entry, delayMs);
+    }
+    return loaded.credentials;
+  }
+
+  private void scheduleRefresh(Key key, Entry entry, long delayMs) {
+    try {
+      refresher.schedule(
+          () -> refresh(key, entry),
+          Math.max(delayMs, MIN_REFRESH_DELAY_MS),
+          TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // The cache is closed, the credentials are loaded on demand from now on.
+      LOG.debug("Skip refreshing the credentials of {} since the cache is closed", key);
+    }
+  }
+
+  private void refresh(Key key, Entry entry) {
+    synchronized (entry) {
+      Loaded current = entry.loaded;
+      if (current == null || !entry.accessed) {
+        LOG.debug("Drop the credentials of {} which are not used since the last load", key);
+        entries.remove(key, entry);
+        return;
+      }
+
+      try {
+        load(key, entry);
+        LOG.debug("Refreshed the credentials of {}", key);
+      } catch (Exception e) {
+        long remainingMs = current.expireTimeMs - System.currentTimeMillis();
+        if (remainingMs <= 0) {
+          LOG.warn("Failed to refresh the credentials of {}, they are expired", key, e);
+          entries.remove(key, entry);
+          return;
+        }
+        LOG.warn("Failed to refresh the credentials of {}, will retry", key, e);
+        scheduleRefresh(key, entry, remainingMs / 2);
+      }
+    }
+  }
+}
@@ -0,0 +1,637 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.filesystem.hadoop;
+
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_FOOTER_PREFETCH_SIZE;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_FOOTER_PREFETCH_SIZE_DEFAULT;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_MAX_MERGED_SIZE;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_MAX_MERGED_SIZE_DEFAULT;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_MIN_SEEK_SIZE;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_MIN_SEEK_SIZE_DEFAULT;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCKS;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCKS_DEFAULT;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCK_SIZE;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCK_SIZE_DEFAULT;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntFunction;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.ByteBufferReadable;
+import org.apache.hadoop.fs.CanSetReadahead;
+import org.apache.hadoop.fs.CanUnbuffer;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FSExceptionMessages;
+import org.apache.hadoop.fs.FSInputStream;
+import org.apache.hadoop.fs.FileRange;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.StreamCapabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An input stream which wraps the input stream of the actual file system to read asynchronously on
+ * a bounded thread pool shared by the streams of a Gravitino Virtual File System:
+ *
+ * <ul>
+ *   <li>Vectored reads are forwarded to the actual stream if it supports them natively. Otherwise
+ *       the nearby ranges are coalesced and the coalesced ranges are read in parallel, instead of
+ *       reading the ranges one by one as the default implementation does.
+ *   <li>The footer of the file can be prefetched when the stream is opened, which suits columnar
+ *       formats like Parquet and ORC that read the footer first.
+ *   <li>The next blocks of a sequential read can be prefetched, so that the reader doesn't wait
+ *       for a round trip to the storage at every block.
+ * </ul>
+ *
+ * <p>The prefetches are best-effort: they are skipped when the thread pool is full, and the reads
+ * fall back to the actual stream when the prefetched data is missing or failed.
+ */
+class GVFSInputStream extends FSInputStream
+    implements StreamCapabilities, ByteBufferReadable, CanUnbuffer, CanSetReadahead {
+  private static final Logger LOG = LoggerFactory.getLogger(GVFSInputStream.class);
+
+  // The buffer size used to read into a direct byte buffer.
+  private static final int DIRECT_BUFFER_READ_SIZE = 64 * 1024;
+
+  /** The options of the async reads. */
+  static class Options {
+    private final int minSeekSize;
+    private final int maxMergedSize;
+    private final int footerPrefetchSize;
+    private final int prefetchBlockSize;
+    private final int prefetchBlocks;
+
+    Options(
+        int minSeekSize,
+        int maxMergedSize,
+        int footerPrefetchSize,
+        int prefetchBlockSize,
+        int prefetchBlocks) {
+      Preconditions.checkArgument(
+          minSeekSize >= 0, "'%s' should not be negative", FS_GRAVITINO_ASYNC_READ_MIN_SEEK_SIZE);
+      Preconditions.checkArgument(
+          maxMergedSize > 0, "'%s' should be positive", FS_GRAVITINO_ASYNC_READ_MAX_MERGED_SIZE);
+      Preconditions.checkArgument(
+          footerPrefetchSize >= 0,
+          "'%s' should not be negative",
+          FS_GRAVITINO_ASYNC_READ_FOOTER_PREFETCH_SIZE);
+      Preconditions.checkArgument(
+          prefetchBlockSize > 0,
+          "'%s' should be positive",
+          FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCK_SIZE);
+      Preconditions.checkArgument(
+          prefetchBlocks >= 0,
+          "'%s' should not be negative",
+          FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCKS);
+      this.minSeekSize = minSeekSize;
+      this.maxMergedSize = maxMergedSize;
+      this.footerPrefetchSize = footerPrefetchSize;
+      this.prefetchBlockSize = prefetchBlockSize;
+      this.prefetchBlocks = prefetchBlocks;
+    }
+
+    static Options fromConfiguration(Configuration configuration) {
+      return new Options(
+          configuration.getInt(
+              FS_GRAVITINO_ASYNC_READ_MIN_SEEK_SIZE, FS_GRAVITINO_ASYNC_READ_MIN_SEEK_SIZE_DEFAULT),
+          configuration.getInt(
+              FS_GRAVITINO_ASYNC_READ_MAX_MERGED_SIZE,
+              FS_GRAVITINO_ASYNC_READ_MAX_MERGED_SIZE_DEFAULT),
+          configuration.getInt(
+              FS_GRAVITINO_ASYNC_READ_FOOTER_PREFETCH_SIZE,
+              FS_GRAVITINO_ASYNC_READ_FOOTER_PREFETCH_SIZE_DEFAULT),
+          configuration.getInt(
+              FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCK_SIZE,
+              FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCK_SIZE_DEFAULT),
+          configuration.getInt(
+              FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCKS,
+              FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCKS_DEFAULT));
+    }
+  }
+
+  /** A range of the file which is being prefetched or has been prefetched. */
+  private static class PrefetchedRange {
+    private final long offset;
+    private final int length;
+    private final boolean footer;
+    // The data may be shorter than the length if the range reaches the end of the file.
+    private final CompletableFuture<byte[]> data = new CompletableFuture<>();
+
+    private PrefetchedRange(long offset, int length, boolean footer) {
+      this.offset = offset;
+      this.length = length;
+      this.footer = footer;
+    }
+
+    private boolean contains(long position) {
+      return position >= offset && position < offset + length;
+    }
+  }
+
+  private final FSDataInputStream in;
+  private final Path path;
+  private final Callable<Long> fileLengthSupplier;
+  private final ExecutorService executor;
+  private final Options options;
+  private final GVFSInputStreamStatistics statistics;
+
+  // Guarded by itself.
+  private final List<PrefetchedRange> prefetchedRanges = new ArrayList<>();
+  private final byte[] singleByte = new byte[1];
+
+  // The length of the file, -1 until it is known by the prefetches.
+  private volatile long fileLength = -1;
+  private volatile boolean closed = false;
+
+  private long pos = 0;
+  // The end of the last stateful read, used to detect the sequential reads.
+  private long lastReadEnd = 0;
+
+  /**
+   * Creates a new {@link GVFSInputStream}.
+   *
+   * @param in the input stream of the actual file system.
+   * @param path the actual path of the file.
+   * @param fileLengthSupplier the supplier of the file length, called only to prefetch the footer.
+   * @param executor the thread pool to read asynchronously.
+   * @param options the options of the async reads.
+   * @param statistics the statistics to update.
+   */
+  GVFSInputStream(
+      FSDataInputStream in,
+      Path path,
+      Callable<Long> fileLengthSupplier,
+      ExecutorService executor,
+      Options options,
+      GVFSInputStreamStatistics statistics) {
+    this.in = in;
+    this.path = path;
+    this.fileLengthSupplier = fileLengthSupplier;
+    this.executor = executor;
+    this.options = options;
+    this.statistics = statistics;
+
+    if (options.footerPrefetchSize > 0) {
+      submit(this::prefetchFooter);
+    }
+  }
+
+  @Override
+  public synchronized int read() throws IOException {
+    int n = read(singleByte, 0, 1);
+    return n <= 0 ? -1 : singleByte[0] & 0xff;
+  }
+
+  @Override
+  public synchronized int read(byte[] buffer, int offset, int length) throws IOException {
+    checkNotClosed();
+    validatePositionedReadArgs(pos, buffer, offset, length);
+    if (length == 0) {
+      return 0;
+    }
+
+    boolean sequential = pos == lastReadEnd;
+    int n = readPrefetched(pos, buffer, offset, length);
+    if (n < 0) {
+      if (in.getPos() != pos) {
+        in.seek(pos);
+      }
+      n = in.read(buffer, offset, length);
+    }
+
+    if (n > 0) {
+      pos += n;
+      lastReadEnd = pos;
+      if (sequential) {
+        prefetchBlocks(pos);
+      }
+    }
+    return n;
+  }
+
+  @Override
+  public int read(ByteBuffer buffer) throws IOException {
+    if (!buffer.hasRemaining()) {
+      return 0;
+    }
+
+    if (buffer.hasArray()) {
+      int n = read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      if (n > 0) {
+        buffer.position(buffer.position() + n);
+      }
+      return n;
+    }
+
+    byte[] bytes = new byte[Math.min(buffer.remaining(), DIRECT_BUFFER_READ_SIZE)];
+    int n = read(bytes, 0, bytes.length);
+    if (n > 0) {
+      buffer.put(bytes, 0, n);
+    }
+    return n;
+  }
+
+  @Override
+  public int read(long position, byte[] buffer, int offset, int length) throws IOException {
+    checkNotClosed();
+    validatePositionedReadArgs(position, buffer, offset, length);
+    if (length == 0) {
+      return 0;
+    }
+
+    int n = readPrefetched(position, buffer, offset, length);
+    return n >= 0 ? n : in.read(position, buffer, offset, length);
+  }
+
+  @Override
+  public void readVectored(List<? extends FileRange> ranges, IntFunction<ByteBuffer> allocate)
+      throws IOException {
+    checkNotClosed();
+    List<FileRange> sortedRanges = validateAndSortRanges(ranges);
+    statistics.addVectoredRanges(sortedRanges.size());
+
+    List<FileRange> pendingRanges = new ArrayList<>();
+    for (FileRange range : sortedRanges) {
+      ByteBuffer prefetched = readPrefetchedIfDone(range, allocate);
+      if (prefetched != null) {
+        range.setData(CompletableFuture.completedFuture(prefetched));
+      } else {
+        pendingRanges.add(range);
+      }
+    }
+    if (pendingRanges.isEmpty()) {
+      return;
+    }
+
+    if (in.hasCapability(StreamCapabilities.VECTOREDIO)) {
+      in.readVectored(pendingRanges, allocate);
+      return;
+    }
+
+    List<List<FileRange>> mergedRanges = mergeRanges(pendingRanges);
+    statistics.addVectoredReads(mergedRanges.size());
+    for (List<FileRange> mergedRange : mergedRanges) {
+      for (FileRange range : mergedRange) {
+        range.setData(new CompletableFuture<>());
+      }
+      Runnable task = () -> readMergedRange(mergedRange, allocate);
+      // Read in the caller thread rather than fail the vectored read if the thread pool is full.
+      if (!submit(task)) {
+        task.run();
+      }
+    }
+  }
+
+  @Override
+  public synchronized void seek(long position) throws IOException {
+    checkNotClosed();
+    if (position < 0) {
+      throw new EOFException(FSExceptionMessages.NEGATIVE_SEEK);
+    }
+    // Seek the actual stream lazily, since the next read may be served by the prefetched data.
+    this.pos = position;
+  }
+
+  @Override
+  public synchronized long getPos() throws IOException {
+    return pos;
+  }
+
+  @Override
+  public synchronized boolean seekToNewSource(long targetPos) throws IOException {
+    checkNotClosed();
+    return in.seekToNewSource(targetPos);
+  }
+
+  @Override
+  public synchronized int available() throws IOException {
+    checkNotClosed();
+    return in.getPos() == pos ? in.available() : 0;
+  }
+
+  @Override
+  public boolean hasCapability(String capability) {
+    switch (capability.toLowerCase(Locale.ROOT)) {
+      case StreamCapabilities.VECTOREDIO:
+      case StreamCapabilities.READBYTEBUFFER:
+        return true;
+      case StreamCapabilities.UNBUFFER:
+      case StreamCapabilities.READAHEAD:
+        // Delegated to the actual stream.
+        return in.hasCapability(capability);
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  public void unbuffer() {
+    in.unbuffer();
+  }
+
+  @Override
+  public void setReadahead(Long readahead) throws IOException {
+    in.setReadahead(readahead);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    synchronized (prefetchedRanges) {
+      for (PrefetchedRange range : prefetchedRanges) {
+        range.data.cancel(false);
+      }
+      prefetchedRanges.clear();
+    }
+    LOG.debug("Closed the input stream of {}, statistics: {}", path, statistics);
+    in.close();
+  }
+
+  @Override
+  public String toString() {
+    return "GVFSInputStream{path=" + path + ", in=" + in + '}';
+  }
+
+  private void checkNotClosed() throws IOException {
+    if (closed) {
+      throw new IOException(path + ": " + FSExceptionMessages.STREAM_IS_CLOSED);
+    }
+  }
+
+  private boolean submit(Runnable task) {
+    try {
+      executor.execute(task);
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  // Returns the number of bytes copied from the prefetched data, or -1 if the position is not
+  // prefetched. Waits for the data if the prefetch is still in progress, since reading the same
+  // data from the actual stream would not be faster.
+  private int readPrefetched(long position, byte[] buffer, int offset, int length)
+      throws IOException {
+    PrefetchedRange range;
+    synchronized (prefetchedRanges) {
+      range = findPrefetchedRange(position);
+    }
+    if (range == null) {
+      return -1;
+    }
+
+    byte[] data;
+    try {
+      data = range.data.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw (InterruptedIOException)
+          new InterruptedIOException("Interrupted while waiting for the prefetch of " + path)
+              .initCause(e);
+    } catch (ExecutionException | CancellationException e) {
+      synchronized (prefetchedRanges) {
+        prefetchedRanges.remove(range);
+      }
+      return -1;
+    }
+
+    long available = range.offset + data.length - position;
+    if (available <= 0) {
+      return -1;
+    }
+    int n = (int) Math.min(length, available);
+    System.arraycopy(data, (int) (position - range.offset), buffer, offset, n);
+    statistics.addBytesPrefetchedUsed(n);
+    return n;
+  }
+
+  // Returns the data of the range if it is fully covered by a finished prefetch, or null.
+  private ByteBuffer readPrefetchedIfDone(FileRange range, IntFunction<ByteBuffer> allocate) {
+    PrefetchedRange prefetchedRange;
+    synchronized (prefetchedRanges) {
+      prefetchedRange = findPrefetchedRange(range.getOffset());
+    }
+    if (prefetchedRange == null
+        || !prefetchedRange.data.isDone()
+        || prefetchedRange.data.isCompletedExceptionally()) {
+      return null;
+    }
+
+    byte[] data = prefetchedRange.data.join();
+    int start = (int) (range.getOffset() - prefetchedRange.offset);
+    if (start + range.getLength() > data.length) {
+      return null;
+    }
+    ByteBuffer buffer = allocate.apply(range.getLength());
+    buffer.put(data, start, range.getLength());
+    buffer.flip();
+    statistics.addBytesPrefetchedUsed(range.getLength());
+    return buffer;
+  }
+
+  private PrefetchedRange findPrefetchedRange(long position) {
+    for (PrefetchedRange range : prefetchedRanges) {
+      if (range.contains(position)) {
+        return range;
+      }
+    }
+    return null;
+  }
+
+  // Sorts the ranges by offset, and rejects the invalid and overlapping ranges as Hadoop's
+  // VectoredReadUtils#validateNonOverlappingAndReturnSortedRanges does.
+  @VisibleForTesting
+  static List<FileRange> validateAndSortRanges(List<? extends FileRange> ranges) {
+    Preconditions.checkArgument(ranges != null, "Null ranges");
+    List<FileRange> sortedRanges = new ArrayList<>(ranges.size());
+    for (FileRange range : ranges) {
+      Preconditions.checkArgument(range != null, "Null range");
+      Preconditions.checkArgument(
+          range.getOffset() >= 0 && range.getLength() >= 0, "Invalid range: %s", range);
+      sortedRanges.add(range);
+    }
+    sortedRanges.sort(Comparator.comparingLong(FileRange::getOffset));
+
+    for (int i = 1; i < sortedRanges.size(); i++) {
+      FileRange previous = sortedRanges.get(i - 1);
+      FileRange current = sortedRanges.get(i);
+      Preconditions.checkArgument(
+          previous.getOffset() + previous.getLength() <= current.getOffset(),
+          "Overlapping ranges %s and %s",
+          previous,
+          current);
+    }
+    return sortedRanges;
+  }
+
+  // Groups the non-overlapping ranges sorted by offset, so that the ranges of a group are close to
+  // each other and can be read by a single read.
+  private List<List<FileRange>> mergeRanges(List<FileRange> sortedRanges) {
+    List<List<FileRange>> mergedRanges = new ArrayList<>();
+    List<FileRange> current = null;
+    long currentStart = 0;
+    long currentEnd = 0;
+    for (FileRange range : sortedRanges) {
+      long end = range.getOffset() + range.getLength();
+      if (current != null
+          && range.getOffset() - currentEnd <= options.minSeekSize
+          && Math.max(currentEnd, end) - currentStart <= options.maxMergedSize) {
+        current.add(range);
+        currentEnd = Math.max(currentEnd, end);
+      } else {
+        current = new ArrayList<>();
+        current.add(range);
+        mergedRanges.add(current);
+        currentStart = range.getOffset();
+        currentEnd = end;
+      }
+    }
+    return mergedRanges;
+  }
+
+  private void readMergedRange(List<FileRange> mergedRange, IntFunction<ByteBuffer> allocate) {
+    long start = mergedRange.get(0).getOffset();
+    long end = start;
+    for (FileRange range : mergedRange) {
+      end = Math.max(end, range.getOffset() + range.getLength());
+    }
+
+    try {
+      byte[] data = new byte[(int) (end - start)];
+      in.readFully(start, data);
+      for (FileRange range : mergedRange) {
+        ByteBuffer buffer = allocate.apply(range.getLength());
+        buffer.put(data, (int) (range.getOffset() - start), range.getLength());
+        buffer.flip();
+        range.getData().complete(buffer);
+      }
+    } catch (Exception e) {
+      for (FileRange range : mergedRange) {
+        range.getData().completeExceptionally(e);
+      }
+    }
+  }
+
+  private void prefetchFooter() {
+    if (closed) {
+      return;
+    }
+
+    long length;
+    try {
+      length = fileLengthSupplier.call();
+    } catch (Exception e) {
+      LOG.debug("Failed to get the length of {} to prefetch the footer", path, e);
+      return;
+    }
+    fileLength = length;
+
+    long offset = Math.max(0, length - options.footerPrefetchSize);
+    if (offset == length) {
+      return;
+    }
+    PrefetchedRange footer = new PrefetchedRange(offset, (int) (length - offset), true);
+    synchronized (prefetchedRanges) {
+      if (closed) {
+        return;
+      }
+      prefetchedRanges.add(footer);
+    }
+    fetch(footer);
+  }
+
+  // Prefetches the blocks following the given position of a sequential read, and drops the
+  // prefetched blocks out of the read-ahead window.
+  private void prefetchBlocks(long position) {
+    if (options.prefetchBlocks == 0) {
+      return;
+    }
+
+    long blockSize = options.prefetchBlockSize;
+    long windowEnd = (position / blockSize + 1 + options.prefetchBlocks) * blockSize;
+    synchronized (prefetchedRanges) {
+      prefetchedRanges.removeIf(
+          range ->
+              !range.footer
+                  && (range.offset + range.length <= position || range.offset >= windowEnd));
+
+      for (int i = 1; i <= options.prefetchBlocks; i++) {
+        long offset = (position / blockSize + i) * blockSize;
+        long knownLength = fileLength;
+        if (knownLength >= 0 && offset >= knownLength) {
+          break;
+        }
+        if (findPrefetchedRange(offset) != null) {
+          continue;
+        }
+
+        PrefetchedRange block = new PrefetchedRange(offset, options.prefetchBlockSize, false);
+        if (!submit(() -> fetch(block))) {
+          break;
+        }
+        prefetchedRanges.add(block);
+      }
+    }
+  }
+
+  private void fetch(PrefetchedRange range) {
+    if (closed) {
+      range.data.cancel(false);
+      return;
+    }
+
+    try {
+      byte[] buffer = new byte[range.length];
+      int read = 0;
+      while (read < range.length) {
+        int n = in.read(range.offset + read, buffer, read, range.length - read);
+        if (n < 0) {
+          fileLength = range.offset + read;
+          break;
+        }
+        read += n;
+      }
+      statistics.addBytesPrefetched(read);
+      range.data.complete(read == range.length ? buffer : Arrays.copyOf(buffer, read));
+    } catch (Exception e) {
+      LOG.debug("Failed to prefetch {} bytes at {} of {}", range.length, range.offset, path, e);
+      range.data.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.filesystem.hadoop;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The statistics of the input streams opened by a Gravitino Virtual File System with the async
+ * read enabled, see {@link
+ * GravitinoVirtualFileSystemConfiguration#FS_GRAVITINO_ASYNC_READ_ENABLE}. Comparing {@link
+ * #bytesPrefetched()} with {@link #bytesPrefetchedUsed()} tells whether the prefetch settings fit
+ * the read pattern of the workload.
+ */
+public class GVFSInputStreamStatistics {
+
+  private final AtomicLong bytesPrefetched = new AtomicLong();
+  private final AtomicLong bytesPrefetchedUsed = new AtomicLong();
+  private final AtomicLong vectoredRanges = new AtomicLong();
+  private final AtomicLong vectoredReads = new AtomicLong();
+
+  /**
+   * Get the number of bytes read by the prefetches.
+   *
+   * @return the number of bytes prefetched.
+   */
+  public long bytesPrefetched() {
+    return bytesPrefetched.get();
+  }
+
+  /**
+   * Get the number of prefetched bytes returned to the readers. A byte is counted each time it is
+   * returned, so this may exceed {@link #bytesPrefetched()} if the same data is read repeatedly.
+   *
+   * @return the number of prefetched bytes used.
+   */
+  public long bytesPrefetchedUsed() {
+    return bytesPrefetchedUsed.get();
+  }
+
+  /**
+   * Get the number of ranges requested by the vectored reads.
+   *
+   * @return the number of requested ranges.
+   */
+  public long vectoredRanges() {
+    return vectoredRanges.get();
+  }
+
+  /**
+   * Get the number of reads issued to the actual file systems for the vectored reads, after the
+   * nearby ranges are coalesced. It doesn't count the vectored reads forwarded to the actual file
+   * systems which support vectored reads natively.
+   *
+   * @return the number of issued reads.
+   */
+  public long vectoredReads() {
+    return vectoredReads.get();
+  }
+
+  void addBytesPrefetched(long bytes) {
+    bytesPrefetched.addAndGet(bytes);
+  }
+
+  void addBytesPrefetchedUsed(long bytes) {
+    bytesPrefetchedUsed.addAndGet(bytes);
+  }
+
+  void addVectoredRanges(long ranges) {
+    vectoredRanges.addAndGet(ranges);
+  }
+
+  void addVectoredReads(long reads) {
+    vectoredReads.addAndGet(reads);
+  }
+
+  @Override
+  public String toString() {
+    return "GVFSInputStreamStatistics{"
+        + "bytesPrefetched="
+        + bytesPrefetched
+        + ", bytesPrefetchedUsed="
+        + bytesPrefetchedUsed
+        + ", vectoredRanges="
+        + vectoredRanges
+        + ", vectoredReads="
+        + vectoredReads
+        + '}';
+  }
+}
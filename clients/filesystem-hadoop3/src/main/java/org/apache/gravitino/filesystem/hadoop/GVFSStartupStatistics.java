@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.filesystem.hadoop;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hadoop.fs.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The statistics of the work a Gravitino Virtual File System does before it can serve the data,
+ * such as creating the actual file systems and loading the vended credentials, and the latency of
+ * the first file opened. Since a process usually has one Gravitino Virtual File System instance,
+ * for example a Spark executor, they show how much the warm-up saves on the first access, see
+ * {@link GravitinoVirtualFileSystemConfiguration#FS_GRAVITINO_WARM_UP_FILESETS}.
+ */
+public class GVFSStartupStatistics {
+  private static final Logger LOG = LoggerFactory.getLogger(GVFSStartupStatistics.class);
+
+  private final long initNanos = System.nanoTime();
+  private final AtomicLong fileSystemsCreated = new AtomicLong();
+  private final AtomicLong fileSystemCreationNanos = new AtomicLong();
+  private final AtomicLong credentialLoads = new AtomicLong();
+  private final AtomicLong credentialLoadNanos = new AtomicLong();
+  private final AtomicLong firstOpenLatencyMs = new AtomicLong(-1);
+  private final AtomicLong firstOpenSinceInitMs = new AtomicLong(-1);
+
+  /**
+   * Get the number of actual file systems created.
+   *
+   * @return the number of file systems created.
+   */
+  public long fileSystemsCreated() {
+    return fileSystemsCreated.get();
+  }
+
+  /**
+   * Get the total time spent creating the actual file systems.
+   *
+   * @return the total time in milliseconds.
+   */
+  public long fileSystemCreationMs() {
+    return TimeUnit.NANOSECONDS.toMillis(fileSystemCreationNanos.get());
+  }
+
+  /**
+   * Get the number of times the vended credentials are loaded from the Gravitino server.
+   *
+   * @return the number of credential loads.
+   */
+  public long credentialLoads() {
+    return credentialLoads.get();
+  }
+
+  /**
+   * Get the total time spent loading the vended credentials from the Gravitino server.
+   *
+   * @return the total time in milliseconds.
+   */
+  public long credentialLoadMs() {
+    return TimeUnit.NANOSECONDS.toMillis(credentialLoadNanos.get());
+  }
+
+  /**
+   * Get the time taken by the first file open, which includes resolving the location, creating the
+   * actual file system and loading the credentials if they are not warmed up.
+   *
+   * @return the time in milliseconds, or -1 if no file is opened yet.
+   */
+  public long firstOpenLatencyMs() {
+    return firstOpenLatencyMs.get();
+  }
+
+  /**
+   * Get the time from the initialization of the Gravitino Virtual File System to the end of the
+   * first file open.
+   *
+   * @return the time in milliseconds, or -1 if no file is opened yet.
+   */
+  public long firstOpenSinceInitMs() {
+    return firstOpenSinceInitMs.get();
+  }
+
+  void recordFileSystemCreation(long startNanos) {
+    fileSystemsCreated.incrementAndGet();
+    fileSystemCreationNanos.addAndGet(System.nanoTime() - startNanos);
+  }
+
+  void recordCredentialLoad(long startNanos) {
+    credentialLoads.incrementAndGet();
+    credentialLoadNanos.addAndGet(System.nanoTime() - startNanos);
+  }
+
+  void recordOpen(Path path, long startNanos) {
+    long endNanos = System.nanoTime();
+    if (firstOpenLatencyMs.compareAndSet(
+        -1, TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos))) {
+      firstOpenSinceInitMs.set(TimeUnit.NANOSECONDS.toMillis(endNanos - initNanos));
+      LOG.info("Opened the first file {} of GVFS, statistics: {}", path, this);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "GVFSStartupStatistics{"
+        + "fileSystemsCreated="
+        + fileSystemsCreated()
+        + ", fileSystemCreationMs="
+        + fileSystemCreationMs()
+        + ", credentialLoads="
+        + credentialLoads()
+        + ", credentialLoadMs="
+        + credentialLoadMs()
+        + ", firstOpenLatencyMs="
+        + firstOpenLatencyMs()
+        + ", firstOpenSinceInitMs="
+        + firstOpenSinceInitMs()
+        + '}';
+  }
+}
@@ -25,6 +25,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
+import java.util.NoSuchElementException;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.exceptions.CatalogNotInUseException;
@@ -37,7 +38,9 @@ import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.fs.permission.FsPermission;
 import org.apache.hadoop.security.Credentials;
 import org.apache.hadoop.security.token.Token;
@@ -100,6 +103,7 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     }
 
     hook.setOperationsContext(operations);
+    operations.startWarmUp();
 
     this.workingDirectory = new Path(name);
     this.uri = URI.create(name.getScheme() + "://" + name.getAuthority());
@@ -255,6 +259,28 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     }
   }
 
+  @Override
+  public RemoteIterator<FileStatus> listStatusIterator(Path path) throws IOException {
+    return listStatusLazily(path, operations::listStatusIterator);
+  }
+
+  @Override
+  public RemoteIterator<LocatedFileStatus> listLocatedStatus(Path path) throws IOException {
+    return FileStatusIterators.map(
+        listStatusLazily(path, operations::listLocatedStatus),
+        FileStatusIterators::toLocatedFileStatus);
+  }
+
+  @Override
+  public RemoteIterator<LocatedFileStatus> listFiles(Path path, boolean recursive)
+      throws IOException {
+    return FileStatusIterators.filter(
+        FileStatusIterators.map(
+            listStatusLazily(path, newPath -> operations.listFiles(newPath, recursive)),
+            FileStatusIterators::toLocatedFileStatus),
+        LocatedFileStatus::isFile);
+  }
+
   @Override
   public boolean mkdirs(Path path, FsPermission permission) throws IOException {
     try {
@@ -315,6 +341,59 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     super.close();
   }
 
+  private RemoteIterator<FileStatus> listStatusLazily(Path path, StatusLister lister)
+      throws IOException {
+    try {
+      Path newPath = hook.preListStatus(path);
+      RemoteIterator<? extends FileStatus> statuses =
+          runWithExceptionTranslation(() -> lister.list(newPath), FilesetDataOperation.LIST_STATUS);
+      return handleListStatusFailure(
+          path, hook.postListStatusIterator(FileStatusIterators.map(statuses, status -> status)));
+    } catch (Exception e) {
+      return FileStatusIterators.fromArray(hook.onListStatusFailure(path, e));
+    }
+  }
+
+  /**
+   * Wraps the lazy listing of the path so that a failure to fetch a file status goes through the
+   * same exception translation and {@link GravitinoVirtualFileSystemHook#onListStatusFailure(Path,
+   * Exception)} as a failure to start the listing. The rest of the iteration returns the fallback
+   * file statuses of the hook.
+   */
+  private RemoteIterator<FileStatus> handleListStatusFailure(
+      Path path, RemoteIterator<FileStatus> statuses) {
+    return new RemoteIterator<FileStatus>() {
+      private RemoteIterator<FileStatus> current = statuses;
+      private boolean failed = false;
+
+      @Override
+      public boolean hasNext() throws IOException {
+        return fetch(() -> current.hasNext());
+      }
+
+      @Override
+      public FileStatus next() throws IOException {
+        return fetch(() -> current.next());
+      }
+
+      private <R> R fetch(Executable<R, IOException> action) throws IOException {
+        if (failed) {
+          return action.execute();
+        }
+
+        try {
+          return runWithExceptionTranslation(action, FilesetDataOperation.LIST_STATUS);
+        } catch (NoSuchElementException e) {
+          throw e;
+        } catch (Exception e) {
+          failed = true;
+          current = FileStatusIterators.fromArray(hook.onListStatusFailure(path, e));
+          return action.execute();
+        }
+      }
+    };
+  }
+
   private <R, E extends IOException> R runWithExceptionTranslation(
       Executable<R, E> executable, FilesetDataOperation operation) throws FileNotFoundException, E {
     try {
@@ -339,6 +418,11 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     }
   }
 
+  @FunctionalInterface
+  private interface StatusLister {
+    RemoteIterator<? extends FileStatus> list(Path path) throws IOException;
+  }
+
   @FunctionalInterface
   private interface Executable<R, E extends Exception> {
     R execute() throws E;
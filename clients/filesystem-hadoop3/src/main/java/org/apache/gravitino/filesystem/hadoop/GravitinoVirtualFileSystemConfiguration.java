@@ -214,6 +214,142 @@ public class GravitinoVirtualFileSystemConfiguration {
   /** The default value for whether to enable auto-creation of fileset location. */
   public static final boolean FS_GRAVITINO_AUTO_CREATE_LOCATION_DEFAULT = true;
 
+  /**
+   * The configuration key for whether to resolve the actual file locations on the client side from
+   * the cached fileset metadata instead of asking the Gravitino server for every file operation.
+   * The accesses are still reported to the server in batches, so that they can be audited. It
+   * requires {@link #FS_GRAVITINO_FILESET_METADATA_CACHE_ENABLE} to be enabled. The default is
+   * false.
+   */
+  public static final String FS_GRAVITINO_LOCAL_LOCATION_RESOLUTION_ENABLE =
+      "fs.gravitino.localLocationResolution.enable";
+
+  /** The default value for whether to resolve the actual file locations on the client side. */
+  public static final boolean FS_GRAVITINO_LOCAL_LOCATION_RESOLUTION_ENABLE_DEFAULT = false;
+
+  /**
+   * The configuration key for the interval in milliseconds to report the locally resolved file
+   * location accesses to the Gravitino server. The default is 10 seconds.
+   */
+  public static final String FS_GRAVITINO_LOCATION_ACCESS_REPORT_INTERVAL_MS =
+      "fs.gravitino.locationAccessReport.intervalMs";
+
+  /** The default value for the interval to report the file location accesses. */
+  public static final long FS_GRAVITINO_LOCATION_ACCESS_REPORT_INTERVAL_MS_DEFAULT = 10 * 1000L;
+
+  /**
+   * The configuration key for the maximum number of file location accesses sent to the Gravitino
+   * server in one request. A report is also triggered once this many accesses are buffered. It
+   * cannot be larger than 1000, the maximum the server accepts in one request. The default is 1000.
+   */
+  public static final String FS_GRAVITINO_LOCATION_ACCESS_REPORT_BATCH_SIZE =
+      "fs.gravitino.locationAccessReport.batchSize";
+
+  /** The default value for the maximum number of file location accesses in one report. */
+  public static final int FS_GRAVITINO_LOCATION_ACCESS_REPORT_BATCH_SIZE_DEFAULT = 1000;
+
+  /**
+   * The configuration key for the maximum number of file location accesses buffered on the client
+   * side. The accesses beyond it are dropped and not audited. The default is 100000.
+   */
+  public static final String FS_GRAVITINO_LOCATION_ACCESS_REPORT_BUFFER_SIZE =
+      "fs.gravitino.locationAccessReport.bufferSize";
+
+  /** The default value for the maximum number of buffered file location accesses. */
+  public static final int FS_GRAVITINO_LOCATION_ACCESS_REPORT_BUFFER_SIZE_DEFAULT = 100000;
+
+  /**
+   * The configuration key for whether to wrap the input streams to read asynchronously on a bounded
+   * thread pool: the vectored reads are coalesced and read in parallel if the actual file system
+   * doesn't support them natively, and the footer and the next blocks of the sequential reads can
+   * be prefetched. It requires Hadoop 3.3.5 or later, which introduced the vectored IO API, and is
+   * ignored with older Hadoop versions. The default is false.
+   */
+  public static final String FS_GRAVITINO_ASYNC_READ_ENABLE = "fs.gravitino.asyncRead.enable";
+
+  /** The default value for whether to read the input streams asynchronously. */
+  public static final boolean FS_GRAVITINO_ASYNC_READ_ENABLE_DEFAULT = false;
+
+  /**
+   * The configuration key for the number of threads shared by the input streams to read
+   * asynchronously. The default is 8.
+   */
+  public static final String FS_GRAVITINO_ASYNC_READ_THREADS = "fs.gravitino.asyncRead.threads";
+
+  /** The default value for the number of threads to read asynchronously. */
+  public static final int FS_GRAVITINO_ASYNC_READ_THREADS_DEFAULT = 8;
+
+  /**
+   * The configuration key for the maximum gap in bytes between two ranges of a vectored read to
+   * coalesce them into one read. The default is 4KB.
+   */
+  public static final String FS_GRAVITINO_ASYNC_READ_MIN_SEEK_SIZE =
+      "fs.gravitino.asyncRead.minSeekSize";
+
+  /** The default value for the maximum gap between two coalesced ranges. */
+  public static final int FS_GRAVITINO_ASYNC_READ_MIN_SEEK_SIZE_DEFAULT = 4 * 1024;
+
+  /**
+   * The configuration key for the maximum size in bytes of a read coalesced from the ranges of a
+   * vectored read. The default is 1MB.
+   */
+  public static final String FS_GRAVITINO_ASYNC_READ_MAX_MERGED_SIZE =
+      "fs.gravitino.asyncRead.maxMergedSize";
+
+  /** The default value for the maximum size of a coalesced read. */
+  public static final int FS_GRAVITINO_ASYNC_READ_MAX_MERGED_SIZE_DEFAULT = 1024 * 1024;
+
+  /**
+   * The configuration key for the number of bytes at the end of the file to prefetch when the file
+   * is opened, it costs an extra call to get the file length. The default is 0, which means the
+   * footer is not prefetched.
+   */
+  public static final String FS_GRAVITINO_ASYNC_READ_FOOTER_PREFETCH_SIZE =
+      "fs.gravitino.asyncRead.footerPrefetchSize";
+
+  /** The default value for the number of bytes of the footer to prefetch. */
+  public static final int FS_GRAVITINO_ASYNC_READ_FOOTER_PREFETCH_SIZE_DEFAULT = 0;
+
+  /**
+   * The configuration key for the size in bytes of the blocks prefetched by the sequential reads.
+   * The default is 1MB.
+   */
+  public static final String FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCK_SIZE =
+      "fs.gravitino.asyncRead.prefetchBlockSize";
+
+  /** The default value for the size of the prefetched blocks. */
+  public static final int FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCK_SIZE_DEFAULT = 1024 * 1024;
+
+  /**
+   * The configuration key for the number of blocks to prefetch ahead of a sequential read. The
+   * default is 0, which means the sequential reads don't prefetch.
+   */
+  public static final String FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCKS =
+      "fs.gravitino.asyncRead.prefetchBlocks";
+
+  /** The default value for the number of blocks to prefetch ahead of a sequential read. */
+  public static final int FS_GRAVITINO_ASYNC_READ_PREFETCH_BLOCKS_DEFAULT = 0;
+
+  /**
+   * The configuration key for the filesets to warm up when the Gravitino Virtual File System is
+   * initialized, in the format of comma-separated {@code catalog.schema.fileset}. The actual file
+   * systems of the filesets are created and connected in the background, so that the first access
+   * doesn't pay for them. The default is empty.
+   */
+  public static final String FS_GRAVITINO_WARM_UP_FILESETS = "fs.gravitino.warmUp.filesets";
+
+  /**
+   * The configuration key for whether to cache the vended credentials and refresh them in the
+   * background before they expire, instead of loading them for every file operation. It takes
+   * effect only if {@link #FS_GRAVITINO_ENABLE_CREDENTIAL_VENDING} is enabled. The default is
+   * false.
+   */
+  public static final String FS_GRAVITINO_CREDENTIAL_CACHE_ENABLE =
+      "fs.gravitino.credentialCache.enable";
+
+  /** The default value for whether to cache the vended credentials. */
+  public static final boolean FS_GRAVITINO_CREDENTIAL_CACHE_ENABLE_DEFAULT = false;
+
   /**
    * The prefix for user-defined location configs: {@code
    * fs.path.config.<locationName>.<property_name>=<property_value>}.
@@ -26,6 +26,7 @@ import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.fs.permission.FsPermission;
 import org.apache.hadoop.util.Progressable;
 
@@ -261,6 +262,26 @@ public interface GravitinoVirtualFileSystemHook extends Closeable {
    */
   FileStatus[] postListStatus(FileStatus[] fileStatuses);
 
+  /**
+   * Post-hook for the listStatusIterator, listLocatedStatus and listFiles operations, which return
+   * the file statuses lazily. These operations call {@link #preListStatus(Path)} as the pre-hook
+   * and {@link #onListStatusFailure(Path, Exception)} when they fail to list, either when starting
+   * the listing or when fetching a file status from the returned iterator, in which case the rest
+   * of the iteration returns the fallback file statuses. The implementor can wrap the iterator to
+   * post-process each file status when it is fetched. The default implementation
+   * applies {@link #postListStatus(FileStatus[])} to each file status when it is fetched, so a hook
+   * which filters or rewrites the file statuses in {@link #postListStatus(FileStatus[])} does the
+   * same for the lazy listings.
+   *
+   * @param fileStatuses The iterator of the file statuses.
+   * @return The iterator of the file statuses.
+   */
+  default RemoteIterator<FileStatus> postListStatusIterator(
+      RemoteIterator<FileStatus> fileStatuses) {
+    return FileStatusIterators.flatMap(
+        fileStatuses, status -> postListStatus(new FileStatus[] {status}));
+  }
+
   /**
    * Pre-hook for mkdirs operation. This method will be called before the mkdirs operation. The
    * returned path will be used for the mkdirs operation. The implementor can modify the path for
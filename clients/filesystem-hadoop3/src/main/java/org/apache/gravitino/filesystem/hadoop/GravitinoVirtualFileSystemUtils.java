@@ -20,6 +20,7 @@
 package org.apache.gravitino.filesystem.hadoop;
 
 import static org.apache.gravitino.client.GravitinoClientConfiguration.GRAVITINO_CLIENT_CONFIG_PREFIX;
+import static org.apache.gravitino.file.Fileset.PROPERTY_DEFAULT_LOCATION_NAME;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_CONFIG_PREFIX;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_KERBEROS_PREFIX;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_OAUTH2_PREFIX;
@@ -37,15 +38,21 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.client.DefaultOAuth2TokenProvider;
 import org.apache.gravitino.client.GravitinoClient;
 import org.apache.gravitino.client.KerberosTokenProvider;
 import org.apache.gravitino.credential.CredentialConstants;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.exceptions.NoSuchLocationNameException;
+import org.apache.gravitino.file.Fileset;
 import org.apache.hadoop.conf.Configuration;
 
 /** Utility class for Gravitino Virtual File System. */
 public class GravitinoVirtualFileSystemUtils {
 
+  private static final String SLASH = "/";
+
   // The pattern is used to match gvfs path. The scheme prefix (gvfs://fileset) is optional.
   // The following path can be match:
   //     gvfs://fileset/fileset_catalog/fileset_schema/fileset1/file.txt
@@ -326,6 +333,61 @@ public class GravitinoVirtualFileSystemUtils {
     return gvfsPath.substring(prefix.length());
   }
 
+  /**
+   * Resolve the actual location of a file or directory from the storage locations of the fileset,
+   * which follows the same rules as the Gravitino server resolving it for the get file location
+   * request.
+   *
+   * @param fileset The fileset.
+   * @param subPath The sub path to the file or directory.
+   * @param locationName The name of the location to be accessed, null means the default location.
+   * @param operation The fileset data operation.
+   * @return The actual location of the file or directory.
+   * @throws NoSuchLocationNameException If the location name does not exist in the fileset.
+   * @throws GravitinoRuntimeException If the sub path is blank for the rename operation.
+   */
+  public static String resolveFileLocation(
+      Fileset fileset, String subPath, String locationName, FilesetDataOperation operation)
+      throws NoSuchLocationNameException {
+    Preconditions.checkArgument(subPath != null, "subPath must not be null");
+    String processedSubPath = subPath.trim();
+    if (!processedSubPath.isEmpty() && !processedSubPath.startsWith(SLASH)) {
+      processedSubPath = SLASH + processedSubPath;
+    }
+
+    String targetLocationName;
+    if (locationName == null) {
+      targetLocationName =
+          fileset.storageLocations().size() == 1
+              // to be compatible with the old version, the fileset in old version only has one
+              // location and does not have the default-location-name property
+              ? fileset.storageLocations().keySet().iterator().next()
+              : fileset.properties().get(PROPERTY_DEFAULT_LOCATION_NAME);
+    } else {
+      targetLocationName = locationName;
+    }
+    if (!fileset.storageLocations().containsKey(targetLocationName)) {
+      throw new NoSuchLocationNameException(
+          "Location name %s does not exist in fileset %s", targetLocationName, fileset.name());
+    }
+
+    // if the sub path is blank, it cannot be renamed otherwise the metadata in the Gravitino
+    // server may be inconsistent.
+    if (operation == FilesetDataOperation.RENAME
+        && (StringUtils.isBlank(processedSubPath) || SLASH.equals(processedSubPath))) {
+      throw new GravitinoRuntimeException(
+          "subPath cannot be blank when need to rename a file or a directory.");
+    }
+
+    String storageLocation = fileset.storageLocations().get(targetLocationName);
+    if (StringUtils.isBlank(processedSubPath)) {
+      return storageLocation;
+    }
+    // the processed sub path always starts with "/" if it is not blank, so we can safely remove
+    // the trailing slash if the storage location ends with "/".
+    return StringUtils.removeEnd(storageLocation, SLASH) + processedSubPath;
+  }
+
   static void setCallerContextForGetCredentials(String locationName) {
     Map<String, String> contextMap = Maps.newHashMap();
     contextMap.put(CredentialConstants.HTTP_HEADER_CURRENT_LOCATION_NAME, locationName);
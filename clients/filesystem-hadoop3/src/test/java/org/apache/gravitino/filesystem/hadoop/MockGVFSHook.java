@@ -25,6 +25,7 @@ import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.fs.permission.FsPermission;
 import org.apache.hadoop.util.Progressable;
 
@@ -51,6 +52,7 @@ public class MockGVFSHook extends NoOpHook {
   boolean postDeleteCalled = false;
   boolean postGetFileStatusCalled = false;
   boolean postListStatusCalled = false;
+  boolean postListStatusIteratorCalled = false;
   boolean postMkdirsCalled = false;
   boolean postGetDefaultReplicationCalled = false;
   boolean postGetDefaultBlockSizeCalled = false;
@@ -184,6 +186,13 @@ public class MockGVFSHook extends NoOpHook {
     return fileStatuses;
   }
 
+  @Override
+  public RemoteIterator<FileStatus> postListStatusIterator(
+      RemoteIterator<FileStatus> fileStatuses) {
+    this.postListStatusIteratorCalled = true;
+    return super.postListStatusIterator(fileStatuses);
+  }
+
   @Override
   public Path preMkdirs(Path path, FsPermission permission) {
     this.preMkdirsCalled = true;
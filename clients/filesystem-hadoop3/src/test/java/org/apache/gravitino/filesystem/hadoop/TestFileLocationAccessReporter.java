@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.requests.FileLocationAccessRequest;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link FileLocationAccessReporter}. */
+public class TestFileLocationAccessReporter {
+  private static final long NO_PERIODIC_REPORT_MS = TimeUnit.HOURS.toMillis(1);
+  private static final NameIdentifier FILESET_1 =
+      NameIdentifier.of("metalake", "catalog", "schema", "fileset1");
+  private static final NameIdentifier FILESET_2 =
+      NameIdentifier.of("metalake", "catalog", "schema", "fileset2");
+
+  private final List<String> reports = new CopyOnWriteArrayList<>();
+
+  private void send(NameIdentifier filesetIdent, List<FileLocationAccessRequest> accesses) {
+    reports.add(
+        filesetIdent.name()
+            + accesses.stream()
+                .map(FileLocationAccessRequest::getSubPath)
+                .collect(Collectors.toList()));
+  }
+
+  private static FileLocationAccessRequest access(String subPath) {
+    return FileLocationAccessRequest.builder().subPath(subPath).dataOperation("OPEN").build();
+  }
+
+  @Test
+  public void testReportGroupedByFileset() {
+    FileLocationAccessReporter reporter =
+        new FileLocationAccessReporter(this::send, NO_PERIODIC_REPORT_MS, 100, 100);
+    reporter.report(FILESET_1, access("/a"));
+    reporter.report(FILESET_2, access("/b"));
+    reporter.report(FILESET_1, access("/c"));
+    reporter.flush();
+    assertEquals(Arrays.asList("fileset1[/a, /c]", "fileset2[/b]"), reports);
+
+    // Nothing is left to report.
+    reporter.close();
+    assertEquals(2, reports.size());
+  }
+
+  @Test
+  public void testReportWhenBatchIsFull() {
+    FileLocationAccessReporter reporter =
+        new FileLocationAccessReporter(this::send, NO_PERIODIC_REPORT_MS, 2, 100);
+    reporter.report(FILESET_1, access("/a"));
+    assertEquals(Collections.emptyList(), reports);
+
+    reporter.report(FILESET_1, access("/b"));
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(() -> assertEquals(Collections.singletonList("fileset1[/a, /b]"), reports));
+    reporter.close();
+  }
+
+  @Test
+  public void testPeriodicReport() {
+    FileLocationAccessReporter reporter = new FileLocationAccessReporter(this::send, 10, 100, 100);
+    reporter.report(FILESET_1, access("/a"));
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(() -> assertEquals(Collections.singletonList("fileset1[/a]"), reports));
+    reporter.close();
+  }
+
+  @Test
+  public void testDropWhenBufferIsFull() {
+    FileLocationAccessReporter reporter =
+        new FileLocationAccessReporter(this::send, NO_PERIODIC_REPORT_MS, 100, 2);
+    reporter.report(FILESET_1, access("/a"));
+    reporter.report(FILESET_1, access("/b"));
+    reporter.report(FILESET_1, access("/c"));
+    reporter.close();
+    assertEquals(Collections.singletonList("fileset1[/a, /b]"), reports);
+  }
+
+  @Test
+  public void testFailureDoesNotStopOtherReports() {
+    FileLocationAccessReporter reporter =
+        new FileLocationAccessReporter(
+            (ident, accesses) -> {
+              if (ident.equals(FILESET_1)) {
+                throw new RuntimeException("mock failure");
+              }
+              send(ident, accesses);
+            },
+            NO_PERIODIC_REPORT_MS,
+            100,
+            100);
+    reporter.report(FILESET_1, access("/a"));
+    reporter.report(FILESET_2, access("/b"));
+    reporter.close();
+    assertEquals(Collections.singletonList("fileset2[/b]"), reports);
+  }
+}
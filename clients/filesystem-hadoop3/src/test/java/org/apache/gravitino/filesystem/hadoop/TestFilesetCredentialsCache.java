@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.credential.Credential;
+import org.apache.gravitino.credential.S3SecretKeyCredential;
+import org.apache.gravitino.credential.S3TokenCredential;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link FilesetCredentialsCache}. */
+public class TestFilesetCredentialsCache {
+  private static final NameIdentifier FILESET =
+      NameIdentifier.of("metalake", "catalog", "schema", "fileset");
+  private static final long LIFETIME_MS = 2000;
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private Credential[] loadTokenCredentials(NameIdentifier filesetIdent, String locationName) {
+    int load = loads.incrementAndGet();
+    return new Credential[] {
+      new S3TokenCredential("ak" + load, "sk", "token", System.currentTimeMillis() + LIFETIME_MS)
+    };
+  }
+
+  private static String accessKeyId(Credential[] credentials) {
+    return ((S3TokenCredential) credentials[0]).accessKeyId();
+  }
+
+  @Test
+  public void testCredentialsWithoutExpiration() {
+    try (FilesetCredentialsCache cache =
+        new FilesetCredentialsCache(
+            (filesetIdent, locationName) -> {
+              loads.incrementAndGet();
+              return new Credential[] {new S3SecretKeyCredential("ak", "sk")};
+            })) {
+      Credential[] credentials = cache.getCredentials(FILESET, null);
+      assertSame(credentials, cache.getCredentials(FILESET, null));
+      assertEquals(1, loads.get());
+
+      // The credentials of the locations are cached separately.
+      cache.getCredentials(FILESET, "location1");
+      assertEquals(2, loads.get());
+      assertEquals(2, cache.size());
+    }
+  }
+
+  @Test
+  public void testRefreshAhead() {
+    try (FilesetCredentialsCache cache = new FilesetCredentialsCache(this::loadTokenCredentials)) {
+      assertEquals("ak1", accessKeyId(cache.getCredentials(FILESET, null)));
+
+      // The credentials in use are refreshed in the background before they expire.
+      Awaitility.await()
+          .atMost(LIFETIME_MS * 3 / 4, TimeUnit.MILLISECONDS)
+          .pollInterval(50, TimeUnit.MILLISECONDS)
+          .until(() -> !"ak1".equals(accessKeyId(cache.getCredentials(FILESET, null))));
+      assertEquals(2, loads.get());
+    }
+  }
+
+  @Test
+  public void testDropUnusedCredentials() {
+    try (FilesetCredentialsCache cache = new FilesetCredentialsCache(this::loadTokenCredentials)) {
+      cache.getCredentials(FILESET, null);
+      assertEquals(1, cache.size());
+
+      // The credentials not used since they are loaded are dropped instead of being refreshed.
+      Awaitility.await().atMost(LIFETIME_MS, TimeUnit.MILLISECONDS).until(() -> cache.size() == 0);
+      assertEquals(1, loads.get());
+    }
+  }
+
+  @Test
+  public void testRegistry() {
+    FilesetCredentialsCache cache = new FilesetCredentialsCache(this::loadTokenCredentials);
+    assertSame(cache, FilesetCredentialsCache.get(cache.id()).orElse(null));
+    assertFalse(FilesetCredentialsCache.get(null).isPresent());
+
+    cache.close();
+    assertFalse(FilesetCredentialsCache.get(cache.id()).isPresent());
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FSInputStream;
+import org.apache.hadoop.fs.FileRange;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.StreamCapabilities;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link GVFSInputStream}. */
+public class TestGVFSInputStream {
+  private static final byte[] DATA = new byte[100 * 1024];
+
+  static {
+    for (int i = 0; i < DATA.length; i++) {
+      DATA[i] = (byte) i;
+    }
+  }
+
+  private ExecutorService executor;
+  private GVFSInputStreamStatistics statistics;
+
+  @BeforeEach
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(2);
+    statistics = new GVFSInputStreamStatistics();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testVectoredReadCoalescesRanges() throws Exception {
+    ByteArrayInputStream source = new ByteArrayInputStream(false);
+    List<FileRange> ranges =
+        Arrays.asList(
+            FileRange.createFileRange(50 * 1024, 100),
+            FileRange.createFileRange(0, 100),
+            FileRange.createFileRange(1024, 100));
+    try (FSDataInputStream in = open(source, new GVFSInputStream.Options(4096, 1 << 20, 0, 1, 0))) {
+      assertTrue(in.hasCapability(StreamCapabilities.VECTOREDIO));
+      in.readVectored(ranges, ByteBuffer::allocate);
+      assertRanges(ranges);
+    }
+
+    // The first two ranges are close enough to be read together.
+    assertEquals(2, source.positionedReads.get());
+    assertEquals(3, statistics.vectoredRanges());
+    assertEquals(2, statistics.vectoredReads());
+  }
+
+  @Test
+  public void testVectoredReadForwardedToNativeSupport() throws Exception {
+    ByteArrayInputStream source = new ByteArrayInputStream(true);
+    List<FileRange> ranges =
+        Arrays.asList(FileRange.createFileRange(0, 100), FileRange.createFileRange(1024, 100));
+    try (FSDataInputStream in = open(source, new GVFSInputStream.Options(4096, 1 << 20, 0, 1, 0))) {
+      in.readVectored(ranges, ByteBuffer::allocate);
+      assertRanges(ranges);
+    }
+
+    assertEquals(2, statistics.vectoredRanges());
+    assertEquals(0, statistics.vectoredReads());
+  }
+
+  @Test
+  public void testPrefetchFooter() throws Exception {
+    ByteArrayInputStream source = new ByteArrayInputStream(false);
+    try (FSDataInputStream in = open(source, new GVFSInputStream.Options(0, 1, 1024, 1, 0))) {
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> statistics.bytesPrefetched() == 1024);
+      int positionedReads = source.positionedReads.get();
+
+      byte[] footer = new byte[8];
+      in.readFully(DATA.length - footer.length, footer);
+      assertArrayEquals(Arrays.copyOfRange(DATA, DATA.length - footer.length, DATA.length), footer);
+
+      List<FileRange> ranges = Arrays.asList(FileRange.createFileRange(DATA.length - 512, 256));
+      in.readVectored(ranges, ByteBuffer::allocate);
+      assertRanges(ranges);
+
+      // Both reads are served by the prefetched footer.
+      assertEquals(positionedReads, source.positionedReads.get());
+      assertEquals(footer.length + 256, statistics.bytesPrefetchedUsed());
+    }
+  }
+
+  @Test
+  public void testPrefetchBlocks() throws Exception {
+    ByteArrayInputStream source = new ByteArrayInputStream(false);
+    byte[] result = new byte[DATA.length];
+    try (FSDataInputStream in = open(source, new GVFSInputStream.Options(0, 1, 0, 4096, 2))) {
+      int read = 0;
+      while (read < result.length) {
+        int n = in.read(result, read, Math.min(1000, result.length - read));
+        assertTrue(n > 0);
+        read += n;
+      }
+      assertEquals(-1, in.read());
+    }
+
+    assertArrayEquals(DATA, result);
+    assertTrue(statistics.bytesPrefetched() > 0);
+    assertTrue(statistics.bytesPrefetchedUsed() > 0);
+  }
+
+  @Test
+  public void testSeekAndReadWithoutPrefetch() throws Exception {
+    ByteArrayInputStream source = new ByteArrayInputStream(false);
+    try (FSDataInputStream in = open(source, new GVFSInputStream.Options(0, 1, 0, 4096, 0))) {
+      in.seek(2000);
+      assertEquals(2000, in.getPos());
+      assertEquals(DATA[2000] & 0xff, in.read());
+      assertEquals(2001, in.getPos());
+
+      byte[] bytes = new byte[100];
+      in.readFully(500, bytes);
+      assertArrayEquals(Arrays.copyOfRange(DATA, 500, 600), bytes);
+      assertEquals(2001, in.getPos());
+    }
+
+    assertEquals(0, statistics.bytesPrefetched());
+  }
+
+  @Test
+  public void testReadAfterClose() throws Exception {
+    FSDataInputStream in =
+        open(new ByteArrayInputStream(false), new GVFSInputStream.Options(0, 1, 0, 1, 0));
+    assertTrue(in.hasCapability(StreamCapabilities.READBYTEBUFFER));
+    // The delegated capabilities are the ones of the actual stream.
+    assertFalse(in.hasCapability(StreamCapabilities.UNBUFFER));
+    // The capabilities of the actual stream which the wrapper doesn't implement are not exposed.
+    assertFalse(in.hasCapability(StreamCapabilities.PREADBYTEBUFFER));
+    in.close();
+    assertThrows(IOException.class, in::read);
+  }
+
+  @Test
+  public void testVectoredReadRejectsOverlappingRanges() throws Exception {
+    ByteArrayInputStream source = new ByteArrayInputStream(false);
+    try (FSDataInputStream in = open(source, new GVFSInputStream.Options(4096, 1 << 20, 0, 1, 0))) {
+      List<FileRange> overlapping =
+          Arrays.asList(FileRange.createFileRange(1000, 100), FileRange.createFileRange(950, 100));
+      assertThrows(
+          IllegalArgumentException.class, () -> in.readVectored(overlapping, ByteBuffer::allocate));
+
+      // Adjacent ranges don't overlap.
+      List<FileRange> adjacent =
+          Arrays.asList(FileRange.createFileRange(100, 100), FileRange.createFileRange(0, 100));
+      in.readVectored(adjacent, ByteBuffer::allocate);
+      assertRanges(adjacent);
+    }
+    // The rejected ranges are not read.
+    assertEquals(2, statistics.vectoredRanges());
+  }
+
+  @Test
+  public void testInvalidOptions() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new GVFSInputStream.Options(-1, 1, 0, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> new GVFSInputStream.Options(0, 0, 0, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> new GVFSInputStream.Options(0, 1, 0, 0, 0));
+  }
+
+  private FSDataInputStream open(ByteArrayInputStream source, GVFSInputStream.Options options) {
+    return new FSDataInputStream(
+        new GVFSInputStream(
+            new FSDataInputStream(source),
+            new Path("file:/tmp/test"),
+            () -> (long) DATA.length,
+            executor,
+            options,
+            statistics));
+  }
+
+  private void assertRanges(List<FileRange> ranges) throws Exception {
+    for (FileRange range : ranges) {
+      ByteBuffer buffer = range.getData().get(10, TimeUnit.SECONDS);
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      int offset = (int) range.getOffset();
+      assertArrayEquals(Arrays.copyOfRange(DATA, offset, offset + range.getLength()), bytes);
+    }
+  }
+
+  /** An in-memory stream over {@link #DATA} which counts the positioned reads. */
+  private static class ByteArrayInputStream extends FSInputStream implements StreamCapabilities {
+    private final boolean vectoredIO;
+    private final AtomicInteger positionedReads = new AtomicInteger();
+    private long pos = 0;
+
+    private ByteArrayInputStream(boolean vectoredIO) {
+      this.vectoredIO = vectoredIO;
+    }
+
+    @Override
+    public synchronized void seek(long position) {
+      this.pos = position;
+    }
+
+    @Override
+    public synchronized long getPos() {
+      return pos;
+    }
+
+    @Override
+    public boolean seekToNewSource(long targetPos) {
+      return false;
+    }
+
+    @Override
+    public synchronized int read() {
+      return pos < DATA.length ? DATA[(int) pos++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(long position, byte[] buffer, int offset, int length) {
+      positionedReads.incrementAndGet();
+      if (position >= DATA.length) {
+        return -1;
+      }
+      int n = (int) Math.min(length, DATA.length - position);
+      System.arraycopy(DATA, (int) position, buffer, offset, n);
+      return n;
+    }
+
+    @Override
+    public boolean hasCapability(String capability) {
+      return (vectoredIO && StreamCapabilities.VECTOREDIO.equals(capability))
+          || StreamCapabilities.PREADBYTEBUFFER.equals(capability);
+    }
+  }
+}
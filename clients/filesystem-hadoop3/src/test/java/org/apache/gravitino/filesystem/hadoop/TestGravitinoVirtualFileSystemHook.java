@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.junit.jupiter.api.Test;
+
+public class TestGravitinoVirtualFileSystemHook {
+
+  @Test
+  public void testDefaultPostListStatusIteratorAppliesPostListStatus() throws IOException {
+    GravitinoVirtualFileSystemHook hook =
+        new NoOpHook() {
+          @Override
+          public FileStatus[] postListStatus(FileStatus[] fileStatuses) {
+            return Arrays.stream(fileStatuses)
+                .filter(status -> !status.getPath().getName().startsWith("_"))
+                .map(status -> fileStatus("renamed-" + status.getPath().getName()))
+                .toArray(FileStatus[]::new);
+          }
+        };
+
+    FileStatus[] statuses =
+        new FileStatus[] {fileStatus("a"), fileStatus("_hidden"), fileStatus("b")};
+    RemoteIterator<FileStatus> iterator =
+        hook.postListStatusIterator(FileStatusIterators.fromArray(statuses));
+
+    List<String> names = new ArrayList<>();
+    while (iterator.hasNext()) {
+      names.add(iterator.next().getPath().getName());
+    }
+    assertEquals(Arrays.asList("renamed-a", "renamed-b"), names);
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::next);
+
+    RemoteIterator<FileStatus> emptyIterator =
+        hook.postListStatusIterator(FileStatusIterators.fromArray(new FileStatus[0]));
+    assertFalse(emptyIterator.hasNext());
+  }
+
+  private static FileStatus fileStatus(String name) {
+    return new FileStatus(0, false, 1, 0, 0, new Path("/dir", name));
+  }
+}
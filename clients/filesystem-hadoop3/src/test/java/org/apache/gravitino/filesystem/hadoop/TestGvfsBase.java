@@ -62,13 +62,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Version;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.SchemaDTO;
 import org.apache.gravitino.dto.credential.CredentialDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.requests.FileLocationAccessesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.CatalogResponse;
 import org.apache.gravitino.dto.responses.CredentialResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -76,16 +81,20 @@ import org.apache.gravitino.dto.responses.FileLocationResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.dto.responses.VersionResponse;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.file.Fileset;
+import org.apache.gravitino.json.JsonUtils;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hc.core5.http.Method;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
@@ -1039,6 +1048,76 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testListStatusIterator() throws IOException {
+    String filesetName = "testListStatusIterator";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, filesetName);
+    try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(conf);
+        FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(localPath, localFileSystem);
+      for (int i = 0; i < 5; i++) {
+        Path subLocalPath = new Path(localPath + "/sub" + i);
+        FileSystemTestUtils.mkdirs(subLocalPath, localFileSystem);
+        FileSystemTestUtils.create(new Path(subLocalPath + "/file" + i), localFileSystem);
+      }
+
+      FileLocationResponse fileLocationResponse = new FileLocationResponse(localPath.toString());
+      Map<String, String> queryParams = new HashMap<>();
+      queryParams.put("sub_path", "");
+      buildMockResource(Method.GET, locationPath, queryParams, null, fileLocationResponse, SC_OK);
+      buildMockResourceForCredential(filesetName, localPath.toString());
+
+      List<String> statusPaths = new ArrayList<>();
+      RemoteIterator<FileStatus> statuses =
+          gravitinoFileSystem.listStatusIterator(managedFilesetPath);
+      while (statuses.hasNext()) {
+        FileStatus status = statuses.next();
+        assertTrue(status.isDirectory());
+        statusPaths.add(status.getPath().toString());
+      }
+      assertEquals(5, statusPaths.size());
+
+      List<String> locatedPaths = new ArrayList<>();
+      RemoteIterator<LocatedFileStatus> locatedStatuses =
+          gravitinoFileSystem.listLocatedStatus(managedFilesetPath);
+      while (locatedStatuses.hasNext()) {
+        locatedPaths.add(locatedStatuses.next().getPath().toString());
+      }
+      statusPaths.sort(Comparator.naturalOrder());
+      locatedPaths.sort(Comparator.naturalOrder());
+      assertEquals(statusPaths, locatedPaths);
+
+      List<String> filePaths = new ArrayList<>();
+      RemoteIterator<LocatedFileStatus> files =
+          gravitinoFileSystem.listFiles(managedFilesetPath, true);
+      while (files.hasNext()) {
+        LocatedFileStatus file = files.next();
+        assertTrue(file.isFile());
+        filePaths.add(file.getPath().toString());
+      }
+      filePaths.sort(Comparator.naturalOrder());
+      assertEquals(5, filePaths.size());
+      for (int i = 0; i < 5; i++) {
+        assertEquals(managedFilesetPath + "/sub" + i + "/file" + i, filePaths.get(i));
+      }
+
+      // the top level listing contains no files
+      assertFalse(gravitinoFileSystem.listFiles(managedFilesetPath, false).hasNext());
+
+      // test gvfs preListStatus and postListStatusIterator are called
+      assertTrue(getHook(gravitinoFileSystem).preListStatusCalled);
+      assertTrue(getHook(gravitinoFileSystem).postListStatusIteratorCalled);
+      // the default postListStatusIterator applies postListStatus to each file status
+      assertTrue(getHook(gravitinoFileSystem).postListStatusCalled);
+    }
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"testMkdirs", "testMkdirs%2Fabc"})
   public void testMkdirs(String filesetName) throws IOException {
@@ -1087,6 +1166,58 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testResolveFileLocation() {
+    Fileset singleLocationFileset =
+        FilesetDTO.builder()
+            .name("fileset1")
+            .type(Fileset.Type.MANAGED)
+            .storageLocations(ImmutableMap.of(LOCATION_NAME_UNKNOWN, "hdfs://ns/fileset1/"))
+            .properties(ImmutableMap.of())
+            .audit(AuditDTO.builder().build())
+            .build();
+    assertEquals(
+        "hdfs://ns/fileset1/",
+        GravitinoVirtualFileSystemUtils.resolveFileLocation(
+            singleLocationFileset, "", null, FilesetDataOperation.LIST_STATUS));
+    assertEquals(
+        "hdfs://ns/fileset1/a/b",
+        GravitinoVirtualFileSystemUtils.resolveFileLocation(
+            singleLocationFileset, " a/b ", null, FilesetDataOperation.OPEN));
+    assertEquals(
+        "hdfs://ns/fileset1/a",
+        GravitinoVirtualFileSystemUtils.resolveFileLocation(
+            singleLocationFileset, "/a", null, FilesetDataOperation.RENAME));
+    assertThrows(
+        GravitinoRuntimeException.class,
+        () ->
+            GravitinoVirtualFileSystemUtils.resolveFileLocation(
+                singleLocationFileset, "/", null, FilesetDataOperation.RENAME));
+
+    Fileset multipleLocationsFileset =
+        FilesetDTO.builder()
+            .name("fileset2")
+            .type(Fileset.Type.MANAGED)
+            .storageLocations(
+                ImmutableMap.of("l1", "hdfs://ns/fileset2", "l2", "s3a://bucket/fileset2"))
+            .properties(ImmutableMap.of(PROPERTY_DEFAULT_LOCATION_NAME, "l2"))
+            .audit(AuditDTO.builder().build())
+            .build();
+    assertEquals(
+        "s3a://bucket/fileset2/a",
+        GravitinoVirtualFileSystemUtils.resolveFileLocation(
+            multipleLocationsFileset, "/a", null, FilesetDataOperation.OPEN));
+    assertEquals(
+        "hdfs://ns/fileset2/a",
+        GravitinoVirtualFileSystemUtils.resolveFileLocation(
+            multipleLocationsFileset, "/a", "l1", FilesetDataOperation.OPEN));
+    assertThrows(
+        NoSuchLocationNameException.class,
+        () ->
+            GravitinoVirtualFileSystemUtils.resolveFileLocation(
+                multipleLocationsFileset, "/a", "l3", FilesetDataOperation.OPEN));
+  }
+
   @Test
   public void testExtractIdentifier() throws IOException, URISyntaxException {
     String filesetName = "testExtractIdentifier";
@@ -1702,6 +1833,111 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testWarmUpFilesets() throws IOException {
+    String filesetName = "testWarmUpFilesets";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    buildMockResourceForCredential(filesetName, localPath.toString());
+
+    Configuration warmUpConf = new Configuration(conf);
+    warmUpConf.set(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_WARM_UP_FILESETS,
+        String.format("%s.%s.%s", catalogName, schemaName, filesetName));
+    try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(warmUpConf)) {
+      BaseGVFSOperations operations =
+          ((GravitinoVirtualFileSystem) gravitinoFileSystem).getOperations();
+      // The actual file system is created in the background before any access.
+      Awaitility.await()
+          .atMost(30, TimeUnit.SECONDS)
+          .until(() -> operations.startupStatistics().fileSystemsCreated() == 1);
+      assertEquals(1, operations.internalFileSystemCache().asMap().size());
+      assertEquals(-1, operations.startupStatistics().firstOpenLatencyMs());
+    }
+
+    warmUpConf.set(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_WARM_UP_FILESETS, "invalid_fileset");
+    assertThrows(
+        IllegalArgumentException.class, () -> managedFilesetPath.getFileSystem(warmUpConf));
+  }
+
+  @Test
+  public void testLocalLocationResolution() throws IOException {
+    String filesetName = "testLocalLocationResolution";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, filesetName);
+    String accessesPath = locationPath + "/accesses";
+    buildMockResourceForCredential(filesetName, localPath.toString());
+    buildMockResource(Method.POST, accessesPath, null, new BaseResponse(), SC_OK);
+
+    Configuration localResolutionConf = new Configuration(conf);
+    localResolutionConf.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCAL_LOCATION_RESOLUTION_ENABLE,
+        true);
+    // Report the accesses only when the file system is closed.
+    localResolutionConf.setLong(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_LOCATION_ACCESS_REPORT_INTERVAL_MS,
+        TimeUnit.HOURS.toMillis(1));
+
+    // The local location resolution requires the fileset metadata cache.
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> managedFilesetPath.getFileSystem(localResolutionConf));
+
+    localResolutionConf.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_METADATA_CACHE_ENABLE, true);
+    try (FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(localPath, localFileSystem);
+      try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(localResolutionConf)) {
+        Path srcPath = new Path(managedFilesetPath + "/src");
+        Path dstPath = new Path(managedFilesetPath + "/dst");
+        assertTrue(gravitinoFileSystem.mkdirs(srcPath));
+        assertTrue(gravitinoFileSystem.rename(srcPath, dstPath));
+        assertTrue(gravitinoFileSystem.getFileStatus(dstPath).isDirectory());
+        assertTrue(localFileSystem.exists(new Path(localPath + "/dst")));
+
+        // Renaming the fileset itself is still rejected on the client side.
+        assertThrows(
+            RuntimeException.class, () -> gravitinoFileSystem.rename(managedFilesetPath, dstPath));
+      }
+    }
+
+    // No location is resolved by the server, all the accesses are reported in one batch.
+    mockServer()
+        .verify(request().withMethod("GET").withPath(locationPath), VerificationTimes.never());
+    HttpRequest[] reports =
+        Arrays.stream(
+                mockServer()
+                    .retrieveRecordedRequests(request().withMethod("POST").withPath(accessesPath)))
+            .map(HttpRequest.class::cast)
+            .toArray(HttpRequest[]::new);
+    assertEquals(1, reports.length);
+    FileLocationAccessesRequest report =
+        JsonUtils.objectMapper()
+            .readValue(reports[0].getBodyAsString(), FileLocationAccessesRequest.class);
+    List<String> reportedAccesses =
+        report.getAccesses().stream()
+            .map(access -> access.getDataOperation() + ":" + access.getSubPath())
+            .collect(Collectors.toList());
+    assertEquals(
+        Arrays.asList(
+            FilesetDataOperation.MKDIRS + ":/src",
+            FilesetDataOperation.RENAME + ":/src",
+            FilesetDataOperation.RENAME + ":/dst",
+            FilesetDataOperation.GET_FILE_STATUS + ":/dst"),
+        reportedAccesses);
+    report
+        .getAccesses()
+        .forEach(
+            access -> assertEquals(InternalClientType.HADOOP_GVFS.name(), access.getClientType()));
+  }
+
   private void buildMockResourceForCredential(String filesetName, String filesetLocation)
       throws JsonProcessingException {
     String schemaPath =
@@ -28,4 +28,10 @@ public class FilesetAuditConstants {
 
   /** The HTTP header used to pass the fileset data operation. */
   public static final String HTTP_HEADER_FILESET_DATA_OPERATION = "FilesetDataOperation";
+
+  /**
+   * The audit context key of the time, in milliseconds since epoch, at which a client accessed a
+   * file location that it reports to the server afterwards.
+   */
+  public static final String ACCESS_TIME = "AccessTime";
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.apache.gravitino.rest.RESTRequest;
+
+/**
+ * Represents a file location access that a client resolved locally from the fileset metadata,
+ * reported to the server afterwards so that it can be audited like a get file location request.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileLocationAccessRequest implements RESTRequest {
+
+  @JsonProperty("subPath")
+  private String subPath;
+
+  @Nullable
+  @JsonProperty("locationName")
+  private String locationName;
+
+  @Nullable
+  @JsonProperty("clientType")
+  private String clientType;
+
+  @Nullable
+  @JsonProperty("dataOperation")
+  private String dataOperation;
+
+  /** The time in milliseconds since epoch at which the client accessed the file location. */
+  @Nullable
+  @JsonProperty("accessTime")
+  private Long accessTime;
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException if the request is invalid.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(subPath != null, "\"subPath\" field is required");
+    Preconditions.checkArgument(
+        accessTime == null || accessTime > 0, "\"accessTime\" field must be positive");
+  }
+}
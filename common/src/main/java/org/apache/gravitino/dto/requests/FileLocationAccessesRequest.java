@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.apache.gravitino.rest.RESTMessage;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Request to report a batch of file location accesses of a fileset. */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@ToString
+public class FileLocationAccessesRequest implements RESTRequest {
+
+  /** The maximum number of accesses in one request. */
+  public static final int MAX_ACCESSES = 1000;
+
+  @JsonProperty("accesses")
+  private final List<FileLocationAccessRequest> accesses;
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    if (accesses == null) {
+      throw new IllegalArgumentException("Accesses list cannot be null");
+    }
+    if (accesses.size() > MAX_ACCESSES) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Accesses list cannot contain more than %d accesses, got %d",
+              MAX_ACCESSES, accesses.size()));
+    }
+    accesses.forEach(RESTMessage::validate);
+  }
+}
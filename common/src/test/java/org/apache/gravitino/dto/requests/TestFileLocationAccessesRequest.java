@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import org.apache.gravitino.json.JsonUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestFileLocationAccessesRequest {
+
+  @Test
+  public void testValidateWithNullAccesses() {
+    FileLocationAccessesRequest request = new FileLocationAccessesRequest(null);
+
+    final IllegalArgumentException exception =
+        Assertions.assertThrows(IllegalArgumentException.class, request::validate);
+
+    Assertions.assertEquals("Accesses list cannot be null", exception.getMessage());
+  }
+
+  @Test
+  public void testValidateWithEmptyAccesses() {
+    FileLocationAccessesRequest request = new FileLocationAccessesRequest(Collections.emptyList());
+
+    Assertions.assertDoesNotThrow(request::validate);
+  }
+
+  @Test
+  public void testValidateWithNullSubPath() {
+    FileLocationAccessesRequest request =
+        new FileLocationAccessesRequest(
+            ImmutableList.of(FileLocationAccessRequest.builder().dataOperation("OPEN").build()));
+
+    Assertions.assertThrows(IllegalArgumentException.class, request::validate);
+  }
+
+  @Test
+  public void testValidateWithTooManyAccesses() {
+    FileLocationAccessesRequest request =
+        new FileLocationAccessesRequest(
+            Collections.nCopies(
+                FileLocationAccessesRequest.MAX_ACCESSES + 1,
+                FileLocationAccessRequest.builder().subPath("/a").build()));
+
+    Assertions.assertThrows(IllegalArgumentException.class, request::validate);
+  }
+
+  @Test
+  public void testValidateWithInvalidAccessTime() {
+    FileLocationAccessesRequest request =
+        new FileLocationAccessesRequest(
+            ImmutableList.of(
+                FileLocationAccessRequest.builder().subPath("/a").accessTime(0L).build()));
+
+    Assertions.assertThrows(IllegalArgumentException.class, request::validate);
+  }
+
+  @Test
+  public void testSerDe() throws JsonProcessingException {
+    FileLocationAccessesRequest request =
+        new FileLocationAccessesRequest(
+            ImmutableList.of(
+                FileLocationAccessRequest.builder()
+                    .subPath("/a/b")
+                    .locationName("l1")
+                    .clientType("HADOOP_GVFS")
+                    .dataOperation("OPEN")
+                    .accessTime(1700000000000L)
+                    .build(),
+                FileLocationAccessRequest.builder().subPath("").build()));
+
+    String json = JsonUtils.objectMapper().writeValueAsString(request);
+    FileLocationAccessesRequest deserialized =
+        JsonUtils.objectMapper().readValue(json, FileLocationAccessesRequest.class);
+    Assertions.assertEquals(request, deserialized);
+    Assertions.assertDoesNotThrow(deserialized::validate);
+  }
+}
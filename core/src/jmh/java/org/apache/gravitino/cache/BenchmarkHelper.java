@@ -29,8 +29,14 @@ import java.util.Random;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.utils.TestUtil;
 
 public class BenchmarkHelper {
@@ -76,6 +82,55 @@ public class BenchmarkHelper {
     return entities;
   }
 
+  /**
+   * Generates a list of table entities with the specified count, spread over a few schemas. Like
+   * the entities loaded from the store, the entities don't share the name strings.
+   *
+   * @param entityCnt the count of entities to generate.
+   * @param columnCnt the count of columns of each table.
+   * @return a list of table entities.
+   */
+  public static List<TableEntity> getTableEntities(int entityCnt, int columnCnt) {
+    List<TableEntity> entities = new ArrayList<>(entityCnt);
+    AuditInfo auditInfo = TestUtil.getTestAuditInfo();
+    for (int i = 0; i < entityCnt; i++) {
+      Namespace namespace =
+          Namespace.of(
+              new String("metalake"), new String("catalog"), new String("schema_" + (i % 10)));
+      List<ColumnEntity> columns = new ArrayList<>(columnCnt);
+      for (int j = 0; j < columnCnt; j++) {
+        columns.add(
+            ColumnEntity.builder()
+                .withId(RandomIdGenerator.INSTANCE.nextId())
+                .withName("column_" + j)
+                .withPosition(j)
+                .withDataType(j % 2 == 0 ? Types.LongType.get() : Types.VarCharType.of(255))
+                .withNullable(true)
+                .withAuditInfo(
+                    AuditInfo.builder()
+                        .withCreator(new String(auditInfo.creator()))
+                        .withCreateTime(auditInfo.createTime())
+                        .build())
+                .build());
+      }
+
+      entities.add(
+          TableEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("table_" + i)
+              .withNamespace(namespace)
+              .withAuditInfo(
+                  AuditInfo.builder()
+                      .withCreator(new String(auditInfo.creator()))
+                      .withCreateTime(auditInfo.createTime())
+                      .build())
+              .withColumns(columns)
+              .build());
+    }
+
+    return entities;
+  }
+
   /**
    * Returns a randomly selected key from the given map.
    *
@@ -21,12 +21,18 @@ package org.apache.gravitino.cache;
 
 import java.util.List;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
 
 /**
  * EntityCacheSizeBenchmark benchmarks the performance and overhead of querying the cache size via
@@ -36,11 +42,14 @@ import org.openjdk.jmh.annotations.Benchmark;
  * using the configured entity count. This ensures that the {@code size()} method operates on a
  * fully populated cache with realistic structure and distribution.
  *
- * <p>The benchmark includes a single method:
+ * <p>The benchmark includes the following methods:
  *
  * <ul>
  *   <li>{@code entityCacheSize}: Measures the execution time of retrieving the total number of
  *       cached entries.
+ *   <li>{@code tableEntityFootprint}: Fills a fresh cache with table entities and reports the
+ *       retained heap per cached table as the {@code bytesPerEntity} secondary result, with and
+ *       without {@code gravitino.cache.enableCompaction}.
  * </ul>
  *
  * @param <E> the type of related entity, extending {@link Entity} and implementing {@link
@@ -69,8 +78,44 @@ public class MeasureSizeEntityCacheBenchmark<E extends Entity & HasIdentifier>
                 (List<E>) userList));
   }
 
+  private static final int COLUMN_CNT = 20;
+
+  @Param({"false", "true"})
+  public boolean compaction;
+
   @Benchmark
   public long entityCacheSize() {
     return cache.size();
   }
+
+  @Benchmark
+  public long tableEntityFootprint(Footprint footprint) {
+    Config config = new Config() {};
+    config.set(Configs.CACHE_COMPACTION_ENABLED, compaction);
+
+    long before = usedHeap();
+    EntityCache tableCache = new CaffeineEntityCache(config);
+    List<TableEntity> tables = BenchmarkHelper.getTableEntities(totalCnt, COLUMN_CNT);
+    tables.forEach(tableCache::put);
+    tables = null;
+    long after = usedHeap();
+
+    footprint.bytesPerEntity = Math.max(0, after - before) / totalCnt;
+    return tableCache.size();
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /** Secondary result holder, reported by JMH next to the primary score of the benchmark. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+    public long bytesPerEntity;
+  }
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache.it;
+
+import static org.mockito.ArgumentMatchers.any;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.ModelEntity;
+import org.apache.gravitino.storage.relational.RelationalBackend;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark comparing entity resolution one by one with {@code EntityStore.batchGet()}.
+ *
+ * <p>Each invocation starts from an empty cache and resolves all the preloaded entities, which is
+ * what an authorization filter does for a freshly listed page of metadata. Besides the time per
+ * operation, the number of backend round trips per operation is reported as a secondary result:
+ * one per entity for {@code benchmarkGetOneByOne}, and one per parent namespace for {@code
+ * benchmarkBatchGet}.
+ *
+ * @see org.apache.gravitino.EntityStore#batchGet(List, Entity.EntityType, Class)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class BatchGetEntityStorageBenchmark<E extends Entity & HasIdentifier>
+    extends AbstractEntityStorageBenchmark {
+
+  private final AtomicLong backendRoundTrips = new AtomicLong();
+  private List<NameIdentifier> idents;
+  private EntityCache cache;
+
+  @Setup(Level.Trial)
+  public void instrumentBackend() throws IllegalAccessException {
+    cache = (EntityCache) FieldUtils.readField(store, "cache", true);
+    idents = new ArrayList<>(entities.size());
+    for (Object entity : entities) {
+      idents.add(((ModelEntity) entity).nameIdentifier());
+    }
+
+    // Count the backend reads without recording every invocation on the spy
+    RelationalBackend backend = (RelationalBackend) FieldUtils.readField(store, "backend", true);
+    RelationalBackend countingBackend =
+        Mockito.mock(
+            backend.getClass(),
+            Mockito.withSettings()
+                .spiedInstance(backend)
+                .defaultAnswer(Mockito.CALLS_REAL_METHODS)
+                .stubOnly());
+    Mockito.doAnswer(
+            invocation -> {
+              backendRoundTrips.incrementAndGet();
+              return invocation.callRealMethod();
+            })
+        .when(countingBackend)
+        .get(any(), any());
+    Mockito.doAnswer(
+            invocation -> {
+              backendRoundTrips.incrementAndGet();
+              return invocation.callRealMethod();
+            })
+        .when(countingBackend)
+        .batchGet(any(), any());
+    FieldUtils.writeField(store, "backend", countingBackend, true);
+  }
+
+  /**
+   * Benchmark for resolving all entities with one {@code get} call per entity.
+   *
+   * @param roundTrips the secondary result holder.
+   * @return the number of resolved entities.
+   */
+  @Benchmark
+  public int benchmarkGetOneByOne(RoundTrips roundTrips) {
+    cache.clear();
+    long before = backendRoundTrips.get();
+    int resolved = 0;
+    try {
+      for (NameIdentifier ident : idents) {
+        store.get(ident, Entity.EntityType.MODEL, ModelEntity.class);
+        resolved++;
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    roundTrips.backendRoundTrips += backendRoundTrips.get() - before;
+    return resolved;
+  }
+
+  /**
+   * Benchmark for resolving all entities with a single {@code batchGet} call.
+   *
+   * @param roundTrips the secondary result holder.
+   * @return the number of resolved entities.
+   */
+  @Benchmark
+  public int benchmarkBatchGet(RoundTrips roundTrips) {
+    cache.clear();
+    long before = backendRoundTrips.get();
+    int resolved = store.batchGet(idents, Entity.EntityType.MODEL, ModelEntity.class).size();
+    roundTrips.backendRoundTrips += backendRoundTrips.get() - before;
+    return resolved;
+  }
+
+  /** Secondary result holder, reported by JMH next to the primary score of the benchmark. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RoundTrips {
+    public long backendRoundTrips;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache.it;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.SnowflakeIdGenerator;
+import org.apache.gravitino.utils.RandomNameUtils;
+import org.apache.gravitino.utils.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark for the insert throughput of the {@code EntityStore.put()} method with different id
+ * generators.
+ *
+ * <p>Every invocation inserts a new model into the benchmark schema, so the primary key index of
+ * the model table keeps growing during the run. Random ids land at random positions of the index,
+ * while time ordered ids are appended to its right-most pages.
+ *
+ * @see org.apache.gravitino.storage.RandomIdGenerator
+ * @see org.apache.gravitino.storage.SnowflakeIdGenerator
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class PutEntityStorageBenchmark<E extends Entity & HasIdentifier>
+    extends AbstractEntityStorageBenchmark {
+
+  // Shared by all benchmark threads, like the single generator of a server.
+  private static final IdGenerator RANDOM = new RandomIdGenerator();
+  private static final IdGenerator SNOWFLAKE = new SnowflakeIdGenerator(1);
+
+  @Param({Configs.RANDOM_ID_GENERATOR, Configs.SNOWFLAKE_ID_GENERATOR})
+  public String idGenerator;
+
+  private IdGenerator generator;
+
+  @Setup(Level.Trial)
+  public void selectIdGenerator() {
+    generator = Configs.SNOWFLAKE_ID_GENERATOR.equals(idGenerator) ? SNOWFLAKE : RANDOM;
+  }
+
+  /**
+   * Benchmark for inserting a new entity into the store.
+   *
+   * @return the id of the inserted entity.
+   */
+  @Benchmark
+  public long benchmarkPut() {
+    long id = generator.nextId();
+    try {
+      store.put(
+          TestUtil.getTestModelEntity(
+              id,
+              RandomNameUtils.genRandomName("model"),
+              Namespace.of(metalake.name(), catalog.name(), schema.name())),
+          false);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return id;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.lock;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * TreeLockBenchmark compares the read path of the tree lock with and without the optimistic read
+ * mode, see {@link TreeLockUtils#doWithOptimisticReadTreeLock}.
+ *
+ * <p>The benchmark simulates the metadata loads of tables like {@code
+ * metalake.catalog.schema.table}, all the threads share the same {@link LockManager}:
+ *
+ * <ul>
+ *   <li>{@code benchmarkRead}: Only reads the tables.
+ *   <li>{@code benchmarkReadHeavy}: Reads the tables with the probability of {@code readPercent}
+ *       and alters them with the write lock otherwise.
+ * </ul>
+ *
+ * <p>The thread count is set by the jmh task of Gradle, run {@link #main(String[])} to compare both
+ * modes at 1, 8 and 64 threads.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TreeLockBenchmark {
+  private static final int SCHEMA_COUNT = 10;
+  private static final int TABLE_COUNT = 100;
+
+  @Param({"false", "true"})
+  public boolean optimisticRead;
+
+  @Param({"95"})
+  public int readPercent;
+
+  private LockManager lockManager;
+  private NameIdentifier[] tables;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    Config config = new Config(false) {};
+    config.set(TREE_LOCK_OPTIMISTIC_READ_ENABLED, optimisticRead);
+    this.lockManager = new LockManager(config);
+
+    this.tables = new NameIdentifier[SCHEMA_COUNT * TABLE_COUNT];
+    for (int i = 0; i < SCHEMA_COUNT; i++) {
+      for (int j = 0; j < TABLE_COUNT; j++) {
+        NameIdentifier table =
+            NameIdentifier.of("metalake", "catalog", "schema_" + i, "table_" + j);
+        tables[i * TABLE_COUNT + j] = table;
+        // Warm up the tree lock nodes like the tables have been loaded before.
+        TreeLockUtils.doWithTreeLock(lockManager, table, LockType.READ, () -> null);
+      }
+    }
+  }
+
+  @Benchmark
+  public NameIdentifier benchmarkRead() {
+    NameIdentifier table = randomTable();
+    return TreeLockUtils.doWithOptimisticReadTreeLock(lockManager, table, () -> table);
+  }
+
+  @Benchmark
+  public NameIdentifier benchmarkReadHeavy() {
+    NameIdentifier table = randomTable();
+    if (ThreadLocalRandom.current().nextInt(100) < readPercent) {
+      return TreeLockUtils.doWithOptimisticReadTreeLock(lockManager, table, () -> table);
+    }
+
+    return TreeLockUtils.doWithTreeLock(lockManager, table, LockType.WRITE, () -> table);
+  }
+
+  private NameIdentifier randomTable() {
+    return tables[ThreadLocalRandom.current().nextInt(tables.length)];
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[] {1, 8, 64}) {
+      Options options =
+          new OptionsBuilder()
+              .include(TreeLockBenchmark.class.getSimpleName())
+              .warmupIterations(5)
+              .measurementIterations(10)
+              .forks(1)
+              .threads(threads)
+              .build();
+      new Runner(options).run();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.lock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * TreeLockContentionBenchmark benchmarks the contention of {@link LockManager#createTreeLock} and
+ * the reference counting of {@link TreeLockNode} over a 5-level identifier tree like {@code
+ * metalake.catalog.schema.table.column}.
+ *
+ * <p>All the threads share the same {@link LockManager}, so the root node "/" and the metalake node
+ * are referenced by every tree lock. The {@code fanOut} parameter controls the number of children
+ * of each node below the metalake level, a smaller value means higher contention on each node.
+ *
+ * <ul>
+ *   <li>{@code benchmarkReadLock}: Creates the tree lock and locks the whole path with the read
+ *       lock.
+ *   <li>{@code benchmarkWriteLock}: Creates the tree lock and locks the leaf node with the write
+ *       lock, the ancestors are still locked with the read lock.
+ * </ul>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TreeLockContentionBenchmark {
+
+  @Param({"2", "10"})
+  public int fanOut;
+
+  private LockManager lockManager;
+  private NameIdentifier[] identifiers;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    this.lockManager = new LockManager(new Config(false) {});
+
+    int count = fanOut * fanOut * fanOut * fanOut;
+    this.identifiers = new NameIdentifier[count];
+    for (int i = 0; i < count; i++) {
+      identifiers[i] =
+          NameIdentifier.of(
+              "metalake",
+              "catalog_" + (i % fanOut),
+              "schema_" + (i / fanOut % fanOut),
+              "table_" + (i / fanOut / fanOut % fanOut),
+              "column_" + (i / fanOut / fanOut / fanOut));
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    // All the references should be released after each iteration, otherwise the nodes can't be
+    // evicted.
+    checkReferenceCount(lockManager.treeLockRootNode);
+  }
+
+  @Benchmark
+  public TreeLock benchmarkReadLock() {
+    return lockAndUnlock(LockType.READ);
+  }
+
+  @Benchmark
+  public TreeLock benchmarkWriteLock() {
+    return lockAndUnlock(LockType.WRITE);
+  }
+
+  private TreeLock lockAndUnlock(LockType lockType) {
+    TreeLock treeLock = lockManager.createTreeLock(randomIdentifier());
+    try {
+      treeLock.lock(lockType);
+      return treeLock;
+    } finally {
+      treeLock.unlock();
+    }
+  }
+
+  private NameIdentifier randomIdentifier() {
+    return identifiers[ThreadLocalRandom.current().nextInt(identifiers.length)];
+  }
+
+  private static void checkReferenceCount(TreeLockNode node) {
+    if (node.getReference() != 0) {
+      throw new IllegalStateException("Unreleased reference of tree lock node " + node);
+    }
+    node.getAllChildren().forEach(TreeLockContentionBenchmark::checkReferenceCount);
+  }
+}
@@ -29,6 +29,7 @@ import org.apache.gravitino.config.ConfigBuilder;
 import org.apache.gravitino.config.ConfigConstants;
 import org.apache.gravitino.config.ConfigEntry;
 import org.apache.gravitino.stats.storage.JdbcPartitionStatisticStorageFactory;
+import org.apache.gravitino.storage.SnowflakeIdGenerator;
 import org.apache.gravitino.utils.FileFetcher;
 import org.apache.gravitino.utils.HierarchicalSchemaUtil;
 
@@ -99,7 +100,11 @@ public class Configs {
 
   public static final long DEFAULT_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLISECONDS = 1000L;
 
+  public static final int DEFAULT_RELATIONAL_BATCH_PUT_CHUNK_SIZE = 500;
+
   public static final int GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT = 100;
+  public static final int DEFAULT_GC_MAX_ROWS_PER_SECOND = 0;
+  public static final long DEFAULT_GC_SLOW_STATEMENT_THRESHOLD_MS = 1000L;
   public static final long MAX_NODE_IN_MEMORY = 100000L;
 
   public static final long MIN_NODE_IN_MEMORY = 1000L;
@@ -178,6 +183,16 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_BATCH_PUT_CHUNK_SIZE =
+      new ConfigBuilder("gravitino.entity.store.relational.batchPutChunkSize")
+          .doc(
+              "The maximum number of entities or relations written with one multi-row statement "
+                  + "and committed in one transaction by the batch put of the JDBC Backend")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_RELATIONAL_BATCH_PUT_CHUNK_SIZE);
+
   public static final ConfigEntry<Long> CATALOG_CACHE_EVICTION_INTERVAL_MS =
       new ConfigBuilder("gravitino.catalog.cache.evictionIntervalMs")
           .doc("The interval in milliseconds to evict the catalog cache")
@@ -197,6 +212,31 @@ public class Configs {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(DEFAULT_ENTITY_CHANGE_LOG_POLL_INTERVAL_SECS);
 
+  public static final ConfigEntry<Long> ENTITY_CHANGE_LOG_MAX_POLL_INTERVAL_SECS =
+      new ConfigBuilder("gravitino.entityChangeLog.maxPollIntervalSecs")
+          .doc(
+              "The maximum interval in seconds for polling entity change logs. While no change is "
+                  + "found, the poll interval backs off exponentially from "
+                  + "`gravitino.entityChangeLog.pollIntervalSecs` up to this value. It should be "
+                  + "set together with an entity change notifier to keep the staleness low")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_CHANGE_LOG_POLL_INTERVAL_SECS);
+
+  public static final String ENTITY_CHANGE_NOTIFIER_CONFIG_PREFIX =
+      "gravitino.entityChangeLog.notifier.";
+
+  public static final ConfigEntry<String> ENTITY_CHANGE_NOTIFIER_CLASS_NAME =
+      new ConfigBuilder(ENTITY_CHANGE_NOTIFIER_CONFIG_PREFIX + "className")
+          .doc(
+              "The class name of the entity change notifier used to wake up the entity change log "
+                  + "pollers of the peer servers right after entity changes are committed. No "
+                  + "notifier is used if it's not set")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .stringConf()
+          .create();
+
   public static final ConfigEntry<Long> ENTITY_CHANGE_LOG_RETENTION_SECS =
       new ConfigBuilder("gravitino.entityChangeLog.retentionSecs")
           .doc("The retention time in seconds for entity change logs. Set 0 to disable cleanup")
@@ -288,6 +328,74 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  public static final ConfigEntry<Integer> ENTITY_STORE_GC_DELETION_BATCH_SIZE =
+      new ConfigBuilder("gravitino.entity.store.gc.deletionBatchSize")
+          .doc(
+              "The maximum number of rows physically or softly deleted by one statement of the "
+                  + "garbage collector of the relational entity store")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+
+  public static final ConfigEntry<Integer> ENTITY_STORE_GC_MAX_ROWS_PER_SECOND =
+      new ConfigBuilder("gravitino.entity.store.gc.maxRowsPerSecond")
+          .doc(
+              "The maximum number of rows deleted per second by the garbage collector of the "
+                  + "relational entity store, 0 means unlimited")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_GC_MAX_ROWS_PER_SECOND);
+
+  public static final ConfigEntry<Long> ENTITY_STORE_GC_SLOW_STATEMENT_THRESHOLD_MS =
+      new ConfigBuilder("gravitino.entity.store.gc.slowStatementThresholdMs")
+          .doc(
+              "The latency in milliseconds of a deletion statement above which the garbage "
+                  + "collector of the relational entity store backs off before the next statement")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_GC_SLOW_STATEMENT_THRESHOLD_MS);
+
+  // The followings are configurations for id generator
+
+  public static final String RANDOM_ID_GENERATOR = "random";
+
+  public static final String SNOWFLAKE_ID_GENERATOR = "snowflake";
+
+  public static final ConfigEntry<String> ID_GENERATOR_TYPE =
+      new ConfigBuilder("gravitino.idGenerator.type")
+          .doc(
+              "The id generator of new entities, `random` for random ids, or `snowflake` for time "
+                  + "ordered ids composed of a timestamp, a node id and a sequence")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  RANDOM_ID_GENERATOR.equalsIgnoreCase(value)
+                      || SNOWFLAKE_ID_GENERATOR.equalsIgnoreCase(value),
+              String.format(
+                  "The id generator must be `%s` or `%s`",
+                  RANDOM_ID_GENERATOR, SNOWFLAKE_ID_GENERATOR))
+          .createWithDefault(RANDOM_ID_GENERATOR);
+
+  public static final ConfigEntry<Integer> ID_GENERATOR_NODE_ID =
+      new ConfigBuilder("gravitino.idGenerator.nodeId")
+          .doc(
+              String.format(
+                  "The node id of the `snowflake` id generator, between 0 and %s. It's required "
+                      + "by the `snowflake` id generator and must be distinct on each server of an "
+                      + "HA deployment. -1 means it's not set",
+                  SnowflakeIdGenerator.MAX_NODE_ID))
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(
+              value -> value >= -1 && value <= SnowflakeIdGenerator.MAX_NODE_ID,
+              String.format(
+                  "The node id must be -1 or between 0 and %s", SnowflakeIdGenerator.MAX_NODE_ID))
+          .createWithDefault(-1);
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -311,6 +419,16 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<Boolean> TREE_LOCK_OPTIMISTIC_READ_ENABLED =
+      new ConfigBuilder("gravitino.lock.optimisticRead.enabled")
+          .doc(
+              "Whether to enable the optimistic read mode of the tree lock. Read-only operations "
+                  + "validate the version stamps of the tree lock nodes instead of acquiring the "
+                  + "read locks, and fall back to the read locks only when a writer intervened")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -327,8 +445,11 @@ public class Configs {
 
   public static final ConfigEntry<Integer> GRAVITINO_AUTHORIZATION_THREAD_POOL_SIZE =
       new ConfigBuilder("gravitino.authorization.threadPoolSize")
-          .doc("The thread pool size of metadata authorization requests")
+          .doc(
+              "The thread pool size of metadata authorization requests. Deprecated, list "
+                  + "filtering is now authorized in batches on the request thread")
           .version(ConfigConstants.VERSION_1_0_0)
+          .deprecated()
           .intConf()
           .createWithDefault(DEFAULT_GRAVITINO_AUTHORIZATION_THREAD_POOL_SIZE);
 
@@ -381,6 +502,59 @@ public class Configs {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(DEFAULT_GRAVITINO_AUTHORIZATION_CHANGE_POLL_INTERVAL_SECS);
 
+  public static final String JCASBIN_PRIVILEGE_ENGINE = "jcasbin";
+
+  public static final String BITMAP_PRIVILEGE_ENGINE = "bitmap";
+
+  public static final ConfigEntry<String> GRAVITINO_AUTHORIZATION_PRIVILEGE_ENGINE =
+      new ConfigBuilder("gravitino.authorization.jcasbin.privilegeEngine")
+          .doc(
+              "The engine that evaluates the privileges of the loaded roles, `jcasbin` for the "
+                  + "JCasbin enforcer, or `bitmap` for privilege bitmaps compiled from the roles")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  JCASBIN_PRIVILEGE_ENGINE.equalsIgnoreCase(value)
+                      || BITMAP_PRIVILEGE_ENGINE.equalsIgnoreCase(value),
+              String.format(
+                  "The privilege engine must be `%s` or `%s`",
+                  JCASBIN_PRIVILEGE_ENGINE, BITMAP_PRIVILEGE_ENGINE))
+          .createWithDefault(JCASBIN_PRIVILEGE_ENGINE);
+
+  public static final ConfigEntry<Long> GRAVITINO_AUTHORIZATION_DECISION_CACHE_SIZE =
+      new ConfigBuilder("gravitino.authorization.jcasbin.decisionCacheSize")
+          .doc(
+              "The maximum size of the authorization decision cache, which keeps allowed and "
+                  + "denied results of privilege checks. 0 disables the cache")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Boolean> GRAVITINO_AUTHORIZATION_DECISION_CACHE_STRICT =
+      new ConfigBuilder("gravitino.authorization.jcasbin.decisionCacheStrict")
+          .doc(
+              "Whether cached authorization decisions are only reused after the role versions of "
+                  + "the user are validated for the request. If false, a decision is reused "
+                  + "without touching the backend until a change is observed or the entry expires")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final long DEFAULT_GRAVITINO_AUTHORIZATION_DECISION_CACHE_NON_STRICT_TTL_SECS = 10L;
+
+  public static final ConfigEntry<Long> GRAVITINO_AUTHORIZATION_DECISION_CACHE_NON_STRICT_TTL_SECS =
+      new ConfigBuilder("gravitino.authorization.jcasbin.decisionCacheNonStrictTtlSecs")
+          .doc(
+              "If the decision cache is not strict, how long in seconds the role versions last "
+                  + "validated for a user are reused without touching the backend. Role changes "
+                  + "made on other servers apply to the user after at most this long")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_GRAVITINO_AUTHORIZATION_DECISION_CACHE_NON_STRICT_TTL_SECS);
+
   public static final ConfigEntry<List<String>> SERVICE_ADMINS =
       new ConfigBuilder("gravitino.authorization.serviceAdmins")
           .doc("The admins of Gravitino service")
@@ -487,6 +661,50 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  // Whether to cache the children listings of namespaces
+  public static final ConfigEntry<Boolean> CACHE_LISTING_ENABLED =
+      new ConfigBuilder("gravitino.cache.enableListing")
+          .doc(
+              "Whether to serve the entity listings of a namespace from the cache. A cached "
+                  + "listing holds the listed entities. Entities created, renamed or dropped by "
+                  + "other servers drop the listing once the entity change log is polled.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Whether to cache the entities in a compact representation
+  public static final ConfigEntry<Boolean> CACHE_COMPACTION_ENABLED =
+      new ConfigBuilder("gravitino.cache.enableCompaction")
+          .doc(
+              "Whether to hold the cached entities in a compact representation, which interns the "
+                  + "repeated names and flattens the table columns. It reduces the heap used by "
+                  + "the cache at the cost of rebuilding the entity on every cache read.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Whether to enable the off-heap second level cache
+  public static final ConfigEntry<Boolean> CACHE_OFF_HEAP_ENABLED =
+      new ConfigBuilder("gravitino.cache.enableOffHeap")
+          .doc(
+              "Whether to demote the catalogs, schemas and tables evicted from the on-heap cache "
+                  + "to a serialized off-heap cache, which is checked before the entity store on "
+                  + "an on-heap cache miss.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Maximum size of the off-heap second level cache
+  public static final ConfigEntry<Long> CACHE_OFF_HEAP_MAX_BYTES =
+      new ConfigBuilder("gravitino.cache.offHeapMaxBytes")
+          .doc(
+              "Maximum direct memory in bytes used by the off-heap cache. The memory is allocated "
+                  + "in segments of up to 64 MB, and the oldest segment is dropped when it's full.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(512L * 1024 * 1024);
+
   // Provider name for cache
   public static final ConfigEntry<String> CACHE_IMPLEMENTATION =
       new ConfigBuilder("gravitino.cache.implementation")
@@ -100,7 +100,7 @@ import org.apache.gravitino.policy.PolicyManager;
 import org.apache.gravitino.stats.StatisticDispatcher;
 import org.apache.gravitino.stats.StatisticManager;
 import org.apache.gravitino.storage.IdGenerator;
-import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.IdGeneratorFactory;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
 import org.apache.gravitino.utils.FileFetcher;
@@ -656,8 +656,8 @@ public class GravitinoEnv {
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
 
-    // create and initialize a random id generator
-    this.idGenerator = new RandomIdGenerator();
+    // Create the id generator, random ids by default or time ordered ids if configured
+    this.idGenerator = IdGeneratorFactory.createIdGenerator(config);
 
     // Tree lock
     this.lockManager = new LockManager(config);
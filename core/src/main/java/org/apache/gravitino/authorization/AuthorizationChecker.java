@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.authorization;
+
+import java.security.Principal;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * The privilege checks an authorization expression can call. {@link GravitinoAuthorizer} extends
+ * it with the lifecycle and change hooks of a full authorizer, while request scoped views, such as
+ * the one answering a batch of list filtering checks, only implement these checks.
+ */
+public interface AuthorizationChecker {
+
+  /**
+   * Perform authorization and return the authorization result.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObject the metadataObject.
+   * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
+   * @param requestContext authorization request context
+   * @return authorization result.
+   */
+  boolean authorize(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext);
+
+  /**
+   * Determine whether the privilege on the metadata object is denied to the user.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObject the metadataObject.
+   * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
+   * @param requestContext authorization request context
+   * @return whether the privilege is denied.
+   */
+  boolean deny(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext);
+
+  /**
+   * Determine whether the user is the Owner of a certain metadata object.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObject the metadataObject.
+   * @param requestContext authorization request context
+   * @return authorization result.
+   */
+  boolean isOwner(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      AuthorizationRequestContext requestContext);
+
+  /**
+   * Determine whether the user is the service admin.
+   *
+   * @return authorization result
+   */
+  boolean isServiceAdmin();
+
+  /**
+   * Determine whether the user accessing is oneself, or whether the group being accessed contains
+   * oneself.
+   *
+   * @param type user or group
+   * @param nameIdentifier name of user or group
+   * @param requestContext authorization request context; enables per-request dedup with other
+   *     authorization calls in the same request
+   * @return authorization result
+   */
+  boolean isSelf(
+      Entity.EntityType type,
+      NameIdentifier nameIdentifier,
+      AuthorizationRequestContext requestContext);
+
+  /**
+   * Determine whether the user is the metalake user.
+   *
+   * @param metalake metalake
+   * @param requestContext authorization request context; enables per-request dedup with other
+   *     authorizer calls (e.g. {@code authorize}/{@code isOwner}) that look up the same user.
+   * @return authorization result
+   */
+  boolean isMetalakeUser(String metalake, AuthorizationRequestContext requestContext);
+
+  /**
+   * Determine whether the user can set owner
+   *
+   * @param metalake metalake
+   * @param type metadata type
+   * @param fullName metadata full name
+   * @param requestContext authorization request context
+   * @return authorization result
+   */
+  boolean hasSetOwnerPermission(
+      String metalake, String type, String fullName, AuthorizationRequestContext requestContext);
+
+  /**
+   * Determine whether the user can grant or revoke privilege for metadata
+   *
+   * @param metalake metalake
+   * @param type metadata type
+   * @param fullName metadata full name
+   * @param requestContext authorization request context
+   * @return authorization result
+   */
+  boolean hasMetadataPrivilegePermission(
+      String metalake, String type, String fullName, AuthorizationRequestContext requestContext);
+}
@@ -82,6 +82,13 @@ public class AuthorizationRequestContext {
    */
   private volatile Map<Long, RoleUpdatedAt> prefetchedRoleVersions;
 
+  /**
+   * Sorted {@code (roleId, updated_at)} pairs of every role the user held when the roles were
+   * loaded for this request, or {@code null} if they have not been loaded or could not all be
+   * loaded. Used as the role version part of the decision cache key.
+   */
+  private volatile long[] roleVersionVector;
+
   private volatile String originalAuthorizationExpression;
 
   /**
@@ -213,6 +220,25 @@ public class AuthorizationRequestContext {
     this.prefetchedRoleVersions = prefetchedRoleVersions;
   }
 
+  /**
+   * Returns the role versions validated by the role load of this request, or {@code null} when the
+   * roles have not been loaded.
+   *
+   * @return sorted {@code (roleId, updated_at)} pairs or {@code null}
+   */
+  public long[] getRoleVersionVector() {
+    return roleVersionVector;
+  }
+
+  /**
+   * Sets the role versions validated by the role load of this request.
+   *
+   * @param roleVersionVector sorted {@code (roleId, updated_at)} pairs
+   */
+  public void setRoleVersionVector(long[] roleVersionVector) {
+    this.roleVersionVector = roleVersionVector;
+  }
+
   /**
    * Composite key for {@link #allowAuthorizerCache} / {@link #denyAuthorizerCache}. Immutable —
    * mutating any field after construction would silently corrupt the {@link
@@ -19,6 +19,7 @@ package org.apache.gravitino.authorization;
 
 import java.io.Closeable;
 import java.security.Principal;
+import java.util.List;
 import javax.annotation.Nullable;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
@@ -28,7 +29,7 @@ import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 
 /** Used for metadata authorization. */
-public interface GravitinoAuthorizer extends Closeable {
+public interface GravitinoAuthorizer extends AuthorizationChecker, Closeable {
 
   /**
    * After instantiating the GravitinoAuthorizer, execute the initialize method to perform a series
@@ -37,99 +38,64 @@ public interface GravitinoAuthorizer extends Closeable {
   void initialize();
 
   /**
-   * Perform authorization and return the authorization result.
+   * Perform authorization for a batch of metadata objects with the same privilege. List filtering
+   * calls this once per privilege check instead of once per object, so implementations can resolve
+   * the metadata ids of the whole batch in bulk. The default implementation delegates to {@link
+   * #authorize} for each object. An object whose check fails is not authorized, the other objects
+   * of the batch keep their results.
    *
    * @param principal the user principal
    * @param metalake the metalake
-   * @param metadataObject the metadataObject.
+   * @param metadataObjects the metadata objects to authorize
    * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
    * @param requestContext authorization request context
-   * @return authorization result.
+   * @return the authorization results, in the same order as {@code metadataObjects}
    */
-  boolean authorize(
+  default boolean[] authorizeBatch(
       Principal principal,
       String metalake,
-      MetadataObject metadataObject,
+      List<MetadataObject> metadataObjects,
       Privilege.Name privilege,
-      AuthorizationRequestContext requestContext);
-
-  boolean deny(
-      Principal principal,
-      String metalake,
-      MetadataObject metadataObject,
-      Privilege.Name privilege,
-      AuthorizationRequestContext requestContext);
+      AuthorizationRequestContext requestContext) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      try {
+        results[i] =
+            authorize(principal, metalake, metadataObjects.get(i), privilege, requestContext);
+      } catch (RuntimeException e) {
+        results[i] = false;
+      }
+    }
+    return results;
+  }
 
   /**
-   * Determine whether the user is the Owner of a certain metadata object.
+   * Batch counterpart of {@link #deny}, see {@link #authorizeBatch}. An object whose check fails
+   * is denied.
    *
    * @param principal the user principal
    * @param metalake the metalake
-   * @param metadataObject the metadataObject.
+   * @param metadataObjects the metadata objects to check
+   * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
    * @param requestContext authorization request context
-   * @return authorization result.
+   * @return the deny results, in the same order as {@code metadataObjects}
    */
-  boolean isOwner(
+  default boolean[] denyBatch(
       Principal principal,
       String metalake,
-      MetadataObject metadataObject,
-      AuthorizationRequestContext requestContext);
-
-  /**
-   * Determine whether the user is the service admin.
-   *
-   * @return authorization result
-   */
-  boolean isServiceAdmin();
-
-  /**
-   * Determine whether the user accessing is oneself, or whether the group being accessed contains
-   * oneself.
-   *
-   * @param type user or group
-   * @param nameIdentifier name of user or group
-   * @param requestContext authorization request context; enables per-request dedup with other
-   *     authorization calls in the same request
-   * @return authorization result
-   */
-  boolean isSelf(
-      Entity.EntityType type,
-      NameIdentifier nameIdentifier,
-      AuthorizationRequestContext requestContext);
-
-  /**
-   * Determine whether the user is the metalake user.
-   *
-   * @param metalake metalake
-   * @param requestContext authorization request context; enables per-request dedup with other
-   *     authorizer calls (e.g. {@code authorize}/{@code isOwner}) that look up the same user.
-   * @return authorization result
-   */
-  boolean isMetalakeUser(String metalake, AuthorizationRequestContext requestContext);
-
-  /**
-   * Determine whether the user can set owner
-   *
-   * @param metalake metalake
-   * @param type metadata type
-   * @param fullName metadata full name
-   * @param requestContext authorization request context
-   * @return authorization result
-   */
-  boolean hasSetOwnerPermission(
-      String metalake, String type, String fullName, AuthorizationRequestContext requestContext);
-
-  /**
-   * Determine whether the user can grant or revoke privilege for metadata
-   *
-   * @param metalake metalake
-   * @param type metadata type
-   * @param fullName metadata full name
-   * @param requestContext authorization request context
-   * @return authorization result
-   */
-  boolean hasMetadataPrivilegePermission(
-      String metalake, String type, String fullName, AuthorizationRequestContext requestContext);
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      try {
+        results[i] = deny(principal, metalake, metadataObjects.get(i), privilege, requestContext);
+      } catch (RuntimeException e) {
+        results[i] = true;
+      }
+    }
+    return results;
+  }
 
   /**
    * When the permissions of a role change, it is necessary to notify the GravitinoAuthorizer in
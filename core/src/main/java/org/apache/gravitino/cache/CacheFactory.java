@@ -20,6 +20,7 @@
 package org.apache.gravitino.cache;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.function.Consumer;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 
@@ -52,4 +53,21 @@ public final class CacheFactory {
       throw new RuntimeException("Failed to create and initialize EntityCache: " + name, e);
     }
   }
+
+  /**
+   * Creates the {@link org.apache.gravitino.cache.SecondLevelEntityCache} behind the entity cache,
+   * if it's enabled in the configuration.
+   *
+   * @param config The configuration.
+   * @param removalListener The listener notified of the entries dropped to make room.
+   * @return A second level cache instance, or null if it's disabled
+   */
+  public static SecondLevelEntityCache getSecondLevelEntityCache(
+      Config config, Consumer<EntityCacheRelationKey> removalListener) {
+    if (!Boolean.TRUE.equals(config.get(Configs.CACHE_OFF_HEAP_ENABLED))) {
+      return null;
+    }
+
+    return new OffHeapEntityCache(config, removalListener);
+  }
 }
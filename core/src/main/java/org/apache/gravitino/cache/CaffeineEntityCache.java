@@ -25,6 +25,8 @@ import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.googlecode.concurrenttrees.radix.ConcurrentRadixTree;
@@ -51,6 +53,7 @@ import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.meta.GenericEntity;
 import org.apache.gravitino.meta.ModelVersionEntity;
@@ -92,6 +95,18 @@ public class CaffeineEntityCache extends BaseEntityCache {
   /** Cache Index structure. */
   private RadixTree<EntityCacheRelationKey> cacheIndex;
 
+  /** Cache index of the children listings, keyed by the namespace and the children type. */
+  private final RadixTree<NamespaceChildren> childrenIndex;
+
+  private final boolean listingEnabled;
+  private final long listingExpireTimeMs;
+
+  /** Converts the entities to the compact representation to cache, null if it's disabled. */
+  private final EntityCompactor compactor;
+
+  /** The tier the evicted entities are demoted to, null if it's disabled. */
+  private final SecondLevelEntityCache secondLevelCache;
+
   private ScheduledExecutorService scheduler;
 
   @VisibleForTesting
@@ -115,7 +130,16 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public CaffeineEntityCache(Config cacheConfig) {
     super(cacheConfig);
     this.cacheIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
+    this.childrenIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
     this.reverseIndex = new ReverseIndexCache();
+    this.listingEnabled = Boolean.TRUE.equals(cacheConfig.get(Configs.CACHE_LISTING_ENABLED));
+    this.listingExpireTimeMs = listingEnabled ? cacheConfig.get(Configs.CACHE_EXPIRATION_TIME) : 0;
+    this.compactor =
+        Boolean.TRUE.equals(cacheConfig.get(Configs.CACHE_COMPACTION_ENABLED))
+            ? new EntityCompactor()
+            : null;
+    this.secondLevelCache =
+        CacheFactory.getSecondLevelEntityCache(cacheConfig, this::onSecondLevelRemoval);
 
     // Initialize segmented lock
     int lockSegments = cacheConfig.get(Configs.CACHE_LOCK_SEGMENTS);
@@ -131,7 +155,11 @@ public class CaffeineEntityCache extends BaseEntityCache {
                 return;
               }
               try {
-                invalidateExpiredItem(key);
+                if (cause == RemovalCause.SIZE && secondLevelCache != null) {
+                  demoteEvictedItem(key, value);
+                } else {
+                  invalidateExpiredItem(key);
+                }
               } catch (Throwable t) {
                 LOG.error(
                     "Failed to remove entity key={} value={} from cache asynchronously, cause={}",
@@ -174,11 +202,65 @@ public class CaffeineEntityCache extends BaseEntityCache {
       NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
 
-    List<Entity> entitiesFromCache = cacheData.getIfPresent(EntityCacheRelationKey.of(ident, type));
+    return getEntityIfPresent(EntityCacheRelationKey.of(ident, type))
+        .map(BaseEntityCache::convertEntity);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> getAllPresent(
+      List<NameIdentifier> idents, Entity.EntityType type) {
+    Preconditions.checkArgument(idents != null, "NameIdentifiers cannot be null");
+    Preconditions.checkArgument(type != null, "EntityType cannot be null");
+
+    List<E> entities = new ArrayList<>(idents.size());
+    for (NameIdentifier ident : idents) {
+      getEntityIfPresent(EntityCacheRelationKey.of(ident, type))
+          .ifPresent(entity -> entities.add(convertEntity(entity)));
+    }
+    return entities;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, T extends Exception> List<E> listChildren(
+      Namespace namespace,
+      Entity.EntityType type,
+      boolean allFields,
+      EntityCache.ThrowingSupplier<List<E>, T> loader)
+      throws T {
+    Preconditions.checkArgument(namespace != null, "Namespace cannot be null");
+    Preconditions.checkArgument(type != null, "EntityType cannot be null");
+    Preconditions.checkArgument(loader != null, "Loader cannot be null");
+    if (!listingEnabled) {
+      return loader.get();
+    }
 
-    return Optional.ofNullable(entitiesFromCache)
-        .filter(l -> !l.isEmpty())
-        .map(entities -> convertEntity(entities.get(0)));
+    String childrenKey = childrenKey(namespace, type);
+    NamespaceChildren cachedChildren = childrenIndex.getValueForExactKey(childrenKey);
+    if (cachedChildren != null && cachedChildren.isServable(listingExpireTimeMs, allFields)) {
+      List<Entity> children = cachedChildren.children();
+      List<E> entities = new ArrayList<>(children.size());
+      for (Entity child : children) {
+        entities.add(convertEntity(EntityCompactor.rehydrate(child)));
+      }
+      return entities;
+    }
+
+    // Register the listing before loading it, so a child put or invalidated during the loading
+    // drops the listing instead of leaving a stale one in the index.
+    NamespaceChildren loadingChildren = new NamespaceChildren();
+    childrenIndex.put(childrenKey, loadingChildren);
+    List<E> entities = loader.get();
+    List<Entity> children = new ArrayList<>(entities.size());
+    for (E entity : entities) {
+      children.add(compactor == null ? entity : compactor.compact(entity));
+    }
+    loadingChildren.complete(
+        children,
+        entities.stream().map(HasIdentifier::nameIdentifier).collect(Collectors.toList()),
+        allFields);
+    return entities;
   }
 
   /** {@inheritDoc} */
@@ -195,6 +277,19 @@ public class CaffeineEntityCache extends BaseEntityCache {
         });
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void invalidateListings(NameIdentifier ident, Entity.EntityType type) {
+    checkArguments(ident, type);
+    if (!listingEnabled) {
+      return;
+    }
+
+    invalidateChildren(childrenKey(ident.namespace(), type));
+    Lists.newArrayList(childrenIndex.getKeysStartingWith(ident.toString()))
+        .forEach(this::invalidateChildren);
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean invalidateRelationEntry(
@@ -278,7 +373,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
   @Override
   public boolean contains(NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
-    return cacheData.getIfPresent(EntityCacheRelationKey.of(ident, type)) != null;
+    EntityCacheRelationKey key = EntityCacheRelationKey.of(ident, type);
+    return cacheData.getIfPresent(key) != null
+        || (secondLevelCache != null && secondLevelCache.contains(key));
   }
 
   /** {@inheritDoc} */
@@ -293,6 +390,11 @@ public class CaffeineEntityCache extends BaseEntityCache {
     segmentedLock.withGlobalLock(
         () -> {
           cacheData.invalidateAll();
+          if (secondLevelCache != null) {
+            secondLevelCache.clear();
+          }
+          Lists.newArrayList(childrenIndex.getKeysStartingWith(""))
+              .forEach(this::invalidateChildren);
         });
   }
 
@@ -326,7 +428,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
         entityCacheKey,
         () -> {
           invalidateOnKeyChange(entity);
-          syncEntitiesToCache(entityCacheKey, Lists.newArrayList(entity));
+          invalidateChildrenOnPut(identifier, entity.type());
+          Entity entityToCache = compactor == null ? entity : compactor.compact(entity);
+          syncEntitiesToCache(entityCacheKey, Lists.newArrayList(entityToCache));
         });
   }
 
@@ -388,6 +492,102 @@ public class CaffeineEntityCache extends BaseEntityCache {
         });
   }
 
+  /**
+   * Demotes the entity evicted from the cache to the second level cache. The entity stays in the
+   * cache index, so it's still reached by the invalidations, but it's dropped from the reverse
+   * index as it's no longer in the cache data. The types demoted are not referenced by the reverse
+   * index rules.
+   *
+   * @param key The key of the evicted entity
+   * @param entities The evicted entities
+   */
+  private void demoteEvictedItem(EntityCacheKey key, List<Entity> entities) {
+    segmentedLock.withLock(
+        key,
+        () -> {
+          boolean demoted = false;
+          // Skip the entity if it has been put again or invalidated since it's evicted.
+          if (key instanceof EntityCacheRelationKey relationKey
+              && entities != null
+              && entities.size() == 1
+              && cacheData.policy().getIfPresentQuietly(relationKey) == null
+              && cacheIndex.getValueForExactKey(key.toString()) != null) {
+            demoted = secondLevelCache.put(relationKey, EntityCompactor.rehydrate(entities.get(0)));
+          }
+
+          if (!demoted) {
+            invalidateExpiredItem(key);
+            return;
+          }
+
+          reverseIndex.remove(key);
+          // An invalidation doesn't hold the lock of the keys it cascades to, recheck the index
+          // after the put so a concurrent invalidation can't leave the demoted entity behind.
+          if (cacheIndex.getValueForExactKey(key.toString()) == null) {
+            secondLevelCache.invalidate(key);
+          }
+        });
+  }
+
+  /**
+   * Drops the cache index entry of an entity dropped by the second level cache to make room, unless
+   * the entity has been cached again.
+   *
+   * @param key The key of the dropped entity
+   */
+  private void onSecondLevelRemoval(EntityCacheRelationKey key) {
+    if (cacheData.policy().getIfPresentQuietly(key) != null || secondLevelCache.contains(key)) {
+      return;
+    }
+
+    cacheIndex.remove(key.toString());
+    // A concurrent put may have indexed the entity between the check and the removal.
+    if (cacheData.policy().getIfPresentQuietly(key) != null) {
+      cacheIndex.put(key.toString(), key);
+    }
+  }
+
+  /**
+   * Returns the entity cached for the key. On a miss, the entity is looked up in the second level
+   * cache and promoted back to the cache if found.
+   *
+   * @param key The key of the entity
+   * @return The entity, or empty if it's not cached
+   */
+  private Optional<Entity> getEntityIfPresent(EntityCacheRelationKey key) {
+    List<Entity> entitiesFromCache = cacheData.getIfPresent(key);
+    if (entitiesFromCache != null) {
+      return entitiesFromCache.isEmpty()
+          ? Optional.empty()
+          : Optional.of(EntityCompactor.rehydrate(entitiesFromCache.get(0)));
+    }
+
+    if (secondLevelCache == null || !secondLevelCache.contains(key)) {
+      return Optional.empty();
+    }
+
+    return segmentedLock.withLock(
+        key,
+        () -> {
+          // Look up both tiers again under the lock, the entity may have been promoted or
+          // invalidated in between.
+          List<Entity> promoted = cacheData.getIfPresent(key);
+          if (promoted != null) {
+            return promoted.isEmpty()
+                ? Optional.<Entity>empty()
+                : Optional.of(EntityCompactor.rehydrate(promoted.get(0)));
+          }
+
+          Optional<Entity> demoted = secondLevelCache.getIfPresent(key);
+          demoted.ifPresent(
+              entity ->
+                  syncEntitiesToCache(
+                      key,
+                      Lists.newArrayList(compactor == null ? entity : compactor.compact(entity))));
+          return demoted;
+        });
+  }
+
   /**
    * Syncs the entities to the cache, if entities are too big and cannot put to the cache, then it
    * will be removed from the cache, and cacheIndex will not be updated.
@@ -405,6 +605,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
     }
 
     cacheData.put(key, newEntities);
+    if (secondLevelCache != null && key.relationType() == null) {
+      secondLevelCache.invalidate(key);
+    }
 
     for (Entity entity : newEntities) {
       reverseIndex.indexEntity(entity, key);
@@ -485,6 +688,10 @@ public class CaffeineEntityCache extends BaseEntityCache {
 
       cacheData.invalidate(currentKeyToRemove);
       cacheIndex.remove(currentKeyToRemove.toString());
+      if (secondLevelCache != null) {
+        secondLevelCache.invalidate(currentKeyToRemove);
+      }
+      invalidateChildrenIndex(currentKeyToRemove);
 
       // Remove related entity keys
       List<EntityCacheKey> relatedEntityKeysToRemove =
@@ -520,6 +727,57 @@ public class CaffeineEntityCache extends BaseEntityCache {
     return true;
   }
 
+  /**
+   * Drops the children listings affected by the invalidation of the given key, that is the listing
+   * of its parent namespace and the listings under it.
+   *
+   * @param key The key being invalidated
+   */
+  private void invalidateChildrenIndex(EntityCacheKey key) {
+    if (!listingEnabled || !(key instanceof EntityCacheRelationKey)) {
+      return;
+    }
+
+    EntityCacheRelationKey relationKey = (EntityCacheRelationKey) key;
+    if (relationKey.relationType() != null) {
+      return;
+    }
+
+    invalidateListings(relationKey.identifier(), relationKey.entityType());
+  }
+
+  /**
+   * Drops the children listing of the parent namespace of the entity being put, unless the entity
+   * is already one of the listed children. Otherwise, the entity is a new child created after the
+   * listing was loaded.
+   *
+   * @param identifier The identifier of the entity being put
+   * @param type The type of the entity being put
+   */
+  private void invalidateChildrenOnPut(NameIdentifier identifier, Entity.EntityType type) {
+    if (!listingEnabled) {
+      return;
+    }
+
+    String childrenKey = childrenKey(identifier.namespace(), type);
+    NamespaceChildren cachedChildren = childrenIndex.getValueForExactKey(childrenKey);
+    if (cachedChildren != null && !cachedChildren.contains(identifier)) {
+      invalidateChildren(childrenKey);
+    }
+  }
+
+  private void invalidateChildren(CharSequence childrenKey) {
+    NamespaceChildren children = childrenIndex.getValueForExactKey(childrenKey);
+    if (children != null) {
+      children.invalidate();
+      childrenIndex.remove(childrenKey);
+    }
+  }
+
+  private static String childrenKey(Namespace namespace, Entity.EntityType type) {
+    return namespace.toString() + ":" + type.toString();
+  }
+
   /** Starts the cache stats monitor. */
   private void startCacheStatsMonitor() {
     scheduler.scheduleAtFixedRate(
@@ -562,4 +820,49 @@ public class CaffeineEntityCache extends BaseEntityCache {
     Preconditions.checkArgument(ident != null, "NameIdentifier cannot be null");
     Preconditions.checkArgument(type != null, "EntityType cannot be null");
   }
+
+  /**
+   * The children listing of a namespace, holding the loaded children so a listing can be served
+   * without loading them again. It's registered in the index before the listing is loaded, and
+   * only becomes servable once the loading completes without the listing being invalidated in
+   * between.
+   */
+  private static final class NamespaceChildren {
+    private final long createTimeMs = System.currentTimeMillis();
+    // Written once by complete(), before the loaded flag is set.
+    private List<Entity> children;
+    private ImmutableSet<NameIdentifier> childIdents;
+    private boolean allFields;
+    private volatile boolean loaded = false;
+    private volatile boolean invalidated = false;
+
+    private void complete(
+        List<Entity> loadedChildren,
+        List<NameIdentifier> loadedChildIdents,
+        boolean loadedWithAllFields) {
+      this.children = ImmutableList.copyOf(loadedChildren);
+      this.childIdents = ImmutableSet.copyOf(loadedChildIdents);
+      this.allFields = loadedWithAllFields;
+      this.loaded = true;
+    }
+
+    private void invalidate() {
+      this.invalidated = true;
+    }
+
+    private boolean isServable(long expireTimeMs, boolean requireAllFields) {
+      return !invalidated
+          && loaded
+          && (allFields || !requireAllFields)
+          && (expireTimeMs <= 0 || System.currentTimeMillis() - createTimeMs < expireTimeMs);
+    }
+
+    private boolean contains(NameIdentifier identifier) {
+      return loaded && childIdents.contains(identifier);
+    }
+
+    private List<Entity> children() {
+      return children;
+    }
+  }
 }
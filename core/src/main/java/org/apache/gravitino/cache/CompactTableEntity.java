@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Field;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.Expression;
+import org.apache.gravitino.rel.expressions.distributions.Distribution;
+import org.apache.gravitino.rel.expressions.sorts.SortOrder;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.indexes.Index;
+import org.apache.gravitino.rel.types.Type;
+
+/**
+ * The compact representation of a {@link TableEntity} held by the entity cache. The namespace and
+ * the repeated names are interned by the {@link EntityCompactor}, and the columns are stored in a
+ * flat layout of one array per column field instead of one {@link ColumnEntity} per column. The
+ * {@link TableEntity} is rehydrated on read.
+ */
+final class CompactTableEntity implements Entity {
+
+  private static final byte NULLABLE = 1;
+  private static final byte AUTO_INCREMENT = 1 << 1;
+
+  private final Long id;
+  private final String name;
+  private final Namespace namespace;
+  private final AuditInfo auditInfo;
+  private final Map<String, String> properties;
+  private final Transform[] partitioning;
+  private final SortOrder[] sortOrders;
+  private final Distribution distribution;
+  private final Index[] indexes;
+  private final String comment;
+
+  private final long[] columnIds;
+  private final int[] columnPositions;
+  private final String[] columnNames;
+  private final Type[] columnTypes;
+  private final byte[] columnFlags;
+  // The arrays below are null if all the columns have the default value of the field.
+  private final String[] columnComments;
+  private final Expression[] columnDefaultValues;
+  // Null if all the columns have the same audit info as the table.
+  private final AuditInfo[] columnAuditInfos;
+
+  private CompactTableEntity(TableEntity table, EntityCompactor compactor) {
+    this.id = table.id();
+    this.name = table.name();
+    this.namespace = compactor.intern(table.namespace());
+    this.auditInfo = compactor.intern(table.auditInfo());
+    this.properties = compactor.internKeys(table.properties());
+    this.partitioning = table.partitioning();
+    this.sortOrders = table.sortOrders();
+    this.distribution = table.distribution();
+    this.indexes = table.indexes();
+    this.comment = table.comment();
+
+    List<ColumnEntity> columns = table.columns();
+    int columnCount = columns.size();
+    this.columnIds = new long[columnCount];
+    this.columnPositions = new int[columnCount];
+    this.columnNames = new String[columnCount];
+    this.columnTypes = new Type[columnCount];
+    this.columnFlags = new byte[columnCount];
+    String[] comments = null;
+    Expression[] defaultValues = null;
+    AuditInfo[] auditInfos = null;
+    for (int i = 0; i < columnCount; i++) {
+      ColumnEntity column = columns.get(i);
+      columnIds[i] = column.id();
+      columnPositions[i] = column.position();
+      columnNames[i] = compactor.intern(column.name());
+      columnTypes[i] = compactor.intern(column.dataType());
+      columnFlags[i] =
+          (byte)
+              ((column.nullable() ? NULLABLE : 0) | (column.autoIncrement() ? AUTO_INCREMENT : 0));
+
+      if (column.comment() != null) {
+        comments = comments == null ? new String[columnCount] : comments;
+        comments[i] = column.comment();
+      }
+      if (!Column.DEFAULT_VALUE_NOT_SET.equals(column.defaultValue())) {
+        defaultValues = defaultValues == null ? new Expression[columnCount] : defaultValues;
+        defaultValues[i] = column.defaultValue();
+      }
+      AuditInfo columnAuditInfo = (AuditInfo) column.auditInfo();
+      if (!Objects.equals(columnAuditInfo, table.auditInfo())) {
+        auditInfos = auditInfos == null ? new AuditInfo[columnCount] : auditInfos;
+        auditInfos[i] = compactor.intern(columnAuditInfo);
+      }
+    }
+    this.columnComments = comments;
+    this.columnDefaultValues = defaultValues;
+    this.columnAuditInfos = auditInfos;
+  }
+
+  /**
+   * Creates the compact representation of the table.
+   *
+   * @param table The table to compact
+   * @param compactor The compactor to intern the names with
+   * @return The compact representation of the table
+   */
+  static CompactTableEntity of(TableEntity table, EntityCompactor compactor) {
+    return new CompactTableEntity(table, compactor);
+  }
+
+  /**
+   * Rehydrates the table from the compact representation.
+   *
+   * @return The rehydrated table
+   */
+  TableEntity toTableEntity() {
+    List<ColumnEntity> columns = new ArrayList<>(columnIds.length);
+    for (int i = 0; i < columnIds.length; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(columnIds[i])
+              .withName(columnNames[i])
+              .withPosition(columnPositions[i])
+              .withDataType(columnTypes[i])
+              .withComment(columnComments == null ? null : columnComments[i])
+              .withNullable((columnFlags[i] & NULLABLE) != 0)
+              .withAutoIncrement((columnFlags[i] & AUTO_INCREMENT) != 0)
+              .withDefaultValue(columnDefaultValues == null ? null : columnDefaultValues[i])
+              .withAuditInfo(
+                  columnAuditInfos == null || columnAuditInfos[i] == null
+                      ? auditInfo
+                      : columnAuditInfos[i])
+              .build());
+    }
+
+    return TableEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(namespace)
+        .withAuditInfo(auditInfo)
+        .withColumns(columns)
+        .withProperties(properties)
+        .withPartitioning(partitioning)
+        .withSortOrders(sortOrders)
+        .withDistribution(distribution)
+        .withIndexes(indexes)
+        .withComment(comment)
+        .build();
+  }
+
+  @Override
+  public Map<Field, Object> fields() {
+    return toTableEntity().fields();
+  }
+
+  @Override
+  public EntityType type() {
+    return EntityType.TABLE;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.Map;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Type;
+
+/**
+ * Converts the entities to the compact representation held by the entity cache, and back.
+ *
+ * <p>The names repeated across the cached entities, e.g. the metalake, catalog and schema names of
+ * the namespaces, are interned into a symbol table shared by all the compacted entities. The symbol
+ * table holds its symbols weakly, so a symbol is dropped once no cached entity refers to it.
+ *
+ * <p>Only {@link TableEntity} is compacted for now, as it's the most numerous and the largest
+ * cached entity. The other entities are cached as is.
+ */
+class EntityCompactor {
+
+  private final Interner<String> strings = Interners.newWeakInterner();
+  private final Interner<Namespace> namespaces = Interners.newWeakInterner();
+  private final Interner<Type> types = Interners.newWeakInterner();
+
+  /**
+   * Returns the compact representation of the entity to cache.
+   *
+   * @param entity The entity to cache
+   * @return The compact representation of the entity, or the entity itself if it can't be
+   *     compacted
+   */
+  Entity compact(Entity entity) {
+    if (entity instanceof TableEntity) {
+      return CompactTableEntity.of((TableEntity) entity, this);
+    }
+
+    return entity;
+  }
+
+  /**
+   * Rehydrates the entity read from the cache.
+   *
+   * @param entity The entity read from the cache
+   * @return The rehydrated entity
+   */
+  static Entity rehydrate(Entity entity) {
+    if (entity instanceof CompactTableEntity) {
+      return ((CompactTableEntity) entity).toTableEntity();
+    }
+
+    return entity;
+  }
+
+  String intern(String string) {
+    return string == null ? null : strings.intern(string);
+  }
+
+  Namespace intern(Namespace namespace) {
+    if (namespace == null) {
+      return null;
+    }
+
+    String[] levels = namespace.levels();
+    String[] internedLevels = new String[levels.length];
+    for (int i = 0; i < levels.length; i++) {
+      internedLevels[i] = intern(levels[i]);
+    }
+    return namespaces.intern(Namespace.of(internedLevels));
+  }
+
+  Type intern(Type type) {
+    return type == null ? null : types.intern(type);
+  }
+
+  AuditInfo intern(AuditInfo auditInfo) {
+    if (auditInfo == null) {
+      return null;
+    }
+
+    return AuditInfo.builder()
+        .withCreator(intern(auditInfo.creator()))
+        .withCreateTime(auditInfo.createTime())
+        .withLastModifier(intern(auditInfo.lastModifier()))
+        .withLastModifiedTime(auditInfo.lastModifiedTime())
+        .build();
+  }
+
+  Map<String, String> internKeys(Map<String, String> properties) {
+    if (properties == null || properties.isEmpty()) {
+      return properties;
+    }
+
+    ImmutableMap.Builder<String, String> builder =
+        ImmutableMap.builderWithExpectedSize(properties.size());
+    for (Map.Entry<String, String> entry : properties.entrySet()) {
+      if (entry.getKey() == null || entry.getValue() == null) {
+        // ImmutableMap doesn't accept null keys or values, keep the properties as is.
+        return properties;
+      }
+      builder.put(intern(entry.getKey()), entry.getValue());
+    }
+    return builder.build();
+  }
+}
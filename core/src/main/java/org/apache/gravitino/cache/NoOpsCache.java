@@ -19,12 +19,14 @@
 
 package org.apache.gravitino.cache;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 
 /** A cache implementation that does not cache anything. */
@@ -85,6 +87,28 @@ public class NoOpsCache extends BaseEntityCache {
     return Optional.empty();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> getAllPresent(
+      List<NameIdentifier> idents, Entity.EntityType type) {
+    return Collections.emptyList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Entity & HasIdentifier, T extends Exception> List<E> listChildren(
+      Namespace namespace,
+      Entity.EntityType type,
+      boolean allFields,
+      ThrowingSupplier<List<E>, T> loader)
+      throws T {
+    return loader.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void invalidateListings(NameIdentifier ident, Entity.EntityType type) {}
+
   /** {@inheritDoc} */
   @Override
   public boolean invalidate(NameIdentifier ident, Entity.EntityType type) {
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SecondLevelEntityCache} holding the serialized entities in direct memory, out of the
+ * reach of the garbage collector.
+ *
+ * <p>The memory is split into fixed size segments, allocated on demand. Entries are appended to
+ * the current segment, and once all the segments are allocated and full, the oldest segment is
+ * recycled and the entries in it are dropped. Replaced and invalidated entries only release their
+ * space when their segment is recycled. Only the index from the keys to the positions of the
+ * entries stays on the heap.
+ */
+public class OffHeapEntityCache implements SecondLevelEntityCache {
+  private static final Logger LOG = LoggerFactory.getLogger(OffHeapEntityCache.class);
+
+  @VisibleForTesting static final int MAX_SEGMENT_BYTES = 64 * 1024 * 1024;
+
+  private final ByteBuffer[] segments;
+  private final int segmentBytes;
+  private final long expireTimeMs;
+  private final Consumer<EntityCacheRelationKey> removalListener;
+
+  /** The keys of the entries written to each segment, to drop them when it's recycled. */
+  private final List<List<EntityCacheRelationKey>> segmentKeys;
+
+  private final Map<EntityCacheRelationKey, Slot> index = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private int currentSegment = 0;
+  private int writeOffset = 0;
+
+  /**
+   * Constructs a new {@link OffHeapEntityCache}.
+   *
+   * @param cacheConfig the cache configuration
+   * @param removalListener the listener notified of the entries dropped to make room
+   */
+  public OffHeapEntityCache(Config cacheConfig, Consumer<EntityCacheRelationKey> removalListener) {
+    this(
+        cacheConfig.get(Configs.CACHE_OFF_HEAP_MAX_BYTES),
+        MAX_SEGMENT_BYTES,
+        expireTime(cacheConfig),
+        removalListener);
+  }
+
+  @VisibleForTesting
+  OffHeapEntityCache(
+      long maxBytes,
+      int maxSegmentBytes,
+      long expireTimeMs,
+      Consumer<EntityCacheRelationKey> removalListener) {
+    Preconditions.checkArgument(maxBytes > 0, "Max bytes must be positive");
+    Preconditions.checkArgument(maxSegmentBytes > 0, "Max segment bytes must be positive");
+    this.segmentBytes = (int) Math.min(maxBytes, maxSegmentBytes);
+    int segmentCount = (int) Math.max(1, maxBytes / segmentBytes);
+    this.segments = new ByteBuffer[segmentCount];
+    this.segmentKeys = new ArrayList<>(segmentCount);
+    for (int i = 0; i < segmentCount; i++) {
+      segmentKeys.add(new ArrayList<>());
+    }
+    this.expireTimeMs = expireTimeMs;
+    this.removalListener = removalListener;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<Entity> getIfPresent(EntityCacheRelationKey key) {
+    byte[] bytes;
+    lock.readLock().lock();
+    try {
+      Slot slot = index.get(key);
+      if (slot == null || slot.isExpired(expireTimeMs)) {
+        return Optional.empty();
+      }
+
+      bytes = new byte[slot.length];
+      ByteBuffer buffer = segments[slot.segment].duplicate();
+      buffer.position(slot.offset);
+      buffer.get(bytes);
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    try {
+      return Optional.of(OffHeapEntitySerDe.deserialize(key, bytes));
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to read entity {} from the off-heap cache, dropping it", key, e);
+      invalidate(key);
+      return Optional.empty();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean contains(EntityCacheRelationKey key) {
+    lock.readLock().lock();
+    try {
+      Slot slot = index.get(key);
+      return slot != null && !slot.isExpired(expireTimeMs);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean put(EntityCacheRelationKey key, Entity entity) {
+    if (key.relationType() != null || !OffHeapEntitySerDe.supports(entity)) {
+      return false;
+    }
+
+    byte[] bytes;
+    try {
+      bytes = OffHeapEntitySerDe.serialize(entity);
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to serialize entity {} to the off-heap cache", key, e);
+      return false;
+    }
+    if (bytes.length > segmentBytes) {
+      LOG.debug("Entity {} of {} bytes is too big for the off-heap cache", key, bytes.length);
+      return false;
+    }
+
+    List<EntityCacheRelationKey> droppedKeys = null;
+    lock.writeLock().lock();
+    try {
+      if (segmentBytes - writeOffset < bytes.length) {
+        currentSegment = (currentSegment + 1) % segments.length;
+        writeOffset = 0;
+        droppedKeys = recycleSegment(currentSegment);
+      }
+      if (segments[currentSegment] == null) {
+        segments[currentSegment] = ByteBuffer.allocateDirect(segmentBytes);
+      }
+
+      ByteBuffer buffer = segments[currentSegment].duplicate();
+      buffer.position(writeOffset);
+      buffer.put(bytes);
+      index.put(key, new Slot(currentSegment, writeOffset, bytes.length));
+      segmentKeys.get(currentSegment).add(key);
+      writeOffset += bytes.length;
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    // Notify out of the lock, the listener may call back into the cache.
+    if (droppedKeys != null) {
+      droppedKeys.forEach(removalListener);
+    }
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void invalidate(EntityCacheKey key) {
+    lock.writeLock().lock();
+    try {
+      index.remove(key);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      index.clear();
+      segmentKeys.forEach(List::clear);
+      currentSegment = 0;
+      writeOffset = 0;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long size() {
+    lock.readLock().lock();
+    try {
+      return index.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the direct memory allocated by the cache.
+   *
+   * @return The allocated bytes
+   */
+  public long allocatedBytes() {
+    lock.readLock().lock();
+    try {
+      long allocated = 0;
+      for (ByteBuffer segment : segments) {
+        allocated += segment == null ? 0 : segment.capacity();
+      }
+      return allocated;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private List<EntityCacheRelationKey> recycleSegment(int segment) {
+    List<EntityCacheRelationKey> keys = segmentKeys.get(segment);
+    List<EntityCacheRelationKey> droppedKeys = new ArrayList<>();
+    for (EntityCacheRelationKey key : keys) {
+      // The key may have been written again to a newer segment since.
+      Slot slot = index.get(key);
+      if (slot != null && slot.segment == segment) {
+        index.remove(key);
+        droppedKeys.add(key);
+      }
+    }
+    keys.clear();
+    LOG.debug(
+        "Recycled off-heap cache segment {}, dropped {} entries", segment, droppedKeys.size());
+    return droppedKeys;
+  }
+
+  private static long expireTime(Config cacheConfig) {
+    Long expireTimeMs = cacheConfig.get(Configs.CACHE_EXPIRATION_TIME);
+    return expireTimeMs == null ? 0 : expireTimeMs;
+  }
+
+  /** The position of an entry in the segments. */
+  private static final class Slot {
+    private final int segment;
+    private final int offset;
+    private final int length;
+    private final long createTimeMs = System.currentTimeMillis();
+
+    private Slot(int segment, int offset, int length) {
+      this.segment = segment;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    private boolean isExpired(long expireTimeMs) {
+      return expireTimeMs > 0 && System.currentTimeMillis() - createTimeMs >= expireTimeMs;
+    }
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.Sets;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.po.CatalogPO;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.SchemaPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.utils.POConverters;
+
+/**
+ * Serializes the entities held by the {@link OffHeapEntityCache}. An entity is converted to the
+ * persistent objects of the relational backend with {@link POConverters}, whose fields are then
+ * written as a flat binary record. So an entity read back from the off-heap cache is the same as
+ * the one loaded from the backend. The namespace is taken from the cache key, and the ids of the
+ * parent objects, which are not part of the entities, are written as placeholders.
+ */
+final class OffHeapEntitySerDe {
+
+  private static final Set<Entity.EntityType> SUPPORTED_TYPES =
+      Sets.immutableEnumSet(
+          Entity.EntityType.CATALOG, Entity.EntityType.SCHEMA, Entity.EntityType.TABLE);
+
+  private static final long PLACEHOLDER_ID = 0L;
+
+  private OffHeapEntitySerDe() {}
+
+  /**
+   * Checks if the entity can be serialized.
+   *
+   * @param entity The entity to check
+   * @return True if the entity type is supported
+   */
+  static boolean supports(Entity entity) {
+    return SUPPORTED_TYPES.contains(entity.type());
+  }
+
+  /**
+   * Serializes the entity.
+   *
+   * @param entity The entity to serialize, must be supported
+   * @return The serialized bytes
+   * @throws IOException If the entity fails to be serialized
+   */
+  static byte[] serialize(Entity entity) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      switch (entity.type()) {
+        case CATALOG:
+          writeCatalog(out, (CatalogEntity) entity);
+          break;
+        case SCHEMA:
+          writeSchema(out, (SchemaEntity) entity);
+          break;
+        case TABLE:
+          writeTable(out, (TableEntity) entity);
+          break;
+        default:
+          throw new IllegalArgumentException("Unsupported entity type: " + entity.type());
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Deserializes the entity stored for the given key.
+   *
+   * @param key The key of the entity
+   * @param bytes The serialized bytes
+   * @return The entity
+   * @throws IOException If the entity fails to be deserialized
+   */
+  static Entity deserialize(EntityCacheRelationKey key, byte[] bytes) throws IOException {
+    Namespace namespace = key.identifier().namespace();
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      switch (key.entityType()) {
+        case CATALOG:
+          return POConverters.fromCatalogPO(readCatalog(in), namespace);
+        case SCHEMA:
+          return POConverters.fromSchemaPO(readSchema(in), namespace);
+        case TABLE:
+          return readTable(in, namespace);
+        default:
+          throw new IllegalArgumentException("Unsupported entity type: " + key.entityType());
+      }
+    }
+  }
+
+  private static void writeCatalog(DataOutputStream out, CatalogEntity catalog)
+      throws IOException {
+    CatalogPO catalogPO = POConverters.initializeCatalogPOWithVersion(catalog, PLACEHOLDER_ID);
+    out.writeLong(catalogPO.getCatalogId());
+    writeString(out, catalogPO.getCatalogName());
+    writeString(out, catalogPO.getType());
+    writeString(out, catalogPO.getProvider());
+    writeString(out, catalogPO.getCatalogComment());
+    writeString(out, catalogPO.getProperties());
+    writeString(out, catalogPO.getAuditInfo());
+  }
+
+  private static CatalogPO readCatalog(DataInputStream in) throws IOException {
+    return CatalogPO.builder()
+        .withCatalogId(in.readLong())
+        .withCatalogName(readString(in))
+        .withMetalakeId(PLACEHOLDER_ID)
+        .withType(readString(in))
+        .withProvider(readString(in))
+        .withCatalogComment(readString(in))
+        .withProperties(readString(in))
+        .withAuditInfo(readString(in))
+        .withCurrentVersion(POConverters.INIT_VERSION)
+        .withLastVersion(POConverters.INIT_VERSION)
+        .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
+        .build();
+  }
+
+  private static void writeSchema(DataOutputStream out, SchemaEntity schema) throws IOException {
+    SchemaPO schemaPO =
+        POConverters.initializeSchemaPOWithVersion(
+            schema,
+            SchemaPO.builder().withMetalakeId(PLACEHOLDER_ID).withCatalogId(PLACEHOLDER_ID));
+    out.writeLong(schemaPO.getSchemaId());
+    writeString(out, schemaPO.getSchemaName());
+    writeString(out, schemaPO.getSchemaComment());
+    writeString(out, schemaPO.getProperties());
+    writeString(out, schemaPO.getAuditInfo());
+  }
+
+  private static SchemaPO readSchema(DataInputStream in) throws IOException {
+    return SchemaPO.builder()
+        .withSchemaId(in.readLong())
+        .withSchemaName(readString(in))
+        .withMetalakeId(PLACEHOLDER_ID)
+        .withCatalogId(PLACEHOLDER_ID)
+        .withSchemaComment(readString(in))
+        .withProperties(readString(in))
+        .withAuditInfo(readString(in))
+        .withCurrentVersion(POConverters.INIT_VERSION)
+        .withLastVersion(POConverters.INIT_VERSION)
+        .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
+        .build();
+  }
+
+  private static void writeTable(DataOutputStream out, TableEntity table) throws IOException {
+    TablePO tablePO =
+        POConverters.initializeTablePOWithVersion(
+            table,
+            TablePO.builder()
+                .withMetalakeId(PLACEHOLDER_ID)
+                .withCatalogId(PLACEHOLDER_ID)
+                .withSchemaId(PLACEHOLDER_ID));
+    out.writeLong(tablePO.getTableId());
+    writeString(out, tablePO.getTableName());
+    writeString(out, tablePO.getAuditInfo());
+    writeString(out, tablePO.getFormat());
+    writeString(out, tablePO.getProperties());
+    writeString(out, tablePO.getPartitions());
+    writeString(out, tablePO.getSortOrders());
+    writeString(out, tablePO.getDistribution());
+    writeString(out, tablePO.getIndexes());
+    writeString(out, tablePO.getComment());
+
+    List<ColumnPO> columnPOs =
+        table.columns() == null
+            ? Collections.emptyList()
+            : POConverters.initializeColumnPOs(
+                tablePO, table.columns(), ColumnPO.ColumnOpType.CREATE);
+    out.writeInt(columnPOs.size());
+    for (ColumnPO columnPO : columnPOs) {
+      out.writeLong(columnPO.getColumnId());
+      writeString(out, columnPO.getColumnName());
+      out.writeInt(columnPO.getColumnPosition());
+      writeString(out, columnPO.getColumnType());
+      writeString(out, columnPO.getColumnComment());
+      out.writeByte(columnPO.getNullable());
+      out.writeByte(columnPO.getAutoIncrement());
+      writeString(out, columnPO.getDefaultValue());
+      writeString(out, columnPO.getAuditInfo());
+    }
+  }
+
+  private static TableEntity readTable(DataInputStream in, Namespace namespace)
+      throws IOException {
+    TablePO tablePO =
+        TablePO.builder()
+            .withTableId(in.readLong())
+            .withTableName(readString(in))
+            .withMetalakeId(PLACEHOLDER_ID)
+            .withCatalogId(PLACEHOLDER_ID)
+            .withSchemaId(PLACEHOLDER_ID)
+            .withAuditInfo(readString(in))
+            .withFormat(readString(in))
+            .withProperties(readString(in))
+            .withPartitions(readString(in))
+            .withSortOrders(readString(in))
+            .withDistribution(readString(in))
+            .withIndexes(readString(in))
+            .withComment(readString(in))
+            .withCurrentVersion(POConverters.INIT_VERSION)
+            .withLastVersion(POConverters.INIT_VERSION)
+            .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
+            .build();
+
+    int columnCount = in.readInt();
+    List<ColumnPO> columnPOs = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columnPOs.add(
+          ColumnPO.builder()
+              .withColumnId(in.readLong())
+              .withColumnName(readString(in))
+              .withColumnPosition(in.readInt())
+              .withColumnType(readString(in))
+              .withColumnComment(readString(in))
+              .withNullable(in.readByte())
+              .withAutoIncrement(in.readByte())
+              .withDefaultValue(readString(in))
+              .withAuditInfo(readString(in))
+              .withMetalakeId(PLACEHOLDER_ID)
+              .withCatalogId(PLACEHOLDER_ID)
+              .withSchemaId(PLACEHOLDER_ID)
+              .withTableId(tablePO.getTableId())
+              .withTableVersion(POConverters.INIT_VERSION)
+              .withColumnOpType(ColumnPO.ColumnOpType.CREATE.value())
+              .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
+              .build());
+    }
+
+    return POConverters.fromTableAndColumnPOs(tablePO, columnPOs, namespace);
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import java.util.Optional;
+import org.apache.gravitino.Entity;
+
+/**
+ * A second level tier behind an {@link EntityCache}. Entries evicted from the first level are
+ * demoted to it, and first level misses are checked against it before going to the entity store.
+ * It only holds single entities, relation entries are never demoted.
+ *
+ * <p>The tier doesn't track the relations between the entries, the owning {@link EntityCache} is
+ * responsible for invalidating the demoted entries along with the first level ones.
+ */
+public interface SecondLevelEntityCache {
+
+  /**
+   * Returns the entity stored for the given key, if any.
+   *
+   * @param key The key of the entity
+   * @return The entity, or empty if it's not stored or can't be read back
+   */
+  Optional<Entity> getIfPresent(EntityCacheRelationKey key);
+
+  /**
+   * Checks if an entity is stored for the given key.
+   *
+   * @param key The key of the entity
+   * @return True if an entity is stored for the key
+   */
+  boolean contains(EntityCacheRelationKey key);
+
+  /**
+   * Stores the entity for the given key, replacing the previous one.
+   *
+   * @param key The key of the entity
+   * @param entity The entity to store
+   * @return True if the entity is stored, false if the tier doesn't support it
+   */
+  boolean put(EntityCacheRelationKey key, Entity entity);
+
+  /**
+   * Removes the entity stored for the given key.
+   *
+   * @param key The key of the entity
+   */
+  void invalidate(EntityCacheKey key);
+
+  /** Removes all the stored entities. */
+  void clear();
+
+  /**
+   * Returns the number of the stored entities.
+   *
+   * @return The number of the stored entities
+   */
+  long size();
+}
@@ -19,10 +19,12 @@
 
 package org.apache.gravitino.cache;
 
+import java.util.List;
 import java.util.Optional;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 
 /**
  * {@code StoreEntityCache} defines caching operations for direct entity access. It supports
@@ -41,6 +43,51 @@ public interface SupportsEntityStoreCache {
   <E extends Entity & HasIdentifier> Optional<E> getIfPresent(
       NameIdentifier ident, Entity.EntityType type);
 
+  /**
+   * Retrieves the cached entities of the given identifiers. Will not attempt to load the missing
+   * ones from the store.
+   *
+   * @param idents the name identifiers
+   * @param type the entity type
+   * @param <E> the entity class
+   * @return the cached entities, in the order of the given identifiers, missing ones are skipped
+   */
+  <E extends Entity & HasIdentifier> List<E> getAllPresent(
+      List<NameIdentifier> idents, Entity.EntityType type);
+
+  /**
+   * Lists the children entities of the given type under the namespace. If the complete children
+   * listing of the namespace is cached, it's served from the cache, otherwise the children are
+   * loaded by the loader and the listing is cached together with the loaded entities.
+   *
+   * <p>A listing loaded without all the fields only serves the requests that don't ask for them.
+   *
+   * @param namespace the namespace to list
+   * @param type the entity type of the children
+   * @param allFields whether the children must carry all their fields
+   * @param loader the loader to list the children from the store
+   * @param <E> the entity class
+   * @param <T> the type of exception that may be thrown by the loader
+   * @return the children entities
+   * @throws T if the loader throws an exception of type T
+   */
+  <E extends Entity & HasIdentifier, T extends Exception> List<E> listChildren(
+      Namespace namespace,
+      Entity.EntityType type,
+      boolean allFields,
+      EntityCache.ThrowingSupplier<List<E>, T> loader)
+      throws T;
+
+  /**
+   * Drops the cached children listings affected by a change of the given entity made by another
+   * server, that is the listing of its namespace and the listings under the entity. The cached
+   * entities themselves are kept.
+   *
+   * @param ident the name identifier of the changed entity
+   * @param type the type of the changed entity
+   */
+  void invalidateListings(NameIdentifier ident, Entity.EntityType type);
+
   /**
    * Invalidates the cache entry for the given entity.
    *
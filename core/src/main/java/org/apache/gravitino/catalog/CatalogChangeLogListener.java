@@ -25,6 +25,7 @@ import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.storage.relational.EntityChangeLogListener;
 import org.apache.gravitino.storage.relational.po.cache.EntityChangeRecord;
+import org.apache.gravitino.storage.relational.po.cache.OperateType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,7 +82,8 @@ public class CatalogChangeLogListener implements EntityChangeLogListener {
   }
 
   private boolean isCatalogChange(EntityChangeRecord change) {
-    if (change.getEntityType() == null) {
+    // A created catalog can't be cached yet, and its record must not consume a local mutation.
+    if (change.getEntityType() == null || change.getOperateType() == OperateType.INSERT) {
       return false;
     }
     return EntityType.CATALOG.name().equals(change.getEntityType().toUpperCase(Locale.ROOT));
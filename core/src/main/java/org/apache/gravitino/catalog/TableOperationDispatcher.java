@@ -117,9 +117,8 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
-    return TreeLockUtils.doWithTreeLock(
+    return TreeLockUtils.doWithOptimisticReadTreeLock(
         NameIdentifier.of(namespace.levels()),
-        LockType.READ,
         () ->
             doWithCatalog(
                 getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
@@ -137,7 +136,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     EntityCombinedTable entityCombinedTable =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
+        TreeLockUtils.doWithOptimisticReadTreeLock(ident, () -> internalLoadTable(ident));
 
     if (!entityCombinedTable.imported()) {
       // Load the schema to make sure the schema is imported.
@@ -25,6 +25,7 @@ import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -203,9 +204,16 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
       String actualFileLocation = dispatcher.getFileLocation(ident, subPath, locationName);
       // get the audit info from the thread local context
       ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+      Long accessTime = null;
       CallerContext callerContext = CallerContext.CallerContextHolder.get();
       if (callerContext != null && callerContext.context() != null) {
-        builder.putAll(callerContext.context());
+        for (Map.Entry<String, String> entry : callerContext.context().entrySet()) {
+          if (FilesetAuditConstants.ACCESS_TIME.equals(entry.getKey())) {
+            accessTime = parseAccessTime(entry.getValue());
+          } else {
+            builder.put(entry);
+          }
+        }
       }
       eventBus.dispatchEvent(
           new GetFileLocationEvent(
@@ -214,7 +222,8 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
               actualFileLocation,
               subPath,
               locationName,
-              builder.build()));
+              builder.build(),
+              accessTime));
       return actualFileLocation;
     } catch (Exception e) {
       eventBus.dispatchEvent(
@@ -223,4 +232,14 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
       throw e;
     }
   }
+
+  // A reported access happened before it reaches the server, record it at its access time. The
+  // time comes from the client, it is never moved into the future.
+  private static Long parseAccessTime(String accessTime) {
+    try {
+      return Math.min(Long.parseLong(accessTime), System.currentTimeMillis());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
 }
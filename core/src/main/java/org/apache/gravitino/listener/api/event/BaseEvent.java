@@ -45,9 +45,21 @@ public abstract class BaseEvent {
    *     types of resources such as a metalake, catalog, schema, or table, etc.
    */
   protected BaseEvent(String user, NameIdentifier identifier) {
+    this(user, identifier, System.currentTimeMillis());
+  }
+
+  /**
+   * Constructs an Event instance for an operation that happened at the given time, for example an
+   * operation a client performed on its own and reported to the server afterwards.
+   *
+   * @param user The user associated with this event.
+   * @param identifier The resource identifier associated with this event.
+   * @param eventTime The time the operation happened in milliseconds since epoch.
+   */
+  protected BaseEvent(String user, NameIdentifier identifier, long eventTime) {
     this.user = user;
     this.identifier = identifier;
-    this.eventTime = System.currentTimeMillis();
+    this.eventTime = eventTime;
   }
 
   /**
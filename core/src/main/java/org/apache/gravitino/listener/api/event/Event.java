@@ -37,7 +37,11 @@ public abstract class Event extends BaseEvent {
   private final String remoteAddress;
 
   protected Event(String user, NameIdentifier identifier) {
-    super(user, identifier);
+    this(user, identifier, System.currentTimeMillis());
+  }
+
+  protected Event(String user, NameIdentifier identifier, long eventTime) {
+    super(user, identifier, eventTime);
     String addr = RequestContext.getRemoteAddress();
     this.remoteAddress = StringUtils.isNoneBlank(addr) ? addr : "unknown";
   }
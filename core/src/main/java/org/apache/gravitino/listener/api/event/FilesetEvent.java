@@ -46,6 +46,17 @@ public abstract class FilesetEvent extends Event {
     super(user, identifier);
   }
 
+  /**
+   * Constructs a new {@code FilesetEvent} for a fileset operation that happened at the given time.
+   *
+   * @param user The user responsible for initiating the fileset operation.
+   * @param identifier The identifier of the fileset involved in the operation.
+   * @param eventTime The time the operation happened in milliseconds since epoch.
+   */
+  protected FilesetEvent(String user, NameIdentifier identifier, long eventTime) {
+    super(user, identifier, eventTime);
+  }
+
   @Override
   public OperationStatus operationStatus() {
     return OperationStatus.SUCCESS;
@@ -66,7 +66,31 @@ public final class GetFileLocationEvent extends FilesetEvent {
       String subPath,
       String locationName,
       Map<String, String> context) {
-    super(user, identifier);
+    this(user, identifier, actualFileLocation, subPath, locationName, context, null);
+  }
+
+  /**
+   * Constructs a new {@code GetFileLocationEvent}, recording a file location access which may have
+   * happened before the event is created, for example one a client resolved locally and reported
+   * afterwards.
+   *
+   * @param user The user who initiated the get file location.
+   * @param identifier The identifier of the file location that was attempted to be got.
+   * @param actualFileLocation The actual file location which want to get.
+   * @param subPath The accessing sub path of the get file location operation.
+   * @param locationName The location name of the file location.
+   * @param context The audit context, this param can be null.
+   * @param accessTime The time of the access in milliseconds since epoch, the current time if null.
+   */
+  public GetFileLocationEvent(
+      String user,
+      NameIdentifier identifier,
+      String actualFileLocation,
+      String subPath,
+      String locationName,
+      Map<String, String> context,
+      Long accessTime) {
+    super(user, identifier, accessTime == null ? System.currentTimeMillis() : accessTime);
     this.actualFileLocation = actualFileLocation;
     this.locationName = locationName;
     this.subPath = subPath;
@@ -22,18 +22,15 @@ package org.apache.gravitino.lock;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.text.SimpleDateFormat;
-import java.util.List;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
@@ -64,6 +61,10 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // Whether the read-only operations can read without holding the read locks, see
+  // tryOptimisticRead.
+  @VisibleForTesting boolean optimisticReadEnabled;
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -99,6 +100,7 @@ public class LockManager {
     }
 
     this.cleanTreeNodeIntervalInSecs = cleanIntervalInSecs;
+    this.optimisticReadEnabled = Boolean.TRUE.equals(config.get(TREE_LOCK_OPTIMISTIC_READ_ENABLED));
   }
 
   private void startDeadLockChecker() {
@@ -211,21 +213,16 @@ public class LockManager {
     // Handle from leaf nodes first.
     treeNode.getAllChildren().forEach(child -> evictStaleNodes(child, treeNode));
 
-    // Handle self node.
-    if (treeNode.getReference() == 0) {
-      synchronized (parent) {
-        // Once goes here, the parent node has been locked, so the reference of child (treeNode)
-        // could not be changed.
-        if (treeNode.getReference() == 0) {
-          parent.removeChild(treeNode.getName());
-          long leftNodeCount = totalNodeCount.decrementAndGet();
-          if (LOG.isTraceEnabled()) {
-            LOG.trace(
-                "Evict stale tree lock node '{}', current left nodes '{}'",
-                treeNode.getName(),
-                leftNodeCount);
-          }
-        }
+    // Handle self node. Once the node is evicted, its reference count could not be changed, so
+    // the TreeLocks created later will create a new node instead.
+    if (treeNode.getReference() == 0 && treeNode.tryEvict()) {
+      parent.removeChild(treeNode.getName(), treeNode);
+      long leftNodeCount = totalNodeCount.decrementAndGet();
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+            "Evict stale tree lock node '{}', current left nodes '{}'",
+            treeNode.getName(),
+            leftNodeCount);
       }
     }
   }
@@ -240,48 +237,76 @@ public class LockManager {
   public TreeLock createTreeLock(NameIdentifier identifier) {
     checkTreeNodeIsFull();
 
-    List<TreeLockNode> treeLockNodes = Lists.newArrayList();
+    // Avoid to use value equality instead of reference equality here.
+    // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
+    int depth = identifier == ROOT ? 0 : identifier.namespace().length() + 1;
+    TreeLockNode[] treeLockNodes = new TreeLockNode[depth + 1];
+    int referenced = 0;
     try {
       TreeLockNode lockNode = treeLockRootNode;
-      lockNode.addReference();
-      treeLockNodes.add(lockNode);
-
-      // Avoid to use value equality instead of reference equality here.
-      // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
-      if (identifier == ROOT) {
-        // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
-      }
-
-      String[] levels = identifier.namespace().levels();
-      levels = ArrayUtils.add(levels, identifier.name());
-
-      TreeLockNode child;
-      for (String level : levels) {
-        synchronized (lockNode) {
-          Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
-          child = pair.getKey();
-          // If the child node is newly created, we should increase the total node counts.
-          if (pair.getValue()) {
-            totalNodeCount.incrementAndGet();
-          }
-        }
-        treeLockNodes.add(child);
-        lockNode = child;
+      // The root node is never evicted, so the reference can always be added.
+      lockNode.tryAddReference();
+      treeLockNodes[referenced++] = lockNode;
+
+      for (int i = 1; i <= depth; i++) {
+        String level = i < depth ? identifier.namespace().level(i - 1) : identifier.name();
+        lockNode = lockNode.getOrCreateChild(level, totalNodeCount);
+        treeLockNodes[referenced++] = lockNode;
       }
 
       return new TreeLock(treeLockNodes, identifier);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
-      for (TreeLockNode node : treeLockNodes) {
-        node.decReference();
+      for (int i = 0; i < referenced; i++) {
+        treeLockNodes[i].decReference();
       }
 
       throw e;
     }
   }
 
+  /**
+   * Try to read the resource path with the given identifier optimistically. Unlike {@link
+   * #createTreeLock(NameIdentifier)}, it neither creates the tree lock nodes nor takes references
+   * or locks on them, it only records the version stamps of the nodes in the path.
+   *
+   * @param identifier The identifier of the resource path to read.
+   * @return The stamp to validate after the read, or null if the optimistic read is disabled, some
+   *     node in the path doesn't exist or is exclusively locked. Callers should fall back to the
+   *     read lock if null is returned.
+   */
+  @SuppressWarnings("ReferenceEquality")
+  TreeLockStamp tryOptimisticRead(NameIdentifier identifier) {
+    if (!optimisticReadEnabled) {
+      return null;
+    }
+
+    // Avoid to use value equality instead of reference equality here, see createTreeLock.
+    int depth = identifier == ROOT ? 0 : identifier.namespace().length() + 1;
+    TreeLockNode[] nodes = new TreeLockNode[depth + 1];
+    long[] stamps = new long[depth + 1];
+    TreeLockNode node = treeLockRootNode;
+    for (int i = 0; i <= depth; i++) {
+      if (i > 0) {
+        String level = i < depth ? identifier.namespace().level(i - 1) : identifier.name();
+        node = node.getChild(level);
+        if (node == null) {
+          return null;
+        }
+      }
+
+      long stamp = node.tryOptimisticRead();
+      if (stamp == TreeLockNode.INVALID_STAMP) {
+        return null;
+      }
+      nodes[i] = node;
+      stamps[i] = stamp;
+    }
+
+    return new TreeLockStamp(nodes, stamps);
+  }
+
   /**
    * Check if the total node count is greater than the maxTreeNodeInMemory, if so, we should throw
    * an exception.
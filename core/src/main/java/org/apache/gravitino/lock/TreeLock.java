@@ -19,10 +19,6 @@
 
 package org.apache.gravitino.lock;
 
-import java.util.Deque;
-import java.util.List;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,34 +72,34 @@ public class TreeLock {
   // The name identifier of the resource path.
   private final NameIdentifier identifier;
   // TreeLockNode to be locked
-  private final List<TreeLockNode> lockNodes;
+  private final TreeLockNode[] lockNodes;
 
-  // TreeLockNode that has been locked along with its lock type.
-  private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
+  // The number of TreeLockNodes that have been locked, they are the first heldLocks nodes of
+  // lockNodes. All of them are locked with the read lock except the leaf node.
+  private int heldLocks;
   private LockType lockType;
 
-  TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+  TreeLock(TreeLockNode[] lockNodes, NameIdentifier identifier) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
   }
 
   /**
    * Lock the tree lock with the given lock type. This method locks all nodes in the list, from the
-   * root to the leaf, and pushes them onto the deque. If an exception occurs during the locking
-   * process, it will unlock all nodes that have been locked so far.
+   * root to the leaf, and records the number of the locked nodes. If an exception occurs during
+   * the locking process, it will unlock all nodes that have been locked so far.
    *
    * @param lockType The lock type to lock the tree lock.
    */
   public void lock(LockType lockType) {
     this.lockType = lockType;
 
-    int length = lockNodes.size();
-    for (int i = 0; i < length; i++) {
-      TreeLockNode treeLockNode = lockNodes.get(i);
-      LockType type = i == length - 1 ? lockType : LockType.READ;
+    for (int i = 0; i < lockNodes.length; i++) {
+      TreeLockNode treeLockNode = lockNodes[i];
+      LockType type = lockTypeOf(i);
       try {
         treeLockNode.lock(type);
-        heldLocks.push(Pair.of(treeLockNode, type));
+        heldLocks++;
 
         treeLockNode.addHoldingThreadTimestamp(
             Thread.currentThread(), identifier, System.currentTimeMillis());
@@ -143,14 +139,14 @@ public class TreeLock {
     if (lockType == null) {
       throw new IllegalStateException("We must lock the tree lock before unlock it.");
     }
-    if (heldLocks.isEmpty()) {
+    if (heldLocks == 0) {
       throw new IllegalStateException("We must hold a lock before unlocking it.");
     }
 
-    while (!heldLocks.isEmpty()) {
-      Pair<TreeLockNode, LockType> pair = heldLocks.pop();
-      TreeLockNode current = pair.getLeft();
-      LockType type = pair.getRight();
+    while (heldLocks > 0) {
+      heldLocks--;
+      TreeLockNode current = lockNodes[heldLocks];
+      LockType type = lockTypeOf(heldLocks);
       current.unlock(type);
 
       Long holdStartTime = current.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
@@ -176,4 +172,8 @@ public class TreeLock {
           lockType);
     }
   }
+
+  private LockType lockTypeOf(int index) {
+    return index == lockNodes.length - 1 ? lockType : LockType.READ;
+  }
 }
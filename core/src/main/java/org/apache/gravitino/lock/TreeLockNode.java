@@ -22,13 +22,14 @@ package org.apache.gravitino.lock;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,10 @@ import org.slf4j.LoggerFactory;
  */
 public class TreeLockNode {
   public static final Logger LOG = LoggerFactory.getLogger(TreeLockNode.class);
+
+  /** The stamp returned when the optimistic read is not possible. */
+  static final long INVALID_STAMP = -1L;
+
   private final String name;
   private final ReentrantReadWriteLock readWriteLock;
   @VisibleForTesting final Map<String, TreeLockNode> childMap;
@@ -50,8 +55,30 @@ public class TreeLockNode {
 
   // The reference count of this node. The reference count is used to track the number of the
   // TreeLocks that are using this node. If the reference count is 0, it means that no TreeLock is
-  // using this node, and this node can be removed from the tree.
-  private final AtomicLong referenceCount = new AtomicLong();
+  // using this node, and this node can be removed from the tree. Once the node is evicted, the
+  // reference count will be set to EVICTED and no more references can be added.
+  //
+  // The count is updated by CAS through REFERENCE_COUNT instead of monitors. A striped counter like
+  // LongAdder is not used here, as its sum is not an atomic snapshot and can't tell whether the
+  // count is exactly 0 while concurrent TreeLocks are adding and releasing references.
+  private volatile long referenceCount;
+
+  private static final long EVICTED = Long.MIN_VALUE;
+  private static final VarHandle REFERENCE_COUNT;
+
+  static {
+    try {
+      REFERENCE_COUNT =
+          MethodHandles.lookup().findVarHandle(TreeLockNode.class, "referenceCount", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // The version stamp of this node used by the optimistic readers. The stamp is odd while a writer
+  // is holding the write lock of this node or after the node has been evicted from the tree, and
+  // even otherwise. Optimistic readers are valid only if the stamp is unchanged after reading.
+  private final AtomicLong version = new AtomicLong();
 
   /**
    * The identifier of a thread. This class is used to identify this tree lock node is held by which
@@ -122,23 +149,50 @@ public class TreeLockNode {
   }
 
   /**
-   * Increase the reference count of this node. The reference count should always be greater than or
-   * equal to 0.
+   * Increase the reference count of this node if it has not been evicted. The reference count
+   * should always be greater than or equal to 0.
+   *
+   * @return true if the reference is added, false if the node has been evicted from the tree.
    */
-  synchronized void addReference() {
-    referenceCount.getAndIncrement();
+  boolean tryAddReference() {
+    long count = (long) REFERENCE_COUNT.getVolatile(this);
+    while (count != EVICTED) {
+      long witness = (long) REFERENCE_COUNT.compareAndExchange(this, count, count + 1);
+      if (witness == count) {
+        return true;
+      }
+      count = witness;
+    }
+    return false;
   }
 
   /**
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
-    referenceCount.getAndDecrement();
+  void decReference() {
+    REFERENCE_COUNT.getAndAdd(this, -1L);
   }
 
   long getReference() {
-    return referenceCount.get();
+    return referenceCount;
+  }
+
+  /**
+   * Evict this node if no TreeLock is using it. Once evicted, the node can't be referenced by any
+   * TreeLock, and all the version stamps issued before will be invalidated.
+   *
+   * @return true if the node is evicted by this call, false otherwise.
+   */
+  boolean tryEvict() {
+    if (!REFERENCE_COUNT.compareAndSet(this, 0L, EVICTED)) {
+      return false;
+    }
+
+    // Make the version stamp odd forever to invalidate the optimistic readers that may still refer
+    // to this node.
+    version.incrementAndGet();
+    return true;
   }
 
   /**
@@ -152,6 +206,10 @@ public class TreeLockNode {
       readWriteLock.readLock().lock();
     } else {
       readWriteLock.writeLock().lock();
+      // Only the outermost acquisition of the reentrant write lock bumps the version stamp.
+      if (readWriteLock.getWriteHoldCount() == 1) {
+        version.incrementAndGet();
+      }
     }
   }
 
@@ -166,37 +224,84 @@ public class TreeLockNode {
     if (lockType == LockType.READ) {
       readWriteLock.readLock().unlock();
     } else {
+      if (readWriteLock.getWriteHoldCount() == 1) {
+        version.incrementAndGet();
+      }
       readWriteLock.writeLock().unlock();
     }
 
-    this.referenceCount.decrementAndGet();
+    decReference();
   }
 
   /**
-   * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
+   * Get a version stamp for the optimistic read of this node. The stamp should be validated by
+   * {@link #validate(long)} after the read has been done.
    *
-   * <p>Note: This method should always be guarded by object lock.
+   * @return The version stamp, or {@link #INVALID_STAMP} if the node is exclusively locked or has
+   *     been evicted.
+   */
+  long tryOptimisticRead() {
+    long stamp = version.get();
+    return (stamp & 1L) == 0 ? stamp : INVALID_STAMP;
+  }
+
+  /**
+   * Check whether no writer has acquired the write lock of this node since the given stamp was
+   * issued by {@link #tryOptimisticRead()}.
+   *
+   * @param stamp The version stamp to validate.
+   * @return true if the stamp is still valid, false otherwise.
+   */
+  boolean validate(long stamp) {
+    return stamp != INVALID_STAMP && version.get() == stamp;
+  }
+
+  /**
+   * Get the child node by the given name without creating it.
+   *
+   * @param name The name of a resource such as entity or others.
+   * @return The child node, or null if the child node doesn't exist.
+   */
+  TreeLockNode getChild(String name) {
+    return childMap.get(name);
+  }
+
+  /**
+   * Get the tree lock node by the given name and add a reference to it. If the node doesn't exist
+   * or has been evicted, create a new TreeNode.
+   *
+   * <p>The node is looked up without any lock in most cases, the child map is only updated when a
+   * new node is created or an evicted node is found.
    *
    * @param name The name of a resource such as entity or others.
-   * @return A pair of the tree lock node and a boolean value indicating whether the node is newly
+   * @param totalNodeCount The total node count of the tree, it will be increased if a new node is
    *     created.
+   * @return The referenced tree lock node.
    */
-  Pair<TreeLockNode, Boolean> getOrCreateChild(String name) {
-    boolean[] newCreated = new boolean[] {false};
-    TreeLockNode childNode =
-        childMap.computeIfAbsent(
-            name,
-            k -> {
-              TreeLockNode newNode = new TreeLockNode(name);
-              if (LOG.isTraceEnabled()) {
-                LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
-              }
-              newCreated[0] = true;
-              return newNode;
-            });
-
-    childNode.addReference();
-    return Pair.of(childNode, newCreated[0]);
+  TreeLockNode getOrCreateChild(String name, AtomicLong totalNodeCount) {
+    while (true) {
+      TreeLockNode childNode = childMap.get(name);
+      if (childNode == null) {
+        childNode =
+            childMap.computeIfAbsent(
+                name,
+                k -> {
+                  if (LOG.isTraceEnabled()) {
+                    LOG.trace("Create tree lock node '{}' as a child of '{}'", k, this.name);
+                  }
+                  totalNodeCount.incrementAndGet();
+                  return new TreeLockNode(k);
+                });
+      }
+
+      if (childNode.tryAddReference()) {
+        return childNode;
+      }
+
+      // The child node has been evicted by the cleaner concurrently, remove it if the cleaner has
+      // not done it yet and retry.
+      childMap.remove(name, childNode);
+    }
   }
 
   /**
@@ -208,21 +313,20 @@ public class TreeLockNode {
    *
    * @return The list of all the children of this node.
    */
-  synchronized List<TreeLockNode> getAllChildren() {
+  List<TreeLockNode> getAllChildren() {
     List<TreeLockNode> children = Lists.newArrayList(childMap.values());
     Collections.shuffle(children);
     return Collections.unmodifiableList(children);
   }
 
   /**
-   * Remove the child node by the given name identifier.
-   *
-   * <p>Note: This method should be guarded by object lock.
+   * Remove the child node by the given name identifier if it is still mapped to the given node.
    *
    * @param name The name of a resource such as entity or others.
+   * @param child The child node to remove.
    */
-  void removeChild(String name) {
-    childMap.remove(name);
+  void removeChild(String name, TreeLockNode child) {
+    childMap.remove(name, child);
   }
 
   @Override
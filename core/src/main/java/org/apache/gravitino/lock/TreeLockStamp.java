@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.lock;
+
+/**
+ * TreeLockStamp is the result of an optimistic read on the tree lock, it records the version
+ * stamps of all the tree lock nodes from the root to the resource path. It works like the stamp of
+ * {@link java.util.concurrent.locks.StampedLock}: the reader does the read without holding any
+ * lock, and then calls {@link #validate()} to check whether a writer has intervened. If the
+ * validation fails, the reader should discard the result and read again with the read lock.
+ */
+class TreeLockStamp {
+  private final TreeLockNode[] nodes;
+  private final long[] stamps;
+
+  TreeLockStamp(TreeLockNode[] nodes, long[] stamps) {
+    this.nodes = nodes;
+    this.stamps = stamps;
+  }
+
+  /**
+   * Validate the stamp. The validation goes from the leaf to the root, since the nodes near the
+   * leaf are more likely to be changed.
+   *
+   * @return true if no writer has acquired the write lock of any node in the path since the stamp
+   *     was issued, false otherwise.
+   */
+  boolean validate() {
+    for (int i = nodes.length - 1; i >= 0; i--) {
+      if (!nodes[i].validate(stamps[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
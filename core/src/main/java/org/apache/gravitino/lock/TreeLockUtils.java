@@ -22,9 +22,12 @@ package org.apache.gravitino.lock;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.utils.Executable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Utility class for tree locks. */
 public class TreeLockUtils {
+  private static final Logger LOG = LoggerFactory.getLogger(TreeLockUtils.class);
 
   private TreeLockUtils() {
     // Prevent instantiation.
@@ -43,7 +46,17 @@ public class TreeLockUtils {
    */
   public static <R, E extends Exception> R doWithTreeLock(
       NameIdentifier identifier, LockType lockType, Executable<R, E> executable) throws E {
-    TreeLock lock = GravitinoEnv.getInstance().lockManager().createTreeLock(identifier);
+    return doWithTreeLock(
+        GravitinoEnv.getInstance().lockManager(), identifier, lockType, executable);
+  }
+
+  static <R, E extends Exception> R doWithTreeLock(
+      LockManager lockManager,
+      NameIdentifier identifier,
+      LockType lockType,
+      Executable<R, E> executable)
+      throws E {
+    TreeLock lock = lockManager.createTreeLock(identifier);
     try {
       lock.lock(lockType);
       return executable.execute();
@@ -52,6 +65,52 @@ public class TreeLockUtils {
     }
   }
 
+  /**
+   * Execute the given read-only executable with an optimistic read on the tree lock. If the
+   * optimistic read is not possible or a writer intervened during the execution, the executable
+   * will be executed again with the read tree lock.
+   *
+   * <p>Note: The executable may be executed twice, so it must be free of side effects, for example,
+   * loading or listing entities.
+   *
+   * @param identifier The identifier of resource path that the lock attempts to lock.
+   * @param executable The read-only executable to execute.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   */
+  public static <R, E extends Exception> R doWithOptimisticReadTreeLock(
+      NameIdentifier identifier, Executable<R, E> executable) throws E {
+    return doWithOptimisticReadTreeLock(
+        GravitinoEnv.getInstance().lockManager(), identifier, executable);
+  }
+
+  static <R, E extends Exception> R doWithOptimisticReadTreeLock(
+      LockManager lockManager, NameIdentifier identifier, Executable<R, E> executable) throws E {
+    TreeLockStamp stamp = lockManager.tryOptimisticRead(identifier);
+    if (stamp != null) {
+      try {
+        R result = executable.execute();
+        if (stamp.validate()) {
+          return result;
+        }
+      } catch (Exception e) {
+        // The exception may be caused by a concurrent writer, only throw it if no writer
+        // intervened.
+        if (stamp.validate()) {
+          throw e;
+        }
+      }
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("Optimistic read of '{}' is invalidated, fall back to read lock", identifier);
+      }
+    }
+
+    return doWithTreeLock(lockManager, identifier, LockType.READ, executable);
+  }
+
   /**
    * Execute the given executable with the root tree lock.
    *
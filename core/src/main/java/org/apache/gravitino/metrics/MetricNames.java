@@ -31,6 +31,32 @@ public class MetricNames {
   public static final String SERVER_TOTAL_THREAD_NUM = "http-server.total-thread.num";
   public static final String SERVER_MIN_THREAD_NUM = "http-server.min-thread.num";
   public static final String SERVER_MAX_THREAD_NUM = "http-server.max-thread.num";
+  public static final String ENTITY_CHANGE_LOG_REPLICATION_LAG_MS =
+      "entity-change-log.replication-lag-ms";
+  public static final String ENTITY_CHANGE_LOG_CONSUMED_RECORDS =
+      "entity-change-log.consumed-records";
+  public static final String ENTITY_CHANGE_LOG_POLLS = "entity-change-log.polls";
+  public static final String ENTITY_CHANGE_LOG_NOTIFICATIONS = "entity-change-log.notifications";
+  public static final String ENTITY_CHANGE_LOG_HIGH_WATER_ID = "entity-change-log.high-water-id";
+  public static final String ENTITY_CHANGE_LOG_POLL_DELAY_MS = "entity-change-log.poll-delay-ms";
+  public static final String GARBAGE_COLLECTOR_HARD_DELETED_ROWS =
+      "garbage-collector.hard-deleted-rows";
+  public static final String GARBAGE_COLLECTOR_OLD_VERSION_DELETED_ROWS =
+      "garbage-collector.old-version-deleted-rows";
+  public static final String GARBAGE_COLLECTOR_STATEMENT_LATENCY_MS =
+      "garbage-collector.statement-latency-ms";
+  public static final String GARBAGE_COLLECTOR_BACKOFFS = "garbage-collector.backoffs";
+  public static final String GARBAGE_COLLECTOR_COMPLETED_PASSES =
+      "garbage-collector.completed-passes";
+  public static final String GARBAGE_COLLECTOR_CURSOR = "garbage-collector.cursor";
+  public static final String AUTHORIZATION_EXPRESSION_EVALUATION =
+      "authorization.expression-evaluation";
+  public static final String AUTHORIZATION_DECISION_CACHE_HITS =
+      "authorization.decision-cache.hits";
+  public static final String AUTHORIZATION_DECISION_CACHE_MISSES =
+      "authorization.decision-cache.misses";
+  public static final String AUTHORIZATION_DECISION_CACHE_INVALIDATIONS =
+      "authorization.decision-cache.invalidations";
 
   private MetricNames() {}
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the authorization decision cache. The hit rate is {@code hits / (hits + misses)};
+ * invalidations count how often the whole cache was dropped because of a metadata or role change.
+ */
+public class AuthorizationDecisionCacheMetricsSource extends MetricsSource {
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter invalidations;
+
+  public AuthorizationDecisionCacheMetricsSource() {
+    super(MetricsSource.GRAVITINO_AUTHORIZATION_DECISION_CACHE_METRIC_NAME);
+    this.hits = getCounter(MetricNames.AUTHORIZATION_DECISION_CACHE_HITS);
+    this.misses = getCounter(MetricNames.AUTHORIZATION_DECISION_CACHE_MISSES);
+    this.invalidations = getCounter(MetricNames.AUTHORIZATION_DECISION_CACHE_INVALIDATIONS);
+  }
+
+  public void recordHit() {
+    hits.inc();
+  }
+
+  public void recordMiss() {
+    misses.inc();
+  }
+
+  public void recordInvalidation() {
+    invalidations.inc();
+  }
+}
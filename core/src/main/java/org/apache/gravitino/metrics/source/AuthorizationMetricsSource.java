@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of metadata authorization. Each distinct authorization expression gets its own
+ * evaluation timer, keyed by the expression id that is logged when the expression is compiled, so
+ * the endpoints that pay the most for authorization stand out.
+ */
+public class AuthorizationMetricsSource extends MetricsSource {
+
+  public AuthorizationMetricsSource() {
+    super(MetricsSource.GRAVITINO_AUTHORIZATION_METRIC_NAME);
+  }
+
+  public Timer expressionEvaluationTimer(String expressionId) {
+    return getTimer(
+        MetricRegistry.name(MetricNames.AUTHORIZATION_EXPRESSION_EVALUATION, expressionId));
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the entity change log poller of this server. The replication lag is the time between
+ * an entity change being written to the entity change log by any server and being consumed by this
+ * server.
+ */
+public class EntityChangeLogMetricsSource extends MetricsSource {
+
+  private final Histogram replicationLagMs;
+  private final Counter consumedRecords;
+  private final Counter polls;
+  private final Counter notifications;
+
+  public EntityChangeLogMetricsSource(LongSupplier highWaterId, LongSupplier pollDelayMs) {
+    super(MetricsSource.GRAVITINO_ENTITY_CHANGE_LOG_METRIC_NAME);
+    this.replicationLagMs = getHistogram(MetricNames.ENTITY_CHANGE_LOG_REPLICATION_LAG_MS);
+    this.consumedRecords = getCounter(MetricNames.ENTITY_CHANGE_LOG_CONSUMED_RECORDS);
+    this.polls = getCounter(MetricNames.ENTITY_CHANGE_LOG_POLLS);
+    this.notifications = getCounter(MetricNames.ENTITY_CHANGE_LOG_NOTIFICATIONS);
+    registerGauge(
+        MetricNames.ENTITY_CHANGE_LOG_HIGH_WATER_ID, (Gauge<Long>) highWaterId::getAsLong);
+    registerGauge(
+        MetricNames.ENTITY_CHANGE_LOG_POLL_DELAY_MS, (Gauge<Long>) pollDelayMs::getAsLong);
+  }
+
+  public void recordConsumed(long lagMs) {
+    // The change time comes from the clock of the backend database which may be skewed from the
+    // clock of this server, so a negative lag is recorded as 0.
+    replicationLagMs.update(Math.max(lagMs, 0L));
+    consumedRecords.inc();
+  }
+
+  public void recordPoll() {
+    polls.inc();
+  }
+
+  public void recordNotification() {
+    notifications.inc();
+  }
+}
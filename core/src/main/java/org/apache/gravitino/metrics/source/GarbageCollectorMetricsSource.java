@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the garbage collector of the relational entity store. The cursor is the position of
+ * the cleanup step the collector is working on, so a cursor that stays put across runs means the
+ * collector is falling behind on that step.
+ */
+public class GarbageCollectorMetricsSource extends MetricsSource {
+
+  private final Counter hardDeletedRows;
+  private final Counter oldVersionDeletedRows;
+  private final Histogram statementLatencyMs;
+  private final Counter backoffs;
+  private final Counter completedPasses;
+
+  public GarbageCollectorMetricsSource(LongSupplier cursor) {
+    super(MetricsSource.GRAVITINO_GARBAGE_COLLECTOR_METRIC_NAME);
+    this.hardDeletedRows = getCounter(MetricNames.GARBAGE_COLLECTOR_HARD_DELETED_ROWS);
+    this.oldVersionDeletedRows = getCounter(MetricNames.GARBAGE_COLLECTOR_OLD_VERSION_DELETED_ROWS);
+    this.statementLatencyMs = getHistogram(MetricNames.GARBAGE_COLLECTOR_STATEMENT_LATENCY_MS);
+    this.backoffs = getCounter(MetricNames.GARBAGE_COLLECTOR_BACKOFFS);
+    this.completedPasses = getCounter(MetricNames.GARBAGE_COLLECTOR_COMPLETED_PASSES);
+    registerGauge(MetricNames.GARBAGE_COLLECTOR_CURSOR, (Gauge<Long>) cursor::getAsLong);
+  }
+
+  public void recordStatement(boolean hardDelete, long deletedRows, long latencyMs) {
+    if (hardDelete) {
+      hardDeletedRows.inc(deletedRows);
+    } else {
+      oldVersionDeletedRows.inc(deletedRows);
+    }
+    statementLatencyMs.update(latencyMs);
+  }
+
+  public void recordBackoff() {
+    backoffs.inc();
+  }
+
+  public void recordCompletedPass() {
+    completedPasses.inc();
+  }
+}
@@ -43,6 +43,13 @@ public abstract class MetricsSource {
   public static final String LANCE_REST_SERVER_METRIC_NAME = "lance-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String GRAVITINO_RELATIONAL_STORE_METRIC_NAME = "gravitino-relational-store";
+  public static final String GRAVITINO_ENTITY_CHANGE_LOG_METRIC_NAME =
+      "gravitino-entity-change-log";
+  public static final String GRAVITINO_GARBAGE_COLLECTOR_METRIC_NAME =
+      "gravitino-garbage-collector";
+  public static final String GRAVITINO_AUTHORIZATION_METRIC_NAME = "gravitino-authorization";
+  public static final String GRAVITINO_AUTHORIZATION_DECISION_CACHE_METRIC_NAME =
+      "gravitino-authorization-decision-cache";
   public static final String GRAVITINO_CATALOG_METRIC_PREFIX = "gravitino-catalog";
   public static final String JVM_METRIC_NAME = "jvm";
   private final MetricRegistry metricRegistry;
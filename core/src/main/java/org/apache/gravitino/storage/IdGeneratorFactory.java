@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import com.google.common.base.Preconditions;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Factory class for creating {@link IdGenerator} instances. */
+public final class IdGeneratorFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IdGeneratorFactory.class);
+
+  // Private constructor to prevent instantiation of this factory class.
+  private IdGeneratorFactory() {}
+
+  /**
+   * Creates a new {@link IdGenerator} using the id generator type specified in the configuration.
+   *
+   * @param config The configuration.
+   * @return An id generator instance
+   * @throws IllegalArgumentException if the snowflake id generator is configured without a node id.
+   */
+  public static IdGenerator createIdGenerator(Config config) {
+    String type = config.get(Configs.ID_GENERATOR_TYPE);
+    if (!Configs.SNOWFLAKE_ID_GENERATOR.equalsIgnoreCase(type)) {
+      return new RandomIdGenerator();
+    }
+
+    // A node id derived from the host could collide between the servers of an HA deployment, so
+    // the snowflake id generator refuses to start without an explicitly configured one.
+    int nodeId = config.get(Configs.ID_GENERATOR_NODE_ID);
+    Preconditions.checkArgument(
+        nodeId >= 0,
+        "%s must be set to a distinct node id on each server when %s is `%s`",
+        Configs.ID_GENERATOR_NODE_ID.getKey(),
+        Configs.ID_GENERATOR_TYPE.getKey(),
+        Configs.SNOWFLAKE_ID_GENERATOR);
+
+    LOG.info("Using the snowflake id generator with node id {}", nodeId);
+    return new SnowflakeIdGenerator(nodeId);
+  }
+}
@@ -25,8 +25,12 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.LongSupplier;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EntityChangeLogMetricsSource;
 import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
 import org.apache.gravitino.storage.relational.po.cache.EntityChangeRecord;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -40,6 +44,12 @@ import org.slf4j.LoggerFactory;
  * consumed batch to registered listeners. Listeners should only perform idempotent local cache
  * invalidation. The cursor always advances after dispatch regardless of individual listener
  * failures, so a faulty listener cannot block other listeners or prevent pruning.
+ *
+ * <p>The poll interval is adaptive: a cycle keeps fetching as long as the batches come back full,
+ * so a burst of changes is drained in one cycle. While no change is found, the interval backs off
+ * exponentially from the poll interval up to the max poll interval, and resets once a change is
+ * found. If an {@link EntityChangeNotifier} is set, the poller notifies the peers after this server
+ * commits changes, and polls right away when a peer notifies it.
  */
 public class EntityChangeLogPoller implements AutoCloseable {
 
@@ -49,12 +59,22 @@ public class EntityChangeLogPoller implements AutoCloseable {
   private static final int ENTITY_CHANGE_POLLER_MAX_ROWS = 500;
 
   private final List<EntityChangeLogListener> listeners = new CopyOnWriteArrayList<>();
-  private final long pollIntervalSecs;
+  private final long pollIntervalMs;
+  private final long maxPollIntervalMs;
   private final long retentionMs;
   private final long cleanupIntervalMs;
+  private final EntityChangeNotifier notifier;
   private final LongSupplier clockMs;
+  private final EntityChangeLogMetricsSource metricsSource;
+
+  // Guards the scheduling of the next poll cycle.
+  private final Object scheduleLock = new Object();
 
   private ScheduledExecutorService scheduler;
+  private ScheduledFuture<?> nextPoll;
+  private boolean pollRequested = false;
+  private boolean closed = false;
+  private volatile long pollDelayMs;
   private volatile long entityPollHighWaterId = 0;
   private volatile long lastCleanupMs = Long.MIN_VALUE;
 
@@ -82,16 +102,60 @@ public class EntityChangeLogPoller implements AutoCloseable {
     this(pollIntervalSecs, retentionMs, cleanupIntervalMs, System::currentTimeMillis);
   }
 
+  /**
+   * Creates an {@link EntityChangeLogPoller}.
+   *
+   * @param pollIntervalSecs interval between successive polling cycles while changes are found
+   * @param maxPollIntervalSecs max interval between successive polling cycles while no change is
+   *     found
+   * @param retentionMs entity change retention in milliseconds, or 0 to disable cleanup
+   * @param cleanupIntervalMs interval between successive cleanup attempts in milliseconds
+   * @param notifier the initialized channel to notify and be notified by the peers, or null to
+   *     only poll
+   */
+  public EntityChangeLogPoller(
+      long pollIntervalSecs,
+      long maxPollIntervalSecs,
+      long retentionMs,
+      long cleanupIntervalMs,
+      EntityChangeNotifier notifier) {
+    this(
+        pollIntervalSecs,
+        maxPollIntervalSecs,
+        retentionMs,
+        cleanupIntervalMs,
+        notifier,
+        System::currentTimeMillis);
+  }
+
   @VisibleForTesting
   EntityChangeLogPoller(
       long pollIntervalSecs, long retentionMs, long cleanupIntervalMs, LongSupplier clockMs) {
+    this(pollIntervalSecs, pollIntervalSecs, retentionMs, cleanupIntervalMs, null, clockMs);
+  }
+
+  @VisibleForTesting
+  EntityChangeLogPoller(
+      long pollIntervalSecs,
+      long maxPollIntervalSecs,
+      long retentionMs,
+      long cleanupIntervalMs,
+      EntityChangeNotifier notifier,
+      LongSupplier clockMs) {
     Preconditions.checkArgument(pollIntervalSecs > 0, "pollIntervalSecs must be positive");
+    Preconditions.checkArgument(maxPollIntervalSecs > 0, "maxPollIntervalSecs must be positive");
     Preconditions.checkArgument(retentionMs >= 0, "retentionMs must be non-negative");
     Preconditions.checkArgument(cleanupIntervalMs > 0, "cleanupIntervalMs must be positive");
-    this.pollIntervalSecs = pollIntervalSecs;
+    this.pollIntervalMs = TimeUnit.SECONDS.toMillis(pollIntervalSecs);
+    this.maxPollIntervalMs =
+        TimeUnit.SECONDS.toMillis(Math.max(pollIntervalSecs, maxPollIntervalSecs));
     this.retentionMs = retentionMs;
     this.cleanupIntervalMs = cleanupIntervalMs;
+    this.notifier = notifier;
     this.clockMs = clockMs;
+    this.pollDelayMs = pollIntervalMs;
+    this.metricsSource =
+        new EntityChangeLogMetricsSource(() -> entityPollHighWaterId, () -> pollDelayMs);
   }
 
   /**
@@ -137,12 +201,95 @@ public class EntityChangeLogPoller implements AutoCloseable {
               t.setDaemon(true);
               return t;
             });
-    scheduler.scheduleWithFixedDelay(
-        this::pollChanges, pollIntervalSecs, pollIntervalSecs, TimeUnit.SECONDS);
+    synchronized (scheduleLock) {
+      nextPoll = scheduler.schedule(this::pollAndReschedule, pollDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Add null check to avoid NPE when metrics system is not initialized in test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    if (notifier != null) {
+      notifier.start(this::onPeerChange);
+    }
+  }
+
+  /**
+   * Notifies the peers that this server has committed entity changes. It's a no-op if no notifier
+   * is set.
+   */
+  public void notifyPeers() {
+    if (notifier == null) {
+      return;
+    }
+
+    try {
+      notifier.notifyChange();
+    } catch (Exception e) {
+      // The peers will still see the changes in their next poll cycle.
+      LOG.warn("Failed to notify the peers of entity changes", e);
+    }
+  }
+
+  /**
+   * Wakes up the poller to poll right away. If a poll cycle is running, another cycle will be
+   * started right after it, since the changes notified may be committed after the running cycle
+   * fetched the changes.
+   */
+  @VisibleForTesting
+  void onPeerChange() {
+    metricsSource.recordNotification();
+    synchronized (scheduleLock) {
+      if (closed || nextPoll == null) {
+        return;
+      }
+
+      if (nextPoll.cancel(false)) {
+        nextPoll = scheduler.schedule(this::pollAndReschedule, 0, TimeUnit.MILLISECONDS);
+      } else {
+        pollRequested = true;
+      }
+    }
+  }
+
+  private void pollAndReschedule() {
+    int consumed = pollChanges();
+
+    synchronized (scheduleLock) {
+      if (consumed > 0 || pollRequested) {
+        pollDelayMs = pollIntervalMs;
+      } else {
+        pollDelayMs = Math.min(pollDelayMs * 2, maxPollIntervalMs);
+      }
+      long delayMs = pollRequested ? 0 : pollDelayMs;
+      pollRequested = false;
+
+      if (!closed) {
+        nextPoll = scheduler.schedule(this::pollAndReschedule, delayMs, TimeUnit.MILLISECONDS);
+      }
+    }
   }
 
   @Override
   public void close() {
+    synchronized (scheduleLock) {
+      closed = true;
+      // Unlike the periodic tasks, the delayed tasks still run after the scheduler is shut down.
+      if (nextPoll != null) {
+        nextPoll.cancel(false);
+      }
+    }
+
+    if (notifier != null) {
+      try {
+        notifier.close();
+      } catch (Exception e) {
+        LOG.warn("Failed to close the entity change notifier", e);
+      }
+    }
+
     if (scheduler != null) {
       scheduler.shutdown();
       try {
@@ -154,32 +301,60 @@ public class EntityChangeLogPoller implements AutoCloseable {
         Thread.currentThread().interrupt();
       }
     }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
+  /**
+   * Runs one poll cycle.
+   *
+   * @return the number of entity changes consumed in this cycle
+   */
   @VisibleForTesting
-  void pollChanges() {
+  int pollChanges() {
     try {
-      doPollChanges();
+      return doPollChanges();
     } catch (Exception e) {
       if (handleInterruptIfAny(e, "Entity change poll")) {
-        return;
+        return 0;
       }
       LOG.warn("Entity change poll failed", e);
+      return 0;
     }
   }
 
-  private synchronized void doPollChanges() {
-    List<EntityChangeRecord> changes = fetchEntityChanges();
-    if (changes.isEmpty()) {
-      pruneExpiredChangesIfNeeded();
-      return;
-    }
+  private synchronized int doPollChanges() {
+    int consumed = 0;
+    List<EntityChangeRecord> changes;
+    do {
+      changes = fetchEntityChanges();
+      metricsSource.recordPoll();
+      if (changes.isEmpty()) {
+        break;
+      }
 
+      dispatch(changes);
+      consumed += changes.size();
+      // A full batch means there may be more changes behind it, keep draining them instead of
+      // waiting for the next cycle.
+    } while (changes.size() >= ENTITY_CHANGE_POLLER_MAX_ROWS
+        && !Thread.currentThread().isInterrupted());
+
+    pruneExpiredChangesIfNeeded();
+    return consumed;
+  }
+
+  private void dispatch(List<EntityChangeRecord> changes) {
     long maxSeenId = entityPollHighWaterId;
+    long now = clockMs.getAsLong();
     for (EntityChangeRecord change : changes) {
       if (change.getId() > maxSeenId) {
         maxSeenId = change.getId();
       }
+      metricsSource.recordConsumed(now - change.getCreatedAt());
     }
 
     List<EntityChangeRecord> dispatchedChanges = Collections.unmodifiableList(changes);
@@ -192,7 +367,6 @@ public class EntityChangeLogPoller implements AutoCloseable {
     }
 
     entityPollHighWaterId = maxSeenId;
-    pruneExpiredChangesIfNeeded();
   }
 
   private List<EntityChangeRecord> fetchEntityChanges() {
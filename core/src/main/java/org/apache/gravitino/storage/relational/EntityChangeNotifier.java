@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational;
+
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * A channel to notify the HA peer servers that new rows have been written to {@code
+ * entity_change_log}, so that their {@link EntityChangeLogPoller}s can poll right away instead of
+ * waiting for the next poll cycle.
+ *
+ * <p>Notifications are only hints: they may be lost, duplicated or delayed, and carry no change
+ * data. The change log table stays the source of truth, so a lost notification only delays the
+ * invalidation to the next regular poll.
+ */
+public interface EntityChangeNotifier extends Closeable {
+
+  /**
+   * Initializes the notifier.
+   *
+   * @param properties the notifier properties, with the prefix {@code
+   *     gravitino.entityChangeLog.notifier.} stripped
+   */
+  void initialize(Map<String, String> properties);
+
+  /**
+   * Starts listening to the notifications from the peers.
+   *
+   * @param onPeerChange the callback to invoke when a peer notifies a change
+   */
+  void start(Runnable onPeerChange);
+
+  /** Notifies the peers that new entity changes have been committed by this server. */
+  void notifyChange();
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import java.util.List;
+import java.util.Locale;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.storage.relational.po.cache.EntityChangeRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drops the cached children listings affected by the entities created, altered or dropped on the
+ * other servers, as recorded in {@code entity_change_log}.
+ *
+ * <p>The records of the changes made by this server are consumed as well. They drop a listing that
+ * was already dropped locally, or that has been reloaded since, which costs one more load of that
+ * listing.
+ */
+class EntityListingChangeLogListener implements EntityChangeLogListener {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EntityListingChangeLogListener.class);
+
+  private final EntityCache cache;
+
+  EntityListingChangeLogListener(EntityCache cache) {
+    this.cache = cache;
+  }
+
+  @Override
+  public void onEntityChange(List<EntityChangeRecord> changes) {
+    for (EntityChangeRecord change : changes) {
+      if (change.getEntityType() == null || change.getFullName() == null) {
+        continue;
+      }
+
+      try {
+        Entity.EntityType type =
+            Entity.EntityType.valueOf(change.getEntityType().toUpperCase(Locale.ROOT));
+        cache.invalidateListings(NameIdentifier.of(change.getFullName().split("\\.")), type);
+      } catch (RuntimeException e) {
+        LOG.warn(
+            "Failed to process entity change log record for listings: fullName={}, entityType={}",
+            change.getFullName(),
+            change.getEntityType(),
+            e);
+      }
+    }
+  }
+}
@@ -19,7 +19,6 @@
 
 package org.apache.gravitino.storage.relational;
 
-import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 
 import com.google.common.base.Preconditions;
@@ -63,6 +62,8 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.meta.ViewEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
+import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
+import org.apache.gravitino.storage.relational.po.cache.OperateType;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.FunctionMetaService;
@@ -84,6 +85,7 @@ import org.apache.gravitino.storage.relational.service.TopicMetaService;
 import org.apache.gravitino.storage.relational.service.UserMetaService;
 import org.apache.gravitino.storage.relational.service.ViewMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -103,10 +105,24 @@ public class JDBCBackend implements RelationalBackend {
   // Database instance of this JDBCBackend.
   private JDBCDatabase jdbcDatabase;
 
+  // Maximum number of entities or relations written in one transaction by the batch operations.
+  private int batchPutChunkSize = Configs.DEFAULT_RELATIONAL_BATCH_PUT_CHUNK_SIZE;
+
+  // Maximum number of rows deleted by one statement of the garbage collector.
+  private int gcDeletionLimit = Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
+
   /** Initialize the jdbc backend instance. */
   @Override
   public void initialize(Config config) {
     jdbcDatabase = startJDBCDatabaseIfNecessary(config);
+    Integer chunkSize = config.get(Configs.ENTITY_RELATIONAL_BATCH_PUT_CHUNK_SIZE);
+    if (chunkSize != null && chunkSize > 0) {
+      batchPutChunkSize = chunkSize;
+    }
+    Integer deletionLimit = config.get(Configs.ENTITY_STORE_GC_DELETION_BATCH_SIZE);
+    if (deletionLimit != null && deletionLimit > 0) {
+      gcDeletionLimit = deletionLimit;
+    }
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
   }
@@ -224,6 +240,20 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public void recordCreations(List<NameIdentifier> identifiers, Entity.EntityType entityType) {
+    SessionUtils.doWithCommit(
+        EntityChangeLogMapper.class,
+        mapper ->
+            identifiers.forEach(
+                ident ->
+                    mapper.insertEntityChange(
+                        ident.namespace().level(0),
+                        entityType.name(),
+                        ident.toString(),
+                        OperateType.INSERT)));
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
@@ -439,78 +469,61 @@ public class JDBCBackend implements RelationalBackend {
     switch (entityType) {
       case METALAKE:
         return MetalakeMetaService.getInstance()
-            .deleteMetalakeMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteMetalakeMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case CATALOG:
         return CatalogMetaService.getInstance()
-            .deleteCatalogMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteCatalogMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case SCHEMA:
         return SchemaMetaService.getInstance()
-            .deleteSchemaMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteSchemaMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case TABLE:
         return TableMetaService.getInstance()
-            .deleteTableMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTableMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetAndVersionMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case TOPIC:
         return TopicMetaService.getInstance()
-            .deleteTopicMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTopicMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case USER:
         return UserMetaService.getInstance()
-            .deleteUserMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteUserMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case GROUP:
         return GroupMetaService.getInstance()
-            .deleteGroupMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteGroupMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case ROLE:
         return RoleMetaService.getInstance()
-            .deleteRoleMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteRoleMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case TAG:
         return TagMetaService.getInstance()
-            .deleteTagMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTagMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case POLICY:
         return PolicyMetaService.getInstance()
-            .deletePolicyAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deletePolicyAndVersionMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case COLUMN:
         return TableColumnMetaService.getInstance()
-            .deleteColumnsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteColumnsByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case MODEL:
         return ModelMetaService.getInstance()
-            .deleteModelMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case MODEL_VERSION:
         return ModelVersionMetaService.getInstance()
-            .deleteModelVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelVersionMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case FUNCTION:
         return FunctionMetaService.getInstance()
-            .deleteFunctionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFunctionMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case TABLE_STATISTIC:
         return StatisticMetaService.getInstance()
-            .deleteStatisticsByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteStatisticsByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case JOB_TEMPLATE:
         return JobTemplateMetaService.getInstance()
-            .deleteJobTemplatesByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteJobTemplatesByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case JOB:
         return JobMetaService.getInstance()
-            .deleteJobsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteJobsByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case VIEW:
         return ViewMetaService.getInstance()
-            .deleteViewMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteViewMetasByLegacyTimeline(legacyTimeline, gcDeletionLimit);
       case AUDIT:
         return 0;
         // TODO: Implement hard delete logic for these entity types.
@@ -547,18 +560,15 @@ public class JDBCBackend implements RelationalBackend {
 
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetVersionsByRetentionCount(versionRetentionCount, gcDeletionLimit);
 
       case POLICY:
         return PolicyMetaService.getInstance()
-            .deletePolicyVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deletePolicyVersionsByRetentionCount(versionRetentionCount, gcDeletionLimit);
 
       case FUNCTION:
         return FunctionMetaService.getInstance()
-            .deleteFunctionVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFunctionVersionsByRetentionCount(versionRetentionCount, gcDeletionLimit);
 
       default:
         throw new IllegalArgumentException(
@@ -640,6 +650,12 @@ public class JDBCBackend implements RelationalBackend {
                 NameIdentifier.parse(statisticEntities.get(0).namespace().toString()),
                 Entity.EntityType.TABLE);
         break;
+      case TABLE:
+        List<TableEntity> tableEntities =
+            entities.stream().map(e -> (TableEntity) e).collect(Collectors.toList());
+        TableMetaService.getInstance()
+            .batchInsertTables(tableEntities, overwritten, batchPutChunkSize);
+        break;
       default:
         throw new IllegalArgumentException(
             String.format("Batch put is not supported for entity type %s", entityType.name()));
@@ -747,8 +763,9 @@ public class JDBCBackend implements RelationalBackend {
     }
     switch (relType) {
       case OWNER_REL:
-        OwnerMetaService.getInstance()
-            .batchSetOwners(srcIdentifiers, srcType, dstIdentifier, dstType);
+        for (List<NameIdentifier> chunk : Lists.partition(srcIdentifiers, batchPutChunkSize)) {
+          OwnerMetaService.getInstance().batchSetOwners(chunk, srcType, dstIdentifier, dstType);
+        }
         break;
       default:
         throw new IllegalArgumentException(
@@ -182,4 +182,15 @@ public interface RelationalBackend extends Closeable, SupportsRelationOperations
    */
   int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
       throws IOException;
+
+  /**
+   * Records the creation of entities in the entity change log, so that the other servers can drop
+   * their cached listings of the namespaces the entities are created in.
+   *
+   * @param identifiers The identifiers of the created entities.
+   * @param entityType The type of the entities.
+   * @throws IOException If the store operation fails
+   */
+  default void recordCreations(List<NameIdentifier> identifiers, Entity.EntityType entityType)
+      throws IOException {}
 }
@@ -22,14 +22,19 @@ import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -70,10 +75,27 @@ public class RelationalEntityStore
   public static final ImmutableMap<String, String> RELATIONAL_BACKENDS =
       ImmutableMap.of(
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
+
+  // The entity types whose listings can be served from the cache. The listings of the other types
+  // either depend on relations (e.g. users and roles) or are not keyed by their namespace (e.g.
+  // statistics), so they are always listed from the backend.
+  private static final Set<Entity.EntityType> CACHED_LIST_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.VIEW,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC,
+          Entity.EntityType.MODEL,
+          Entity.EntityType.FUNCTION);
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
   private EntityChangeLogPoller entityChangeLogPoller;
   private EntityCache cache;
+  // Whether the listings are served from the cache, then the creations are recorded in the change
+  // log so that the other servers drop their listings of the namespaces.
+  private boolean listingCached;
 
   @VisibleForTesting
   public EntityCache getCache() {
@@ -84,6 +106,7 @@ public class RelationalEntityStore
   public void initialize(Config config) throws RuntimeException {
     if (config.get(Configs.CACHE_ENABLED)) {
       this.cache = CacheFactory.getEntityCache(config);
+      this.listingCached = Boolean.TRUE.equals(config.get(Configs.CACHE_LISTING_ENABLED));
       EntityIdService.initialize(
           new CachedEntityIdResolver(cache, new RelationalEntityStoreIdResolver()));
     } else {
@@ -102,11 +125,68 @@ public class RelationalEntityStore
     this.entityChangeLogPoller =
         new EntityChangeLogPoller(
             config.get(Configs.ENTITY_CHANGE_LOG_POLL_INTERVAL_SECS),
+            config.get(Configs.ENTITY_CHANGE_LOG_MAX_POLL_INTERVAL_SECS),
             TimeUnit.SECONDS.toMillis(config.get(Configs.ENTITY_CHANGE_LOG_RETENTION_SECS)),
-            TimeUnit.SECONDS.toMillis(config.get(Configs.ENTITY_CHANGE_LOG_CLEANUP_INTERVAL_SECS)));
+            TimeUnit.SECONDS.toMillis(config.get(Configs.ENTITY_CHANGE_LOG_CLEANUP_INTERVAL_SECS)),
+            createEntityChangeNotifier(config));
+    if (listingCached) {
+      entityChangeLogPoller.registerListener(new EntityListingChangeLogListener(cache));
+    }
     this.entityChangeLogPoller.start();
   }
 
+  private <E extends Entity & HasIdentifier> void recordCreations(List<E> entities) {
+    if (!listingCached
+        || entities.isEmpty()
+        || !CACHED_LIST_TYPES.contains(entities.get(0).type())) {
+      return;
+    }
+
+    // The peers drop the listing of the namespace of a created entity, one record per namespace is
+    // enough.
+    Map<Namespace, NameIdentifier> createdByNamespace = new LinkedHashMap<>();
+    for (E entity : entities) {
+      createdByNamespace.putIfAbsent(entity.namespace(), entity.nameIdentifier());
+    }
+    try {
+      backend.recordCreations(new ArrayList<>(createdByNamespace.values()), entities.get(0).type());
+      notifyPeers();
+    } catch (IOException | RuntimeException e) {
+      // The entities are created already, the other servers see them once their listings expire.
+      LOGGER.warn(
+          "Failed to record the creation of {} {} entities",
+          entities.size(),
+          entities.get(0).type(),
+          e);
+    }
+  }
+
+  private void notifyPeers() {
+    if (entityChangeLogPoller != null) {
+      entityChangeLogPoller.notifyPeers();
+    }
+  }
+
+  private EntityChangeNotifier createEntityChangeNotifier(Config config) {
+    String className = config.get(Configs.ENTITY_CHANGE_NOTIFIER_CLASS_NAME);
+    if (StringUtils.isBlank(className)) {
+      return null;
+    }
+
+    try {
+      EntityChangeNotifier notifier =
+          (EntityChangeNotifier) Class.forName(className).getDeclaredConstructor().newInstance();
+      notifier.initialize(
+          config.getConfigsWithPrefix(Configs.ENTITY_CHANGE_NOTIFIER_CONFIG_PREFIX));
+      LOGGER.info("Entity change notifier class name: {}", className);
+      return notifier;
+    } catch (Exception e) {
+      LOGGER.error("Failed to create and initialize entity change notifier {}.", className, e);
+      throw new RuntimeException(
+          "Failed to create and initialize entity change notifier: " + className, e);
+    }
+  }
+
   private RelationalBackend createRelationalEntityBackend(Config config) {
     String backendName = config.get(ENTITY_RELATIONAL_STORE);
     String className =
@@ -129,14 +209,19 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    return list(namespace, type, entityType, false);
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    if (!CACHED_LIST_TYPES.contains(entityType)) {
+      return backend.list(namespace, entityType, allFields);
+    }
+
+    return cache.listChildren(
+        namespace, entityType, allFields, () -> backend.list(namespace, entityType, allFields));
   }
 
   @Override
@@ -149,8 +234,13 @@ public class RelationalEntityStore
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
     backend.insert(e, overwritten);
+    if (overwritten) {
+      // The cached listing of the namespace may hold the overwritten entity
+      cache.invalidateListings(e.nameIdentifier(), e.type());
+    }
     cache.put(e);
     invalidateAggregatedRoleRelationCache(e);
+    recordCreations(Collections.singletonList(e));
   }
 
   @Override
@@ -160,6 +250,7 @@ public class RelationalEntityStore
     E updatedEntity = backend.update(ident, entityType, updater);
     cache.invalidate(ident, entityType);
     invalidateAggregatedRoleRelationCache(updatedEntity);
+    notifyPeers();
     return updatedEntity;
   }
 
@@ -185,19 +276,26 @@ public class RelationalEntityStore
   public <E extends Entity & HasIdentifier> List<E> batchGet(
       List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> clazz) {
     List<E> allEntities = new ArrayList<>();
-    List<NameIdentifier> noCacheIdents =
-        idents.stream()
-            .filter(
-                ident -> {
-                  Optional<E> entity = cache.getIfPresent(ident, entityType);
-                  entity.ifPresent(allEntities::add);
-                  return entity.isEmpty();
-                })
-            .toList();
-    List<E> fetchEntities = backend.batchGet(noCacheIdents, entityType);
-    for (E entity : fetchEntities) {
-      cache.put(entity);
-      allEntities.add(entity);
+    // The backend resolves a batch with a single query per parent, so group the cache misses by
+    // namespace and issue one round trip for each distinct parent.
+    Map<Namespace, List<NameIdentifier>> noCacheIdentsByNamespace = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      Optional<E> entity = cache.getIfPresent(ident, entityType);
+      if (entity.isPresent()) {
+        allEntities.add(entity.get());
+      } else {
+        noCacheIdentsByNamespace
+            .computeIfAbsent(ident.namespace(), k -> new ArrayList<>())
+            .add(ident);
+      }
+    }
+
+    for (List<NameIdentifier> noCacheIdents : noCacheIdentsByNamespace.values()) {
+      List<E> fetchEntities = backend.batchGet(noCacheIdents, entityType);
+      for (E entity : fetchEntities) {
+        cache.put(entity);
+        allEntities.add(entity);
+      }
     }
     return allEntities;
   }
@@ -207,6 +305,9 @@ public class RelationalEntityStore
       throws IOException {
     try {
       boolean deleted = backend.delete(ident, entityType, cascade);
+      if (deleted) {
+        notifyPeers();
+      }
       return deleted;
     } catch (NoSuchEntityException e) {
       return false;
@@ -418,6 +519,17 @@ public class RelationalEntityStore
   public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
     backend.batchPut(entities, overwritten);
+    for (E entity : entities) {
+      if (overwritten) {
+        // Overwritten entities may still be cached with their old content
+        cache.invalidate(entity.nameIdentifier(), entity.type());
+      } else {
+        // Same as put, which also keeps the cached listing of the parent namespace up to date
+        cache.put(entity);
+      }
+      invalidateAggregatedRoleRelationCache(entity);
+    }
+    recordCreations(entities);
   }
 
   private <E extends Entity & HasIdentifier> Optional<List<RelationalEntity<?>>> getCachedRelations(
@@ -19,28 +19,67 @@
 
 package org.apache.gravitino.storage.relational;
 
+import static org.apache.gravitino.Configs.DEFAULT_GC_SLOW_STATEMENT_THRESHOLD_MS;
+import static org.apache.gravitino.Configs.ENTITY_STORE_GC_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.ENTITY_STORE_GC_SLOW_STATEMENT_THRESHOLD_MS;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.GarbageCollectorMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Collects the legacy data and old version data of the relational entity store incrementally.
+ *
+ * <p>Every deletion statement of the backend deletes a small chunk of rows. Between two statements
+ * the collector waits for the rows-per-second budget, and backs off exponentially while the
+ * statements are slower than the configured threshold, so that a large cleanup doesn't hold row
+ * locks or cause replication lag long enough to slow down live metadata writes.
+ *
+ * <p>The cleanup is a fixed sequence of steps, the hard deletion of legacy data of every entity
+ * type followed by the soft deletion of old version data of every entity type. A scheduled run
+ * stops when it reaches the next scheduled run, and the next run resumes from the step it stopped
+ * at instead of starting over from the first entity type.
+ */
 public final class RelationalGarbageCollector implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
+
+  private static final Entity.EntityType[] ENTITY_TYPES = Entity.EntityType.values();
+
+  private static final int STEP_COUNT = ENTITY_TYPES.length * 2;
+
+  // The upper bound of the pause between two deletion statements while the backend is slow.
+  private static final long MAX_BACKOFF_MS = TimeUnit.SECONDS.toMillis(30);
+
   private final RelationalBackend backend;
 
   private final long storeDeleteAfterTimeMillis;
   private final long versionRetentionCount;
+  private final long slowStatementThresholdMs;
+  @Nullable private final RateLimiter rateLimiter;
+  private final LongSupplier clockMs;
+  private final GarbageCollectorMetricsSource metricsSource;
+
+  // The step to resume from, steps before ENTITY_TYPES.length are hard deletions of legacy data.
+  private volatile int cursor = 0;
+  private long backoffMs = 0;
+  private long runTimeBudgetMs = Long.MAX_VALUE;
 
   @VisibleForTesting
   final ScheduledExecutorService garbageCollectorPool =
@@ -54,9 +93,24 @@ public final class RelationalGarbageCollector implements Closeable {
           new ThreadPoolExecutor.AbortPolicy());
 
   public RelationalGarbageCollector(RelationalBackend backend, Config config) {
+    this(backend, config, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  RelationalGarbageCollector(RelationalBackend backend, Config config, LongSupplier clockMs) {
     this.backend = backend;
     storeDeleteAfterTimeMillis = config.get(STORE_DELETE_AFTER_TIME);
     versionRetentionCount = config.get(VERSION_RETENTION_COUNT);
+    Integer maxRowsPerSecond = config.get(ENTITY_STORE_GC_MAX_ROWS_PER_SECOND);
+    this.rateLimiter =
+        maxRowsPerSecond != null && maxRowsPerSecond > 0
+            ? RateLimiter.create(maxRowsPerSecond)
+            : null;
+    Long threshold = config.get(ENTITY_STORE_GC_SLOW_STATEMENT_THRESHOLD_MS);
+    this.slowStatementThresholdMs =
+        threshold != null && threshold > 0 ? threshold : DEFAULT_GC_SLOW_STATEMENT_THRESHOLD_MS;
+    this.clockMs = clockMs;
+    this.metricsSource = new GarbageCollectorMetricsSource(() -> cursor);
   }
 
   public void start() {
@@ -65,47 +119,51 @@ public final class RelationalGarbageCollector implements Closeable {
     // We will collect garbage every 10 minutes at least. If the dateTimelineMinute is larger than
     // 100 minutes, we would collect garbage every dateTimelineMinute/10 minutes.
     long frequency = Math.max(dateTimelineMinute / 10, 10);
+    runTimeBudgetMs = TimeUnit.MINUTES.toMillis(frequency);
     garbageCollectorPool.scheduleAtFixedRate(this::collectAndClean, 5, frequency, TimeUnit.MINUTES);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Add null check to avoid NPE when metrics system is not initialized in test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   @VisibleForTesting
   public void collectAndClean() {
+    collectAndClean(runTimeBudgetMs);
+  }
+
+  @VisibleForTesting
+  synchronized void collectAndClean(long runTimeBudgetMs) {
     long threadId = Thread.currentThread().getId();
-    LOG.debug("Thread {} start to collect garbage...", threadId);
+    LOG.debug("Thread {} start to collect garbage from step {}...", threadId, cursor);
 
+    long now = clockMs.getAsLong();
+    long deadline =
+        runTimeBudgetMs >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + runTimeBudgetMs;
+    long legacyTimeline = now - storeDeleteAfterTimeMillis;
     try {
-      LOG.debug("Start to collect and delete legacy data by thread {}", threadId);
-      long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to physically delete {} legacy data that has been marked deleted before {}",
-            entityType,
-            legacyTimeline);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.hardDeleteLegacyData(entityType, legacyTimeline);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
+      while (cursor < STEP_COUNT) {
+        boolean hardDelete = cursor < ENTITY_TYPES.length;
+        Entity.EntityType entityType = ENTITY_TYPES[cursor % ENTITY_TYPES.length];
+        if (!cleanStep(entityType, hardDelete, legacyTimeline, deadline)) {
+          LOG.info(
+              "Thread {} paused collecting garbage at step {} of {} for the run time budget, "
+                  + "the next run will resume from it",
+              threadId,
+              cursor,
+              STEP_COUNT);
+          return;
         }
+        cursor++;
       }
 
-      LOG.info("Start to collect and delete old version data by thread {}", threadId);
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to softly delete {} old version data that has been over retention count {}",
-            entityType,
-            versionRetentionCount);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.deleteOldVersionData(entityType, versionRetentionCount);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
-        }
-      }
+      cursor = 0;
+      metricsSource.recordCompletedPass();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Thread {} is interrupted while collecting garbage.", threadId);
     } catch (Exception e) {
       LOG.error("Thread {} failed to collect and clean garbage.", threadId, e);
     } finally {
@@ -113,6 +171,16 @@ public final class RelationalGarbageCollector implements Closeable {
     }
   }
 
+  @VisibleForTesting
+  int cursor() {
+    return cursor;
+  }
+
+  @VisibleForTesting
+  long backoffMs() {
+    return backoffMs;
+  }
+
   @Override
   public void close() throws IOException {
     this.garbageCollectorPool.shutdown();
@@ -124,5 +192,77 @@ public final class RelationalGarbageCollector implements Closeable {
       this.garbageCollectorPool.shutdownNow();
       Thread.currentThread().interrupt();
     }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  /**
+   * Deletes the data of the step chunk by chunk until there is nothing left to delete.
+   *
+   * @return false if the run time budget is used up before the step is finished
+   */
+  private boolean cleanStep(
+      Entity.EntityType entityType, boolean hardDelete, long legacyTimeline, long deadline)
+      throws InterruptedException {
+    if (hardDelete) {
+      LOG.debug(
+          "Try to physically delete {} legacy data that has been marked deleted before {}",
+          entityType,
+          legacyTimeline);
+    } else {
+      LOG.debug(
+          "Try to softly delete {} old version data that has been over retention count {}",
+          entityType,
+          versionRetentionCount);
+    }
+
+    try {
+      while (clockMs.getAsLong() < deadline) {
+        long startMs = clockMs.getAsLong();
+        int deletedCount =
+            hardDelete
+                ? backend.hardDeleteLegacyData(entityType, legacyTimeline)
+                : backend.deleteOldVersionData(entityType, versionRetentionCount);
+        long latencyMs = clockMs.getAsLong() - startMs;
+        metricsSource.recordStatement(hardDelete, Math.max(deletedCount, 0), latencyMs);
+        if (deletedCount <= 0) {
+          return true;
+        }
+        throttle(deletedCount, latencyMs);
+      }
+      return false;
+
+    } catch (IOException | RuntimeException e) {
+      // Skip to the next step, the rest of this step will be retried in the next pass.
+      LOG.error(
+          "Failed to {} delete type of {}'s {} data: ",
+          hardDelete ? "physically" : "softly",
+          entityType,
+          hardDelete ? "legacy" : "old version",
+          e);
+      return true;
+    }
+  }
+
+  private void throttle(int deletedCount, long latencyMs) throws InterruptedException {
+    if (rateLimiter != null) {
+      rateLimiter.acquire(deletedCount);
+    }
+
+    if (latencyMs > slowStatementThresholdMs) {
+      backoffMs =
+          Math.min(backoffMs == 0 ? slowStatementThresholdMs : backoffMs * 2, MAX_BACKOFF_MS);
+      metricsSource.recordBackoff();
+      LOG.debug(
+          "Deletion statement took {} ms, back off for {} ms before the next one",
+          latencyMs,
+          backoffMs);
+      TimeUnit.MILLISECONDS.sleep(backoffMs);
+    } else {
+      backoffMs /= 2;
+    }
   }
 }
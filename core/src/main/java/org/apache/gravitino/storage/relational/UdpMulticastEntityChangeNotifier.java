@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EntityChangeNotifier} based on UDP multicast, all the servers of a Gravitino cluster
+ * join the same multicast group and port. Each datagram only carries the id of the sender, which is
+ * used to skip the notifications sent by the server itself.
+ *
+ * <p>The supported properties are:
+ *
+ * <ul>
+ *   <li>{@code group}: the multicast group address, default is {@value #DEFAULT_GROUP}.
+ *   <li>{@code port}: the multicast port, default is {@value #DEFAULT_PORT}.
+ *   <li>{@code ttl}: the time-to-live of the multicast datagrams, default is {@value
+ *       #DEFAULT_TTL}, which keeps the datagrams in the local network.
+ * </ul>
+ */
+public class UdpMulticastEntityChangeNotifier implements EntityChangeNotifier {
+
+  private static final Logger LOG = LoggerFactory.getLogger(UdpMulticastEntityChangeNotifier.class);
+
+  static final String GROUP = "group";
+  static final String PORT = "port";
+  static final String TTL = "ttl";
+  static final String DEFAULT_GROUP = "239.255.27.1";
+  static final int DEFAULT_PORT = 19091;
+  static final int DEFAULT_TTL = 1;
+
+  // The length of a UUID string.
+  private static final int MAX_DATAGRAM_LENGTH = 36;
+
+  private static final long MIN_RECEIVE_BACKOFF_MS = 100;
+  private static final long MAX_RECEIVE_BACKOFF_MS = 10_000;
+
+  private final byte[] senderId = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+  private InetSocketAddress groupAddress;
+  private MulticastSocket socket;
+  private Thread receiver;
+  private volatile boolean closed = false;
+
+  @Override
+  public void initialize(Map<String, String> properties) {
+    int port = Integer.parseInt(properties.getOrDefault(PORT, String.valueOf(DEFAULT_PORT)));
+    int ttl = Integer.parseInt(properties.getOrDefault(TTL, String.valueOf(DEFAULT_TTL)));
+    Preconditions.checkArgument(port > 0 && port < 65536, "Invalid multicast port: %s", port);
+
+    try {
+      InetAddress group = InetAddress.getByName(properties.getOrDefault(GROUP, DEFAULT_GROUP));
+      Preconditions.checkArgument(
+          group.isMulticastAddress(), "%s is not a multicast address", group);
+      this.groupAddress = new InetSocketAddress(group, port);
+      this.socket = new MulticastSocket(port);
+      socket.setTimeToLive(ttl);
+      socket.joinGroup(groupAddress, null);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to join the entity change multicast group", e);
+    }
+    LOG.info("Entity change notifier joined multicast group {}", groupAddress);
+  }
+
+  @Override
+  public void start(Runnable onPeerChange) {
+    Preconditions.checkArgument(onPeerChange != null, "onPeerChange cannot be null");
+    Preconditions.checkState(socket != null, "The notifier is not initialized");
+    this.receiver = new Thread(() -> receive(onPeerChange), "Gravitino-EntityChangeNotifier");
+    receiver.setDaemon(true);
+    receiver.start();
+  }
+
+  @Override
+  public void notifyChange() {
+    try {
+      socket.send(new DatagramPacket(senderId, senderId.length, groupAddress));
+    } catch (IOException e) {
+      // The peers will still see the change in their next poll cycle.
+      LOG.warn("Failed to send entity change notification to {}", groupAddress, e);
+    }
+  }
+
+  private void receive(Runnable onPeerChange) {
+    byte[] buffer = new byte[MAX_DATAGRAM_LENGTH];
+    long backoffMs = 0;
+    while (!closed) {
+      DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+      try {
+        socket.receive(packet);
+        backoffMs = 0;
+      } catch (IOException e) {
+        if (closed || socket.isClosed()) {
+          break;
+        }
+
+        // Back off before retrying, otherwise a persistently failing socket spins the receiver
+        // thread. The peers still see the changes in their next poll cycle.
+        backoffMs =
+            Math.min(Math.max(backoffMs * 2, MIN_RECEIVE_BACKOFF_MS), MAX_RECEIVE_BACKOFF_MS);
+        LOG.warn("Failed to receive entity change notification, retry in {} ms", backoffMs, e);
+        try {
+          Thread.sleep(backoffMs);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        continue;
+      }
+
+      if (isFromPeer(packet)) {
+        try {
+          onPeerChange.run();
+        } catch (Exception e) {
+          LOG.warn("Failed to handle entity change notification", e);
+        }
+      }
+    }
+  }
+
+  @VisibleForTesting
+  Thread receiver() {
+    return receiver;
+  }
+
+  private boolean isFromPeer(DatagramPacket packet) {
+    return !Arrays.equals(
+        senderId,
+        0,
+        senderId.length,
+        packet.getData(),
+        packet.getOffset(),
+        packet.getOffset() + packet.getLength());
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    if (socket != null) {
+      try {
+        socket.leaveGroup(groupAddress, null);
+      } catch (IOException e) {
+        LOG.warn("Failed to leave the entity change multicast group {}", groupAddress, e);
+      } finally {
+        // Closing the socket unblocks the receiver thread.
+        socket.close();
+      }
+    }
+  }
+}
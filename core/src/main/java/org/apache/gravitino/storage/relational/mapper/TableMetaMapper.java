@@ -81,6 +81,14 @@ public interface TableMetaMapper {
       method = "insertTableMetaOnDuplicateKeyUpdate")
   void insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO);
 
+  @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "batchInsertTableMeta")
+  void batchInsertTableMeta(@Param("tableMetas") List<TablePO> tablePOs);
+
+  @InsertProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "batchInsertTableMetaOnDuplicateKeyUpdate")
+  void batchInsertTableMetaOnDuplicateKeyUpdate(@Param("tableMetas") List<TablePO> tablePOs);
+
   @UpdateProvider(type = TableMetaSQLProviderFactory.class, method = "updateTableMeta")
   Integer updateTableMeta(
       @Param("newTableMeta") TablePO newTablePO,
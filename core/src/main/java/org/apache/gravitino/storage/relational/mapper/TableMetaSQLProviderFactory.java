@@ -97,6 +97,15 @@ public class TableMetaSQLProviderFactory {
     return getProvider().insertTableMetaOnDuplicateKeyUpdate(tablePO);
   }
 
+  public static String batchInsertTableMeta(@Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMeta(tablePOs);
+  }
+
+  public static String batchInsertTableMetaOnDuplicateKeyUpdate(
+      @Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMetaOnDuplicateKeyUpdate(tablePOs);
+  }
+
   public static String updateTableMeta(
       @Param("newTableMeta") TablePO newTablePO,
       @Param("oldTableMeta") TablePO oldTablePO,
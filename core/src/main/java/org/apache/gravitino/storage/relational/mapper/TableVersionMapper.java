@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.storage.relational.mapper;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.DeleteProvider;
 import org.apache.ibatis.annotations.InsertProvider;
@@ -36,6 +37,14 @@ public interface TableVersionMapper {
       method = "insertTableVersionOnDuplicateKeyUpdate")
   void insertTableVersionOnDuplicateKeyUpdate(@Param("tablePO") TablePO tablePO);
 
+  @InsertProvider(type = TableVersionSQLProviderFactory.class, method = "batchInsertTableVersion")
+  void batchInsertTableVersion(@Param("tablePOs") List<TablePO> tablePOs);
+
+  @InsertProvider(
+      type = TableVersionSQLProviderFactory.class,
+      method = "batchInsertTableVersionOnDuplicateKeyUpdate")
+  void batchInsertTableVersionOnDuplicateKeyUpdate(@Param("tablePOs") List<TablePO> tablePOs);
+
   @UpdateProvider(
       type = TableVersionSQLProviderFactory.class,
       method = "softDeleteTableVersionByTableIdAndVersion")
@@ -20,6 +20,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableVersionBaseSQLProvider;
@@ -60,6 +61,15 @@ public class TableVersionSQLProviderFactory {
     return getProvider().insertTableVersionOnDuplicateKeyUpdate(tablePO);
   }
 
+  public static String batchInsertTableVersion(@Param("tablePOs") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableVersion(tablePOs);
+  }
+
+  public static String batchInsertTableVersionOnDuplicateKeyUpdate(
+      @Param("tablePOs") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableVersionOnDuplicateKeyUpdate(tablePOs);
+  }
+
   public static String softDeleteTableVersionByTableIdAndVersion(
       @Param("tableId") Long tableId, @Param("version") Long version) {
     return getProvider().softDeleteTableVersionByTableIdAndVersion(tableId, version);
@@ -225,6 +225,46 @@ public class TableMetaBaseSQLProvider {
         + " deleted_at = #{tableMeta.deletedAt}";
   }
 
+  public String batchInsertTableMeta(@Param("tableMetas") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (table_id, table_name, metalake_id,"
+        + " catalog_id, schema_id, audit_info,"
+        + " current_version, last_version, deleted_at) VALUES "
+        + "<foreach collection='tableMetas' item='po' separator=','>"
+        + "(#{po.tableId}, #{po.tableName}, #{po.metalakeId}, #{po.catalogId},"
+        + " #{po.schemaId}, #{po.auditInfo}, #{po.currentVersion}, #{po.lastVersion},"
+        + " #{po.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String batchInsertTableMetaOnDuplicateKeyUpdate(
+      @Param("tableMetas") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (table_id, table_name, metalake_id,"
+        + " catalog_id, schema_id, audit_info,"
+        + " current_version, last_version, deleted_at) VALUES "
+        + "<foreach collection='tableMetas' item='po' separator=','>"
+        + "(#{po.tableId}, #{po.tableName}, #{po.metalakeId}, #{po.catalogId},"
+        + " #{po.schemaId}, #{po.auditInfo}, #{po.currentVersion}, #{po.lastVersion},"
+        + " #{po.deletedAt})"
+        + "</foreach>"
+        + " ON DUPLICATE KEY UPDATE"
+        + " table_name = VALUES(table_name),"
+        + " metalake_id = VALUES(metalake_id),"
+        + " catalog_id = VALUES(catalog_id),"
+        + " schema_id = VALUES(schema_id),"
+        + " audit_info = VALUES(audit_info),"
+        + " current_version = VALUES(current_version),"
+        + " last_version = VALUES(last_version),"
+        + " deleted_at = VALUES(deleted_at)"
+        + "</script>";
+  }
+
   public String updateTableMeta(
       @Param("newTableMeta") TablePO newTablePO,
       @Param("oldTableMeta") TablePO oldTablePO,
@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import static org.apache.gravitino.storage.relational.mapper.TableVersionMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.Param;
 
@@ -76,6 +77,47 @@ public class TableVersionBaseSQLProvider {
         + " deleted_at = #{tablePO.deletedAt}";
   }
 
+  public String batchInsertTableVersion(@Param("tablePOs") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (table_id, format, properties, partitioning,"
+        + " distribution, sort_orders, indexes, comment,"
+        + " version, deleted_at) VALUES "
+        + "<foreach collection='tablePOs' item='po' separator=','>"
+        + "(#{po.tableId}, #{po.format}, #{po.properties}, #{po.partitions},"
+        + " #{po.distribution}, #{po.sortOrders}, #{po.indexes}, #{po.comment},"
+        + " #{po.currentVersion}, #{po.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String batchInsertTableVersionOnDuplicateKeyUpdate(
+      @Param("tablePOs") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (table_id, format, properties, partitioning,"
+        + " distribution, sort_orders, indexes, comment,"
+        + " version, deleted_at) VALUES "
+        + "<foreach collection='tablePOs' item='po' separator=','>"
+        + "(#{po.tableId}, #{po.format}, #{po.properties}, #{po.partitions},"
+        + " #{po.distribution}, #{po.sortOrders}, #{po.indexes}, #{po.comment},"
+        + " #{po.currentVersion}, #{po.deletedAt})"
+        + "</foreach>"
+        + " ON DUPLICATE KEY UPDATE"
+        + " format = VALUES(format),"
+        + " properties = VALUES(properties),"
+        + " partitioning = VALUES(partitioning),"
+        + " distribution = VALUES(distribution),"
+        + " sort_orders = VALUES(sort_orders),"
+        + " indexes = VALUES(indexes),"
+        + " comment = VALUES(comment),"
+        + " version = VALUES(version),"
+        + " deleted_at = VALUES(deleted_at)"
+        + "</script>";
+  }
+
   public String softDeleteTableVersionByTableIdAndVersion(
       @Param("tableId") Long tableId, @Param("version") Long version) {
     return "UPDATE "
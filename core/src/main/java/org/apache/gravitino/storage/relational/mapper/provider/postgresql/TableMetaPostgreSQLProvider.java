@@ -55,6 +55,32 @@ public class TableMetaPostgreSQLProvider extends TableMetaBaseSQLProvider {
         + " deleted_at = #{tableMeta.deletedAt}";
   }
 
+  @Override
+  public String batchInsertTableMetaOnDuplicateKeyUpdate(
+      @Param("tableMetas") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (table_id, table_name, metalake_id,"
+        + " catalog_id, schema_id, audit_info,"
+        + " current_version, last_version, deleted_at) VALUES "
+        + "<foreach collection='tableMetas' item='po' separator=','>"
+        + "(#{po.tableId}, #{po.tableName}, #{po.metalakeId}, #{po.catalogId},"
+        + " #{po.schemaId}, #{po.auditInfo}, #{po.currentVersion}, #{po.lastVersion},"
+        + " #{po.deletedAt})"
+        + "</foreach>"
+        + " ON CONFLICT (table_id) DO UPDATE SET"
+        + " table_name = EXCLUDED.table_name,"
+        + " metalake_id = EXCLUDED.metalake_id,"
+        + " catalog_id = EXCLUDED.catalog_id,"
+        + " schema_id = EXCLUDED.schema_id,"
+        + " audit_info = EXCLUDED.audit_info,"
+        + " current_version = EXCLUDED.current_version,"
+        + " last_version = EXCLUDED.last_version,"
+        + " deleted_at = EXCLUDED.deleted_at"
+        + "</script>";
+  }
+
   @Override
   public String softDeleteTableMetasByTableId(Long tableId) {
     return "UPDATE "
@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
 
 import static org.apache.gravitino.storage.relational.mapper.TableVersionMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableVersionBaseSQLProvider;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.Param;
@@ -57,6 +58,33 @@ public class TableVersionPostgreSQLProvider extends TableVersionBaseSQLProvider
         + " deleted_at = #{tablePO.deletedAt}";
   }
 
+  @Override
+  public String batchInsertTableVersionOnDuplicateKeyUpdate(
+      @Param("tablePOs") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (table_id, format, properties, partitioning,"
+        + " distribution, sort_orders, indexes, comment,"
+        + " version, deleted_at) VALUES "
+        + "<foreach collection='tablePOs' item='po' separator=','>"
+        + "(#{po.tableId}, #{po.format}, #{po.properties}, #{po.partitions},"
+        + " #{po.distribution}, #{po.sortOrders}, #{po.indexes}, #{po.comment},"
+        + " #{po.currentVersion}, #{po.deletedAt})"
+        + "</foreach>"
+        + " ON CONFLICT (table_id, version, deleted_at) DO UPDATE SET"
+        + " format = EXCLUDED.format,"
+        + " properties = EXCLUDED.properties,"
+        + " partitioning = EXCLUDED.partitioning,"
+        + " distribution = EXCLUDED.distribution,"
+        + " sort_orders = EXCLUDED.sort_orders,"
+        + " indexes = EXCLUDED.indexes,"
+        + " comment = EXCLUDED.comment,"
+        + " version = EXCLUDED.version,"
+        + " deleted_at = EXCLUDED.deleted_at"
+        + "</script>";
+  }
+
   @Override
   public String softDeleteTableVersionByTableIdAndVersion(Long tableId, Long version) {
     return "UPDATE "
@@ -33,7 +33,8 @@ import java.util.stream.Collectors;
  */
 public enum OperateType {
   ALTER(1),
-  DROP(2);
+  DROP(2),
+  INSERT(3);
 
   private static final Map<Integer, OperateType> BY_CODE =
       Arrays.stream(values()).collect(Collectors.toMap(OperateType::getCode, Function.identity()));
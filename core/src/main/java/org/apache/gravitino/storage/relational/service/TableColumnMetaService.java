@@ -112,6 +112,19 @@ public class TableColumnMetaService {
         TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
   }
 
+  void insertColumnPOs(List<ColumnPO> columnPOs) {
+    // insertColumnPOs will be done in batchInsertTables transaction, so we don't do commit here.
+    SessionUtils.doWithoutCommit(
+        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
+  }
+
+  void deleteColumnsByTableIds(List<Long> tableIds) {
+    // deleteColumnsByTableIds will be done in batchInsertTables transaction, so we don't do commit
+    // here.
+    SessionUtils.doWithoutCommit(
+        TableColumnMapper.class, mapper -> mapper.softDeleteColumnsByTableIds(tableIds));
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "deleteColumnsByTableId")
@@ -21,19 +21,24 @@ package org.apache.gravitino.storage.relational.service;
 import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.NamespacedEntityId;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.metrics.Monitored;
@@ -156,6 +161,100 @@ public class TableMetaService {
     }
   }
 
+  /**
+   * Inserts the tables in chunks. Each chunk is written with one multi-row statement for each of
+   * the table meta, table version and column tables, and committed in its own transaction, so a
+   * failure only rolls back the chunk being written.
+   *
+   * @param tableEntities The tables to insert.
+   * @param overwrite Whether to overwrite the existing tables.
+   * @param chunkSize The maximum number of tables written in one transaction.
+   * @throws IOException If a chunk fails to be written.
+   */
+  public void batchInsertTables(List<TableEntity> tableEntities, boolean overwrite, int chunkSize)
+      throws IOException {
+    Preconditions.checkArgument(chunkSize > 0, "Chunk size must be positive: %s", chunkSize);
+
+    // Resolve the parent ids once per schema rather than once per table
+    Map<Namespace, List<TablePO>> tablePOsByNamespace = new LinkedHashMap<>();
+    for (TableEntity tableEntity : tableEntities) {
+      NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
+      List<TablePO> tablePOs =
+          tablePOsByNamespace.computeIfAbsent(tableEntity.namespace(), k -> new ArrayList<>());
+      TablePO.Builder builder = TablePO.builder();
+      if (tablePOs.isEmpty()) {
+        fillTablePOBuilderParentEntityId(builder, tableEntity.namespace());
+      } else {
+        TablePO sibling = tablePOs.get(0);
+        builder
+            .withMetalakeId(sibling.getMetalakeId())
+            .withCatalogId(sibling.getCatalogId())
+            .withSchemaId(sibling.getSchemaId());
+      }
+      tablePOs.add(POConverters.initializeTablePOWithVersion(tableEntity, builder));
+    }
+
+    List<TablePO> allTablePOs =
+        tablePOsByNamespace.values().stream().flatMap(List::stream).collect(Collectors.toList());
+    Map<Long, TableEntity> tableEntitiesById =
+        tableEntities.stream()
+            .collect(Collectors.toMap(TableEntity::id, Function.identity(), (a, b) -> b));
+    for (List<TablePO> chunk : Lists.partition(allTablePOs, chunkSize)) {
+      insertTableChunk(chunk, tableEntitiesById, overwrite);
+    }
+  }
+
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchInsertTableChunk")
+  void insertTableChunk(
+      List<TablePO> tablePOs, Map<Long, TableEntity> tableEntitiesById, boolean overwrite)
+      throws IOException {
+    List<Long> tableIds = tablePOs.stream().map(TablePO::getTableId).collect(Collectors.toList());
+    List<ColumnPO> columnPOs = new ArrayList<>();
+    for (TablePO tablePO : tablePOs) {
+      List<ColumnEntity> columns = tableEntitiesById.get(tablePO.getTableId()).columns();
+      if (columns != null && !columns.isEmpty()) {
+        columnPOs.addAll(
+            POConverters.initializeColumnPOs(tablePO, columns, ColumnPO.ColumnOpType.CREATE));
+      }
+    }
+
+    try {
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableMetaMapper.class, mapper -> ops.batchInsertPOs(mapper, tablePOs, overwrite)),
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableVersionMapper.class,
+                  mapper -> {
+                    if (overwrite) {
+                      mapper.batchInsertTableVersionOnDuplicateKeyUpdate(tablePOs);
+                    } else {
+                      mapper.batchInsertTableVersion(tablePOs);
+                    }
+                  }),
+          () -> {
+            // We need to delete the columns first if we want to overwrite the tables.
+            if (overwrite) {
+              TableColumnMetaService.getInstance().deleteColumnsByTableIds(tableIds);
+            }
+          },
+          () -> {
+            if (!columnPOs.isEmpty()) {
+              TableColumnMetaService.getInstance().insertColumnPOs(columnPOs);
+            }
+          });
+    } catch (RuntimeException re) {
+      String chunkName =
+          String.format(
+              "%s and %d other tables", tablePOs.get(0).getTableName(), tablePOs.size() - 1);
+      ExceptionUtils.checkSQLException(re, Entity.EntityType.TABLE, chunkName);
+      throw re;
+    }
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "updateTable")
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
@@ -40,6 +40,15 @@ public class TablePOStorageOps extends BasePOStorageOps<TablePO, TableMetaMapper
     }
   }
 
+  @Override
+  public void batchInsertPOs(TableMetaMapper mapper, List<TablePO> tablePOs, boolean overwrite) {
+    if (overwrite) {
+      mapper.batchInsertTableMetaOnDuplicateKeyUpdate(tablePOs);
+    } else {
+      mapper.batchInsertTableMeta(tablePOs);
+    }
+  }
+
   @Override
   public Integer updatePO(TableMetaMapper mapper, TablePO newPO, TablePO oldPO) {
     return mapper.updateTableMeta(newPO, oldPO, newPO.getSchemaId());
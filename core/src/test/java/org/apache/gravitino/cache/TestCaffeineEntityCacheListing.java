@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.utils.TestUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the multi-get and the children listing of {@link CaffeineEntityCache}. */
+public class TestCaffeineEntityCacheListing {
+
+  private static final Namespace TABLE_NAMESPACE = Namespace.of("m1", "c1", "s1");
+
+  private CaffeineEntityCache cache;
+  private SchemaEntity schema;
+  private TableEntity table1;
+  private TableEntity table2;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    Config config = new Config(false) {};
+    config.set(Configs.CACHE_LISTING_ENABLED, true);
+    cache = new CaffeineEntityCache(config);
+
+    schema = TestUtil.getTestSchemaEntity(1L, "s1", Namespace.of("m1", "c1"), "schema");
+    table1 = TestUtil.getTestTableEntity(11L, "t1", TABLE_NAMESPACE);
+    table2 = TestUtil.getTestTableEntity(12L, "t2", TABLE_NAMESPACE);
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  void testGetAllPresent() {
+    cache.put(table2);
+
+    List<TableEntity> entities =
+        cache.getAllPresent(
+            List.of(table1.nameIdentifier(), table2.nameIdentifier()), Entity.EntityType.TABLE);
+
+    Assertions.assertEquals(List.of(table2), entities);
+  }
+
+  @Test
+  void testListChildrenServedFromCache() {
+    cache.put(table1);
+    cache.put(table2);
+
+    Assertions.assertEquals(List.of(table1, table2), listTables(table1, table2));
+    Assertions.assertEquals(List.of(table1, table2), listTables(table1, table2));
+    Assertions.assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testListChildrenServedWithoutCachedChildren() {
+    listTables(table1, table2);
+    Assertions.assertEquals(List.of(table1, table2), listTables(table1, table2));
+    Assertions.assertEquals(1, loads.get());
+
+    // Putting a listed child doesn't drop the listing.
+    cache.put(table2);
+    Assertions.assertEquals(List.of(table1, table2), listTables(table1, table2));
+    Assertions.assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testListChildrenWithAllFields() {
+    listTables(table1);
+
+    // A listing loaded without all fields can't serve a request needing them.
+    listTables(true, table1);
+    Assertions.assertEquals(2, loads.get());
+
+    listTables(true, table1);
+    listTables(table1);
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testInvalidateListings() {
+    listTables(table1, table2);
+
+    // Dropping the listings keeps the cached entities.
+    cache.put(schema);
+    cache.invalidateListings(table2.nameIdentifier(), Entity.EntityType.TABLE);
+    Assertions.assertTrue(cache.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+    listTables(table1, table2);
+    Assertions.assertEquals(2, loads.get());
+
+    cache.invalidateListings(schema.nameIdentifier(), Entity.EntityType.SCHEMA);
+    Assertions.assertTrue(cache.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+    listTables(table1, table2);
+    Assertions.assertEquals(3, loads.get());
+  }
+
+  @Test
+  void testPutNewChildDropsListing() {
+    cache.put(table1);
+    listTables(table1);
+
+    cache.put(table2);
+    Assertions.assertEquals(List.of(table1, table2), listTables(table1, table2));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testInvalidateChildDropsListing() {
+    cache.put(table1);
+    cache.put(table2);
+    listTables(table1, table2);
+
+    cache.invalidate(table2.nameIdentifier(), Entity.EntityType.TABLE);
+    cache.put(table2);
+    listTables(table1, table2);
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testInvalidateParentDropsListing() {
+    cache.put(schema);
+    cache.put(table1);
+    listTables(table1);
+
+    cache.invalidate(schema.nameIdentifier(), Entity.EntityType.SCHEMA);
+    cache.put(table1);
+    listTables(table1);
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testPutDuringLoadingDropsListing() {
+    cache.put(table1);
+    cache.put(table2);
+
+    // A child created while the listing is being loaded may be missing from the loaded listing.
+    cache.listChildren(
+        TABLE_NAMESPACE,
+        Entity.EntityType.TABLE,
+        false,
+        () -> {
+          loads.incrementAndGet();
+          cache.put(TestUtil.getTestTableEntity(13L, "t3", TABLE_NAMESPACE));
+          return List.of(table1, table2);
+        });
+
+    listTables(table1, table2);
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testListingDisabled() {
+    cache = new CaffeineEntityCache(new Config(false) {});
+    cache.put(table1);
+
+    listTables(table1);
+    listTables(table1);
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testClearDropsListing() {
+    cache.put(table1);
+    listTables(table1);
+
+    cache.clear();
+    cache.put(table1);
+    listTables(table1);
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  private List<TableEntity> listTables(TableEntity... tables) {
+    return listTables(false, tables);
+  }
+
+  private List<TableEntity> listTables(boolean allFields, TableEntity... tables) {
+    return cache.listChildren(
+        TABLE_NAMESPACE,
+        Entity.EntityType.TABLE,
+        allFields,
+        () -> {
+          loads.incrementAndGet();
+          return List.of(tables);
+        });
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.expressions.literals.Literals;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.utils.TestUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityCompactor {
+
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("admin").withCreateTime(Instant.now()).build();
+
+  @Test
+  void testCompactTableRoundTrip() {
+    EntityCompactor compactor = new EntityCompactor();
+    AuditInfo columnAuditInfo =
+        AuditInfo.builder()
+            .withCreator("admin")
+            .withCreateTime(Instant.now())
+            .withLastModifier("user1")
+            .withLastModifiedTime(Instant.now())
+            .build();
+    TableEntity table =
+        TableEntity.builder()
+            .withId(1L)
+            .withName("t1")
+            .withNamespace(Namespace.of("m1", "c1", "s1"))
+            .withAuditInfo(AUDIT_INFO)
+            .withComment("table comment")
+            .withProperties(Map.of("format", "parquet"))
+            .withColumns(
+                List.of(
+                    column(11L, "id", 0, AUDIT_INFO),
+                    ColumnEntity.builder()
+                        .withId(12L)
+                        .withName("name")
+                        .withPosition(1)
+                        .withDataType(Types.VarCharType.of(255))
+                        .withComment("column comment")
+                        .withNullable(false)
+                        .withAutoIncrement(true)
+                        .withDefaultValue(Literals.stringLiteral("unknown"))
+                        .withAuditInfo(columnAuditInfo)
+                        .build()))
+            .build();
+
+    Entity compacted = compactor.compact(table);
+    Assertions.assertInstanceOf(CompactTableEntity.class, compacted);
+    Assertions.assertEquals(Entity.EntityType.TABLE, compacted.type());
+    Assertions.assertEquals(table, EntityCompactor.rehydrate(compacted));
+  }
+
+  @Test
+  void testCompactTableWithoutColumns() {
+    EntityCompactor compactor = new EntityCompactor();
+    TableEntity table = table(1L, "t1", Namespace.of("m1", "c1", "s1"), List.of());
+
+    Assertions.assertEquals(table, EntityCompactor.rehydrate(compactor.compact(table)));
+  }
+
+  @Test
+  void testInternsNamespacesAndColumns() {
+    EntityCompactor compactor = new EntityCompactor();
+    // Build the names separately, as the entities loaded from the store don't share them.
+    TableEntity table1 =
+        table(
+            1L,
+            "t1",
+            Namespace.of(new String("m1"), new String("c1"), new String("s1")),
+            List.of(column(11L, new String("id"), 0, AUDIT_INFO)));
+    TableEntity table2 =
+        table(
+            2L,
+            "t2",
+            Namespace.of(new String("m1"), new String("c1"), new String("s1")),
+            List.of(column(21L, new String("id"), 0, AUDIT_INFO)));
+
+    TableEntity rehydrated1 = (TableEntity) EntityCompactor.rehydrate(compactor.compact(table1));
+    TableEntity rehydrated2 = (TableEntity) EntityCompactor.rehydrate(compactor.compact(table2));
+
+    Assertions.assertSame(rehydrated1.namespace(), rehydrated2.namespace());
+    Assertions.assertSame(rehydrated1.columns().get(0).name(), rehydrated2.columns().get(0).name());
+    // The columns with the same audit info as the table share the audit info of the table.
+    Assertions.assertSame(rehydrated1.auditInfo(), rehydrated1.columns().get(0).auditInfo());
+  }
+
+  @Test
+  void testNonTableEntityIsNotCompacted() {
+    EntityCompactor compactor = new EntityCompactor();
+    Entity entity = TestUtil.getTestSchemaEntity(1L, "s1", Namespace.of("m1", "c1"), "comment");
+
+    Assertions.assertSame(entity, compactor.compact(entity));
+    Assertions.assertSame(entity, EntityCompactor.rehydrate(entity));
+  }
+
+  @Test
+  void testCaffeineEntityCacheWithCompaction() {
+    Config config = new Config(false) {};
+    config.set(Configs.CACHE_COMPACTION_ENABLED, true);
+    CaffeineEntityCache cache = new CaffeineEntityCache(config);
+    TableEntity table =
+        table(
+            1L,
+            "t1",
+            Namespace.of("m1", "c1", "s1"),
+            List.of(column(11L, "id", 0, AUDIT_INFO), column(12L, "name", 1, AUDIT_INFO)));
+
+    cache.put(table);
+
+    List<Entity> cached =
+        cache
+            .getCacheData()
+            .getIfPresent(
+                EntityCacheRelationKey.of(table.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertNotNull(cached);
+    Assertions.assertInstanceOf(CompactTableEntity.class, cached.get(0));
+    Assertions.assertEquals(
+        table, cache.getIfPresent(table.nameIdentifier(), Entity.EntityType.TABLE).orElse(null));
+    Assertions.assertEquals(
+        List.of(table),
+        cache.getAllPresent(List.of(table.nameIdentifier()), Entity.EntityType.TABLE));
+  }
+
+  private static TableEntity table(
+      long id, String name, Namespace namespace, List<ColumnEntity> columns) {
+    return TableEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(namespace)
+        .withAuditInfo(AUDIT_INFO)
+        .withColumns(columns)
+        .build();
+  }
+
+  private static ColumnEntity column(long id, String name, int position, AuditInfo auditInfo) {
+    return ColumnEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withPosition(position)
+        .withDataType(Types.LongType.get())
+        .withNullable(true)
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+}
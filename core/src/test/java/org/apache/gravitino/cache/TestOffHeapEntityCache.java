@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.expressions.literals.Literals;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.utils.TestUtil;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link OffHeapEntityCache} and its use behind {@link CaffeineEntityCache}. */
+public class TestOffHeapEntityCache {
+
+  private static final Namespace TABLE_NAMESPACE = Namespace.of("m1", "c1", "s1");
+
+  @Test
+  void testTableRoundTrip() {
+    OffHeapEntityCache cache = new OffHeapEntityCache(1024 * 1024, 1024 * 1024, 0, key -> {});
+    TableEntity table = newTable(1L, "t1");
+    EntityCacheRelationKey key = EntityCacheRelationKey.of(table.nameIdentifier(), table.type());
+
+    Assertions.assertTrue(cache.put(key, table));
+    Assertions.assertTrue(cache.contains(key));
+    Assertions.assertEquals(1, cache.size());
+
+    TableEntity cached = (TableEntity) cache.getIfPresent(key).get();
+    Assertions.assertEquals(table.id(), cached.id());
+    Assertions.assertEquals(table.name(), cached.name());
+    Assertions.assertEquals(table.namespace(), cached.namespace());
+    Assertions.assertEquals(table.auditInfo(), cached.auditInfo());
+    Assertions.assertEquals(table.comment(), cached.comment());
+    Assertions.assertEquals(table.properties(), cached.properties());
+    Assertions.assertEquals(table.columns().size(), cached.columns().size());
+    for (int i = 0; i < table.columns().size(); i++) {
+      ColumnEntity expected = table.columns().get(i);
+      ColumnEntity actual = cached.columns().get(i);
+      Assertions.assertEquals(expected.id(), actual.id());
+      Assertions.assertEquals(expected.name(), actual.name());
+      Assertions.assertEquals(expected.position(), actual.position());
+      Assertions.assertEquals(expected.dataType(), actual.dataType());
+      Assertions.assertEquals(expected.comment(), actual.comment());
+      Assertions.assertEquals(expected.nullable(), actual.nullable());
+      Assertions.assertEquals(expected.autoIncrement(), actual.autoIncrement());
+      Assertions.assertEquals(expected.defaultValue(), actual.defaultValue());
+      Assertions.assertEquals(expected.auditInfo(), actual.auditInfo());
+    }
+
+    cache.invalidate(key);
+    Assertions.assertFalse(cache.contains(key));
+    Assertions.assertFalse(cache.getIfPresent(key).isPresent());
+  }
+
+  @Test
+  void testCatalogAndSchemaRoundTrip() {
+    OffHeapEntityCache cache = new OffHeapEntityCache(1024 * 1024, 1024 * 1024, 0, key -> {});
+    CatalogEntity catalog =
+        TestUtil.getTestCatalogEntity(1L, "c1", Namespace.of("m1"), "hive", "catalog");
+    SchemaEntity schema = TestUtil.getTestSchemaEntity(2L, "s1", Namespace.of("m1", "c1"), null);
+    EntityCacheRelationKey catalogKey =
+        EntityCacheRelationKey.of(catalog.nameIdentifier(), catalog.type());
+    EntityCacheRelationKey schemaKey =
+        EntityCacheRelationKey.of(schema.nameIdentifier(), schema.type());
+
+    Assertions.assertTrue(cache.put(catalogKey, catalog));
+    Assertions.assertTrue(cache.put(schemaKey, schema));
+
+    Assertions.assertEquals(Optional.of(catalog), cache.getIfPresent(catalogKey));
+    Assertions.assertEquals(Optional.of(schema), cache.getIfPresent(schemaKey));
+  }
+
+  @Test
+  void testUnsupportedEntriesAreNotStored() {
+    OffHeapEntityCache cache = new OffHeapEntityCache(1024 * 1024, 1024 * 1024, 0, key -> {});
+    Entity model = TestUtil.getTestModelEntity();
+    TableEntity table = newTable(1L, "t1");
+
+    Assertions.assertFalse(
+        cache.put(
+            EntityCacheRelationKey.of(NameIdentifier.of("m1", "c1", "s1", "model"), model.type()),
+            model));
+    Assertions.assertFalse(
+        cache.put(
+            EntityCacheRelationKey.of(
+                table.nameIdentifier(),
+                table.type(),
+                SupportsRelationOperations.Type.TAG_METADATA_OBJECT_REL),
+            table));
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testOldestSegmentIsRecycled() {
+    List<EntityCacheRelationKey> dropped = new ArrayList<>();
+    // Two segments, each holding a couple of tables.
+    OffHeapEntityCache cache = new OffHeapEntityCache(4096, 2048, 0, dropped::add);
+
+    List<EntityCacheRelationKey> keys = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      TableEntity table = newTable(i, "t" + i);
+      EntityCacheRelationKey key = EntityCacheRelationKey.of(table.nameIdentifier(), table.type());
+      Assertions.assertTrue(cache.put(key, table));
+      keys.add(key);
+    }
+
+    Assertions.assertEquals(4096, cache.allocatedBytes());
+    Assertions.assertFalse(dropped.isEmpty());
+    Assertions.assertEquals(keys.size(), dropped.size() + cache.size());
+    dropped.forEach(key -> Assertions.assertFalse(cache.contains(key)));
+    Assertions.assertTrue(cache.getIfPresent(keys.get(keys.size() - 1)).isPresent());
+    Assertions.assertFalse(cache.contains(keys.get(0)));
+  }
+
+  @Test
+  void testExpiredEntryIsNotServed() throws InterruptedException {
+    OffHeapEntityCache cache = new OffHeapEntityCache(1024 * 1024, 1024 * 1024, 10, key -> {});
+    TableEntity table = newTable(1L, "t1");
+    EntityCacheRelationKey key = EntityCacheRelationKey.of(table.nameIdentifier(), table.type());
+
+    cache.put(key, table);
+    Thread.sleep(20);
+    Assertions.assertFalse(cache.contains(key));
+    Assertions.assertFalse(cache.getIfPresent(key).isPresent());
+  }
+
+  @Test
+  void testCaffeineEntityCacheDemotesEvictedEntities() {
+    Config config = new Config(false) {};
+    config.set(Configs.CACHE_WEIGHER_ENABLED, false);
+    config.set(Configs.CACHE_MAX_ENTRIES, 1);
+    config.set(Configs.CACHE_OFF_HEAP_ENABLED, true);
+    config.set(Configs.CACHE_OFF_HEAP_MAX_BYTES, 1024L * 1024);
+    CaffeineEntityCache cache = new CaffeineEntityCache(config);
+
+    TableEntity table1 = newTable(1L, "t1");
+    TableEntity table2 = newTable(2L, "t2");
+    putAndAwaitDemotion(cache, table1, table2);
+    Assertions.assertEquals(2, cache.size());
+
+    // Invalidating the schema cascades to the tables in both tiers.
+    cache.invalidate(NameIdentifier.of("m1", "c1", "s1"), Entity.EntityType.SCHEMA);
+    Assertions.assertFalse(cache.contains(table1.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertFalse(cache.contains(table2.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertEquals(0, cache.size());
+
+    // The demoted table is served from the off-heap tier.
+    putAndAwaitDemotion(cache, table1, table2);
+    EntityCacheRelationKey table1Key =
+        EntityCacheRelationKey.of(table1.nameIdentifier(), Entity.EntityType.TABLE);
+    TableEntity demoted = cache.getCacheData().getIfPresent(table1Key) == null ? table1 : table2;
+    Optional<TableEntity> cached =
+        cache.getIfPresent(demoted.nameIdentifier(), Entity.EntityType.TABLE);
+    Assertions.assertTrue(cached.isPresent());
+    Assertions.assertEquals(demoted.id(), cached.get().id());
+    Assertions.assertEquals(demoted.columns().size(), cached.get().columns().size());
+  }
+
+  private static void putAndAwaitDemotion(
+      CaffeineEntityCache cache, TableEntity table1, TableEntity table2) {
+    cache.put(table1);
+    cache.put(table2);
+    cache.getCacheData().cleanUp();
+
+    // Only one table fits in the cache, the evicted one is demoted asynchronously.
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .until(
+            () ->
+                cache.getCacheData().estimatedSize() == 1
+                    && cache.contains(table1.nameIdentifier(), Entity.EntityType.TABLE)
+                    && cache.contains(table2.nameIdentifier(), Entity.EntityType.TABLE));
+  }
+
+  private static TableEntity newTable(long id, String name) {
+    List<ColumnEntity> columns =
+        Lists.newArrayList(
+            ColumnEntity.builder()
+                .withId(id * 10)
+                .withName("id")
+                .withPosition(0)
+                .withDataType(Types.LongType.get())
+                .withNullable(false)
+                .withAutoIncrement(true)
+                .withAuditInfo(TestUtil.getTestAuditInfo())
+                .build(),
+            ColumnEntity.builder()
+                .withId(id * 10 + 1)
+                .withName("name")
+                .withPosition(1)
+                .withComment("the name")
+                .withDataType(Types.VarCharType.of(255))
+                .withNullable(true)
+                .withDefaultValue(Literals.stringLiteral("unknown"))
+                .withAuditInfo(TestUtil.getTestAuditInfo())
+                .build());
+
+    return TableEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(TABLE_NAMESPACE)
+        .withAuditInfo(TestUtil.getTestAuditInfo())
+        .withColumns(columns)
+        .withComment("table " + name)
+        .withProperties(ImmutableMap.of("k1", "v1"))
+        .build();
+  }
+}
@@ -247,6 +247,33 @@ public class TestFilesetEvent {
     Assertions.assertEquals(OperationStatus.UNPROCESSED, preEvent.operationStatus());
   }
 
+  @Test
+  void testGetFileLocationEventWithAccessTime() {
+    NameIdentifier identifier = NameIdentifier.of("metalake", "catalog", fileset.name());
+    long accessTime = System.currentTimeMillis() - 60_000L;
+    Map<String, String> contextMap = Maps.newHashMap();
+    contextMap.put(
+        FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, FilesetDataOperation.OPEN.name());
+    contextMap.put(FilesetAuditConstants.ACCESS_TIME, String.valueOf(accessTime));
+    CallerContext.CallerContextHolder.set(CallerContext.builder().withContext(contextMap).build());
+    try {
+      dispatcher.getFileLocation(identifier, "test");
+    } finally {
+      CallerContext.CallerContextHolder.remove();
+    }
+
+    // A reported access is recorded at the time it happened, not when it was reported.
+    Event event = dummyEventListener.popPostEvent();
+    Assertions.assertEquals(GetFileLocationEvent.class, event.getClass());
+    Assertions.assertEquals(accessTime, event.eventTime());
+    Assertions.assertEquals(
+        ImmutableMap.of(
+            FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+            FilesetDataOperation.OPEN.name()),
+        ((GetFileLocationEvent) event).context());
+    dummyEventListener.popPreEvent();
+  }
+
   @Test
   void testCreateFilesetFailureEvent() {
     NameIdentifier identifier = NameIdentifier.of("metalake", "catalog", "fileset");
@@ -22,6 +22,7 @@ package org.apache.gravitino.lock;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -533,7 +534,7 @@ public class TestLockManager {
     TreeLockNode spyNode = Mockito.spy(treeLockNode);
     Mockito.doThrow(new RuntimeException("Mock exception"))
         .when(spyNode)
-        .getOrCreateChild(Mockito.any());
+        .getOrCreateChild(Mockito.any(), Mockito.any());
 
     if (level == 0) {
       lockManager.treeLockRootNode = spyNode;
@@ -669,4 +670,64 @@ public class TestLockManager {
     lockManager.createTreeLock(NameIdentifier.of("/"));
     Assertions.assertEquals(2L, lockManager.totalNodeCount.get(), "Should have 2 nodes");
   }
+
+  @Test
+  void testOptimisticRead() {
+    Config config = getConfig();
+    NameIdentifier identifier = NameIdentifier.of("a", "b", "c");
+    Assertions.assertNull(new LockManager(config).tryOptimisticRead(identifier));
+
+    Mockito.when(config.get(TREE_LOCK_OPTIMISTIC_READ_ENABLED)).thenReturn(true);
+    LockManager lockManager = new LockManager(config);
+    Assertions.assertTrue(lockManager.optimisticReadEnabled);
+    // The tree lock nodes of the path have not been created yet.
+    Assertions.assertNull(lockManager.tryOptimisticRead(identifier));
+
+    TreeLock readLock = lockManager.createTreeLock(identifier);
+    readLock.lock(LockType.READ);
+    TreeLockStamp stamp = lockManager.tryOptimisticRead(identifier);
+    Assertions.assertNotNull(stamp);
+    readLock.unlock();
+    // Readers don't invalidate the stamp.
+    Assertions.assertTrue(stamp.validate());
+
+    TreeLock writeLock = lockManager.createTreeLock(NameIdentifier.of("a", "b"));
+    writeLock.lock(LockType.WRITE);
+    // The parent node is exclusively locked.
+    Assertions.assertNull(lockManager.tryOptimisticRead(identifier));
+    Assertions.assertFalse(stamp.validate());
+    writeLock.unlock();
+    Assertions.assertFalse(stamp.validate());
+
+    // Writers on the sibling nodes don't invalidate the stamp.
+    stamp = lockManager.tryOptimisticRead(identifier);
+    Assertions.assertNotNull(stamp);
+    TreeLock siblingLock = lockManager.createTreeLock(NameIdentifier.of("a", "b", "d"));
+    siblingLock.lock(LockType.WRITE);
+    siblingLock.unlock();
+    Assertions.assertTrue(stamp.validate());
+
+    // Reentrant write locks keep the node exclusively locked until the outermost unlock.
+    TreeLock outerLock = lockManager.createTreeLock(identifier);
+    outerLock.lock(LockType.WRITE);
+    TreeLock innerLock = lockManager.createTreeLock(identifier);
+    innerLock.lock(LockType.WRITE);
+    Assertions.assertNull(lockManager.tryOptimisticRead(identifier));
+    innerLock.unlock();
+    Assertions.assertNull(lockManager.tryOptimisticRead(identifier));
+    outerLock.unlock();
+
+    // Eviction invalidates the stamp.
+    stamp = lockManager.tryOptimisticRead(identifier);
+    Assertions.assertNotNull(stamp);
+    lockManager.minTreeNodeInMemory = 0;
+    lockManager
+        .treeLockRootNode
+        .getAllChildren()
+        .forEach(child -> lockManager.evictStaleNodes(child, lockManager.treeLockRootNode));
+    Assertions.assertFalse(stamp.validate());
+    Assertions.assertNull(lockManager.tryOptimisticRead(identifier));
+
+    Assertions.assertNotNull(lockManager.tryOptimisticRead(LockManager.ROOT));
+  }
 }
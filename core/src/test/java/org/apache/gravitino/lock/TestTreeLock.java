@@ -24,8 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.gravitino.NameIdentifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -88,7 +87,7 @@ class TestTreeLock {
     // Mock the lock method of the second node to throw an exception
     doThrow(new RuntimeException("Mock exception")).when(mockNode2).lock(Mockito.any());
 
-    List<TreeLockNode> lockNodes = Arrays.asList(mockNode1, mockNode2, mockNode3);
+    TreeLockNode[] lockNodes = new TreeLockNode[] {mockNode1, mockNode2, mockNode3};
     TreeLock treeLock = new TreeLock(lockNodes, TestLockManager.randomNameIdentifier());
 
     assertThrows(
@@ -114,9 +113,9 @@ class TestTreeLock {
   @Test
   void testUnlockWithMissingHoldingTimestamp() {
     TreeLockNode rootNode = new TreeLockNode("root");
-    TreeLockNode childNode = rootNode.getOrCreateChild("child").getLeft();
+    TreeLockNode childNode = rootNode.getOrCreateChild("child", new AtomicLong());
     TreeLock treeLock =
-        new TreeLock(Arrays.asList(rootNode, childNode), NameIdentifier.of("root", "child"));
+        new TreeLock(new TreeLockNode[] {rootNode, childNode}, NameIdentifier.of("root", "child"));
 
     treeLock.lock(LockType.WRITE);
     childNode.getHoldingThreadTimestamp().clear();
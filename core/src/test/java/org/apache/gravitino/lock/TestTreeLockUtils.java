@@ -22,13 +22,16 @@ package org.apache.gravitino.lock;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class TestTreeLockUtils {
@@ -48,4 +51,51 @@ public class TestTreeLockUtils {
             TreeLockUtils.doWithTreeLock(
                 NameIdentifier.of("test", "test1"), LockType.WRITE, () -> null));
   }
+
+  @Test
+  void testOptimisticRead() throws Exception {
+    Config config = mock(Config.class);
+    doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(true).when(config).get(TREE_LOCK_OPTIMISTIC_READ_ENABLED);
+    LockManager lockManager = new LockManager(config);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", lockManager, true);
+
+    NameIdentifier identifier = NameIdentifier.of("test", "test1");
+    AtomicInteger executions = new AtomicInteger();
+    // The first read creates the tree lock nodes with the read lock.
+    Assertions.assertEquals(
+        1,
+        TreeLockUtils.doWithOptimisticReadTreeLock(identifier, executions::incrementAndGet));
+
+    // The nodes exist now, so the read goes without any lock.
+    Assertions.assertEquals(
+        2,
+        TreeLockUtils.doWithOptimisticReadTreeLock(identifier, executions::incrementAndGet));
+
+    // A writer intervenes during the optimistic read, the read is executed again with the lock.
+    Assertions.assertEquals(
+        4,
+        TreeLockUtils.doWithOptimisticReadTreeLock(
+            identifier,
+            () -> {
+              if (executions.incrementAndGet() == 3) {
+                TreeLock lock = lockManager.createTreeLock(NameIdentifier.of("test"));
+                lock.lock(LockType.WRITE);
+                lock.unlock();
+                throw new IllegalStateException("Read an inconsistent state");
+              }
+              return executions.get();
+            }));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            TreeLockUtils.doWithOptimisticReadTreeLock(
+                identifier,
+                () -> {
+                  throw new IllegalArgumentException("mock");
+                }));
+  }
 }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSnowflakeIdGenerator {
+
+  @Test
+  void testIdsIncreaseAndEncodeNodeId() {
+    AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1000);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, clock::get);
+
+    long previous = -1;
+    for (int i = 0; i < 5000; i++) {
+      if (i % 100 == 0) {
+        clock.incrementAndGet();
+      }
+      long id = generator.nextId();
+      Assertions.assertTrue(id > previous);
+      Assertions.assertEquals(5, (id >>> 10) & SnowflakeIdGenerator.MAX_NODE_ID);
+      previous = id;
+    }
+  }
+
+  @Test
+  void testSequenceOverflowAndClockGoingBackwards() {
+    AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1000);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+    // More ids than the sequence can hold within one millisecond
+    long previous = -1;
+    for (int i = 0; i < 3000; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > previous);
+      previous = id;
+    }
+    Assertions.assertTrue(previous >>> 22 > 1000);
+
+    // The clock moving backwards must not produce smaller ids
+    clock.addAndGet(-500);
+    for (int i = 0; i < 100; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > previous);
+      previous = id;
+    }
+  }
+
+  @Test
+  void testConcurrentIdsAreUnique() throws Exception {
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    int threads = 8;
+    int idsPerThread = 20_000;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (Future<?> future :
+          IntStream.range(0, threads)
+              .mapToObj(
+                  t ->
+                      executor.submit(
+                          () -> {
+                            for (int i = 0; i < idsPerThread; i++) {
+                              long id = generator.nextId();
+                              Assertions.assertTrue(id > 0);
+                              ids.add(id);
+                            }
+                          }))
+              .collect(Collectors.toList())) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals(threads * idsPerThread, ids.size());
+  }
+
+  @Test
+  void testInvalidNodeId() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+  }
+
+  @Test
+  void testCreateIdGeneratorFromConfig() {
+    Config config = new Config(false) {};
+    Assertions.assertInstanceOf(
+        RandomIdGenerator.class, IdGeneratorFactory.createIdGenerator(config));
+
+    config.set(Configs.ID_GENERATOR_TYPE, Configs.SNOWFLAKE_ID_GENERATOR);
+    // The snowflake id generator requires an explicit node id.
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> IdGeneratorFactory.createIdGenerator(config));
+
+    config.set(Configs.ID_GENERATOR_NODE_ID, 42);
+    IdGenerator generator = IdGeneratorFactory.createIdGenerator(config);
+    Assertions.assertInstanceOf(SnowflakeIdGenerator.class, generator);
+    Assertions.assertEquals(42, ((SnowflakeIdGenerator) generator).nodeId());
+  }
+}
@@ -20,12 +20,14 @@ package org.apache.gravitino.storage.relational;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -217,6 +219,77 @@ public class TestEntityChangeLogPoller {
     verify(mapper, never()).pruneOldEntityChanges(anyLong());
   }
 
+  @Test
+  void testDrainsFullBatchesInOneCycle() {
+    EntityChangeLogMapper mapper = mock(EntityChangeLogMapper.class);
+    List<EntityChangeRecord> fullBatch = new ArrayList<>();
+    for (long id = 1; id <= 500; id++) {
+      fullBatch.add(change(id, "CATALOG", "ml1.cat" + id));
+    }
+    EntityChangeRecord last = change(501L, "SCHEMA", "ml1.cat1.sch1");
+    when(mapper.selectEntityChanges(0L, 500)).thenReturn(fullBatch);
+    when(mapper.selectEntityChanges(500L, 500)).thenReturn(List.of(last));
+
+    List<EntityChangeRecord> received = new ArrayList<>();
+
+    try (MockedStatic<SessionUtils> sessionUtils = mockStatic(SessionUtils.class)) {
+      mockSessionUtils(sessionUtils, mapper);
+
+      EntityChangeLogPoller poller = new EntityChangeLogPoller(1);
+      poller.registerListener(received::addAll);
+
+      Assertions.assertEquals(501, poller.pollChanges());
+    }
+
+    Assertions.assertEquals(501, received.size());
+    Assertions.assertEquals(last, received.get(500));
+    verify(mapper, never()).selectEntityChanges(501L, 500);
+  }
+
+  @Test
+  void testNotifiesPeersThroughNotifier() throws IOException {
+    EntityChangeLogMapper mapper = mock(EntityChangeLogMapper.class);
+    EntityChangeNotifier notifier = mock(EntityChangeNotifier.class);
+
+    try (MockedStatic<SessionUtils> sessionUtils = mockStatic(SessionUtils.class)) {
+      mockSessionUtils(sessionUtils, mapper);
+
+      EntityChangeLogPoller poller =
+          new EntityChangeLogPoller(
+              60, 600, TimeUnit.DAYS.toMillis(1), TimeUnit.HOURS.toMillis(1), notifier);
+      poller.start();
+      verify(notifier).start(any(Runnable.class));
+
+      poller.notifyPeers();
+      verify(notifier).notifyChange();
+
+      // A failed notification must not fail the entity operation.
+      doThrow(new RuntimeException("send failed")).when(notifier).notifyChange();
+      Assertions.assertDoesNotThrow(poller::notifyPeers);
+
+      // A peer change after close is ignored.
+      poller.close();
+      Assertions.assertDoesNotThrow(poller::onPeerChange);
+    }
+
+    verify(notifier).close();
+  }
+
+  @Test
+  void testNotifyPeersWithoutNotifier() {
+    EntityChangeLogPoller poller = new EntityChangeLogPoller(1);
+    Assertions.assertDoesNotThrow(poller::notifyPeers);
+    // The poller isn't started, so there is no poll to wake up.
+    Assertions.assertDoesNotThrow(poller::onPeerChange);
+  }
+
+  @Test
+  void testRejectsNonPositiveMaxPollInterval() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new EntityChangeLogPoller(1, 0, 0L, TimeUnit.HOURS.toMillis(1), null));
+  }
+
   private static EntityChangeRecord change(long id, String type, String fullName) {
     return new EntityChangeRecord(id, "ml1", type, fullName, OperateType.ALTER, 0L);
   }
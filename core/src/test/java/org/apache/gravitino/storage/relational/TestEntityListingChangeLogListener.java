@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.List;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.storage.relational.po.cache.EntityChangeRecord;
+import org.apache.gravitino.storage.relational.po.cache.OperateType;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityListingChangeLogListener {
+
+  @Test
+  void testInvalidatesListingsOfChangedEntities() {
+    EntityCache cache = mock(EntityCache.class);
+    EntityListingChangeLogListener listener = new EntityListingChangeLogListener(cache);
+
+    listener.onEntityChange(
+        List.of(
+            change(1L, "TABLE", "ml1.cat1.sch1.tbl1", OperateType.INSERT),
+            change(2L, "schema", "ml1.cat1.sch1", OperateType.DROP)));
+
+    verify(cache)
+        .invalidateListings(
+            NameIdentifier.of("ml1", "cat1", "sch1", "tbl1"), Entity.EntityType.TABLE);
+    verify(cache)
+        .invalidateListings(NameIdentifier.of("ml1", "cat1", "sch1"), Entity.EntityType.SCHEMA);
+    verifyNoMoreInteractions(cache);
+  }
+
+  @Test
+  void testSkipsInvalidRecords() {
+    EntityCache cache = mock(EntityCache.class);
+    EntityListingChangeLogListener listener = new EntityListingChangeLogListener(cache);
+
+    listener.onEntityChange(
+        List.of(
+            change(1L, null, "ml1.cat1", OperateType.INSERT),
+            change(2L, "CATALOG", null, OperateType.INSERT),
+            change(3L, "UNKNOWN", "ml1.cat1", OperateType.ALTER),
+            change(4L, "CATALOG", "ml1.cat2", OperateType.INSERT)));
+
+    verify(cache).invalidateListings(NameIdentifier.of("ml1", "cat2"), Entity.EntityType.CATALOG);
+    verifyNoMoreInteractions(cache);
+  }
+
+  private static EntityChangeRecord change(
+      long id, String type, String fullName, OperateType operateType) {
+    return new EntityChangeRecord(id, "ml1", type, fullName, operateType, 0L);
+  }
+}
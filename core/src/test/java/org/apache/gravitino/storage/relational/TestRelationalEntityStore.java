@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 import java.util.function.Function;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -33,6 +34,8 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.cache.NoOpsCache;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaEntity;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -228,4 +231,59 @@ public class TestRelationalEntityStore {
             Entity.EntityType.TABLE,
             SupportsRelationOperations.Type.TAG_METADATA_OBJECT_REL);
   }
+
+  @Test
+  void testBatchGetIssuesOneBackendCallPerNamespace() throws IOException {
+    NameIdentifier schema1 = NameIdentifier.of("metalake", "catalog1", "schema1");
+    NameIdentifier schema2 = NameIdentifier.of("metalake", "catalog2", "schema2");
+    NameIdentifier schema3 = NameIdentifier.of("metalake", "catalog1", "schema3");
+    SchemaEntity entity1 = schemaEntity(1L, schema1);
+    SchemaEntity entity2 = schemaEntity(2L, schema2);
+    SchemaEntity entity3 = schemaEntity(3L, schema3);
+
+    Mockito.doReturn(List.of(entity1, entity3))
+        .when(backend)
+        .batchGet(List.of(schema1, schema3), Entity.EntityType.SCHEMA);
+    Mockito.doReturn(List.of(entity2))
+        .when(backend)
+        .batchGet(List.of(schema2), Entity.EntityType.SCHEMA);
+
+    List<SchemaEntity> entities =
+        store.batchGet(
+            List.of(schema1, schema2, schema3), Entity.EntityType.SCHEMA, SchemaEntity.class);
+
+    Assertions.assertEquals(List.of(entity1, entity3, entity2), entities);
+    Mockito.verify(backend).batchGet(List.of(schema1, schema3), Entity.EntityType.SCHEMA);
+    Mockito.verify(backend).batchGet(List.of(schema2), Entity.EntityType.SCHEMA);
+    Mockito.verify(backend, Mockito.times(2)).batchGet(any(), eq(Entity.EntityType.SCHEMA));
+  }
+
+  @Test
+  void testBatchPutUpdatesCacheAfterBackendBatchPut() throws IOException, IllegalAccessException {
+    SchemaEntity entity1 = schemaEntity(1L, NameIdentifier.of("metalake", "catalog", "schema1"));
+    SchemaEntity entity2 = schemaEntity(2L, NameIdentifier.of("metalake", "catalog", "schema2"));
+    NoOpsCache cache = (NoOpsCache) FieldUtils.readField(store, "cache", true);
+
+    store.batchPut(List.of(entity1, entity2), false);
+
+    InOrder inOrder = Mockito.inOrder(backend, cache);
+    inOrder.verify(backend).batchPut(List.of(entity1, entity2), false);
+    inOrder.verify(cache).put(entity1);
+    inOrder.verify(cache).put(entity2);
+
+    store.batchPut(List.of(entity1), true);
+
+    inOrder.verify(backend).batchPut(List.of(entity1), true);
+    inOrder.verify(cache).invalidate(entity1.nameIdentifier(), Entity.EntityType.SCHEMA);
+  }
+
+  private static SchemaEntity schemaEntity(long id, NameIdentifier ident) {
+    return SchemaEntity.builder()
+        .withId(id)
+        .withName(ident.name())
+        .withNamespace(ident.namespace())
+        .withAuditInfo(
+            AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+        .build();
+  }
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRelationalGarbageCollector {
+
+  private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+  @Test
+  void testCollectAndCleanDeletesEveryTypeUntilNothingLeft() throws IOException {
+    RelationalBackend backend = mock(RelationalBackend.class);
+    when(backend.hardDeleteLegacyData(any(), anyLong())).thenReturn(0);
+    when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong()))
+        .thenReturn(100, 100, 0);
+    when(backend.deleteOldVersionData(any(), anyLong())).thenReturn(0);
+    when(backend.deleteOldVersionData(eq(Entity.EntityType.FILESET), anyLong()))
+        .thenReturn(100, 0);
+
+    RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(backend, config(null), clock::get);
+    collector.collectAndClean();
+
+    verify(backend, times(3)).hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong());
+    verify(backend, times(2)).deleteOldVersionData(eq(Entity.EntityType.FILESET), eq(1L));
+    for (Entity.EntityType type : Entity.EntityType.values()) {
+      verify(backend, atLeastOnce())
+          .hardDeleteLegacyData(eq(type), eq(clock.get() - 20 * 60 * 1000L));
+    }
+    Assertions.assertEquals(0, collector.cursor());
+  }
+
+  @Test
+  void testCollectAndCleanResumesFromCursorAfterRunTimeBudget() throws IOException {
+    RelationalBackend backend = mock(RelationalBackend.class);
+    AtomicInteger tableChunks = new AtomicInteger(6);
+    when(backend.hardDeleteLegacyData(any(), anyLong()))
+        .thenAnswer(
+            invocation -> {
+              clock.addAndGet(10);
+              if (invocation.getArgument(0) == Entity.EntityType.TABLE) {
+                return tableChunks.getAndDecrement() > 0 ? 100 : 0;
+              }
+              return 0;
+            });
+    when(backend.deleteOldVersionData(any(), anyLong())).thenReturn(0);
+
+    RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(backend, config(null), clock::get);
+    int tableStep = Entity.EntityType.TABLE.ordinal();
+
+    // The budget runs out while the table legacy data is being deleted
+    collector.collectAndClean(tableStep * 10L + 30);
+    Assertions.assertEquals(tableStep, collector.cursor());
+    verify(backend, times(0)).deleteOldVersionData(any(), anyLong());
+
+    // The next run continues with the table legacy data instead of starting over
+    collector.collectAndClean(Long.MAX_VALUE);
+    Assertions.assertEquals(0, collector.cursor());
+    verify(backend, times(1)).hardDeleteLegacyData(eq(Entity.EntityType.METALAKE), anyLong());
+    verify(backend, times(7)).hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong());
+    verify(backend, times(1)).deleteOldVersionData(eq(Entity.EntityType.FILESET), anyLong());
+  }
+
+  @Test
+  void testSlowStatementsBackOff() throws IOException {
+    RelationalBackend backend = mock(RelationalBackend.class);
+    AtomicInteger chunks = new AtomicInteger(3);
+    when(backend.hardDeleteLegacyData(any(), anyLong())).thenReturn(0);
+    when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong()))
+        .thenAnswer(
+            invocation -> {
+              // Every statement is slower than the threshold
+              clock.addAndGet(50);
+              return chunks.getAndDecrement() > 0 ? 100 : 0;
+            });
+    when(backend.deleteOldVersionData(any(), anyLong())).thenReturn(0);
+
+    RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(backend, config(5L), clock::get);
+    collector.collectAndClean();
+
+    // The pause doubles for every slow statement that deleted rows
+    Assertions.assertEquals(20L, collector.backoffMs());
+    verify(backend, times(4)).hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong());
+  }
+
+  private static Config config(Long slowStatementThresholdMs) {
+    Config config = mock(Config.class);
+    when(config.get(Configs.STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    when(config.get(Configs.VERSION_RETENTION_COUNT)).thenReturn(1L);
+    when(config.get(Configs.ENTITY_STORE_GC_MAX_ROWS_PER_SECOND)).thenReturn(0);
+    when(config.get(Configs.ENTITY_STORE_GC_SLOW_STATEMENT_THRESHOLD_MS))
+        .thenReturn(slowStatementThresholdMs);
+    return config;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestUdpMulticastEntityChangeNotifier {
+
+  private UdpMulticastEntityChangeNotifier first;
+  private UdpMulticastEntityChangeNotifier second;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    int port;
+    try (DatagramSocket socket = new DatagramSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    Map<String, String> properties =
+        Map.of(
+            UdpMulticastEntityChangeNotifier.GROUP,
+            UdpMulticastEntityChangeNotifier.DEFAULT_GROUP,
+            UdpMulticastEntityChangeNotifier.PORT,
+            String.valueOf(port),
+            UdpMulticastEntityChangeNotifier.TTL,
+            "0");
+
+    first = new UdpMulticastEntityChangeNotifier();
+    second = new UdpMulticastEntityChangeNotifier();
+    try {
+      first.initialize(properties);
+      second.initialize(properties);
+    } catch (RuntimeException e) {
+      Assumptions.abort("Multicast is not available on this host: " + e.getMessage());
+    }
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    first.close();
+    second.close();
+  }
+
+  @Test
+  void testNotifiesPeersButNotItself() throws InterruptedException {
+    AtomicInteger firstChanges = new AtomicInteger();
+    AtomicInteger secondChanges = new AtomicInteger();
+    first.start(firstChanges::incrementAndGet);
+    second.start(secondChanges::incrementAndGet);
+
+    first.notifyChange();
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .pollInterval(10, TimeUnit.MILLISECONDS)
+        .until(() -> secondChanges.get() > 0);
+
+    second.notifyChange();
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .pollInterval(10, TimeUnit.MILLISECONDS)
+        .until(() -> firstChanges.get() > 0);
+
+    // Give the notifiers time to receive their own datagrams through the loopback, which are
+    // dropped.
+    Thread.sleep(500);
+    Assertions.assertEquals(1, firstChanges.get());
+    Assertions.assertEquals(1, secondChanges.get());
+  }
+
+  @Test
+  void testReceiverStopsOnClose() throws IOException, InterruptedException {
+    first.start(() -> {});
+    Thread receiver = first.receiver();
+    Assertions.assertTrue(receiver.isAlive());
+
+    first.close();
+    receiver.join(TimeUnit.SECONDS.toMillis(10));
+    Assertions.assertFalse(receiver.isAlive());
+  }
+}
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
@@ -75,6 +76,21 @@ public class TestEntityChangeLogService extends TestJDBCBackend {
         String.format("Missing %s %s changelog for %s", entityType, operateType, fullName));
   }
 
+  @TestTemplate
+  void testRecordCreations() throws IOException {
+    createAndInsertMakeLake(METALAKE_NAME);
+
+    long maxIdBeforeCreate = maxEntityChangeId();
+    NameIdentifier catalogIdent = NameIdentifierUtil.ofCatalog(METALAKE_NAME, CATALOG_NAME);
+    backend.recordCreations(List.of(catalogIdent), Entity.EntityType.CATALOG);
+    assertEntityChange(
+        maxIdBeforeCreate,
+        METALAKE_NAME,
+        Entity.EntityType.CATALOG,
+        catalogIdent.toString(),
+        OperateType.INSERT);
+  }
+
   @TestTemplate
   void testMetalakeChangeLogOnRenameAndDrop() throws IOException {
     BaseMetalake metalake = createAndInsertMakeLake(METALAKE_NAME);
@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -432,6 +433,83 @@ public class TestTableMetaService extends TestJDBCBackend {
         "batchGetTableByIdentifier does not fetch columns from table_column_meta");
   }
 
+  @TestTemplate
+  public void testBatchInsertTables() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    createAndInsertCatalog(metalakeName, catalogName);
+    createAndInsertSchema(metalakeName, catalogName, schemaName);
+    createAndInsertSchema(metalakeName, catalogName, schemaName + "_2");
+
+    List<TableEntity> tables = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      String schema = i % 2 == 0 ? schemaName : schemaName + "_2";
+      tables.add(
+          createTableEntityWithColumns(
+              RandomIdGenerator.INSTANCE.nextId(),
+              NamespaceUtil.ofTable(metalakeName, catalogName, schema),
+              "table" + i,
+              "comment",
+              List.of(createColumn("col1", 0), createColumn("col2", 1))));
+    }
+
+    // A chunk size smaller than the number of tables writes them in several transactions
+    TableMetaService.getInstance().batchInsertTables(tables, false, 2);
+    for (TableEntity table : tables) {
+      TableEntity tableFromStore =
+          TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+      Assertions.assertEquals(table.id(), tableFromStore.id());
+      Assertions.assertEquals("comment", tableFromStore.comment());
+      compareTwoColumns(table.columns(), tableFromStore.columns());
+    }
+
+    assertThrows(
+        EntityAlreadyExistsException.class,
+        () -> TableMetaService.getInstance().batchInsertTables(tables.subList(0, 1), false, 2));
+
+    List<TableEntity> overwrittenTables =
+        tables.stream()
+            .map(
+                table ->
+                    createTableEntityWithColumns(
+                        table.id(),
+                        table.namespace(),
+                        table.name(),
+                        "new comment",
+                        List.of(createColumn("col3", 0))))
+            .collect(Collectors.toList());
+    backend.batchPut(overwrittenTables, true);
+    for (TableEntity table : overwrittenTables) {
+      TableEntity tableFromStore =
+          TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+      Assertions.assertEquals("new comment", tableFromStore.comment());
+      compareTwoColumns(table.columns(), tableFromStore.columns());
+    }
+  }
+
+  private TableEntity createTableEntityWithColumns(
+      Long id, Namespace namespace, String name, String comment, List<ColumnEntity> columns) {
+    return TableEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(namespace)
+        .withComment(comment)
+        .withColumns(columns)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private ColumnEntity createColumn(String name, int position) {
+    return ColumnEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withPosition(position)
+        .withDataType(Types.IntegerType.get())
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
   private void compareTwoColumns(
       List<ColumnEntity> expectedColumns, List<ColumnEntity> actualColumns) {
     Assertions.assertEquals(expectedColumns.size(), actualColumns.size());
@@ -22,6 +22,7 @@ plugins {
   `maven-publish`
   id("java")
   id("idea")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -113,4 +114,20 @@ dependencies {
   testImplementation(libs.sqlite.jdbc)
 
   testRuntimeOnly(libs.junit.jupiter.engine)
+
+  jmhImplementation(libs.sqlite.jdbc)
+}
+
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses").configure {
+  options.errorprone.isEnabled = false
+  options.compilerArgs.removeAll { it.contains("Xplugin:ErrorProne") }
+}
+
+jmh {
+  jmhVersion.set(libs.versions.jmh.asProvider())
+  warmupIterations = 3
+  iterations = 5
+  fork = 1
+  resultFormat = "csv"
+  resultsFile = file("$buildDir/reports/jmh/results.csv")
 }
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.SupportsNamespaces;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * IcebergTableCommitBenchmark compares the table commits of {@link IcebergCatalogWrapper} with and
+ * without reusing the base of the previous commit, see {@link IcebergTableCommitter}.
+ *
+ * <p>The benchmark simulates streaming writers which commit their tables at every checkpoint: the
+ * commits go round robin over {@code tableCount} tables of a JDBC catalog, so every table is
+ * committed again shortly after its previous commit. 1k commits per minute leave a commit 60 ms
+ * of one committing thread, compare the average time of a commit with this budget. {@code
+ * columnCount} controls the size of the table metadata which is read again when the base is not
+ * reused.
+ *
+ * <p>The catalog is backed by SQLite, which serializes the writers, so the benchmark runs with a
+ * single thread, see {@link #main(String[])}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class IcebergTableCommitBenchmark {
+  private static final Namespace NAMESPACE = Namespace.of("db");
+
+  @Param({"false", "true"})
+  public boolean reuseBase;
+
+  @Param({"100"})
+  public int tableCount;
+
+  @Param({"10", "1000"})
+  public int columnCount;
+
+  private Path warehouseDir;
+  private IcebergCatalogWrapper wrapper;
+  private TableIdentifier[] tables;
+  private final AtomicLong commits = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    this.warehouseDir = Files.createTempDirectory("iceberg-commit-benchmark");
+    Map<String, String> config = new HashMap<>();
+    config.put(IcebergConstants.CATALOG_BACKEND, "jdbc");
+    config.put(
+        IcebergConstants.URI, "jdbc:sqlite:" + warehouseDir.resolve("catalog.db").toString());
+    config.put(IcebergConstants.WAREHOUSE, warehouseDir.toString());
+    config.put(IcebergConstants.GRAVITINO_JDBC_DRIVER, "org.sqlite.JDBC");
+    config.put(IcebergConstants.ICEBERG_JDBC_USER, "benchmark");
+    config.put(IcebergConstants.ICEBERG_JDBC_PASSWORD, "benchmark");
+    config.put(IcebergConstants.ICEBERG_JDBC_INITIALIZE, "true");
+    if (!reuseBase) {
+      // The base is only reused with the table metadata cache.
+      config.put(IcebergConstants.TABLE_METADATA_CACHE_IMPL, "");
+    }
+    this.wrapper = new IcebergCatalogWrapper(new IcebergConfig(config));
+
+    ((SupportsNamespaces) wrapper.getCatalog()).createNamespace(NAMESPACE);
+    List<Types.NestedField> columns = new ArrayList<>();
+    for (int i = 1; i <= columnCount; i++) {
+      columns.add(Types.NestedField.optional(i, "column_" + i, Types.StringType.get()));
+    }
+    Schema schema = new Schema(columns);
+    this.tables = new TableIdentifier[tableCount];
+    for (int i = 0; i < tableCount; i++) {
+      tables[i] = TableIdentifier.of(NAMESPACE, "table_" + i);
+      wrapper.getCatalog().createTable(tables[i], schema);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    wrapper.close();
+    try (Stream<Path> paths = Files.walk(warehouseDir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public LoadTableResponse benchmarkCommit() {
+    long commit = commits.incrementAndGet();
+    TableIdentifier table = tables[(int) (commit % tables.length)];
+    UpdateTableRequest request =
+        new UpdateTableRequest(
+            ImmutableList.of(),
+            ImmutableList.of(
+                new MetadataUpdate.SetProperties(
+                    ImmutableMap.of("flink.last-checkpoint-id", String.valueOf(commit)))));
+    return wrapper.updateTable(table, request);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options =
+        new OptionsBuilder()
+            .include(IcebergTableCommitBenchmark.class.getSimpleName())
+            .warmupIterations(3)
+            .measurementIterations(5)
+            .forks(1)
+            .threads(1)
+            .build();
+    new Runner(options).run();
+  }
+}
@@ -197,6 +197,24 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(1000);
 
+  public static final ConfigEntry<Integer> ICEBERG_METRICS_BATCH_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_BATCH_SIZE)
+          .doc("The max number of Iceberg metrics reports written to the metrics store at once")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Long> ICEBERG_METRICS_BATCH_LINGER_MS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_BATCH_LINGER_MS)
+          .doc(
+              "The max time in milliseconds to wait for more Iceberg metrics reports before "
+                  + "writing a batch, 0 means write the queued reports immediately")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100L);
+
   public static final ConfigEntry<String> CATALOG_BACKEND_NAME =
       new ConfigBuilder(IcebergConstants.CATALOG_BACKEND_NAME)
           .doc("The catalog name for Iceberg catalog backend")
@@ -317,6 +335,22 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .intConf()
           .createWithDefault(60);
 
+  public static final ConfigEntry<String> TABLE_METADATA_SHARED_STORE_IMPL =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_SHARED_STORE_IMPL)
+          .doc(
+              "The implementation of the table metadata store shared by the Iceberg REST servers "
+                  + "of a fleet, keyed by metadata file location. Empty to disable it.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .stringConf()
+          .createWithDefault("");
+
+  public static final ConfigEntry<String> TABLE_METADATA_SHARED_STORE_PATH =
+      new ConfigBuilder(IcebergConstants.TABLE_METADATA_SHARED_STORE_PATH)
+          .doc("The directory of the local file table metadata store")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .stringConf()
+          .create();
+
   public static final ConfigEntry<String> SCAN_PLAN_CACHE_IMPL =
       new ConfigBuilder(IcebergConstants.SCAN_PLAN_CACHE_IMPL)
           .doc("The implementation of the scan plan cache")
@@ -341,6 +375,41 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(60);
 
+  public static final ConfigEntry<Long> SCAN_PLAN_CACHE_MAX_WEIGHT_BYTES =
+      new ConfigBuilder(IcebergConstants.SCAN_PLAN_CACHE_MAX_WEIGHT_BYTES)
+          .doc(
+              "Maximum estimated size in bytes of the cached scan plans. When positive, the scan "
+                  + "plan cache is bounded by size instead of by the number of plans.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Boolean> MANIFEST_ENTRY_CACHE_ENABLED =
+      new ConfigBuilder(IcebergConstants.MANIFEST_ENTRY_CACHE_ENABLED)
+          .doc(
+              "Whether to cache the parsed entries of data manifests, so scans with different "
+                  + "filters on the same snapshot do not read the manifests again.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> MANIFEST_ENTRY_CACHE_MAX_WEIGHT_BYTES =
+      new ConfigBuilder(IcebergConstants.MANIFEST_ENTRY_CACHE_MAX_WEIGHT_BYTES)
+          .doc("Maximum estimated size in bytes of the cached manifest entries.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(256L * 1024 * 1024);
+
+  public static final ConfigEntry<Integer> MANIFEST_ENTRY_CACHE_EXPIRE_MINUTES =
+      new ConfigBuilder(IcebergConstants.MANIFEST_ENTRY_CACHE_EXPIRE_MINUTES)
+          .doc("Time in minutes after which cached manifest entries expire if not accessed.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60);
+
   public static final ConfigEntry<Integer> ASYNC_CLEANUP_WORKER_THREADS =
       new ConfigBuilder("async-cleanup.worker-threads")
           .doc("Worker pool size per server (concurrent async cleanup jobs).")
@@ -397,6 +466,68 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(720);
 
+  public static final ConfigEntry<Boolean> SCAN_PLANNING_ASYNC_ENABLED =
+      new ConfigBuilder("scan-planning.async-enabled")
+          .doc(
+              "Whether to plan table scans asynchronously. When enabled, the plan endpoint "
+                  + "returns a plan id and clients fetch the scan tasks in bounded plan tasks.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> SCAN_PLANNING_THREADS =
+      new ConfigBuilder("scan-planning.threads")
+          .doc("Number of threads per catalog that run asynchronous scan plans.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Integer> SCAN_PLANNING_MAX_PLANS_IN_FLIGHT =
+      new ConfigBuilder("scan-planning.max-plans-in-flight")
+          .doc(
+              "Maximum number of asynchronous scan plans kept per catalog. New plans are rejected "
+                  + "once the limit is reached.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(64);
+
+  public static final ConfigEntry<Integer> SCAN_PLANNING_TASKS_PER_PLAN_TASK =
+      new ConfigBuilder("scan-planning.tasks-per-plan-task")
+          .doc("Maximum number of file scan tasks returned by one plan task.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  public static final ConfigEntry<Integer> SCAN_PLANNING_MAX_BUFFERED_PLAN_TASKS =
+      new ConfigBuilder("scan-planning.max-buffered-plan-tasks")
+          .doc(
+              "Maximum number of plan tasks buffered per plan before planning pauses until clients "
+                  + "fetch them.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Integer> SCAN_PLANNING_EXPIRE_SECS =
+      new ConfigBuilder("scan-planning.expire-secs")
+          .doc("Seconds after which an asynchronous scan plan that is not accessed is discarded.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(300);
+
+  public static final ConfigEntry<Boolean> RESPONSE_COMPRESSION_ENABLED =
+      new ConfigBuilder("response-compression-enabled")
+          .doc(
+              "Whether to compress responses with gzip or deflate when the client accepts it in "
+                  + "the Accept-Encoding header.")
+          .version(ConfigConstants.VERSION_1_4_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   public String getJdbcDriver() {
     return get(JDBC_DRIVER);
   }
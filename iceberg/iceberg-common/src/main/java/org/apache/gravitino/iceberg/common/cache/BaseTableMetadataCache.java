@@ -19,7 +19,12 @@
 
 package org.apache.gravitino.iceberg.common.cache;
 
+import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.utils.ClassUtils;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.slf4j.Logger;
@@ -28,12 +33,17 @@ import org.slf4j.LoggerFactory;
 /**
  * Abstract base class implementing {@link TableMetadataCache} that provides core metadata caching
  * functionality with validation of metadata location against the latest version.
+ *
+ * <p>If a {@link SharedTableMetadataStore} is configured, a local miss is looked up in the shared
+ * store by the latest metadata location, and metadata updated into the cache is also stored there.
  */
 public abstract class BaseTableMetadataCache implements TableMetadataCache {
 
   public static final Logger LOG = LoggerFactory.getLogger(BaseTableMetadataCache.class);
   /** Component to retrieve the latest metadata location for a table, used for validation. */
   private SupportsMetadataLocation supportsMetadataLocation;
+  /** The table metadata store shared by servers, null if not configured. */
+  private SharedTableMetadataStore sharedStore;
 
   /**
    * Abstract method to retrieve cached {@link TableMetadata} for a table. Subclasses must implement
@@ -49,6 +59,50 @@ public abstract class BaseTableMetadataCache implements TableMetadataCache {
     this.supportsMetadataLocation = supportsMetadataLocation;
   }
 
+  /**
+   * Initializes the metadata location validation and the shared table metadata store configured
+   * in the catalog properties.
+   *
+   * @param supportsMetadataLocation Component to resolve the latest metadata location
+   * @param catalogProperties Catalog properties holding the shared store configuration
+   */
+  protected void initialize(
+      SupportsMetadataLocation supportsMetadataLocation, Map<String, String> catalogProperties) {
+    initialize(supportsMetadataLocation);
+    String impl =
+        new IcebergConfig(catalogProperties).get(IcebergConfig.TABLE_METADATA_SHARED_STORE_IMPL);
+    if (StringUtils.isNotBlank(impl)) {
+      SharedTableMetadataStore store =
+          ClassUtils.loadAndGetInstance(impl, Thread.currentThread().getContextClassLoader());
+      store.initialize(catalogProperties);
+      this.sharedStore = store;
+      LOG.info("Load shared table metadata store, impl: {}", impl);
+    }
+  }
+
+  /**
+   * Stores table metadata into the shared table metadata store if one is configured. Subclasses
+   * call this when metadata is updated into the cache.
+   *
+   * @param tableMetadata the table metadata to share
+   */
+  protected void shareTableMetadata(TableMetadata tableMetadata) {
+    if (sharedStore != null) {
+      sharedStore.put(tableMetadata);
+    }
+  }
+
+  /**
+   * Closes the shared table metadata store if one is configured.
+   *
+   * @throws IOException if the store fails to close
+   */
+  protected void closeSharedStore() throws IOException {
+    if (sharedStore != null) {
+      sharedStore.close();
+    }
+  }
+
   /**
    * Retrieves and validates cached table metadata by comparing the cached metadata's location with
    * the latest known location. Invalidates the cache if locations mismatch.
@@ -60,25 +114,40 @@ public abstract class BaseTableMetadataCache implements TableMetadataCache {
   @Override
   public Optional<TableMetadata> getTableMetadata(TableIdentifier tableIdentifier) {
     Optional<TableMetadata> tableMetadataOptional = doGetTableMetadata(tableIdentifier);
-    if (!tableMetadataOptional.isPresent()) {
+    if (!tableMetadataOptional.isPresent() && sharedStore == null) {
       return Optional.empty();
     }
-    TableMetadata tableMetadata = tableMetadataOptional.get();
     String latestLocation = supportsMetadataLocation.metadataLocation(tableIdentifier);
     if (latestLocation == null) {
       return Optional.empty();
     }
-    if (latestLocation.equals(tableMetadata.metadataFileLocation())) {
-      return Optional.of(tableMetadata);
+
+    if (tableMetadataOptional.isPresent()) {
+      TableMetadata tableMetadata = tableMetadataOptional.get();
+      if (latestLocation.equals(tableMetadata.metadataFileLocation())) {
+        return Optional.of(tableMetadata);
+      }
+
+      LOG.debug(
+          "The cached table metadata is not latest, table identifier: {}, "
+              + "table metadata location in cache: {}, latest metadata location: {}",
+          tableIdentifier,
+          tableMetadata.metadataFileLocation(),
+          latestLocation);
+      invalidate(tableIdentifier);
     }
 
-    LOG.debug(
-        "The cached table metadata is not latest, table identifier: {}, "
-            + "table metadata location in cache: {}, latest metadata location: {}",
-        tableIdentifier,
-        tableMetadata.metadataFileLocation(),
-        latestLocation);
-    invalidate(tableIdentifier);
-    return Optional.empty();
+    if (sharedStore == null) {
+      return Optional.empty();
+    }
+    Optional<TableMetadata> sharedMetadata = sharedStore.get(latestLocation);
+    if (sharedMetadata.isPresent()) {
+      LOG.debug(
+          "Load table metadata from the shared store, table identifier: {}, location: {}",
+          tableIdentifier,
+          latestLocation);
+      updateTableMetadata(tableIdentifier, sharedMetadata.get());
+    }
+    return sharedMetadata;
   }
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.common.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableMetadataParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SharedTableMetadataStore} keeping every entry as a gzipped metadata JSON file in a
+ * directory, which is shared by the servers when it is on a shared file system.
+ *
+ * <p>Files are named by the SHA-256 of the metadata location and written to a temporary file first,
+ * then moved into place atomically, so readers never see a partial entry. The store does not evict
+ * entries: files may be deleted at any time, for example by age, as a removed entry is only a
+ * miss.
+ */
+public class LocalFileTableMetadataStore implements SharedTableMetadataStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LocalFileTableMetadataStore.class);
+
+  private static final String FILE_SUFFIX = ".metadata.json.gz";
+
+  private Path storeDir;
+
+  @Override
+  public void initialize(Map<String, String> catalogProperties) {
+    String path =
+        new IcebergConfig(catalogProperties).get(IcebergConfig.TABLE_METADATA_SHARED_STORE_PATH);
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(path),
+        "%s must be set for the local file table metadata store",
+        IcebergConfig.TABLE_METADATA_SHARED_STORE_PATH.getKey());
+    this.storeDir = Paths.get(path);
+    try {
+      Files.createDirectories(storeDir);
+    } catch (IOException e) {
+      throw new IllegalArgumentException(
+          "Failed to create the table metadata store directory: " + path, e);
+    }
+    LOG.info("Initialized local file table metadata store in: {}", storeDir);
+  }
+
+  @Override
+  public Optional<TableMetadata> get(String metadataLocation) {
+    Path file = fileOf(metadataLocation);
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+      String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      return Optional.of(TableMetadataParser.fromJson(metadataLocation, json));
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to read table metadata of {} from the store", metadataLocation, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void put(TableMetadata tableMetadata) {
+    String metadataLocation = tableMetadata.metadataFileLocation();
+    if (metadataLocation == null) {
+      return;
+    }
+    Path file = fileOf(metadataLocation);
+    if (Files.exists(file)) {
+      return;
+    }
+
+    Path tempFile = null;
+    try {
+      tempFile = Files.createTempFile(storeDir, ".tmp-", FILE_SUFFIX);
+      try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+        out.write(TableMetadataParser.toJson(tableMetadata).getBytes(StandardCharsets.UTF_8));
+      }
+      Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+    } catch (FileAlreadyExistsException e) {
+      // Another server stored the same metadata file first.
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to store table metadata of {}", metadataLocation, e);
+    } finally {
+      deleteQuietly(tempFile);
+    }
+  }
+
+  @Override
+  public void close() {}
+
+  @VisibleForTesting
+  Path fileOf(String metadataLocation) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256")
+              .digest(metadataLocation.getBytes(StandardCharsets.UTF_8));
+      return storeDir.resolve(HexFormat.of().formatHex(digest) + FILE_SUFFIX);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.debug("Failed to delete temporary file: {}", file, e);
+    }
+  }
+}
@@ -41,7 +41,7 @@ public class LocalTableMetadataCache extends BaseTableMetadataCache {
       int expireMinutes,
       Map<String, String> catalogProperties,
       SupportsMetadataLocation supportsMetadataLocation) {
-    super.initialize(supportsMetadataLocation);
+    super.initialize(supportsMetadataLocation, catalogProperties);
     this.tableMetadataCache =
         Caffeine.newBuilder()
             .maximumSize(capacity)
@@ -64,6 +64,7 @@ public class LocalTableMetadataCache extends BaseTableMetadataCache {
         tableIdentifier,
         tableMetadata.metadataFileLocation());
     tableMetadataCache.put(tableIdentifier, tableMetadata);
+    shareTableMetadata(tableMetadata);
   }
 
   @Override
@@ -73,6 +74,7 @@ public class LocalTableMetadataCache extends BaseTableMetadataCache {
       tableMetadataCache.invalidateAll();
       tableMetadataCache.cleanUp();
     }
+    closeSharedStore();
   }
 
   @Override
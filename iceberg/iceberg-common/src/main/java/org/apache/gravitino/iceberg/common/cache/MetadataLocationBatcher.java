@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.common.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SupportsMetadataLocation} that batches the metadata location lookups of concurrent
+ * requests into one {@link SupportsMetadataLocation#metadataLocations} call of the catalog.
+ *
+ * <p>While a batch is being looked up, new lookups queue up and one of their callers looks up the
+ * queued tables in the next batch. Concurrent lookups of the same table share one result. A lookup
+ * only joins a batch that has not started yet, so it never gets a location read before the lookup
+ * was issued and freshness validation stays as strict as without batching.
+ */
+public class MetadataLocationBatcher implements SupportsMetadataLocation {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataLocationBatcher.class);
+
+  private final SupportsMetadataLocation delegate;
+  private final Object lock = new Object();
+  private Map<TableIdentifier, CompletableFuture<String>> pending = new HashMap<>();
+  // The number of callers waiting for the pending lookups.
+  private int pendingLookups = 0;
+  private boolean batchRunning = false;
+
+  public MetadataLocationBatcher(SupportsMetadataLocation delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Batches the lookups of the catalog if it looks up several tables in one round trip.
+   *
+   * @param catalog the catalog looking up the metadata locations
+   * @return a batcher of the catalog, or the catalog itself if it can't batch the lookups
+   */
+  public static SupportsMetadataLocation of(SupportsMetadataLocation catalog) {
+    return catalog.supportsBatchedMetadataLocations()
+        ? new MetadataLocationBatcher(catalog)
+        : catalog;
+  }
+
+  @Override
+  public String metadataLocation(TableIdentifier tableIdentifier) {
+    CompletableFuture<String> location;
+    synchronized (lock) {
+      location = pending.computeIfAbsent(tableIdentifier, id -> new CompletableFuture<>());
+      pendingLookups++;
+    }
+
+    while (!location.isDone()) {
+      Map<TableIdentifier, CompletableFuture<String>> batch = null;
+      synchronized (lock) {
+        if (!batchRunning && !pending.isEmpty()) {
+          batchRunning = true;
+          batch = pending;
+          pending = new HashMap<>();
+          pendingLookups = 0;
+        } else if (!location.isDone()) {
+          try {
+            lock.wait();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+          }
+        }
+      }
+
+      if (batch != null) {
+        try {
+          runBatch(batch);
+        } finally {
+          // Never leave a waiter of the batch behind, even if the lookup failed with an error.
+          batch.values().forEach(future -> future.complete(null));
+          synchronized (lock) {
+            batchRunning = false;
+            lock.notifyAll();
+          }
+        }
+      }
+    }
+    return location.join();
+  }
+
+  @Override
+  public Map<TableIdentifier, String> metadataLocations(
+      Collection<TableIdentifier> tableIdentifiers) {
+    return delegate.metadataLocations(tableIdentifiers);
+  }
+
+  @Override
+  public boolean supportsBatchedMetadataLocations() {
+    return delegate.supportsBatchedMetadataLocations();
+  }
+
+  @VisibleForTesting
+  int pendingLookups() {
+    synchronized (lock) {
+      return pendingLookups;
+    }
+  }
+
+  private void runBatch(Map<TableIdentifier, CompletableFuture<String>> batch) {
+    Map<TableIdentifier, String> locations;
+    try {
+      locations = delegate.metadataLocations(batch.keySet());
+    } catch (RuntimeException e) {
+      // Like a failed single lookup, a failed batch reports no location and the cache misses.
+      LOG.warn("Failed to look up the metadata locations of {} tables", batch.size(), e);
+      locations = Collections.emptyMap();
+    }
+    LOG.debug("Looked up the metadata locations of {} tables in one batch", batch.size());
+    for (Map.Entry<TableIdentifier, CompletableFuture<String>> entry : batch.entrySet()) {
+      entry.getValue().complete(locations.get(entry.getKey()));
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.common.cache;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.iceberg.TableMetadata;
+
+/**
+ * A {@link TableMetadata} store shared by the Iceberg REST servers of a fleet, keyed by metadata
+ * file location.
+ *
+ * <p>A metadata file is never rewritten once committed, so an entry never goes stale and any
+ * server may read what another server stored. The per-server {@link TableMetadataCache} consults
+ * the store on a local miss, after it resolved the latest metadata location of the table, so a
+ * server does not read and parse a metadata file another server already loaded.
+ *
+ * <p>Implementations are best effort: failures to read or write an entry must not fail the
+ * request, they only make the server load the metadata from the catalog.
+ */
+public interface SharedTableMetadataStore extends Closeable {
+
+  /**
+   * Initializes the store.
+   *
+   * @param catalogProperties the catalog properties, which may hold the store configuration
+   */
+  void initialize(Map<String, String> catalogProperties);
+
+  /**
+   * Returns the table metadata stored for a metadata file location.
+   *
+   * @param metadataLocation the metadata file location
+   * @return the table metadata, or empty if the store does not hold the location
+   */
+  Optional<TableMetadata> get(String metadataLocation);
+
+  /**
+   * Stores table metadata under its metadata file location. Metadata without a location is
+   * ignored.
+   *
+   * @param tableMetadata the table metadata to store
+   */
+  void put(TableMetadata tableMetadata);
+}
@@ -19,6 +19,9 @@
 
 package org.apache.gravitino.iceberg.common.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import org.apache.iceberg.catalog.TableIdentifier;
 
 /** An interface that supports retrieving the metadata location for a table. */
@@ -33,4 +36,35 @@ public interface SupportsMetadataLocation {
    * @return the metadata location of the table as a String
    */
   String metadataLocation(TableIdentifier tableIdentifier);
+
+  /**
+   * Retrieves the metadata locations of several tables. Catalogs able to look up several tables in
+   * one round trip should override this and {@link #supportsBatchedMetadataLocations}, the default
+   * looks the tables up one by one.
+   *
+   * @param tableIdentifiers the identifiers of the tables to retrieve metadata locations for
+   * @return the metadata locations by table identifier, tables without a location are absent
+   */
+  default Map<TableIdentifier, String> metadataLocations(
+      Collection<TableIdentifier> tableIdentifiers) {
+    Map<TableIdentifier, String> locations = new HashMap<>();
+    for (TableIdentifier tableIdentifier : tableIdentifiers) {
+      String location = metadataLocation(tableIdentifier);
+      if (location != null) {
+        locations.put(tableIdentifier, location);
+      }
+    }
+    return locations;
+  }
+
+  /**
+   * Whether {@link #metadataLocations} looks up several tables in one round trip. Concurrent
+   * lookups are only batched for such catalogs, batching the one by one default would only
+   * serialize them.
+   *
+   * @return true if the metadata locations of several tables are looked up at once
+   */
+  default boolean supportsBatchedMetadataLocations() {
+    return false;
+  }
 }
@@ -30,6 +30,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.catalog.hadoop.fs.FileSystemUtils;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergCatalogBackend;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.common.cache.MetadataLocationBatcher;
 import org.apache.gravitino.iceberg.common.cache.SupportsMetadataLocation;
 import org.apache.gravitino.iceberg.common.cache.TableMetadataCache;
 import org.apache.gravitino.iceberg.common.utils.IcebergCatalogUtil;
@@ -40,6 +41,7 @@ import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.Transaction;
+import org.apache.iceberg.UpdateRequirement;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.SupportsNamespaces;
@@ -82,6 +84,8 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   private final IcebergConfig icebergConfig;
   private String catalogUri = null;
   private volatile TableMetadataCache metadataCache;
+  private volatile boolean tableCommitterLoaded = false;
+  private volatile IcebergTableCommitter tableCommitter;
   private final Configuration configuration;
 
   public IcebergCatalogWrapper(IcebergConfig icebergConfig) {
@@ -152,6 +156,29 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     }
   }
 
+  // Commits reuse the base of the previous commit only if the table metadata cache is enabled,
+  // which requires the catalog to validate the base by the latest metadata location.
+  private Optional<IcebergTableCommitter> getTableCommitter() {
+    if (!tableCommitterLoaded) {
+      synchronized (initializationLock) {
+        if (!tableCommitterLoaded) {
+          Catalog loadedCatalog = getCatalog();
+          if (getMetadataCache() != TableMetadataCache.DUMMY
+              && loadedCatalog instanceof SupportsMetadataLocation) {
+            tableCommitter =
+                new IcebergTableCommitter(
+                    loadedCatalog,
+                    (SupportsMetadataLocation) loadedCatalog,
+                    icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_CAPACITY),
+                    icebergConfig.get(IcebergConfig.TABLE_METADATA_CACHE_EXPIRE_MINUTES));
+          }
+          tableCommitterLoaded = true;
+        }
+      }
+    }
+    return Optional.ofNullable(tableCommitter);
+  }
+
   private void validateNamespace(Optional<Namespace> namespace) {
     namespace.ifPresent(
         n -> Preconditions.checkArgument(!n.toString().isEmpty(), "Namespace couldn't be empty"));
@@ -234,11 +261,13 @@ public class IcebergCatalogWrapper implements AutoCloseable {
 
   public void dropTable(TableIdentifier tableIdentifier) {
     getMetadataCache().invalidate(tableIdentifier);
+    invalidateTableCommitter(tableIdentifier);
     CatalogHandlers.dropTable(getCatalog(), tableIdentifier);
   }
 
   public void purgeTable(TableIdentifier tableIdentifier) {
     getMetadataCache().invalidate(tableIdentifier);
+    invalidateTableCommitter(tableIdentifier);
     CatalogHandlers.purgeTable(getCatalog(), tableIdentifier);
   }
 
@@ -315,20 +344,42 @@ public class IcebergCatalogWrapper implements AutoCloseable {
 
   public void renameTable(RenameTableRequest renameTableRequest) {
     getMetadataCache().invalidate(renameTableRequest.source());
+    invalidateTableCommitter(renameTableRequest.source());
     CatalogHandlers.renameTable(getCatalog(), renameTableRequest);
   }
 
   public LoadTableResponse updateTable(
       TableIdentifier tableIdentifier, UpdateTableRequest updateTableRequest) {
     getMetadataCache().invalidate(tableIdentifier);
-    LoadTableResponse loadTableResponse =
-        CatalogHandlers.updateTable(getCatalog(), tableIdentifier, updateTableRequest);
+    Optional<IcebergTableCommitter> committer = getTableCommitter();
+    LoadTableResponse loadTableResponse;
+    if (committer.isPresent() && !isStagedCreate(updateTableRequest)) {
+      loadTableResponse =
+          LoadTableResponse.builder()
+              .withTableMetadata(committer.get().commit(tableIdentifier, updateTableRequest))
+              .build();
+    } else {
+      loadTableResponse =
+          CatalogHandlers.updateTable(getCatalog(), tableIdentifier, updateTableRequest);
+    }
     if (loadTableResponse != null) {
       getMetadataCache().updateTableMetadata(tableIdentifier, loadTableResponse.tableMetadata());
     }
     return loadTableResponse;
   }
 
+  private static boolean isStagedCreate(UpdateTableRequest updateTableRequest) {
+    return updateTableRequest.requirements().stream()
+        .anyMatch(UpdateRequirement.AssertTableDoesNotExist.class::isInstance);
+  }
+
+  private void invalidateTableCommitter(TableIdentifier tableIdentifier) {
+    IcebergTableCommitter committer = tableCommitter;
+    if (committer != null) {
+      committer.invalidate(tableIdentifier);
+    }
+  }
+
   public LoadTableResponse updateTable(IcebergTableChange icebergTableChange) {
     Transaction transaction = icebergTableChange.getTransaction();
     transaction.commitTransaction();
@@ -399,6 +450,10 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     if (cache != null) {
       cache.close();
     }
+    IcebergTableCommitter committer = tableCommitter;
+    if (committer != null) {
+      committer.close();
+    }
 
     // For Iceberg REST server which use the same classloader when recreating catalog wrapper, the
     // Driver couldn't be reloaded after deregister()
@@ -505,8 +560,13 @@ public class IcebergCatalogWrapper implements AutoCloseable {
         ClassUtils.loadAndGetInstance(impl, Thread.currentThread().getContextClassLoader());
     int capacity = config.get(IcebergConfig.TABLE_METADATA_CACHE_CAPACITY);
     int expireMinutes = config.get(IcebergConfig.TABLE_METADATA_CACHE_EXPIRE_MINUTES);
+    // Concurrent requests validating cached metadata share the catalog round trips, if the catalog
+    // can look up several tables at once.
     cache.initialize(
-        capacity, expireMinutes, config.getAllConfig(), (SupportsMetadataLocation) catalog);
+        capacity,
+        expireMinutes,
+        config.getAllConfig(),
+        MetadataLocationBatcher.of((SupportsMetadataLocation) catalog));
     LOG.info(
         "Load Iceberg table metadata cache for catalog: {}, impl:{}, capacity: {}, expire minutes: {}",
         catalog.name(),
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.gravitino.iceberg.common.cache.SupportsMetadataLocation;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits table updates on top of the {@link TableOperations} kept from the previous commit of the
+ * table, so successive commits of a table don't read the metadata file of the base again.
+ *
+ * <p>A kept {@link TableOperations} is only used when its current metadata location is still the
+ * latest one in the catalog, otherwise the table is loaded again. Commits are optimistic like
+ * {@link org.apache.iceberg.rest.CatalogHandlers#updateTable}, a conflicting commit of another
+ * writer fails the commit against the base and the update is retried on the refreshed metadata.
+ *
+ * <p>A commit takes the kept {@link TableOperations} out of the cache and puts it back after the
+ * commit, so concurrent commits of a table never share one and the returned metadata is the one of
+ * the commit itself.
+ */
+class IcebergTableCommitter {
+  private static final Logger LOG = LoggerFactory.getLogger(IcebergTableCommitter.class);
+
+  private final Catalog catalog;
+  private final SupportsMetadataLocation supportsMetadataLocation;
+  private final Cache<TableIdentifier, TableOperations> tableOperations;
+
+  IcebergTableCommitter(
+      Catalog catalog,
+      SupportsMetadataLocation supportsMetadataLocation,
+      int capacity,
+      int expireMinutes) {
+    this.catalog = catalog;
+    this.supportsMetadataLocation = supportsMetadataLocation;
+    this.tableOperations =
+        Caffeine.newBuilder()
+            .maximumSize(capacity)
+            .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
+            // control the cache size not exceed the cache capacity
+            .executor(Runnable::run)
+            .build();
+  }
+
+  /**
+   * Applies the update to the table and commits it.
+   *
+   * @param tableIdentifier the table identifier
+   * @param request the update request
+   * @return the committed table metadata
+   */
+  TableMetadata commit(TableIdentifier tableIdentifier, UpdateTableRequest request) {
+    TableOperations ops = baseOperations(tableIdentifier);
+    // The operations are dropped if the commit fails, the next commit loads the table again
+    TableMetadata committed = commit(ops, request);
+    tableOperations.put(tableIdentifier, ops);
+    return committed;
+  }
+
+  void invalidate(TableIdentifier tableIdentifier) {
+    tableOperations.invalidate(tableIdentifier);
+  }
+
+  void close() {
+    tableOperations.invalidateAll();
+    tableOperations.cleanUp();
+  }
+
+  @VisibleForTesting
+  int size() {
+    return tableOperations.asMap().size();
+  }
+
+  private TableOperations baseOperations(TableIdentifier tableIdentifier) {
+    // Take the ownership of the kept operations, a concurrent commit of the table loads its own
+    TableOperations ops = tableOperations.asMap().remove(tableIdentifier);
+    if (ops != null) {
+      String latestLocation = supportsMetadataLocation.metadataLocation(tableIdentifier);
+      if (latestLocation != null && latestLocation.equals(ops.current().metadataFileLocation())) {
+        LOG.debug("Commit table {} on the base of the previous commit", tableIdentifier);
+        return ops;
+      }
+    }
+
+    Table table = catalog.loadTable(tableIdentifier);
+    if (!(table instanceof BaseTable)) {
+      throw new IllegalStateException("Cannot wrap catalog that does not produce BaseTable");
+    }
+    return ((BaseTable) table).operations();
+  }
+
+  // Same as CatalogHandlers#commit, which is not accessible.
+  private static TableMetadata commit(TableOperations ops, UpdateTableRequest request) {
+    AtomicBoolean isRetry = new AtomicBoolean(false);
+    try {
+      Tasks.foreach(ops)
+          .retry(TableProperties.COMMIT_NUM_RETRIES_DEFAULT)
+          .exponentialBackoff(
+              TableProperties.COMMIT_MIN_RETRY_WAIT_MS_DEFAULT,
+              TableProperties.COMMIT_MAX_RETRY_WAIT_MS_DEFAULT,
+              TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT,
+              2.0 /* exponential */)
+          .onlyRetryOn(CommitFailedException.class)
+          .run(
+              taskOps -> {
+                TableMetadata base = isRetry.get() ? taskOps.refresh() : taskOps.current();
+                isRetry.set(true);
+
+                try {
+                  request.requirements().forEach(requirement -> requirement.validate(base));
+                } catch (CommitFailedException e) {
+                  // A requirement failure is not retried, the base is fresh or refreshed already
+                  throw new ValidationFailureException(e);
+                }
+
+                TableMetadata.Builder metadataBuilder = TableMetadata.buildFrom(base);
+                request.updates().forEach(update -> update.applyTo(metadataBuilder));
+                TableMetadata updated = metadataBuilder.build();
+                if (updated.changes().isEmpty()) {
+                  return;
+                }
+
+                taskOps.commit(base, updated);
+              });
+    } catch (ValidationFailureException e) {
+      throw e.wrapped();
+    }
+
+    return ops.current();
+  }
+
+  private static class ValidationFailureException extends RuntimeException {
+    private final CommitFailedException wrapped;
+
+    private ValidationFailureException(CommitFailedException cause) {
+      super(cause);
+      this.wrapped = cause;
+    }
+
+    CommitFailedException wrapped() {
+      return wrapped;
+    }
+  }
+}
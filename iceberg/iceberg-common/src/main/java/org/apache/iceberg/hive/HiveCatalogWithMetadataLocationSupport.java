@@ -20,6 +20,11 @@
 package org.apache.iceberg.hive;
 
 import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.iceberg.common.ClosableHiveCatalog;
@@ -48,17 +53,67 @@ public class HiveCatalogWithMetadataLocationSupport extends ClosableHiveCatalog
 
     try {
       Table table = metaClients.run(client -> client.getTable(dbName, tableName));
-      String tableType = table.getParameters().get(BaseMetastoreTableOperations.TABLE_TYPE_PROP);
-      if (tableType == null
-          || !tableType.equalsIgnoreCase(BaseMetastoreTableOperations.ICEBERG_TABLE_TYPE_VALUE)) {
-        return null;
-      }
-      return table.getParameters().get(METADATA_LOCATION_PROP);
+      return icebergMetadataLocation(table);
     } catch (Exception e) {
       return null;
     }
   }
 
+  @Override
+  public boolean supportsBatchedMetadataLocations() {
+    return true;
+  }
+
+  // Looks up the tables of each database with one metastore call.
+  @Override
+  public Map<TableIdentifier, String> metadataLocations(
+      Collection<TableIdentifier> tableIdentifiers) {
+    Map<String, List<TableIdentifier>> tablesByDb = new HashMap<>();
+    for (TableIdentifier tableIdentifier : tableIdentifiers) {
+      tablesByDb
+          .computeIfAbsent(tableIdentifier.namespace().level(0), db -> new ArrayList<>())
+          .add(tableIdentifier);
+    }
+
+    Map<TableIdentifier, String> locations = new HashMap<>();
+    for (Map.Entry<String, List<TableIdentifier>> entry : tablesByDb.entrySet()) {
+      String dbName = entry.getKey();
+      List<String> tableNames = new ArrayList<>();
+      entry.getValue().forEach(tableIdentifier -> tableNames.add(tableIdentifier.name()));
+      List<Table> tables;
+      try {
+        tables = metaClients.run(client -> client.getTableObjectsByName(dbName, tableNames));
+      } catch (Exception e) {
+        continue;
+      }
+
+      // The metastore returns lower-cased names, match them to the requested identifiers.
+      Map<String, String> locationsByName = new HashMap<>();
+      for (Table table : tables) {
+        String location = icebergMetadataLocation(table);
+        if (location != null) {
+          locationsByName.put(table.getTableName().toLowerCase(Locale.ROOT), location);
+        }
+      }
+      for (TableIdentifier tableIdentifier : entry.getValue()) {
+        String location = locationsByName.get(tableIdentifier.name().toLowerCase(Locale.ROOT));
+        if (location != null) {
+          locations.put(tableIdentifier, location);
+        }
+      }
+    }
+    return locations;
+  }
+
+  private static String icebergMetadataLocation(Table table) {
+    String tableType = table.getParameters().get(BaseMetastoreTableOperations.TABLE_TYPE_PROP);
+    if (tableType == null
+        || !tableType.equalsIgnoreCase(BaseMetastoreTableOperations.ICEBERG_TABLE_TYPE_VALUE)) {
+      return null;
+    }
+    return table.getParameters().get(METADATA_LOCATION_PROP);
+  }
+
   private void loadFields() {
     try {
       this.metaClients =
@@ -22,14 +22,22 @@ package org.apache.gravitino.iceberg.common.cache;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.Map;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.types.Types;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class TestLocalMetadataCache {
   private LocalTableMetadataCache cache;
@@ -99,4 +107,46 @@ class TestLocalMetadataCache {
     LocalTableMetadataCache emptyCache = new LocalTableMetadataCache();
     emptyCache.close(); // Should not throw exception
   }
+
+  @Test
+  void testSharedStore(@TempDir Path storeDir) throws IOException {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConfig.TABLE_METADATA_SHARED_STORE_IMPL.getKey(),
+            LocalFileTableMetadataStore.class.getName(),
+            IcebergConfig.TABLE_METADATA_SHARED_STORE_PATH.getKey(),
+            storeDir.toString());
+    Schema schema = new Schema(Types.NestedField.required(1, "id", Types.LongType.get()));
+    TableMetadata metadata =
+        TableMetadata.buildFrom(
+                TableMetadata.newTableMetadata(
+                    schema, PartitionSpec.unpartitioned(), "file:/tmp/table", ImmutableMap.of()))
+            .discardChanges()
+            .withMetadataLocation("test_location_" + testIdentifier.name())
+            .build();
+
+    LocalTableMetadataCache server1 = new LocalTableMetadataCache();
+    LocalTableMetadataCache server2 = new LocalTableMetadataCache();
+    try {
+      server1.initialize(10, 60, properties, supportsMetadataLocation);
+      server2.initialize(10, 60, properties, supportsMetadataLocation);
+      server1.updateTableMetadata(testIdentifier, metadata);
+
+      // Server 2 never loaded the table, it gets the metadata server 1 stored.
+      TableMetadata sharedMetadata = server2.getTableMetadata(testIdentifier).orElse(null);
+      Assertions.assertNotNull(sharedMetadata);
+      Assertions.assertEquals(
+          metadata.metadataFileLocation(), sharedMetadata.metadataFileLocation());
+      Assertions.assertEquals(metadata.uuid(), sharedMetadata.uuid());
+      Assertions.assertTrue(server2.doGetTableMetadata(testIdentifier).isPresent());
+
+      // The latest metadata location is not in the store yet.
+      when(supportsMetadataLocation.metadataLocation(testIdentifier)).thenReturn("new_location");
+      server2.invalidate(testIdentifier);
+      Assertions.assertFalse(server2.getTableMetadata(testIdentifier).isPresent());
+    } finally {
+      server1.close();
+      server2.close();
+    }
+  }
 }
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TestMetadataLocationBatcher {
+
+  private static final TableIdentifier TABLE1 = TableIdentifier.of("db", "table1");
+  private static final TableIdentifier TABLE2 = TableIdentifier.of("db", "table2");
+  private static final TableIdentifier TABLE3 = TableIdentifier.of("db", "table3");
+
+  @Test
+  void testSingleLookup() {
+    BlockingCatalog catalog = new BlockingCatalog(new CountDownLatch(0));
+    MetadataLocationBatcher batcher = new MetadataLocationBatcher(catalog);
+
+    Assertions.assertEquals("location_table1", batcher.metadataLocation(TABLE1));
+    Assertions.assertNull(batcher.metadataLocation(TableIdentifier.of("db", "missing")));
+    Assertions.assertEquals(2, catalog.batches.size());
+  }
+
+  @Test
+  void testConcurrentLookupsAreBatched() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    BlockingCatalog catalog = new BlockingCatalog(release);
+    MetadataLocationBatcher batcher = new MetadataLocationBatcher(catalog);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<String> first = executor.submit(() -> batcher.metadataLocation(TABLE1));
+      catalog.firstBatchStarted.await(10, TimeUnit.SECONDS);
+
+      // Queued while the first batch is running, they are looked up together in the next batch.
+      List<Future<String>> queued = new ArrayList<>();
+      queued.add(executor.submit(() -> batcher.metadataLocation(TABLE2)));
+      queued.add(executor.submit(() -> batcher.metadataLocation(TABLE2)));
+      queued.add(executor.submit(() -> batcher.metadataLocation(TABLE3)));
+      while (batcher.pendingLookups() < 3) {
+        Thread.sleep(10);
+      }
+      release.countDown();
+
+      Assertions.assertEquals("location_table1", first.get(10, TimeUnit.SECONDS));
+      Assertions.assertEquals("location_table2", queued.get(0).get(10, TimeUnit.SECONDS));
+      Assertions.assertEquals("location_table2", queued.get(1).get(10, TimeUnit.SECONDS));
+      Assertions.assertEquals("location_table3", queued.get(2).get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals(2, catalog.batches.size());
+    Assertions.assertEquals(Set.of(TABLE1), catalog.batches.get(0));
+    Assertions.assertEquals(Set.of(TABLE2, TABLE3), catalog.batches.get(1));
+  }
+
+  @Test
+  void testFailedLookup() {
+    MetadataLocationBatcher batcher =
+        new MetadataLocationBatcher(
+            tableIdentifier -> {
+              throw new IllegalStateException("catalog unavailable");
+            });
+    Assertions.assertNull(batcher.metadataLocation(TABLE1));
+  }
+
+  @Test
+  void testOnlyBatchingCatalogsAreBatched() {
+    SupportsMetadataLocation oneByOne = tableIdentifier -> "location_" + tableIdentifier.name();
+    Assertions.assertSame(oneByOne, MetadataLocationBatcher.of(oneByOne));
+
+    SupportsMetadataLocation batcher =
+        MetadataLocationBatcher.of(new BlockingCatalog(new CountDownLatch(0)));
+    Assertions.assertTrue(batcher instanceof MetadataLocationBatcher);
+    Assertions.assertEquals("location_table1", batcher.metadataLocation(TABLE1));
+  }
+
+  private static class BlockingCatalog implements SupportsMetadataLocation {
+    private final CountDownLatch release;
+    private final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    private final List<Set<TableIdentifier>> batches = new CopyOnWriteArrayList<>();
+
+    private BlockingCatalog(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public boolean supportsBatchedMetadataLocations() {
+      return true;
+    }
+
+    @Override
+    public String metadataLocation(TableIdentifier tableIdentifier) {
+      return tableIdentifier.name().startsWith("table")
+          ? "location_" + tableIdentifier.name()
+          : null;
+    }
+
+    @Override
+    public Map<TableIdentifier, String> metadataLocations(
+        Collection<TableIdentifier> tableIdentifiers) {
+      batches.add(new HashSet<>(tableIdentifiers));
+      firstBatchStarted.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      Map<TableIdentifier, String> locations = new HashMap<>();
+      for (TableIdentifier tableIdentifier : tableIdentifiers) {
+        String location = metadataLocation(tableIdentifier);
+        if (location != null) {
+          locations.put(tableIdentifier, location);
+        }
+      }
+      return locations;
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.iceberg.common.cache.SupportsMetadataLocation;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.UpdateRequirement;
+import org.apache.iceberg.UpdateRequirements;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.SupportsNamespaces;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+public class TestIcebergTableCommitter {
+  private static final TableIdentifier TABLE = TableIdentifier.of("db", "t");
+
+  @TempDir private Path warehouseDir;
+  private IcebergCatalogWrapper wrapper;
+  private Catalog catalog;
+  private Catalog spyCatalog;
+  private IcebergTableCommitter committer;
+
+  @BeforeEach
+  void setUp() {
+    Map<String, String> config = new HashMap<>();
+    config.put(IcebergConstants.CATALOG_BACKEND, "jdbc");
+    config.put(IcebergConstants.URI, "jdbc:sqlite::memory:");
+    config.put(IcebergConstants.WAREHOUSE, warehouseDir.toString());
+    config.put(IcebergConstants.GRAVITINO_JDBC_DRIVER, "org.sqlite.JDBC");
+    config.put(IcebergConstants.ICEBERG_JDBC_USER, "test");
+    config.put(IcebergConstants.ICEBERG_JDBC_PASSWORD, "test");
+    config.put(IcebergConstants.ICEBERG_JDBC_INITIALIZE, "true");
+    wrapper = new IcebergCatalogWrapper(new IcebergConfig(config));
+    catalog = wrapper.getCatalog();
+    ((SupportsNamespaces) catalog).createNamespace(Namespace.of("db"));
+    catalog.createTable(
+        TABLE, new Schema(Types.NestedField.required(1, "id", Types.LongType.get())));
+
+    spyCatalog = Mockito.spy(catalog);
+    committer = new IcebergTableCommitter(spyCatalog, (SupportsMetadataLocation) catalog, 10, 10);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    committer.close();
+    wrapper.close();
+  }
+
+  @Test
+  void testReuseBaseOfPreviousCommit() {
+    TableMetadata first = committer.commit(TABLE, setProperty(currentMetadata(), "k", "1"));
+    Assertions.assertEquals("1", first.properties().get("k"));
+    Mockito.verify(spyCatalog, Mockito.times(1)).loadTable(TABLE);
+    Assertions.assertEquals(1, committer.size());
+
+    TableMetadata second = committer.commit(TABLE, setProperty(first, "k", "2"));
+    Assertions.assertEquals("2", second.properties().get("k"));
+    Assertions.assertEquals(
+        second.metadataFileLocation(), currentMetadata().metadataFileLocation());
+    // The second commit is based on the table operations of the first commit
+    Mockito.verify(spyCatalog, Mockito.times(1)).loadTable(TABLE);
+  }
+
+  @Test
+  void testReloadBaseAfterCommitOfOtherWriter() {
+    committer.commit(TABLE, setProperty(currentMetadata(), "k", "1"));
+    catalog.loadTable(TABLE).updateProperties().set("other", "v").commit();
+
+    TableMetadata second = committer.commit(TABLE, setProperty(currentMetadata(), "k", "2"));
+    Assertions.assertEquals("2", second.properties().get("k"));
+    Assertions.assertEquals("v", second.properties().get("other"));
+    Mockito.verify(spyCatalog, Mockito.times(2)).loadTable(TABLE);
+  }
+
+  @Test
+  void testRequirementFailure() {
+    committer.commit(TABLE, setProperty(currentMetadata(), "k", "1"));
+    Assertions.assertEquals(1, committer.size());
+
+    UpdateTableRequest request =
+        new UpdateTableRequest(
+            ImmutableList.of(new UpdateRequirement.AssertCurrentSchemaID(100)),
+            ImmutableList.of(new MetadataUpdate.SetProperties(ImmutableMap.of("k", "2"))));
+    Assertions.assertThrows(CommitFailedException.class, () -> committer.commit(TABLE, request));
+    Assertions.assertEquals(0, committer.size());
+    Assertions.assertEquals("1", currentMetadata().properties().get("k"));
+  }
+
+  @Test
+  void testCommitOwnsKeptOperations() {
+    AtomicReference<IcebergTableCommitter> committerRef = new AtomicReference<>();
+    List<Integer> sizesDuringCommit = new ArrayList<>();
+    SupportsMetadataLocation locations =
+        tableIdentifier -> {
+          // A concurrent commit of the table doesn't see the kept operations
+          sizesDuringCommit.add(committerRef.get().size());
+          return ((SupportsMetadataLocation) catalog).metadataLocation(tableIdentifier);
+        };
+    IcebergTableCommitter owningCommitter =
+        new IcebergTableCommitter(spyCatalog, locations, 10, 10);
+    committerRef.set(owningCommitter);
+    try {
+      TableMetadata first = owningCommitter.commit(TABLE, setProperty(currentMetadata(), "k", "1"));
+      TableMetadata second = owningCommitter.commit(TABLE, setProperty(first, "k", "2"));
+      Assertions.assertEquals("2", second.properties().get("k"));
+      Assertions.assertEquals(ImmutableList.of(0), sizesDuringCommit);
+      Assertions.assertEquals(1, owningCommitter.size());
+    } finally {
+      owningCommitter.close();
+    }
+  }
+
+  @Test
+  void testInvalidate() {
+    committer.commit(TABLE, setProperty(currentMetadata(), "k", "1"));
+    Assertions.assertEquals(1, committer.size());
+    committer.invalidate(TABLE);
+    Assertions.assertEquals(0, committer.size());
+  }
+
+  private TableMetadata currentMetadata() {
+    return wrapper.loadTableMetadata(TABLE);
+  }
+
+  private static UpdateTableRequest setProperty(TableMetadata base, String key, String value) {
+    List<MetadataUpdate> updates =
+        ImmutableList.of(new MetadataUpdate.SetProperties(ImmutableMap.of(key, value)));
+    return new UpdateTableRequest(UpdateRequirements.forUpdateTable(base, updates), updates);
+  }
+}
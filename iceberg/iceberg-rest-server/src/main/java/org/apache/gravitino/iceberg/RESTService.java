@@ -64,7 +64,10 @@ import org.apache.gravitino.server.web.filter.IcebergRESTAuthInterceptionService
 import org.glassfish.hk2.api.InterceptionService;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 import org.glassfish.jersey.jackson.JacksonFeature;
+import org.glassfish.jersey.message.DeflateEncoder;
+import org.glassfish.jersey.message.GZipEncoder;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.filter.EncodingFilter;
 import org.glassfish.jersey.servlet.ServletContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -103,6 +106,11 @@ public class RESTService implements GravitinoAuxiliaryService {
 
     config.register(IcebergObjectMapperProvider.class).register(JacksonFeature.class);
     config.register(IcebergExceptionMapper.class);
+    if (icebergConfig.get(IcebergConfig.RESPONSE_COMPRESSION_ENABLED)) {
+      // Negotiated with the Accept-Encoding header of each request.
+      EncodingFilter.enableFor(config, GZipEncoder.class, DeflateEncoder.class);
+      LOG.info("Iceberg REST response compression is enabled");
+    }
     HttpServerMetricsSource httpServerMetricsSource =
         new HttpServerMetricsSource(MetricsSource.ICEBERG_REST_SERVER_METRIC_NAME, config, server);
     metricsSystem.register(httpServerMetricsSource);
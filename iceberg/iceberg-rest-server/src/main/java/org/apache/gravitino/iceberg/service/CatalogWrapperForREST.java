@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
 import org.apache.gravitino.credential.CatalogCredentialManager;
 import org.apache.gravitino.credential.Credential;
@@ -42,8 +43,13 @@ import org.apache.gravitino.credential.CredentialPrivilege;
 import org.apache.gravitino.credential.PathBasedCredentialContext;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper;
+import org.apache.gravitino.iceberg.service.cache.CachedManifestScanPlanner;
+import org.apache.gravitino.iceberg.service.cache.ManifestEntryCache;
 import org.apache.gravitino.iceberg.service.cache.ScanPlanCache;
 import org.apache.gravitino.iceberg.service.cache.ScanPlanCacheKey;
+import org.apache.gravitino.iceberg.service.cache.ScanPlanCacheMetricsSource;
+import org.apache.gravitino.iceberg.service.planning.IcebergScanPlanManager;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.storage.GCSProperties;
 import org.apache.gravitino.utils.ClassUtils;
 import org.apache.gravitino.utils.MapUtils;
@@ -57,13 +63,17 @@ import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.ServiceUnavailableException;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.rest.CatalogHandlers;
 import org.apache.iceberg.rest.PlanStatus;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
 import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.ImmutableLoadCredentialsResponse;
 import org.apache.iceberg.rest.responses.LoadCredentialsResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
@@ -80,6 +90,16 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
 
   private final ScanPlanCache scanPlanCache;
 
+  // Null unless the manifest entry cache is enabled for the catalog.
+  private final ManifestEntryCache manifestEntryCache;
+  private final CachedManifestScanPlanner cachedManifestScanPlanner;
+
+  // Registered to the metrics system only if one of the scan plan caches is enabled.
+  private final ScanPlanCacheMetricsSource scanPlanCacheMetricsSource;
+
+  // Null unless asynchronous scan planning is enabled for the catalog.
+  private final IcebergScanPlanManager scanPlanManager;
+
   private static final String DATA_ACCESS_VENDED_CREDENTIALS = "vended-credentials";
   private static final String DATA_ACCESS_REMOTE_SIGNING = "remote-signing";
 
@@ -111,6 +131,21 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
         checkForCompatibility(config.getAllConfig(), deprecatedProperties);
     this.catalogCredentialManager = new CatalogCredentialManager(catalogName, catalogProperties);
     this.scanPlanCache = loadScanPlanCache(config);
+    this.manifestEntryCache = loadManifestEntryCache(config);
+    this.cachedManifestScanPlanner =
+        manifestEntryCache != null ? new CachedManifestScanPlanner(manifestEntryCache) : null;
+    this.scanPlanCacheMetricsSource =
+        new ScanPlanCacheMetricsSource(catalogName, manifestEntryCache);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics System could be null in UT.
+    if (metricsSystem != null
+        && (scanPlanCache != ScanPlanCache.DUMMY || manifestEntryCache != null)) {
+      metricsSystem.register(scanPlanCacheMetricsSource);
+    }
+    this.scanPlanManager =
+        config.get(IcebergConfig.SCAN_PLANNING_ASYNC_ENABLED)
+            ? new IcebergScanPlanManager(catalogName, config)
+            : null;
   }
 
   public LoadTableResponse createTable(
@@ -188,6 +223,16 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
       if (scanPlanCache != null) {
         scanPlanCache.close();
       }
+      if (manifestEntryCache != null) {
+        manifestEntryCache.close();
+      }
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null && scanPlanCacheMetricsSource != null) {
+        metricsSystem.unregister(scanPlanCacheMetricsSource);
+      }
+      if (scanPlanManager != null) {
+        scanPlanManager.close();
+      }
     } finally {
       // Call super.close() to release parent class resources including:
       // 1. Close underlying catalog (JdbcCatalog, WrappedHiveCatalog, etc.)
@@ -378,18 +423,19 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
    * <p>This method performs server-side scan planning to optimize query performance by reducing
    * client-side metadata loading and enabling parallel task execution.
    *
-   * <p>Implementation uses synchronous scan planning (COMPLETED status) and returns structured
+   * <p>By default the scan is planned synchronously (COMPLETED status) and returns structured
    * {@code file-scan-tasks} per the Iceberg 1.11 REST spec. It does not emit legacy {@code
-   * plan-tasks} JSON strings, so clients built for Iceberg &lt; 1.11 are not supported. This is
-   * different from asynchronous mode (SUBMITTED status) where a plan ID is returned for later
-   * retrieval.
+   * plan-tasks} JSON strings, so clients built for Iceberg &lt; 1.11 are not supported. When
+   * asynchronous scan planning is enabled, the scan is planned in the background and a plan ID is
+   * returned (SUBMITTED status), see {@link #fetchPlanningResult} and {@link #fetchScanTasks}.
    *
    * <p>Referenced from Iceberg PR #13400 for scan planning implementation.
    *
    * @param tableIdentifier The table identifier.
    * @param scanRequest The scan request parameters including filters, projections, snapshot-id,
    *     etc.
-   * @return PlanTableScanResponse with status=COMPLETED and file scan tasks.
+   * @return PlanTableScanResponse with status=COMPLETED and file scan tasks, or status=SUBMITTED
+   *     and a plan ID in asynchronous mode.
    * @throws IllegalArgumentException if scan request validation fails
    * @throws org.apache.gravitino.exceptions.NoSuchTableException if table doesn't exist
    * @throws RuntimeException for other scan planning failures
@@ -410,11 +456,22 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
       Table table = getCatalog().loadTable(tableIdentifier);
       Optional<PlanTableScanResponse> cachedResponse =
           scanPlanCache.get(ScanPlanCacheKey.create(tableIdentifier, table, scanRequest));
+      if (scanPlanCache != ScanPlanCache.DUMMY) {
+        scanPlanCacheMetricsSource.markResponseCacheLookup(cachedResponse.isPresent());
+      }
       if (cachedResponse.isPresent()) {
         LOG.info("Using cached scan plan for table: {}", tableIdentifier);
         return cachedResponse.get();
       }
 
+      if (scanPlanManager != null) {
+        // Async plans stream their tasks to the client and are not materialized for the cache.
+        return scanPlanManager.submit(
+            tableIdentifier,
+            table.specs(),
+            createFilePlanScanTasks(table, tableIdentifier, scanRequest));
+      }
+
       List<FileScanTask> fileScanTasks = new ArrayList<>();
 
       try (CloseableIterable<FileScanTask> scanTasks =
@@ -455,6 +512,9 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
     } catch (org.apache.iceberg.exceptions.NoSuchTableException e) {
       LOG.error("Table not found during scan planning: {}", tableIdentifier);
       throw e;
+    } catch (ServiceUnavailableException e) {
+      LOG.warn("Scan planning rejected for table {}: {}", tableIdentifier, e.getMessage());
+      throw e;
     } catch (Exception e) {
       LOG.error("Unexpected error during scan planning for table: {}", tableIdentifier, e);
       throw new RuntimeException(
@@ -462,6 +522,62 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
     }
   }
 
+  /**
+   * Fetch the planning result of an asynchronous scan plan.
+   *
+   * @param tableIdentifier The table identifier.
+   * @param planId The plan ID returned by {@link #planTableScan}.
+   * @return FetchPlanningResultResponse with status=SUBMITTED while planning, or status=COMPLETED
+   *     and the first plan task.
+   * @throws NotFoundException if the plan doesn't exist or asynchronous planning is disabled
+   */
+  public FetchPlanningResultResponse fetchPlanningResult(
+      TableIdentifier tableIdentifier, String planId) {
+    return checkScanPlanManager().fetchPlanningResult(tableIdentifier, planId);
+  }
+
+  /**
+   * Fetch the file scan tasks of one plan task of an asynchronous scan plan.
+   *
+   * @param tableIdentifier The table identifier.
+   * @param request The request carrying the plan task.
+   * @return FetchScanTasksResponse with the file scan tasks and the next plan task if any.
+   * @throws NotFoundException if the plan task doesn't exist or asynchronous planning is disabled
+   */
+  public FetchScanTasksResponse fetchScanTasks(
+      TableIdentifier tableIdentifier, FetchScanTasksRequest request) {
+    return checkScanPlanManager().fetchScanTasks(tableIdentifier, request);
+  }
+
+  /**
+   * Cancel an asynchronous scan plan.
+   *
+   * @param tableIdentifier The table identifier.
+   * @param planId The plan ID returned by {@link #planTableScan}.
+   * @throws NotFoundException if the plan doesn't exist or asynchronous planning is disabled
+   */
+  public void cancelPlanning(TableIdentifier tableIdentifier, String planId) {
+    checkScanPlanManager().cancel(tableIdentifier, planId);
+  }
+
+  /**
+   * Whether scan plans are planned asynchronously and fetched through plan tasks.
+   *
+   * @return true if asynchronous scan planning is enabled for the catalog.
+   */
+  public boolean supportsAsyncScanPlanning() {
+    return scanPlanManager != null;
+  }
+
+  private IcebergScanPlanManager checkScanPlanManager() {
+    if (scanPlanManager == null) {
+      throw new NotFoundException(
+          "Asynchronous scan planning is not enabled for catalog %s",
+          catalogCredentialManager.catalogName());
+    }
+    return scanPlanManager;
+  }
+
   /**
    * Builds a synchronous COMPLETED scan plan response for Iceberg 1.11+ REST clients only.
    *
@@ -497,6 +613,15 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
    */
   private CloseableIterable<FileScanTask> createFilePlanScanTasks(
       Table table, TableIdentifier tableIdentifier, PlanTableScanRequest scanRequest) {
+    if (cachedManifestScanPlanner != null) {
+      Optional<CloseableIterable<FileScanTask>> cachedTasks =
+          cachedManifestScanPlanner.planFiles(table, scanRequest);
+      if (cachedTasks.isPresent()) {
+        LOG.debug("Planning scan from cached manifests for table: {}", tableIdentifier);
+        return cachedTasks.get();
+      }
+    }
+
     Long startSnapshotId = scanRequest.startSnapshotId();
     Long endSnapshotId = scanRequest.endSnapshotId();
     // Use IncrementalAppendScan if both start and end snapshot IDs are provided
@@ -587,17 +712,29 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
     ScanPlanCache cache =
         ClassUtils.loadAndGetInstance(impl, Thread.currentThread().getContextClassLoader());
     int capacity = config.get(IcebergConfig.SCAN_PLAN_CACHE_CAPACITY);
+    long maxWeightBytes = config.get(IcebergConfig.SCAN_PLAN_CACHE_MAX_WEIGHT_BYTES);
     int expireMinutes = config.get(IcebergConfig.SCAN_PLAN_CACHE_EXPIRE_MINUTES);
-    cache.initialize(capacity, expireMinutes);
+    cache.initialize(capacity, maxWeightBytes, expireMinutes);
     LOG.info(
-        "Load scan plan cache, backend: {}, impl: {}, capacity: {}, expire minutes: {}",
+        "Load scan plan cache, backend: {}, impl: {}, capacity: {}, max weight bytes: {}, "
+            + "expire minutes: {}",
         config.get(IcebergConfig.CATALOG_BACKEND),
         impl,
         capacity,
+        maxWeightBytes,
         expireMinutes);
     return cache;
   }
 
+  private ManifestEntryCache loadManifestEntryCache(IcebergConfig config) {
+    if (!config.get(IcebergConfig.MANIFEST_ENTRY_CACHE_ENABLED)) {
+      return null;
+    }
+    return new ManifestEntryCache(
+        config.get(IcebergConfig.MANIFEST_ENTRY_CACHE_MAX_WEIGHT_BYTES),
+        config.get(IcebergConfig.MANIFEST_ENTRY_CACHE_EXPIRE_MINUTES));
+  }
+
   @VisibleForTesting
   static Map<String, String> checkForCompatibility(
       Map<String, String> properties, Map<String, String> deprecatedProperties) {
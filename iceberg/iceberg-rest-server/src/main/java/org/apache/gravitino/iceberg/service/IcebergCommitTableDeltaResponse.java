@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.SnapshotRef;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+
+/**
+ * The compact response of a table commit, which only contains the new metadata location and the
+ * snapshot refs changed by the commit instead of the whole table metadata. The snapshot id of a
+ * removed ref is null.
+ */
+public class IcebergCommitTableDeltaResponse {
+  private final String metadataLocation;
+  private final Map<String, Long> refs;
+
+  private IcebergCommitTableDeltaResponse(String metadataLocation, Map<String, Long> refs) {
+    this.metadataLocation = metadataLocation;
+    this.refs = refs;
+  }
+
+  /**
+   * Builds the delta response from the commit request and the committed table metadata.
+   *
+   * @param request the commit request
+   * @param committed the committed table metadata
+   * @return the delta response
+   */
+  public static IcebergCommitTableDeltaResponse of(
+      UpdateTableRequest request, TableMetadata committed) {
+    Map<String, Long> refs = new LinkedHashMap<>();
+    for (MetadataUpdate update : request.updates()) {
+      String refName = null;
+      if (update instanceof MetadataUpdate.SetSnapshotRef) {
+        refName = ((MetadataUpdate.SetSnapshotRef) update).name();
+      } else if (update instanceof MetadataUpdate.RemoveSnapshotRef) {
+        refName = ((MetadataUpdate.RemoveSnapshotRef) update).name();
+      }
+      if (refName != null) {
+        SnapshotRef ref = committed.ref(refName);
+        refs.put(refName, ref != null ? ref.snapshotId() : null);
+      }
+    }
+    return new IcebergCommitTableDeltaResponse(committed.metadataFileLocation(), refs);
+  }
+
+  public String metadataLocation() {
+    return metadataLocation;
+  }
+
+  public Map<String, Long> refs() {
+    return refs;
+  }
+}
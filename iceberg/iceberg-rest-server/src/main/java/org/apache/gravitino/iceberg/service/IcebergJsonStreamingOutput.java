@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes an Iceberg REST response to the HTTP output as it is serialized.
+ *
+ * <p>Large responses, like the table metadata of a table with thousands of snapshots or a plan with
+ * many file scan tasks, are written through a Jackson generator directly to the response stream
+ * instead of being serialized into one buffer first, so the memory of a request does not grow with
+ * the size of its response. The response is compressed when {@code response-compression-enabled}
+ * is set and the client accepts it.
+ */
+public class IcebergJsonStreamingOutput implements StreamingOutput {
+
+  private final Object value;
+
+  public IcebergJsonStreamingOutput(Object value) {
+    this.value = value;
+  }
+
+  @Override
+  public void write(OutputStream output) throws IOException {
+    ObjectMapper mapper = IcebergObjectMapper.getInstance();
+    try (JsonGenerator generator = mapper.getFactory().createGenerator(output)) {
+      // The container owns the response stream and closes it after the entity is written.
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      mapper.writeValue(generator, value);
+    }
+  }
+}
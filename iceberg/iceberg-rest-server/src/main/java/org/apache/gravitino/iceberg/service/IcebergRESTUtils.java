@@ -236,6 +236,20 @@ public class IcebergRESTUtils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  /**
+   * Builds an OK response whose body is serialized while it is written to the client, for
+   * responses that may be large.
+   *
+   * @param t the response object
+   * @return a Response streaming the JSON of the response object
+   */
+  public static <T> Response okStreaming(T t) {
+    return Response.status(Response.Status.OK)
+        .entity(new IcebergJsonStreamingOutput(t))
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   /**
    * Builds an OK response with the ETag header derived from the table metadata location. Uses the
    * default snapshots value to ensure ETags from create/update/register are consistent with the
@@ -260,8 +274,10 @@ public class IcebergRESTUtils {
    */
   public static Response buildResponseWithETag(
       LoadTableResponse loadTableResponse, Optional<EntityTag> etag) {
+    // The table metadata may be hundreds of MB with a long snapshot history, stream it.
     Response.ResponseBuilder responseBuilder =
-        Response.ok(loadTableResponse, MediaType.APPLICATION_JSON_TYPE);
+        Response.ok(
+            new IcebergJsonStreamingOutput(loadTableResponse), MediaType.APPLICATION_JSON_TYPE);
     etag.ifPresent(responseBuilder::tag);
     return responseBuilder.build();
   }
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.cache;
+
+import com.google.common.collect.Iterables;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.iceberg.BaseFileScanTask;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SchemaParser;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
+import org.apache.iceberg.expressions.ManifestEvaluator;
+import org.apache.iceberg.expressions.Projections;
+import org.apache.iceberg.expressions.ResidualEvaluator;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.types.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans table scans from the data manifests cached in a {@link ManifestEntryCache}.
+ *
+ * <p>Planning follows the steps of an Iceberg table scan: manifests are pruned by their partition
+ * summaries, files by their partition and by their column metrics, and every file scan task gets
+ * the residual filter of its partition. Only the reading of the manifests is replaced by the
+ * cache.
+ *
+ * <p>Scans this planner does not handle are left to the Iceberg scan: incremental scans, snapshots
+ * with delete manifests (applying deletes needs Iceberg's internal delete file index), and requests
+ * that do not resolve against the schema, so the Iceberg scan reports the error as before.
+ */
+public class CachedManifestScanPlanner {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CachedManifestScanPlanner.class);
+
+  private static final DeleteFile[] NO_DELETES = new DeleteFile[0];
+
+  private final ManifestEntryCache manifestEntryCache;
+
+  public CachedManifestScanPlanner(ManifestEntryCache manifestEntryCache) {
+    this.manifestEntryCache = manifestEntryCache;
+  }
+
+  /**
+   * Plans the file scan tasks of a scan request from the cached manifests.
+   *
+   * @param table the table to scan
+   * @param scanRequest the scan request
+   * @return the lazily planned file scan tasks, or empty if the scan must be planned by Iceberg
+   */
+  public Optional<CloseableIterable<FileScanTask>> planFiles(
+      Table table, PlanTableScanRequest scanRequest) {
+    if (scanRequest.startSnapshotId() != null || scanRequest.endSnapshotId() != null) {
+      return Optional.empty();
+    }
+
+    Snapshot snapshot =
+        scanRequest.snapshotId() != null
+            ? table.snapshot(scanRequest.snapshotId())
+            : table.currentSnapshot();
+    if (snapshot == null) {
+      return Optional.empty();
+    }
+
+    FileIO io = table.io();
+    if (!snapshot.deleteManifests(io).isEmpty()) {
+      return Optional.empty();
+    }
+
+    // Like TableScan#useSnapshot, a time-travel scan binds to the schema of its snapshot.
+    Schema schema = table.schema();
+    if (scanRequest.snapshotId() != null && snapshot.schemaId() != null) {
+      schema = table.schemas().getOrDefault(snapshot.schemaId(), schema);
+    }
+
+    boolean caseSensitive = scanRequest.caseSensitive();
+    Expression filter =
+        scanRequest.filter() != null ? scanRequest.filter() : Expressions.alwaysTrue();
+    Set<Integer> statsFieldIds;
+    try {
+      Binder.bind(schema.asStruct(), filter, caseSensitive);
+      if (findFieldIds(schema, scanRequest.select(), caseSensitive) == null) {
+        return Optional.empty();
+      }
+      statsFieldIds = findFieldIds(schema, scanRequest.statsFields(), caseSensitive);
+      if (statsFieldIds == null) {
+        return Optional.empty();
+      }
+    } catch (RuntimeException e) {
+      LOG.debug("Fall back to Iceberg scan planning for table: {}", table.name(), e);
+      return Optional.empty();
+    }
+
+    Map<Integer, PartitionSpec> specsById = table.specs();
+    String schemaString = SchemaParser.toJson(schema);
+    Map<Integer, SpecPlanner> specPlanners = new HashMap<>();
+    Schema scanSchema = schema;
+    List<ManifestFile> manifests = snapshot.dataManifests(io);
+    Iterable<FileScanTask> tasks =
+        Iterables.concat(
+            Iterables.transform(
+                manifests,
+                manifest ->
+                    specPlanners
+                        .computeIfAbsent(
+                            manifest.partitionSpecId(),
+                            specId ->
+                                new SpecPlanner(
+                                    scanSchema,
+                                    schemaString,
+                                    specsById.get(specId),
+                                    filter,
+                                    caseSensitive,
+                                    statsFieldIds))
+                        .plan(manifest, io, specsById)));
+    return Optional.of(CloseableIterable.withNoopClose(tasks));
+  }
+
+  // Returns null if a column does not exist in the schema.
+  private static Set<Integer> findFieldIds(
+      Schema schema, List<String> columns, boolean caseSensitive) {
+    Set<Integer> fieldIds = new HashSet<>();
+    if (columns == null) {
+      return fieldIds;
+    }
+    for (String column : columns) {
+      Types.NestedField field =
+          caseSensitive ? schema.findField(column) : schema.caseInsensitiveFindField(column);
+      if (field == null) {
+        return null;
+      }
+      fieldIds.add(field.fieldId());
+    }
+    return fieldIds;
+  }
+
+  /** The evaluators of one partition spec, shared by the manifests written with it. */
+  private final class SpecPlanner {
+    private final ManifestEvaluator manifestEvaluator;
+    private final Evaluator partitionEvaluator;
+    private final InclusiveMetricsEvaluator metricsEvaluator;
+    private final ResidualEvaluator residuals;
+    private final String schemaString;
+    private final String specString;
+    private final Set<Integer> statsFieldIds;
+
+    private SpecPlanner(
+        Schema schema,
+        String schemaString,
+        PartitionSpec spec,
+        Expression filter,
+        boolean caseSensitive,
+        Set<Integer> statsFieldIds) {
+      Expression partitionFilter = Projections.inclusive(spec, caseSensitive).project(filter);
+      this.manifestEvaluator =
+          ManifestEvaluator.forPartitionFilter(partitionFilter, spec, caseSensitive);
+      this.partitionEvaluator =
+          new Evaluator(spec.partitionType(), partitionFilter, caseSensitive);
+      this.metricsEvaluator = new InclusiveMetricsEvaluator(schema, filter, caseSensitive);
+      this.residuals = ResidualEvaluator.of(spec, filter, caseSensitive);
+      this.schemaString = schemaString;
+      this.specString = PartitionSpecParser.toJson(spec);
+      this.statsFieldIds = statsFieldIds;
+    }
+
+    private Iterable<FileScanTask> plan(
+        ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById) {
+      if ((!manifest.hasAddedFiles() && !manifest.hasExistingFiles())
+          || !manifestEvaluator.eval(manifest)) {
+        return Collections.emptyList();
+      }
+
+      List<DataFile> files = manifestEntryCache.dataFiles(manifest, io, specsById);
+      return Iterables.transform(
+          Iterables.filter(
+              files,
+              file -> partitionEvaluator.eval(file.partition()) && metricsEvaluator.eval(file)),
+          file ->
+              new BaseFileScanTask(
+                  withRequestedStats(file), NO_DELETES, schemaString, specString, residuals));
+    }
+
+    // Like the Iceberg scan, only the statistics of the requested columns are returned.
+    private DataFile withRequestedStats(DataFile file) {
+      return statsFieldIds.isEmpty() ? file.copyWithoutStats() : file.copyWithStats(statsFieldIds);
+    }
+  }
+}
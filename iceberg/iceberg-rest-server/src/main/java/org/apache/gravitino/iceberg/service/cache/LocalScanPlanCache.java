@@ -30,7 +30,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Local in-memory implementation of {@link ScanPlanCache} using Caffeine cache.
  *
- * <p>This cache is thread-safe and uses a LRU eviction policy.
+ * <p>This cache is thread-safe and uses a LRU eviction policy. It is bounded either by the number
+ * of plans or, when a maximum weight is given, by the estimated size of the plans in bytes (see
+ * {@link ScanPlanWeigher}).
  *
  * <p>Usage example:
  *
@@ -54,24 +56,48 @@ public class LocalScanPlanCache implements ScanPlanCache {
    */
   @Override
   public void initialize(int capacity, int expireMinutes) {
+    initialize(capacity, 0L, expireMinutes);
+  }
+
+  /**
+   * Initializes the scan plan cache with specified configuration.
+   *
+   * @param capacity the maximum number of scan plans to cache, used when {@code maxWeightBytes} is
+   *     zero
+   * @param maxWeightBytes the maximum estimated size in bytes of the cached plans, or zero to bound
+   *     the cache by {@code capacity}
+   * @param expireMinutes the number of minutes after which cached entries expire
+   */
+  @Override
+  public void initialize(int capacity, long maxWeightBytes, int expireMinutes) {
     if (capacity <= 0) {
       throw new IllegalArgumentException("Cache capacity must be positive, got: " + capacity);
     }
+    if (maxWeightBytes < 0) {
+      throw new IllegalArgumentException(
+          "Cache max weight must not be negative, got: " + maxWeightBytes);
+    }
     if (expireMinutes <= 0) {
       throw new IllegalArgumentException(
           "Cache expiration time must be positive, got: " + expireMinutes);
     }
     LOG.info(
-        "Initializing LocalScanPlanCache with capacity: {}, expireAfterAccess: {} minutes",
+        "Initializing LocalScanPlanCache with capacity: {}, max weight: {} bytes, "
+            + "expireAfterAccess: {} minutes",
         capacity,
+        maxWeightBytes,
         expireMinutes);
 
-    this.scanPlanCache =
+    Caffeine<Object, Object> builder =
         Caffeine.newBuilder()
-            .maximumSize(capacity)
             .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
-            .executor(Runnable::run)
-            .build();
+            .executor(Runnable::run);
+    if (maxWeightBytes > 0) {
+      this.scanPlanCache =
+          builder.maximumWeight(maxWeightBytes).weigher(ScanPlanWeigher.getInstance()).build();
+    } else {
+      this.scanPlanCache = builder.maximumSize(capacity).build();
+    }
 
     LOG.info("LocalScanPlanCache initialized successfully");
   }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.ImmutableList;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFiles;
+import org.apache.iceberg.ManifestReader;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.io.FileIO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the live data files of data manifests, keyed by manifest path and partition spec.
+ *
+ * <p>Manifests are immutable once written, so their entries never go stale. Different scans of
+ * the same snapshot share the manifests, and a scan with a new filter is planned by evaluating the
+ * cached entries instead of reading the manifests from object storage again. The cache is bounded
+ * by the estimated heap size of the entries, see {@link ScanPlanWeigher#estimateFileBytes}.
+ */
+public class ManifestEntryCache implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ManifestEntryCache.class);
+
+  // Fixed cost of a cached manifest besides its files.
+  private static final long MANIFEST_OVERHEAD_BYTES = 128;
+
+  private final Cache<ManifestKey, List<DataFile>> manifestEntries;
+
+  public ManifestEntryCache(long maxWeightBytes, int expireMinutes) {
+    if (maxWeightBytes <= 0) {
+      throw new IllegalArgumentException(
+          "Cache max weight must be positive, got: " + maxWeightBytes);
+    }
+    if (expireMinutes <= 0) {
+      throw new IllegalArgumentException(
+          "Cache expiration time must be positive, got: " + expireMinutes);
+    }
+    LOG.info(
+        "Initializing ManifestEntryCache with max weight: {} bytes, expireAfterAccess: {} minutes",
+        maxWeightBytes,
+        expireMinutes);
+
+    this.manifestEntries =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher(ManifestEntryCache::weigh)
+            .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Returns the live data files of a data manifest, reading the manifest on a cache miss.
+   *
+   * <p>The files keep all their column statistics, callers drop the statistics they do not return.
+   *
+   * @param manifest the data manifest
+   * @param io the file IO to read the manifest with
+   * @param specsById the partition specs of the table
+   * @return the live data files of the manifest
+   */
+  public List<DataFile> dataFiles(
+      ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById) {
+    return manifestEntries.get(
+        new ManifestKey(manifest.path(), manifest.partitionSpecId()),
+        key -> readDataFiles(manifest, io, specsById));
+  }
+
+  /**
+   * Returns the statistics of the cache since it was created.
+   *
+   * @return the cache statistics
+   */
+  public CacheStats stats() {
+    return manifestEntries.stats();
+  }
+
+  /**
+   * Returns the estimated size in bytes of the cached entries.
+   *
+   * @return the estimated size in bytes
+   */
+  public long weightBytes() {
+    return manifestEntries
+        .policy()
+        .eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0L))
+        .orElse(0L);
+  }
+
+  @Override
+  public void close() {
+    manifestEntries.invalidateAll();
+    manifestEntries.cleanUp();
+  }
+
+  private static List<DataFile> readDataFiles(
+      ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById) {
+    ImmutableList.Builder<DataFile> files = ImmutableList.builder();
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, io, specsById)) {
+      for (DataFile file : reader) {
+        // The reader reuses its file container, keep an independent copy with all statistics.
+        files.add(file.copy());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read manifest " + manifest.path(), e);
+    }
+    return files.build();
+  }
+
+  private static int weigh(ManifestKey key, List<DataFile> files) {
+    long bytes = MANIFEST_OVERHEAD_BYTES + 2L * key.path.length();
+    for (DataFile file : files) {
+      bytes += ScanPlanWeigher.estimateFileBytes(file);
+    }
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  private static final class ManifestKey {
+    private final String path;
+    private final int specId;
+
+    private ManifestKey(String path, int specId) {
+      this.path = path;
+      this.specId = specId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ManifestKey)) {
+        return false;
+      }
+      ManifestKey that = (ManifestKey) o;
+      return specId == that.specId && path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, specId);
+    }
+  }
+}
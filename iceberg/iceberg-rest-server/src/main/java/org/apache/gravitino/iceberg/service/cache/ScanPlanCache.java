@@ -57,6 +57,21 @@ public interface ScanPlanCache extends Closeable {
    */
   void initialize(int capacity, int expireMinutes);
 
+  /**
+   * Initializes the scan plan cache bounded by the estimated size of the cached plans.
+   *
+   * <p>Implementations that cannot weigh plans fall back to {@link #initialize(int, int)}.
+   *
+   * @param capacity the maximum number of scan plans to cache, used when {@code maxWeightBytes} is
+   *     zero
+   * @param maxWeightBytes the maximum estimated size in bytes of the cached plans, or zero to bound
+   *     the cache by {@code capacity}
+   * @param expireMinutes the number of minutes after which cached entries expire
+   */
+  default void initialize(int capacity, long maxWeightBytes, int expireMinutes) {
+    initialize(capacity, expireMinutes);
+  }
+
   /**
    * Retrieves a cached scan plan response for the given key.
    *
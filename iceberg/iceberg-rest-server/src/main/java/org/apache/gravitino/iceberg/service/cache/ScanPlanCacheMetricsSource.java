@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.cache;
+
+import com.codahale.metrics.Counter;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Metrics of the scan plan caches of one Iceberg REST catalog: the hit ratio of the scan plan
+ * response cache and the hit ratio and size of the manifest entry cache below it.
+ */
+public class ScanPlanCacheMetricsSource extends MetricsSource {
+
+  public static final String RESPONSE_CACHE_HITS = "response-cache.hits";
+  public static final String RESPONSE_CACHE_MISSES = "response-cache.misses";
+  public static final String RESPONSE_CACHE_HIT_RATIO = "response-cache.hit-ratio";
+  public static final String MANIFEST_CACHE_HITS = "manifest-cache.hits";
+  public static final String MANIFEST_CACHE_MISSES = "manifest-cache.misses";
+  public static final String MANIFEST_CACHE_HIT_RATIO = "manifest-cache.hit-ratio";
+  public static final String MANIFEST_CACHE_WEIGHT_BYTES = "manifest-cache.weight-bytes";
+
+  private final Counter responseCacheHits;
+  private final Counter responseCacheMisses;
+
+  /**
+   * Creates the metrics source of a catalog.
+   *
+   * @param catalogName the catalog name
+   * @param manifestEntryCache the manifest entry cache of the catalog, or null if it is disabled
+   */
+  public ScanPlanCacheMetricsSource(String catalogName, ManifestEntryCache manifestEntryCache) {
+    super(
+        String.join(
+            ".", MetricsSource.ICEBERG_REST_SERVER_METRIC_NAME, "scan-plan-cache", catalogName));
+    this.responseCacheHits = getCounter(RESPONSE_CACHE_HITS);
+    this.responseCacheMisses = getCounter(RESPONSE_CACHE_MISSES);
+    registerGauge(
+        RESPONSE_CACHE_HIT_RATIO,
+        () -> hitRatio(responseCacheHits.getCount(), responseCacheMisses.getCount()));
+    if (manifestEntryCache != null) {
+      registerGauge(MANIFEST_CACHE_HITS, () -> manifestEntryCache.stats().hitCount());
+      registerGauge(MANIFEST_CACHE_MISSES, () -> manifestEntryCache.stats().missCount());
+      registerGauge(MANIFEST_CACHE_HIT_RATIO, () -> manifestEntryCache.stats().hitRate());
+      registerGauge(MANIFEST_CACHE_WEIGHT_BYTES, manifestEntryCache::weightBytes);
+    }
+  }
+
+  /**
+   * Records a lookup in the scan plan response cache.
+   *
+   * @param hit whether the lookup found a cached plan
+   */
+  public void markResponseCacheLookup(boolean hit) {
+    if (hit) {
+      responseCacheHits.inc();
+    } else {
+      responseCacheMisses.inc();
+    }
+  }
+
+  private static double hitRatio(long hits, long misses) {
+    long requests = hits + misses;
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+}
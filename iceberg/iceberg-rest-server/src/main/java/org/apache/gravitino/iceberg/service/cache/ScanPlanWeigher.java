@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+
+/**
+ * A {@link Weigher} that estimates the heap size in bytes of a cached scan plan, so the scan plan
+ * cache can be bounded by memory instead of by the number of plans. A plan of a large table weighs
+ * as much as the many small plans it displaces.
+ *
+ * <p>The estimate is dominated by the data and delete files of the plan, see {@link
+ * #estimateFileBytes(ContentFile)}. It does not need to be exact, only proportional.
+ */
+public class ScanPlanWeigher implements Weigher<ScanPlanCacheKey, PlanTableScanResponse> {
+
+  private static final ScanPlanWeigher INSTANCE = new ScanPlanWeigher();
+
+  // Fixed cost of a response and of the objects around every file: the task, the file, its
+  // partition tuple and the boxed scalar fields.
+  private static final int RESPONSE_OVERHEAD_BYTES = 256;
+  private static final int FILE_OVERHEAD_BYTES = 384;
+  // A boxed key and value plus the hash map node of one column statistic.
+  private static final int STATS_ENTRY_BYTES = 48;
+
+  private ScanPlanWeigher() {}
+
+  /**
+   * Returns the singleton instance of the {@link ScanPlanWeigher}.
+   *
+   * @return the singleton instance of the {@link ScanPlanWeigher}.
+   */
+  public static ScanPlanWeigher getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public int weigh(ScanPlanCacheKey key, PlanTableScanResponse response) {
+    long bytes = RESPONSE_OVERHEAD_BYTES;
+    List<FileScanTask> tasks = response.fileScanTasks();
+    if (tasks != null) {
+      for (FileScanTask task : tasks) {
+        bytes += estimateFileBytes(task.file());
+        // Delete files shared by several tasks are counted once per task, which over-estimates
+        // plans of tables with many deletes and makes them the first to be evicted.
+        for (DeleteFile deleteFile : task.deletes()) {
+          bytes += estimateFileBytes(deleteFile);
+        }
+      }
+    }
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Estimates the heap size of a data or delete file including its column statistics.
+   *
+   * @param file the file to estimate
+   * @return the estimated size in bytes
+   */
+  public static long estimateFileBytes(ContentFile<?> file) {
+    long bytes = FILE_OVERHEAD_BYTES + 2L * file.location().length();
+    bytes += countEntries(file.columnSizes());
+    bytes += countEntries(file.valueCounts());
+    bytes += countEntries(file.nullValueCounts());
+    bytes += countEntries(file.nanValueCounts());
+    bytes += boundEntries(file.lowerBounds());
+    bytes += boundEntries(file.upperBounds());
+    return bytes;
+  }
+
+  private static long countEntries(Map<Integer, Long> stats) {
+    return stats == null ? 0 : (long) stats.size() * STATS_ENTRY_BYTES;
+  }
+
+  private static long boundEntries(Map<Integer, ByteBuffer> bounds) {
+    if (bounds == null) {
+      return 0;
+    }
+    long bytes = 0;
+    for (ByteBuffer bound : bounds.values()) {
+      bytes += STATS_ENTRY_BYTES + (bound == null ? 0 : bound.remaining());
+    }
+    return bytes;
+  }
+}
@@ -24,9 +24,12 @@ import org.apache.gravitino.listener.api.event.IcebergRequestContext;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
 import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadCredentialsResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
@@ -135,6 +138,41 @@ public interface IcebergTableOperationDispatcher {
       TableIdentifier tableIdentifier,
       PlanTableScanRequest scanRequest);
 
+  /**
+   * Fetch the planning result of an asynchronous scan plan.
+   *
+   * @param context Iceberg REST request context information.
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param planId The plan id returned by {@link #planTableScan}.
+   * @return A FetchPlanningResultResponse with the plan status and, once completed, the first plan
+   *     task.
+   */
+  FetchPlanningResultResponse fetchPlanningResult(
+      IcebergRequestContext context, TableIdentifier tableIdentifier, String planId);
+
+  /**
+   * Fetch the file scan tasks of a plan task.
+   *
+   * @param context Iceberg REST request context information.
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param request The request carrying the plan task.
+   * @return A FetchScanTasksResponse with the file scan tasks and the following plan tasks.
+   */
+  FetchScanTasksResponse fetchScanTasks(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      FetchScanTasksRequest request);
+
+  /**
+   * Cancel an asynchronous scan plan.
+   *
+   * @param context Iceberg REST request context information.
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param planId The plan id returned by {@link #planTableScan}.
+   */
+  void cancelPlanning(
+      IcebergRequestContext context, TableIdentifier tableIdentifier, String planId);
+
   /**
    * Retrieves the metadata file location for a table without loading full table metadata. This is
    * an optional fast path for catalogs that support cheap metadata location retrieval.
@@ -23,14 +23,18 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.service.IcebergRESTUtils;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.slf4j.Logger;
@@ -52,8 +56,11 @@ public class IcebergMetricsManager {
   private final IcebergMetricsFormatter icebergMetricsFormatter;
   private final IcebergMetricsStore icebergMetricsStore;
   private final int retainDays;
+  private final int batchSize;
+  private final long batchLingerMs;
+  private final IcebergMetricsReportMetricsSource metricsSource;
 
-  private BlockingQueue<MetricsReportWrapper> queue;
+  private BlockingQueue<IcebergMetricsRecord> queue;
   private Thread metricsWriterThread;
   private volatile boolean isClosed = false;
   private Optional<ScheduledExecutorService> metricsCleanerExecutor = Optional.empty();
@@ -85,6 +92,17 @@ public class IcebergMetricsManager {
 
     int queueCapacity = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_QUEUE_CAPACITY);
     queue = new LinkedBlockingQueue(queueCapacity);
+    batchSize = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_BATCH_SIZE);
+    batchLingerMs = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_BATCH_LINGER_MS);
+
+    metricsSource = new IcebergMetricsReportMetricsSource();
+    metricsSource.registerGauge(IcebergMetricsReportMetricsSource.QUEUE_DEPTH, queue::size);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics System could be null in UT.
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
     metricsWriterThread = new Thread(() -> writeMetrics());
     metricsWriterThread.setName("Iceberg-metrics-writer");
     metricsWriterThread.setDaemon(true);
@@ -124,10 +142,12 @@ public class IcebergMetricsManager {
       String catalogName, Namespace namespace, MetricsReport metricsReport) {
     if (isClosed) {
       logMetrics("Drop Iceberg metrics because Iceberg Metrics Manager is closed.", metricsReport);
+      metricsSource.getCounter(IcebergMetricsReportMetricsSource.REPORTS_DROPPED_CLOSED).inc();
       return false;
     }
-    if (!queue.offer(new MetricsReportWrapper(catalogName, namespace, metricsReport))) {
+    if (!queue.offer(new IcebergMetricsRecord(catalogName, namespace, metricsReport))) {
       logMetrics("Drop Iceberg metrics because metrics queue is full.", metricsReport);
+      metricsSource.getCounter(IcebergMetricsReportMetricsSource.REPORTS_DROPPED_QUEUE_FULL).inc();
       return false;
     }
     return true;
@@ -153,6 +173,11 @@ public class IcebergMetricsManager {
         LOG.warn("Iceberg metrics manager is interrupted while join metrics writer thread.");
       }
     }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   @VisibleForTesting
@@ -160,31 +185,55 @@ public class IcebergMetricsManager {
     return icebergMetricsStore;
   }
 
+  @VisibleForTesting
+  IcebergMetricsReportMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  // Group commit: block for the first report, then keep collecting until the batch is full or the
+  // linger time of the batch is over, so a burst of reports is written with one store call.
   private void writeMetrics() {
+    List<IcebergMetricsRecord> batch = new ArrayList<>(batchSize);
     while (!Thread.currentThread().isInterrupted()) {
-      MetricsReportWrapper metricsReport;
       try {
-        metricsReport = queue.take();
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchLingerMs);
+        while (batch.size() < batchSize) {
+          queue.drainTo(batch, batchSize - batch.size());
+          long remainingNanos = deadline - System.nanoTime();
+          if (batch.size() >= batchSize || remainingNanos <= 0) {
+            break;
+          }
+          IcebergMetricsRecord metricsRecord = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+          if (metricsRecord == null) {
+            break;
+          }
+          batch.add(metricsRecord);
+        }
       } catch (InterruptedException e) {
         LOG.warn("Iceberg Metrics writer thread is interrupted.");
         break;
       }
 
-      doRecordMetric(
-          metricsReport.getCatalog(),
-          metricsReport.getNamespace(),
-          metricsReport.getMetricsReport());
+      doRecordMetrics(batch);
+      batch.clear();
     }
 
-    MetricsReportWrapper metricsReport = queue.poll();
-    while (metricsReport != null) {
-      logMetrics(
-          "Drop Iceberg metrics because it's time to close metrics store.",
-          metricsReport.getMetricsReport());
-      metricsReport = queue.poll();
+    batch.forEach(this::dropOnClose);
+    IcebergMetricsRecord metricsRecord = queue.poll();
+    while (metricsRecord != null) {
+      dropOnClose(metricsRecord);
+      metricsRecord = queue.poll();
     }
   }
 
+  private void dropOnClose(IcebergMetricsRecord metricsRecord) {
+    logMetrics(
+        "Drop Iceberg metrics because it's time to close metrics store.",
+        metricsRecord.getMetricsReport());
+    metricsSource.getCounter(IcebergMetricsReportMetricsSource.REPORTS_DROPPED_CLOSED).inc();
+  }
+
   private IcebergMetricsStore loadIcebergMetricsStore(String metricsStoreName) {
     if (metricsStoreName == null) {
       metricsStoreName = DummyMetricsStore.ICEBERG_METRICS_STORE_DUMMY_NAME;
@@ -206,35 +255,17 @@ public class IcebergMetricsManager {
     LOG.info("{} {}.", message, icebergMetricsFormatter.toPrintableString(metricsReport));
   }
 
-  private void doRecordMetric(String catalog, Namespace namespace, MetricsReport metricsReport) {
+  private void doRecordMetrics(List<IcebergMetricsRecord> batch) {
+    metricsSource.getHistogram(IcebergMetricsReportMetricsSource.BATCH_SIZE).update(batch.size());
     try {
-      icebergMetricsStore.recordMetric(catalog, namespace, metricsReport);
+      icebergMetricsStore.recordMetrics(batch);
+      metricsSource.getCounter(IcebergMetricsReportMetricsSource.REPORTS_WRITTEN).inc(batch.size());
     } catch (Exception e) {
-      LOG.warn("Write Iceberg metrics failed.", e);
+      LOG.warn("Write {} Iceberg metrics failed.", batch.size(), e);
+      metricsSource
+          .getCounter(IcebergMetricsReportMetricsSource.REPORTS_DROPPED_WRITE_FAILURE)
+          .inc(batch.size());
     }
   }
 
-  private static class MetricsReportWrapper {
-    private final String catalog;
-    private final Namespace namespace;
-    private final MetricsReport metricsReport;
-
-    public MetricsReportWrapper(String catalog, Namespace namespace, MetricsReport metricsReport) {
-      this.catalog = catalog;
-      this.namespace = namespace;
-      this.metricsReport = metricsReport;
-    }
-
-    public Namespace getNamespace() {
-      return namespace;
-    }
-
-    public MetricsReport getMetricsReport() {
-      return metricsReport;
-    }
-
-    public String getCatalog() {
-      return catalog;
-    }
-  }
 }
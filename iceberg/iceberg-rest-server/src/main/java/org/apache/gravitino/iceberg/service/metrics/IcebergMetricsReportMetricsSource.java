@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.metrics;
+
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Metrics of the queue and the writer that persist Iceberg metrics reports. */
+public class IcebergMetricsReportMetricsSource extends MetricsSource {
+
+  public static final String QUEUE_DEPTH = "queue-depth";
+  public static final String BATCH_SIZE = "batch-size";
+  public static final String REPORTS_WRITTEN = "reports-written";
+  public static final String REPORTS_DROPPED_QUEUE_FULL = "reports-dropped.queue-full";
+  public static final String REPORTS_DROPPED_CLOSED = "reports-dropped.closed";
+  public static final String REPORTS_DROPPED_WRITE_FAILURE = "reports-dropped.write-failure";
+
+  public IcebergMetricsReportMetricsSource() {
+    super(String.join(".", MetricsSource.ICEBERG_REST_SERVER_METRIC_NAME, "metrics-reports"));
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.gravitino.iceberg.service.metrics;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.metrics.MetricsReport;
@@ -46,6 +47,22 @@ public interface IcebergMetricsStore {
   void recordMetric(String catalog, Namespace namespace, MetricsReport metricsReport)
       throws IOException;
 
+  /**
+   * Record a batch of metrics reports. Stores able to write several reports at once should
+   * override this, the default records the reports one by one and stops at the first failure.
+   *
+   * @param metricsRecords the metrics reports with their catalog and namespace
+   * @throws IOException if IO error happens
+   */
+  default void recordMetrics(List<IcebergMetricsRecord> metricsRecords) throws IOException {
+    for (IcebergMetricsRecord metricsRecord : metricsRecords) {
+      recordMetric(
+          metricsRecord.getCatalog(),
+          metricsRecord.getNamespace(),
+          metricsRecord.getMetricsReport());
+    }
+  }
+
   /**
    * Clean the expired Iceberg metrics
    *
@@ -26,6 +26,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergPropertiesUtils;
@@ -40,8 +43,11 @@ import org.apache.iceberg.metrics.CounterResult;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.apache.iceberg.metrics.ScanReport;
 import org.apache.iceberg.metrics.TimerResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class JDBCMetricsStore implements IcebergMetricsStore {
+  private static final Logger LOG = LoggerFactory.getLogger(JDBCMetricsStore.class);
   public static final String ICEBERG_METRICS_STORE_JDBC_NAME = "jdbc";
   private static final String URI = "uri";
   private static final String INSERT_COMMIT_REPORT_METRICS_SQL =
@@ -148,78 +154,141 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
   public void recordMetric(String catalog, Namespace namespace, MetricsReport metricsReport)
       throws IOException {
     if (metricsReport instanceof CommitReport) {
-      CommitReport commitReport = (CommitReport) metricsReport;
       execute(
           INSERT_COMMIT_REPORT_METRICS_SQL,
-          Instant.now().toEpochMilli(),
-          String.format("%s.%s", catalog, namespace.toString()),
-          commitReport.tableName(),
-          commitReport.snapshotId(),
-          commitReport.sequenceNumber(),
-          commitReport.operation(),
-          getCounterResult(commitReport.commitMetrics().addedDataFiles()),
-          getCounterResult(commitReport.commitMetrics().removedDataFiles()),
-          getCounterResult(commitReport.commitMetrics().totalDataFiles()),
-          getCounterResult(commitReport.commitMetrics().addedDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().addedEqualityDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().addedPositionalDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().removedDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().removedEqualityDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().removedPositionalDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().totalDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().addedRecords()),
-          getCounterResult(commitReport.commitMetrics().removedRecords()),
-          getCounterResult(commitReport.commitMetrics().totalRecords()),
-          getCounterResult(commitReport.commitMetrics().addedFilesSizeInBytes()),
-          getCounterResult(commitReport.commitMetrics().removedFilesSizeInBytes()),
-          getCounterResult(commitReport.commitMetrics().totalFilesSizeInBytes()),
-          getCounterResult(commitReport.commitMetrics().addedPositionalDeletes()),
-          getCounterResult(commitReport.commitMetrics().removedPositionalDeletes()),
-          getCounterResult(commitReport.commitMetrics().totalPositionalDeletes()),
-          getCounterResult(commitReport.commitMetrics().addedEqualityDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().removedEqualityDeleteFiles()),
-          getCounterResult(commitReport.commitMetrics().totalEqualityDeletes()),
-          getCounterResult(commitReport.commitMetrics().manifestsCreated()),
-          getCounterResult(commitReport.commitMetrics().manifestsReplaced()),
-          getCounterResult(commitReport.commitMetrics().manifestsKept()),
-          getCounterResult(commitReport.commitMetrics().manifestEntriesProcessed()),
-          getCounterResult(commitReport.commitMetrics().addedDVs()),
-          getCounterResult(commitReport.commitMetrics().removedDVs()),
-          getTimerResult(commitReport.commitMetrics().totalDuration()),
-          getCounterResult(commitReport.commitMetrics().attempts()),
-          JsonUtils.objectMapper().writeValueAsString(commitReport.metadata()));
+          commitReportArgs(catalog, namespace, (CommitReport) metricsReport));
     } else if (metricsReport instanceof ScanReport) {
-      ScanReport scanReport = (ScanReport) metricsReport;
       execute(
           INSERT_SCAN_REPORT_METRICS_SQL,
-          Instant.now().toEpochMilli(),
-          String.format("%s.%s", catalog, namespace.toString()),
-          scanReport.tableName(),
-          scanReport.snapshotId(),
-          scanReport.schemaId(),
-          scanReport.filter().toString(),
-          JsonUtils.objectMapper().writeValueAsString(scanReport.metadata()),
-          JsonUtils.objectMapper().writeValueAsString(scanReport.projectedFieldIds()),
-          JsonUtils.objectMapper().writeValueAsString(scanReport.projectedFieldNames().toString()),
-          getCounterResult(scanReport.scanMetrics().equalityDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().indexedDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().positionalDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().resultDataFiles()),
-          getCounterResult(scanReport.scanMetrics().resultDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().scannedDataManifests()),
-          getCounterResult(scanReport.scanMetrics().scannedDeleteManifests()),
-          getCounterResult(scanReport.scanMetrics().skippedDataFiles()),
-          getCounterResult(scanReport.scanMetrics().skippedDataManifests()),
-          getCounterResult(scanReport.scanMetrics().skippedDeleteFiles()),
-          getCounterResult(scanReport.scanMetrics().skippedDeleteManifests()),
-          getCounterResult(scanReport.scanMetrics().totalDataManifests()),
-          getCounterResult(scanReport.scanMetrics().totalDeleteFileSizeInBytes()),
-          getCounterResult(scanReport.scanMetrics().totalDeleteManifests()),
-          getCounterResult(scanReport.scanMetrics().totalFileSizeInBytes()),
-          getTimerResult(scanReport.scanMetrics().totalPlanningDuration()));
+          scanReportArgs(catalog, namespace, (ScanReport) metricsReport));
     }
   }
 
+  /**
+   * Records the reports with one JDBC batch per report table, all in one transaction, so a burst of
+   * reports costs a few round trips instead of one per report. If the batch fails, the reports are
+   * written one by one and only the ones that fail again are dropped.
+   */
+  @Override
+  public void recordMetrics(List<IcebergMetricsRecord> metricsRecords) throws IOException {
+    Map<String, List<Object[]>> rowsBySql = new LinkedHashMap<>();
+    rowsBySql.put(INSERT_COMMIT_REPORT_METRICS_SQL, new ArrayList<>());
+    rowsBySql.put(INSERT_SCAN_REPORT_METRICS_SQL, new ArrayList<>());
+    for (IcebergMetricsRecord metricsRecord : metricsRecords) {
+      MetricsReport metricsReport = metricsRecord.getMetricsReport();
+      try {
+        if (metricsReport instanceof CommitReport) {
+          rowsBySql
+              .get(INSERT_COMMIT_REPORT_METRICS_SQL)
+              .add(
+                  commitReportArgs(
+                      metricsRecord.getCatalog(),
+                      metricsRecord.getNamespace(),
+                      (CommitReport) metricsReport));
+        } else if (metricsReport instanceof ScanReport) {
+          rowsBySql
+              .get(INSERT_SCAN_REPORT_METRICS_SQL)
+              .add(
+                  scanReportArgs(
+                      metricsRecord.getCatalog(),
+                      metricsRecord.getNamespace(),
+                      (ScanReport) metricsReport));
+        }
+      } catch (IOException | RuntimeException e) {
+        LOG.warn("Drop Iceberg metrics report which can't be converted, {}.", metricsReport, e);
+      }
+    }
+
+    try {
+      executeBatchInTransaction(rowsBySql);
+    } catch (UncheckedSQLException e) {
+      LOG.warn("Write a batch of Iceberg metrics reports failed, retry them one by one.", e);
+      for (Map.Entry<String, List<Object[]>> entry : rowsBySql.entrySet()) {
+        for (Object[] args : entry.getValue()) {
+          try {
+            execute(entry.getKey(), args);
+          } catch (UncheckedSQLException ex) {
+            LOG.warn("Drop Iceberg metrics report which can't be written.", ex);
+          }
+        }
+      }
+    }
+  }
+
+  private static Object[] commitReportArgs(
+      String catalog, Namespace namespace, CommitReport commitReport) throws IOException {
+    return new Object[] {
+      Instant.now().toEpochMilli(),
+      String.format("%s.%s", catalog, namespace.toString()),
+      commitReport.tableName(),
+      commitReport.snapshotId(),
+      commitReport.sequenceNumber(),
+      commitReport.operation(),
+      getCounterResult(commitReport.commitMetrics().addedDataFiles()),
+      getCounterResult(commitReport.commitMetrics().removedDataFiles()),
+      getCounterResult(commitReport.commitMetrics().totalDataFiles()),
+      getCounterResult(commitReport.commitMetrics().addedDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().addedEqualityDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().addedPositionalDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().removedDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().removedEqualityDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().removedPositionalDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().totalDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().addedRecords()),
+      getCounterResult(commitReport.commitMetrics().removedRecords()),
+      getCounterResult(commitReport.commitMetrics().totalRecords()),
+      getCounterResult(commitReport.commitMetrics().addedFilesSizeInBytes()),
+      getCounterResult(commitReport.commitMetrics().removedFilesSizeInBytes()),
+      getCounterResult(commitReport.commitMetrics().totalFilesSizeInBytes()),
+      getCounterResult(commitReport.commitMetrics().addedPositionalDeletes()),
+      getCounterResult(commitReport.commitMetrics().removedPositionalDeletes()),
+      getCounterResult(commitReport.commitMetrics().totalPositionalDeletes()),
+      getCounterResult(commitReport.commitMetrics().addedEqualityDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().removedEqualityDeleteFiles()),
+      getCounterResult(commitReport.commitMetrics().totalEqualityDeletes()),
+      getCounterResult(commitReport.commitMetrics().manifestsCreated()),
+      getCounterResult(commitReport.commitMetrics().manifestsReplaced()),
+      getCounterResult(commitReport.commitMetrics().manifestsKept()),
+      getCounterResult(commitReport.commitMetrics().manifestEntriesProcessed()),
+      getCounterResult(commitReport.commitMetrics().addedDVs()),
+      getCounterResult(commitReport.commitMetrics().removedDVs()),
+      getTimerResult(commitReport.commitMetrics().totalDuration()),
+      getCounterResult(commitReport.commitMetrics().attempts()),
+      JsonUtils.objectMapper().writeValueAsString(commitReport.metadata())
+    };
+  }
+
+  private static Object[] scanReportArgs(String catalog, Namespace namespace, ScanReport scanReport)
+      throws IOException {
+    return new Object[] {
+      Instant.now().toEpochMilli(),
+      String.format("%s.%s", catalog, namespace.toString()),
+      scanReport.tableName(),
+      scanReport.snapshotId(),
+      scanReport.schemaId(),
+      scanReport.filter().toString(),
+      JsonUtils.objectMapper().writeValueAsString(scanReport.metadata()),
+      JsonUtils.objectMapper().writeValueAsString(scanReport.projectedFieldIds()),
+      JsonUtils.objectMapper().writeValueAsString(scanReport.projectedFieldNames().toString()),
+      getCounterResult(scanReport.scanMetrics().equalityDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().indexedDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().positionalDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().resultDataFiles()),
+      getCounterResult(scanReport.scanMetrics().resultDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().scannedDataManifests()),
+      getCounterResult(scanReport.scanMetrics().scannedDeleteManifests()),
+      getCounterResult(scanReport.scanMetrics().skippedDataFiles()),
+      getCounterResult(scanReport.scanMetrics().skippedDataManifests()),
+      getCounterResult(scanReport.scanMetrics().skippedDeleteFiles()),
+      getCounterResult(scanReport.scanMetrics().skippedDeleteManifests()),
+      getCounterResult(scanReport.scanMetrics().totalDataManifests()),
+      getCounterResult(scanReport.scanMetrics().totalDeleteFileSizeInBytes()),
+      getCounterResult(scanReport.scanMetrics().totalDeleteManifests()),
+      getCounterResult(scanReport.scanMetrics().totalFileSizeInBytes()),
+      getTimerResult(scanReport.scanMetrics().totalPlanningDuration())
+    };
+  }
+
   @Override
   public void clean(Instant expireTime) throws IOException {
     execute(DELETE_EXPIRED_SCAN_METRICS_SQL, expireTime.toEpochMilli());
@@ -253,19 +322,7 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
       return connections.run(
           conn -> {
             try (PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-              for (int pos = 0; pos < args.length; pos += 1) {
-                if (args[pos] instanceof Long) {
-                  preparedStatement.setLong(pos + 1, (Long) args[pos]);
-                } else if (args[pos] instanceof String) {
-                  preparedStatement.setString(pos + 1, (String) args[pos]);
-                } else if (args[pos] instanceof Integer) {
-                  preparedStatement.setInt(pos + 1, (Integer) args[pos]);
-                } else {
-                  throw new IllegalArgumentException(
-                      "Unsupported argument type: " + args[pos].getClass());
-                }
-              }
-
+              setArguments(preparedStatement, args);
               return preparedStatement.executeUpdate();
             }
           });
@@ -276,4 +333,54 @@ public class JDBCMetricsStore implements IcebergMetricsStore {
       throw new UncheckedInterruptedException(e, "Interrupted in SQL command");
     }
   }
+
+  private void executeBatchInTransaction(Map<String, List<Object[]>> rowsBySql) {
+    try {
+      connections.run(
+          conn -> {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+              for (Map.Entry<String, List<Object[]>> entry : rowsBySql.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                  continue;
+                }
+                try (PreparedStatement preparedStatement = conn.prepareStatement(entry.getKey())) {
+                  for (Object[] args : entry.getValue()) {
+                    setArguments(preparedStatement, args);
+                    preparedStatement.addBatch();
+                  }
+                  preparedStatement.executeBatch();
+                }
+              }
+              conn.commit();
+              return null;
+            } catch (SQLException | RuntimeException e) {
+              conn.rollback();
+              throw e;
+            } finally {
+              conn.setAutoCommit(autoCommit);
+            }
+          });
+    } catch (SQLException e) {
+      throw new UncheckedSQLException(e, "Failed to write a batch of metrics reports");
+    } catch (InterruptedException e) {
+      throw new UncheckedInterruptedException(e, "Interrupted in SQL command");
+    }
+  }
+
+  private static void setArguments(PreparedStatement preparedStatement, Object[] args)
+      throws SQLException {
+    for (int pos = 0; pos < args.length; pos += 1) {
+      if (args[pos] instanceof Long) {
+        preparedStatement.setLong(pos + 1, (Long) args[pos]);
+      } else if (args[pos] instanceof String) {
+        preparedStatement.setString(pos + 1, (String) args[pos]);
+      } else if (args[pos] instanceof Integer) {
+        preparedStatement.setInt(pos + 1, (Integer) args[pos]);
+      } else {
+        throw new IllegalArgumentException("Unsupported argument type: " + args[pos].getClass());
+      }
+    }
+  }
 }
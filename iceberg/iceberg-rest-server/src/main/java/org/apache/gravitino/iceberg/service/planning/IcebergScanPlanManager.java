@@ -0,0 +1,596 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.planning;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.security.auth.Subject;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.exceptions.ServiceUnavailableException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.rest.PlanStatus;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs Iceberg REST scan plans asynchronously for one catalog.
+ *
+ * <p>A submitted plan is planned on a bounded executor and streamed into plan tasks of at most
+ * {@code tasksPerPlanTask} file scan tasks. Plan tasks are chained: fetching plan task {@code n}
+ * returns its file scan tasks plus the token of plan task {@code n + 1} while more tasks may
+ * follow. At most {@code maxBufferedPlanTasks} unfetched plan tasks are held per plan; planning
+ * pauses until the client catches up, so the memory of a plan does not grow with the table size.
+ *
+ * <p>Planning runs as the caller that submitted the plan. A plan whose last plan task is fetched no
+ * longer counts as in flight, but keeps that plan task until it is cancelled or expires so a
+ * retried fetch can still be served.
+ */
+public class IcebergScanPlanManager implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IcebergScanPlanManager.class);
+
+  private static final String PLAN_TASK_SEPARATOR = ":";
+
+  // Upper bound for a fetch waiting on a plan task that is still being planned, so a slow plan
+  // cannot pin an HTTP thread forever. The fetch fails with 503 and can be retried.
+  private static final long PLAN_TASK_WAIT_MS = TimeUnit.SECONDS.toMillis(30);
+
+  private final String catalogName;
+  private final int maxPlansInFlight;
+  private final int tasksPerPlanTask;
+  private final int maxBufferedPlanTasks;
+  private final long expireMs;
+  private final ThreadPoolExecutor planExecutor;
+  private final ScheduledExecutorService expireScheduler;
+  private final Map<String, ScanPlan> plans = new ConcurrentHashMap<>();
+  // Plans that are still planning or have unfetched plan tasks, fully fetched plans stay in
+  // `plans` until they expire but do not count against maxPlansInFlight.
+  private final AtomicInteger plansInFlight = new AtomicInteger();
+  private final IcebergScanPlanMetricsSource metricsSource;
+
+  public IcebergScanPlanManager(String catalogName, IcebergConfig config) {
+    this(
+        catalogName,
+        config.get(IcebergConfig.SCAN_PLANNING_THREADS),
+        config.get(IcebergConfig.SCAN_PLANNING_MAX_PLANS_IN_FLIGHT),
+        config.get(IcebergConfig.SCAN_PLANNING_TASKS_PER_PLAN_TASK),
+        config.get(IcebergConfig.SCAN_PLANNING_MAX_BUFFERED_PLAN_TASKS),
+        TimeUnit.SECONDS.toMillis(config.get(IcebergConfig.SCAN_PLANNING_EXPIRE_SECS)));
+  }
+
+  @VisibleForTesting
+  IcebergScanPlanManager(
+      String catalogName,
+      int threads,
+      int maxPlansInFlight,
+      int tasksPerPlanTask,
+      int maxBufferedPlanTasks,
+      long expireMs) {
+    this.catalogName = catalogName;
+    this.maxPlansInFlight = maxPlansInFlight;
+    this.tasksPerPlanTask = tasksPerPlanTask;
+    this.maxBufferedPlanTasks = maxBufferedPlanTasks;
+    this.expireMs = expireMs;
+    // The queue never holds more than maxPlansInFlight plans because submit() rejects beyond it.
+    this.planExecutor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(maxPlansInFlight),
+            daemon("iceberg-scan-planning-" + catalogName));
+    this.metricsSource = new IcebergScanPlanMetricsSource(catalogName);
+    metricsSource.registerGauge(IcebergScanPlanMetricsSource.PLANS_IN_FLIGHT, plansInFlight::get);
+    metricsSource.registerGauge(
+        IcebergScanPlanMetricsSource.BUFFERED_PLAN_TASKS, this::bufferedPlanTasks);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics System could be null in UT.
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    this.expireScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            daemon("iceberg-scan-planning-expire-" + catalogName));
+    long sweepIntervalMs = Math.max(1000L, expireMs / 2);
+    expireScheduler.scheduleAtFixedRate(
+        this::expirePlans, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Starts planning the given scan tasks in the background.
+   *
+   * @param identifier the table being scanned, plans are only visible through this table
+   * @param specsById the partition specs of the table, used to serialize the file scan tasks
+   * @param scanTasks the lazily planned file scan tasks, closed once planning ends
+   * @return a SUBMITTED response carrying the plan id
+   * @throws ServiceUnavailableException if the catalog already has too many plans in flight
+   */
+  public PlanTableScanResponse submit(
+      TableIdentifier identifier,
+      Map<Integer, PartitionSpec> specsById,
+      CloseableIterable<FileScanTask> scanTasks) {
+    ScanPlan plan =
+        new ScanPlan(
+            UUID.randomUUID().toString(), identifier, specsById, scanTasks, currentSubject());
+    synchronized (plans) {
+      if (plansInFlight.get() >= maxPlansInFlight) {
+        closeQuietly(scanTasks);
+        metricsSource.getCounter(IcebergScanPlanMetricsSource.PLANS_REJECTED).inc();
+        throw new ServiceUnavailableException(
+            "Too many scan plans in flight for catalog %s, limit: %s",
+            catalogName, maxPlansInFlight);
+      }
+      plans.put(plan.planId, plan);
+      plansInFlight.incrementAndGet();
+    }
+
+    try {
+      plan.start(planExecutor.submit(plan::runAsCaller));
+    } catch (RejectedExecutionException e) {
+      remove(plan);
+      closeQuietly(scanTasks);
+      metricsSource.getCounter(IcebergScanPlanMetricsSource.PLANS_REJECTED).inc();
+      throw new ServiceUnavailableException(e, "Scan planning is unavailable for %s", identifier);
+    }
+    metricsSource.getCounter(IcebergScanPlanMetricsSource.PLANS_SUBMITTED).inc();
+    LOG.info("Submitted scan plan {} for table: {}", plan.planId, identifier);
+
+    return PlanTableScanResponse.builder()
+        .withPlanStatus(PlanStatus.SUBMITTED)
+        .withPlanId(plan.planId)
+        .build();
+  }
+
+  /**
+   * Returns the planning result of a plan.
+   *
+   * <p>The plan is COMPLETED as soon as its first plan task is ready, the remaining plan tasks are
+   * reached through the chain returned by {@link #fetchScanTasks}.
+   *
+   * @param identifier the table the plan was submitted for
+   * @param planId the plan id returned by {@link #submit}
+   * @return the planning result
+   * @throws NotFoundException if the plan does not exist, expired or was cancelled
+   */
+  public FetchPlanningResultResponse fetchPlanningResult(
+      TableIdentifier identifier, String planId) {
+    ScanPlan plan = getPlan(identifier, planId);
+    try {
+      return plan.planningResult();
+    } catch (RuntimeException e) {
+      // Failed and cancelled plans are reported once.
+      remove(plan);
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the file scan tasks of one plan task, blocking while the plan task is being planned.
+   *
+   * @param identifier the table the plan was submitted for
+   * @param request the request carrying the plan task token
+   * @return the file scan tasks and, if more may follow, the token of the next plan task
+   * @throws NotFoundException if the plan or the plan task no longer exists
+   * @throws ServiceUnavailableException if the plan task is not ready in time
+   */
+  public FetchScanTasksResponse fetchScanTasks(
+      TableIdentifier identifier, FetchScanTasksRequest request) {
+    String planTask = request.planTask();
+    int separator = planTask == null ? -1 : planTask.lastIndexOf(PLAN_TASK_SEPARATOR);
+    Preconditions.checkArgument(separator > 0, "Invalid plan task: %s", planTask);
+    String planId = planTask.substring(0, separator);
+    int sequence;
+    try {
+      sequence = Integer.parseInt(planTask.substring(separator + 1));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid plan task: " + planTask, e);
+    }
+    Preconditions.checkArgument(sequence >= 0, "Invalid plan task: %s", planTask);
+
+    ScanPlan plan = getPlan(identifier, planId);
+    FetchScanTasksResponse response;
+    try {
+      response = plan.fetch(sequence);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException(e, "Interrupted fetching plan task %s", planTask);
+    } catch (RuntimeException e) {
+      if (plan.failed()) {
+        remove(plan);
+      }
+      throw e;
+    }
+
+    if (response.planTasks() == null || response.planTasks().isEmpty()) {
+      // The last plan task is fetched. Keep it for a retried fetch until the plan is cancelled or
+      // expires, but let new plans take its place.
+      leaveFlight(plan);
+    }
+    return response;
+  }
+
+  /**
+   * Cancels a plan and releases its buffered plan tasks.
+   *
+   * @param identifier the table the plan was submitted for
+   * @param planId the plan id returned by {@link #submit}
+   * @throws NotFoundException if the plan does not exist or has already ended
+   */
+  public void cancel(TableIdentifier identifier, String planId) {
+    ScanPlan plan = getPlan(identifier, planId);
+    if (remove(plan)) {
+      plan.cancel();
+      metricsSource.getCounter(IcebergScanPlanMetricsSource.PLANS_CANCELLED).inc();
+      LOG.info("Cancelled scan plan {} for table: {}", planId, identifier);
+    }
+  }
+
+  @VisibleForTesting
+  int plansInFlight() {
+    return plansInFlight.get();
+  }
+
+  @VisibleForTesting
+  int plansRetained() {
+    return plans.size();
+  }
+
+  @VisibleForTesting
+  int bufferedPlanTasks() {
+    int buffered = 0;
+    for (ScanPlan plan : plans.values()) {
+      buffered += plan.buffered();
+    }
+    return buffered;
+  }
+
+  @VisibleForTesting
+  void expirePlans() {
+    long now = System.currentTimeMillis();
+    for (ScanPlan plan : plans.values()) {
+      if (now - plan.lastAccessMs > expireMs && remove(plan)) {
+        plan.cancel();
+        metricsSource.getCounter(IcebergScanPlanMetricsSource.PLANS_EXPIRED).inc();
+        LOG.info("Expired scan plan {} for table: {}", plan.planId, plan.identifier);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    expireScheduler.shutdownNow();
+    for (ScanPlan plan : plans.values()) {
+      if (remove(plan)) {
+        plan.cancel();
+      }
+    }
+    planExecutor.shutdownNow();
+    try {
+      planExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  private ScanPlan getPlan(TableIdentifier identifier, String planId) {
+    ScanPlan plan = plans.get(planId);
+    // A plan id is only valid for the table it was submitted for, the endpoints authorize the
+    // table in the path and must not expose the tasks of another table.
+    if (plan == null || !plan.identifier.equals(identifier)) {
+      throw new NotFoundException("Scan plan %s does not exist for table %s", planId, identifier);
+    }
+    return plan;
+  }
+
+  private boolean remove(ScanPlan plan) {
+    if (!plans.remove(plan.planId, plan)) {
+      return false;
+    }
+    leaveFlight(plan);
+    return true;
+  }
+
+  private void leaveFlight(ScanPlan plan) {
+    if (plan.leaveFlight()) {
+      plansInFlight.decrementAndGet();
+    }
+  }
+
+  // The subject the request runs as, it carries both the Gravitino principal and the Hadoop UGI of
+  // the caller.
+  @SuppressWarnings("removal")
+  private static Subject currentSubject() {
+    return Subject.getSubject(AccessController.getContext());
+  }
+
+  private static String planTask(String planId, int sequence) {
+    return planId + PLAN_TASK_SEPARATOR + sequence;
+  }
+
+  private static void closeQuietly(CloseableIterable<FileScanTask> scanTasks) {
+    try {
+      scanTasks.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close scan tasks", e);
+    }
+  }
+
+  private static ThreadFactory daemon(String name) {
+    return runnable -> {
+      Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** The state of one plan, guarded by its own monitor. */
+  private final class ScanPlan {
+    private final String planId;
+    private final TableIdentifier identifier;
+    private final Map<Integer, PartitionSpec> specsById;
+    private final CloseableIterable<FileScanTask> scanTasks;
+    // The caller that submitted the plan, null if the request did not run as a subject.
+    private final Subject subject;
+    // Plan tasks that are produced but not released yet, keyed by sequence. The last fetched plan
+    // task stays here until the next one is fetched so a retried fetch can still be served.
+    private final TreeMap<Integer, List<FileScanTask>> planTasks = new TreeMap<>();
+    private int produced;
+    private int lastFetched = -1;
+    private boolean done;
+    private boolean cancelled;
+    private boolean inFlight = true;
+    private RuntimeException failure;
+    private Future<?> future;
+    private volatile long lastAccessMs = System.currentTimeMillis();
+
+    private ScanPlan(
+        String planId,
+        TableIdentifier identifier,
+        Map<Integer, PartitionSpec> specsById,
+        CloseableIterable<FileScanTask> scanTasks,
+        Subject subject) {
+      this.planId = planId;
+      this.identifier = identifier;
+      this.specsById = specsById;
+      this.scanTasks = scanTasks;
+      this.subject = subject;
+    }
+
+    private void start(Future<?> planFuture) {
+      boolean cancelNow;
+      synchronized (this) {
+        this.future = planFuture;
+        cancelNow = cancelled;
+      }
+      if (cancelNow) {
+        planFuture.cancel(true);
+      }
+    }
+
+    // The scan tasks are planned lazily, so file and metastore accesses made while planning must
+    // use the identity of the caller rather than the one of the planning thread.
+    @SuppressWarnings("removal")
+    private void runAsCaller() {
+      if (subject == null) {
+        run();
+        return;
+      }
+      Subject.doAs(
+          subject,
+          (PrivilegedAction<Void>)
+              () -> {
+                run();
+                return null;
+              });
+    }
+
+    private void run() {
+      Timer.Context timer =
+          metricsSource.getTimer(IcebergScanPlanMetricsSource.PLANNING_DURATION).time();
+      try (CloseableIterable<FileScanTask> tasks = scanTasks) {
+        int planTaskCount = 0;
+        List<FileScanTask> chunk = new ArrayList<>();
+        for (FileScanTask task : tasks) {
+          chunk.add(task);
+          if (chunk.size() >= tasksPerPlanTask) {
+            if (!offer(chunk)) {
+              return;
+            }
+            planTaskCount++;
+            chunk = new ArrayList<>();
+          }
+        }
+        if (!chunk.isEmpty()) {
+          if (!offer(chunk)) {
+            return;
+          }
+          planTaskCount++;
+        }
+        finish(null);
+        LOG.info(
+            "Finished scan plan {} for table: {}, plan tasks: {}",
+            planId,
+            identifier,
+            planTaskCount);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        finish(new ServiceUnavailableException(e, "Scan plan %s was interrupted", planId));
+      } catch (Exception e) {
+        LOG.error("Failed to plan scan {} for table: {}", planId, identifier, e);
+        metricsSource.getCounter(IcebergScanPlanMetricsSource.PLANS_FAILED).inc();
+        finish(
+            new RuntimeException(
+                "Scan planning failed for table " + identifier + ": " + e.getMessage(), e));
+      } finally {
+        timer.stop();
+      }
+    }
+
+    private synchronized boolean offer(List<FileScanTask> chunk) throws InterruptedException {
+      while (!cancelled && produced - lastFetched - 1 >= maxBufferedPlanTasks) {
+        wait();
+      }
+      if (cancelled) {
+        return false;
+      }
+      planTasks.put(produced++, chunk);
+      notifyAll();
+      return true;
+    }
+
+    private synchronized void finish(RuntimeException error) {
+      if (cancelled) {
+        return;
+      }
+      done = true;
+      failure = error;
+      if (error != null) {
+        planTasks.clear();
+      }
+      notifyAll();
+    }
+
+    private synchronized void cancel() {
+      cancelled = true;
+      planTasks.clear();
+      notifyAll();
+      if (future != null) {
+        future.cancel(true);
+      }
+    }
+
+    private synchronized boolean leaveFlight() {
+      boolean wasInFlight = inFlight;
+      inFlight = false;
+      return wasInFlight;
+    }
+
+    private synchronized boolean failed() {
+      return failure != null;
+    }
+
+    private synchronized int buffered() {
+      return planTasks.size();
+    }
+
+    @SuppressWarnings("deprecation")
+    private synchronized FetchPlanningResultResponse planningResult() {
+      lastAccessMs = System.currentTimeMillis();
+      checkState();
+      if (!done && produced == 0) {
+        return FetchPlanningResultResponse.builder().withPlanStatus(PlanStatus.SUBMITTED).build();
+      }
+
+      FetchPlanningResultResponse.Builder builder =
+          FetchPlanningResultResponse.builder()
+              .withPlanStatus(PlanStatus.COMPLETED)
+              .withSpecsById(specsById);
+      if (produced > 0 || !done) {
+        builder.withPlanTasks(Collections.singletonList(planTask(planId, 0)));
+      } else {
+        builder.withFileScanTasks(Collections.emptyList());
+      }
+      return builder.build();
+    }
+
+    @SuppressWarnings("deprecation")
+    private synchronized FetchScanTasksResponse fetch(int sequence) throws InterruptedException {
+      lastAccessMs = System.currentTimeMillis();
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PLAN_TASK_WAIT_MS);
+      while (true) {
+        checkState();
+        if (planTasks.containsKey(sequence) || (done && sequence >= produced)) {
+          break;
+        }
+        if (sequence < produced) {
+          throw new NotFoundException(
+              "Plan task %s was already released", planTask(planId, sequence));
+        }
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0) {
+          throw new ServiceUnavailableException(
+              "Plan task %s is not ready yet", planTask(planId, sequence));
+        }
+        TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+      }
+
+      List<FileScanTask> tasks = planTasks.getOrDefault(sequence, Collections.emptyList());
+      if (sequence > lastFetched) {
+        // The client moved on, release every earlier plan task and let planning continue.
+        planTasks.headMap(sequence).clear();
+        lastFetched = sequence;
+        notifyAll();
+      }
+
+      FetchScanTasksResponse.Builder builder =
+          FetchScanTasksResponse.builder().withFileScanTasks(tasks).withSpecsById(specsById);
+      if (!done || sequence + 1 < produced) {
+        builder.withPlanTasks(Collections.singletonList(planTask(planId, sequence + 1)));
+      }
+      return builder.build();
+    }
+
+    private void checkState() {
+      if (cancelled) {
+        throw new NotFoundException("Scan plan %s was cancelled", planId);
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.planning;
+
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/** Metrics of the asynchronous scan plans of one Iceberg REST catalog. */
+public class IcebergScanPlanMetricsSource extends MetricsSource {
+
+  public static final String PLANS_IN_FLIGHT = "plans-in-flight";
+  public static final String BUFFERED_PLAN_TASKS = "buffered-plan-tasks";
+  public static final String PLANS_SUBMITTED = "plans-submitted";
+  public static final String PLANS_REJECTED = "plans-rejected";
+  public static final String PLANS_FAILED = "plans-failed";
+  public static final String PLANS_CANCELLED = "plans-cancelled";
+  public static final String PLANS_EXPIRED = "plans-expired";
+  public static final String PLANNING_DURATION = "planning-duration";
+
+  public IcebergScanPlanMetricsSource(String catalogName) {
+    super(
+        String.join(
+            ".", MetricsSource.ICEBERG_REST_SERVER_METRIC_NAME, "scan-planning", catalogName));
+  }
+}
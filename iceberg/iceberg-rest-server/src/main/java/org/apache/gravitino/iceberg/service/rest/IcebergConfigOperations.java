@@ -21,11 +21,10 @@ package org.apache.gravitino.iceberg.service.rest;
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -89,6 +88,13 @@ public class IcebergConfigOperations {
           .add(Endpoint.V1_VIEW_EXISTS)
           .build();
 
+  private static final List<Endpoint> ASYNC_SCAN_PLANNING_ENDPOINTS =
+      ImmutableList.<Endpoint>builder()
+          .add(Endpoint.V1_FETCH_TABLE_SCAN_PLAN)
+          .add(Endpoint.V1_CANCEL_TABLE_SCAN_PLAN)
+          .add(Endpoint.V1_FETCH_TABLE_SCAN_PLAN_TASKS)
+          .build();
+
   @Inject
   public IcebergConfigOperations(IcebergCatalogWrapperManager catalogWrapperManager) {
     this.catalogWrapperManager = catalogWrapperManager;
@@ -100,21 +106,33 @@ public class IcebergConfigOperations {
   @ResponseMetered(name = "config", absolute = true)
   public Response getConfig(@DefaultValue("") @QueryParam("warehouse") String warehouse) {
     String catalogName = getCatalogName(warehouse);
-    boolean supportsView = supportsViewOperations(catalogName);
+    CatalogWrapperForREST catalogWrapper = getCatalogWrapper(catalogName);
     ConfigResponse.Builder builder = ConfigResponse.builder();
-    builder.withDefaults(getDefaultConfig(catalogName)).withEndpoints(getEndpoints(supportsView));
+    builder
+        .withDefaults(getDefaultConfig(catalogName))
+        .withEndpoints(
+            getEndpoints(
+                catalogWrapper.supportsViewOperations(),
+                catalogWrapper.supportsAsyncScanPlanning()));
     if (StringUtils.isNotBlank(warehouse)) {
       builder.withDefault("prefix", warehouse);
     }
     return IcebergRESTUtils.ok(builder.build());
   }
 
-  private List<Endpoint> getEndpoints(boolean supportsViewOperations) {
-    if (!supportsViewOperations) {
+  private List<Endpoint> getEndpoints(
+      boolean supportsViewOperations, boolean supportsAsyncScanPlanning) {
+    if (!supportsViewOperations && !supportsAsyncScanPlanning) {
       return DEFAULT_ENDPOINTS;
     }
-    return Stream.concat(DEFAULT_ENDPOINTS.stream(), DEFAULT_VIEW_ENDPOINTS.stream())
-        .collect(Collectors.toList());
+    List<Endpoint> endpoints = new ArrayList<>(DEFAULT_ENDPOINTS);
+    if (supportsViewOperations) {
+      endpoints.addAll(DEFAULT_VIEW_ENDPOINTS);
+    }
+    if (supportsAsyncScanPlanning) {
+      endpoints.addAll(ASYNC_SCAN_PLANNING_ENDPOINTS);
+    }
+    return endpoints;
   }
 
   private Map<String, String> getCatalogConfig(String catalogName) {
@@ -132,11 +150,6 @@ public class IcebergConfigOperations {
     }
   }
 
-  private boolean supportsViewOperations(String catalogName) {
-    CatalogWrapperForREST catalogWrapperForREST = getCatalogWrapper(catalogName);
-    return catalogWrapperForREST.supportsViewOperations();
-  }
-
   private CatalogWrapperForREST getCatalogWrapper(String catalogName) {
     return catalogWrapperManager.getCatalogWrapper(catalogName);
   }
@@ -53,6 +53,7 @@ import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.iceberg.common.utils.IcebergIdentifierUtils;
+import org.apache.gravitino.iceberg.service.IcebergCommitTableDeltaResponse;
 import org.apache.gravitino.iceberg.service.IcebergExceptionMapper;
 import org.apache.gravitino.iceberg.service.IcebergObjectMapper;
 import org.apache.gravitino.iceberg.service.IcebergRESTUtils;
@@ -75,9 +76,12 @@ import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.rest.RESTUtil;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
 import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadCredentialsResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
@@ -97,6 +101,20 @@ public class IcebergTableOperations {
 
   @VisibleForTesting public static final String IF_NONE_MATCH = "If-None-Match";
 
+  /**
+   * Request header to choose the response of a table commit. With the value {@code delta}, the
+   * response only contains the new metadata location and the changed snapshot refs, see {@link
+   * IcebergCommitTableDeltaResponse}.
+   */
+  public static final String X_GRAVITINO_COMMIT_RESPONSE = "X-Gravitino-Commit-Response";
+
+  @VisibleForTesting static final String COMMIT_RESPONSE_DELTA = "delta";
+
+  private static final String SCAN_TABLE_AUTHORIZATION_EXPRESSION =
+      "ANY(OWNER, METALAKE, CATALOG) || "
+          + "SCHEMA_OWNER_WITH_USE_CATALOG || "
+          + "ANY_USE_CATALOG && ANY_USE_SCHEMA && (TABLE::OWNER || ANY_SELECT_TABLE || ANY_MODIFY_TABLE)";
+
   private IcebergMetricsManager icebergMetricsManager;
 
   private ObjectMapper icebergObjectMapper;
@@ -217,7 +235,8 @@ public class IcebergTableOperations {
           String namespace,
       @AuthorizationMetadata(type = Entity.EntityType.TABLE) @Encoded() @PathParam("table")
           String table,
-      UpdateTableRequest updateTableRequest) {
+      UpdateTableRequest updateTableRequest,
+      @HeaderParam(X_GRAVITINO_COMMIT_RESPONSE) String commitResponse) {
     String catalogName = IcebergRESTUtils.getCatalogName(prefix);
     Namespace icebergNS =
         RESTUtil.decodeNamespace(namespace, IcebergRESTUtils.NAMESPACE_SEPARATOR_URLENCODED_UTF_8);
@@ -239,6 +258,9 @@ public class IcebergTableOperations {
             TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, tableName);
             LoadTableResponse loadTableResponse =
                 tableOperationDispatcher.updateTable(context, tableIdentifier, updateTableRequest);
+            if (COMMIT_RESPONSE_DELTA.equalsIgnoreCase(commitResponse)) {
+              return buildDeltaResponseWithETag(updateTableRequest, loadTableResponse);
+            }
             return buildResponseWithETag(loadTableResponse);
           });
     } catch (Exception e) {
@@ -514,10 +536,7 @@ public class IcebergTableOperations {
   @Timed(name = "plan-table-scan." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "plan-table-scan", absolute = true)
   @AuthorizationExpression(
-      expression =
-          "ANY(OWNER, METALAKE, CATALOG) || "
-              + "SCHEMA_OWNER_WITH_USE_CATALOG || "
-              + "ANY_USE_CATALOG && ANY_USE_SCHEMA && (TABLE::OWNER || ANY_SELECT_TABLE || ANY_MODIFY_TABLE)",
+      expression = SCAN_TABLE_AUTHORIZATION_EXPRESSION,
       accessMetadataType = MetadataObject.Type.TABLE)
   public Response planTableScan(
       @PathParam("prefix") @AuthorizationMetadata(type = EntityType.CATALOG) String prefix,
@@ -546,7 +565,7 @@ public class IcebergTableOperations {
             PlanTableScanResponse scanResponse =
                 tableOperationDispatcher.planTableScan(context, tableIdentifier, scanRequest);
 
-            return IcebergRESTUtils.ok(scanResponse);
+            return IcebergRESTUtils.okStreaming(scanResponse);
           });
     } catch (Exception e) {
       LOG.error("Failed to plan table scan: {}", e.getMessage(), e);
@@ -554,6 +573,158 @@ public class IcebergTableOperations {
     }
   }
 
+  /**
+   * Fetch planning result endpoint. Returns the status of an asynchronous scan plan and, once
+   * completed, the plan tasks to fetch the scan tasks with.
+   *
+   * @param prefix The catalog prefix
+   * @param namespace The namespace
+   * @param table The table name
+   * @param planId The plan id returned by the plan table scan endpoint
+   * @return Response containing the planning result
+   */
+  @GET
+  @Path("{table}/plan/{plan-id}")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "fetch-planning-result." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "fetch-planning-result", absolute = true)
+  @AuthorizationExpression(
+      expression = SCAN_TABLE_AUTHORIZATION_EXPRESSION,
+      accessMetadataType = MetadataObject.Type.TABLE)
+  public Response fetchPlanningResult(
+      @PathParam("prefix") @AuthorizationMetadata(type = EntityType.CATALOG) String prefix,
+      @Encoded() @PathParam("namespace") @AuthorizationMetadata(type = EntityType.SCHEMA)
+          String namespace,
+      @Encoded() @PathParam("table") @AuthorizationMetadata(type = EntityType.TABLE) String table,
+      @PathParam("plan-id") String planId) {
+    String catalogName = IcebergRESTUtils.getCatalogName(prefix);
+    Namespace icebergNS =
+        RESTUtil.decodeNamespace(namespace, IcebergRESTUtils.NAMESPACE_SEPARATOR_URLENCODED_UTF_8);
+    String tableName = RESTUtil.decodeString(table);
+    LOG.debug(
+        "Fetch planning result, catalog: {}, namespace: {}, table: {}, plan id: {}",
+        catalogName,
+        icebergNS,
+        tableName,
+        planId);
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, tableName);
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            FetchPlanningResultResponse planningResult =
+                tableOperationDispatcher.fetchPlanningResult(context, tableIdentifier, planId);
+            return IcebergRESTUtils.okStreaming(planningResult);
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
+  /**
+   * Cancel planning endpoint. Cancels an asynchronous scan plan and releases its resources.
+   *
+   * @param prefix The catalog prefix
+   * @param namespace The namespace
+   * @param table The table name
+   * @param planId The plan id returned by the plan table scan endpoint
+   * @return Response with no content
+   */
+  @DELETE
+  @Path("{table}/plan/{plan-id}")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "cancel-planning." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "cancel-planning", absolute = true)
+  @AuthorizationExpression(
+      expression = SCAN_TABLE_AUTHORIZATION_EXPRESSION,
+      accessMetadataType = MetadataObject.Type.TABLE)
+  public Response cancelPlanning(
+      @PathParam("prefix") @AuthorizationMetadata(type = EntityType.CATALOG) String prefix,
+      @Encoded() @PathParam("namespace") @AuthorizationMetadata(type = EntityType.SCHEMA)
+          String namespace,
+      @Encoded() @PathParam("table") @AuthorizationMetadata(type = EntityType.TABLE) String table,
+      @PathParam("plan-id") String planId) {
+    String catalogName = IcebergRESTUtils.getCatalogName(prefix);
+    Namespace icebergNS =
+        RESTUtil.decodeNamespace(namespace, IcebergRESTUtils.NAMESPACE_SEPARATOR_URLENCODED_UTF_8);
+    String tableName = RESTUtil.decodeString(table);
+    LOG.info(
+        "Cancel planning, catalog: {}, namespace: {}, table: {}, plan id: {}",
+        catalogName,
+        icebergNS,
+        tableName,
+        planId);
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, tableName);
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            tableOperationDispatcher.cancelPlanning(context, tableIdentifier, planId);
+            return IcebergRESTUtils.noContent();
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
+  /**
+   * Fetch scan tasks endpoint. Returns the file scan tasks of one plan task of an asynchronous
+   * scan plan, together with the plan tasks that follow it.
+   *
+   * @param prefix The catalog prefix
+   * @param namespace The namespace
+   * @param table The table name
+   * @param request The request carrying the plan task
+   * @return Response containing the scan tasks
+   */
+  @POST
+  @Path("{table}/tasks")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Timed(name = "fetch-scan-tasks." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "fetch-scan-tasks", absolute = true)
+  @AuthorizationExpression(
+      expression = SCAN_TABLE_AUTHORIZATION_EXPRESSION,
+      accessMetadataType = MetadataObject.Type.TABLE)
+  public Response fetchScanTasks(
+      @PathParam("prefix") @AuthorizationMetadata(type = EntityType.CATALOG) String prefix,
+      @Encoded() @PathParam("namespace") @AuthorizationMetadata(type = EntityType.SCHEMA)
+          String namespace,
+      @Encoded() @PathParam("table") @AuthorizationMetadata(type = EntityType.TABLE) String table,
+      FetchScanTasksRequest request) {
+    String catalogName = IcebergRESTUtils.getCatalogName(prefix);
+    Namespace icebergNS =
+        RESTUtil.decodeNamespace(namespace, IcebergRESTUtils.NAMESPACE_SEPARATOR_URLENCODED_UTF_8);
+    String tableName = RESTUtil.decodeString(table);
+    LOG.debug(
+        "Fetch scan tasks, catalog: {}, namespace: {}, table: {}, plan task: {}",
+        catalogName,
+        icebergNS,
+        tableName,
+        request.planTask());
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, tableName);
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            FetchScanTasksResponse scanTasks =
+                tableOperationDispatcher.fetchScanTasks(context, tableIdentifier, request);
+            return IcebergRESTUtils.okStreaming(scanTasks);
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
   /**
    * Filters the {@link LoadTableResponse} to include only snapshots that are directly referenced by
    * the table's refs (branches and tags). This implements the {@code snapshots=refs} query
@@ -590,6 +761,17 @@ public class IcebergTableOperations {
     return IcebergRESTUtils.buildResponseWithETag(loadTableResponse, etag);
   }
 
+  private static Response buildDeltaResponseWithETag(
+      UpdateTableRequest updateTableRequest, LoadTableResponse loadTableResponse) {
+    TableMetadata committed = loadTableResponse.tableMetadata();
+    Response.ResponseBuilder responseBuilder =
+        Response.ok(
+            IcebergCommitTableDeltaResponse.of(updateTableRequest, committed),
+            MediaType.APPLICATION_JSON_TYPE);
+    generateETag(committed.metadataFileLocation()).ifPresent(responseBuilder::tag);
+    return responseBuilder.build();
+  }
+
   @VisibleForTesting
   static Optional<EntityTag> generateETag(String metadataLocation) {
     return IcebergRESTUtils.generateETag(metadataLocation);
@@ -24,8 +24,11 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
 import org.apache.gravitino.credential.ADLSTokenCredential;
@@ -36,6 +39,7 @@ import org.apache.gravitino.credential.S3SecretKeyCredential;
 import org.apache.gravitino.credential.S3TokenCredential;
 import org.apache.gravitino.iceberg.service.authorization.IcebergRESTServerContext;
 import org.apache.gravitino.iceberg.service.provider.IcebergConfigProvider;
+import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.catalog.Namespace;
@@ -47,6 +51,7 @@ import org.apache.iceberg.rest.credentials.Credential;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.responses.ImmutableLoadCredentialsResponse;
 import org.apache.iceberg.rest.responses.LoadCredentialsResponse;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.types.Types.IntegerType;
 import org.apache.iceberg.types.Types.NestedField;
 import org.apache.iceberg.types.Types.StringType;
@@ -109,6 +114,39 @@ public class TestIcebergRESTUtils {
     }
   }
 
+  @Test
+  void testStreamingLoadTableResponse() throws IOException {
+    Schema tableSchema = new Schema(NestedField.of(1, false, "foo1", StringType.get()));
+    TableMetadata tableMetadata =
+        TableMetadata.newTableMetadata(
+            tableSchema, PartitionSpec.unpartitioned(), "file:/tmp/table", ImmutableMap.of());
+    LoadTableResponse loadTableResponse =
+        LoadTableResponse.builder()
+            .withTableMetadata(tableMetadata)
+            .addConfig("key", "value")
+            .build();
+
+    Response response = IcebergRESTUtils.buildResponseWithETag(loadTableResponse);
+    Assertions.assertTrue(response.getEntity() instanceof IcebergJsonStreamingOutput);
+
+    boolean[] closed = {false};
+    ByteArrayOutputStream output =
+        new ByteArrayOutputStream() {
+          @Override
+          public void close() {
+            closed[0] = true;
+          }
+        };
+    ((IcebergJsonStreamingOutput) response.getEntity()).write(output);
+    // The container closes the response stream, not the entity.
+    Assertions.assertFalse(closed[0]);
+
+    LoadTableResponse written =
+        IcebergObjectMapper.getInstance().readValue(output.toByteArray(), LoadTableResponse.class);
+    Assertions.assertEquals(tableMetadata.uuid(), written.tableMetadata().uuid());
+    Assertions.assertEquals("value", written.config().get("key"));
+  }
+
   @Test
   void testTableCredentialsPath() {
     TableIdentifier table = TableIdentifier.of(Namespace.of("ns"), "tbl");
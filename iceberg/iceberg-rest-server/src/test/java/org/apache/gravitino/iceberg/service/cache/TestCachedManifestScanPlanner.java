@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.iceberg.service.cache;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Checks that scans planned from the cached manifests match the Iceberg table scans. */
+public class TestCachedManifestScanPlanner {
+
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "category", Types.StringType.get()));
+
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA).identity("category").build();
+
+  private InMemoryCatalog catalog;
+  private ManifestEntryCache manifestEntryCache;
+  private CachedManifestScanPlanner planner;
+  private Table table;
+
+  @BeforeEach
+  void setUp() {
+    catalog = new InMemoryCatalog();
+    catalog.initialize("test", ImmutableMap.of());
+    catalog.createNamespace(Namespace.of("db"));
+    table =
+        catalog.createTable(
+            TableIdentifier.of("db", "t"),
+            SCHEMA,
+            SPEC,
+            ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"));
+    manifestEntryCache = new ManifestEntryCache(1024 * 1024, 10);
+    planner = new CachedManifestScanPlanner(manifestEntryCache);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    manifestEntryCache.close();
+    catalog.close();
+  }
+
+  @Test
+  void testFilteredScans() throws IOException {
+    table
+        .newAppend()
+        .appendFile(dataFile("a-1", "a", 1, 10))
+        .appendFile(dataFile("b-1", "b", 11, 20))
+        .commit();
+    table.newAppend().appendFile(dataFile("a-2", "a", 21, 30)).commit();
+
+    List<Expression> filters =
+        Arrays.asList(
+            Expressions.alwaysTrue(),
+            Expressions.equal("category", "a"),
+            Expressions.notEqual("category", "a"),
+            Expressions.isNull("category"),
+            Expressions.greaterThan("id", 15L),
+            Expressions.and(Expressions.equal("category", "a"), Expressions.lessThan("id", 15L)),
+            Expressions.or(Expressions.equal("category", "b"), Expressions.equal("id", 25L)),
+            Expressions.equal("id", 100L));
+    for (Expression filter : filters) {
+      PlanTableScanRequest request = PlanTableScanRequest.builder().withFilter(filter).build();
+      assertSamePlan(request);
+    }
+
+    PlanTableScanRequest caseInsensitive =
+        PlanTableScanRequest.builder()
+            .withFilter(Expressions.equal("CATEGORY", "b"))
+            .withCaseSensitive(false)
+            .build();
+    assertSamePlan(caseInsensitive);
+  }
+
+  @Test
+  void testSnapshotIdScans() throws IOException {
+    table.newAppend().appendFile(dataFile("a-1", "a", 1, 10)).commit();
+    long firstSnapshotId = table.currentSnapshot().snapshotId();
+    table.newAppend().appendFile(dataFile("b-1", "b", 11, 20)).commit();
+    long secondSnapshotId = table.currentSnapshot().snapshotId();
+    table.newDelete().deleteFile("/data/a-1.parquet").commit();
+
+    for (long snapshotId : new long[] {firstSnapshotId, secondSnapshotId}) {
+      assertSamePlan(PlanTableScanRequest.builder().withSnapshotId(snapshotId).build());
+      assertSamePlan(
+          PlanTableScanRequest.builder()
+              .withSnapshotId(snapshotId)
+              .withFilter(Expressions.equal("category", "a"))
+              .build());
+    }
+    assertSamePlan(PlanTableScanRequest.builder().build());
+  }
+
+  @Test
+  void testScansWithDeletes() throws IOException {
+    table
+        .newAppend()
+        .appendFile(dataFile("a-1", "a", 1, 10))
+        .appendFile(dataFile("b-1", "b", 11, 20))
+        .commit();
+    long snapshotWithoutDeletes = table.currentSnapshot().snapshotId();
+    table
+        .newRowDelta()
+        .addDeletes(positionDeleteFile("a-1-deletes", "a"))
+        .addDeletes(positionDeleteFile("b-1-deletes", "b"))
+        .commit();
+
+    // Matching deletes to data files is left to the Iceberg scan
+    PlanTableScanRequest current = PlanTableScanRequest.builder().build();
+    Assertions.assertFalse(planner.planFiles(table, current).isPresent());
+    assertSamePlan(current);
+    assertSamePlan(
+        PlanTableScanRequest.builder().withFilter(Expressions.equal("category", "b")).build());
+
+    // The snapshot before the deletes is still planned from the cached manifests
+    PlanTableScanRequest beforeDeletes =
+        PlanTableScanRequest.builder().withSnapshotId(snapshotWithoutDeletes).build();
+    Assertions.assertTrue(planner.planFiles(table, beforeDeletes).isPresent());
+    assertSamePlan(beforeDeletes);
+  }
+
+  // Plans the request like the REST catalog, from the cached manifests or else by Iceberg, and
+  // compares the data files and their delete files with a plain Iceberg table scan.
+  private void assertSamePlan(PlanTableScanRequest request) throws IOException {
+    Optional<CloseableIterable<FileScanTask>> cachedTasks = planner.planFiles(table, request);
+    Map<String, Set<String>> expected = files(icebergScan(request).planFiles());
+    Map<String, Set<String>> actual =
+        files(cachedTasks.orElseGet(() -> icebergScan(request).planFiles()));
+    Assertions.assertEquals(expected, actual, "Different plans for " + request);
+    // Plan again, now from the cached manifest entries
+    if (cachedTasks.isPresent()) {
+      Assertions.assertEquals(expected, files(planner.planFiles(table, request).get()));
+    }
+  }
+
+  private TableScan icebergScan(PlanTableScanRequest request) {
+    TableScan scan = table.newScan().caseSensitive(request.caseSensitive());
+    if (request.snapshotId() != null) {
+      scan = scan.useSnapshot(request.snapshotId());
+    }
+    if (request.filter() != null) {
+      scan = scan.filter(request.filter());
+    }
+    return scan;
+  }
+
+  // Data file location -> locations of the delete files applied to it
+  private static Map<String, Set<String>> files(CloseableIterable<FileScanTask> tasks)
+      throws IOException {
+    Map<String, Set<String>> files = new HashMap<>();
+    try (CloseableIterable<FileScanTask> closeable = tasks) {
+      for (FileScanTask task : closeable) {
+        Set<String> deletes = new TreeSet<>();
+        for (DeleteFile deleteFile : task.deletes()) {
+          deletes.add(deleteFile.location());
+        }
+        Assertions.assertNull(files.put(task.file().location(), deletes));
+      }
+    }
+    return files;
+  }
+
+  private static DataFile dataFile(String name, String category, long minId, long maxId) {
+    return DataFiles.builder(SPEC)
+        .withPath("/data/" + name + ".parquet")
+        .withFormat(FileFormat.PARQUET)
+        .withFileSizeInBytes(100)
+        .withPartitionPath("category=" + category)
+        .withMetrics(
+            new Metrics(
+                maxId - minId + 1,
+                null,
+                ImmutableMap.of(1, maxId - minId + 1),
+                ImmutableMap.of(1, 0L),
+                null,
+                ImmutableMap.of(1, Conversions.toByteBuffer(Types.LongType.get(), minId)),
+                ImmutableMap.of(1, Conversions.toByteBuffer(Types.LongType.get(), maxId))))
+        .build();
+  }
+
+  private static DeleteFile positionDeleteFile(String name, String category) {
+    return FileMetadata.deleteFileBuilder(SPEC)
+        .ofPositionDeletes()
+        .withPath("/data/" + name + ".parquet")
+        .withFormat(FileFormat.PARQUET)
+        .withFileSizeInBytes(10)
+        .withPartitionPath("category=" + category)
+        .withRecordCount(1)
+        .build();
+  }
+}
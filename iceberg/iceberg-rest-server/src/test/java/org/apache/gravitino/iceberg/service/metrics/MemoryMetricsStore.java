@@ -20,7 +20,9 @@
 package org.apache.gravitino.iceberg.service.metrics;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.metrics.MetricsReport;
 
@@ -29,6 +31,7 @@ public class MemoryMetricsStore implements IcebergMetricsStore {
   private MetricsReport metricsReport;
   private Instant recordTime = Instant.now();
   private Map<String, String> properties;
+  private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
 
   @Override
   public void init(Map<String, String> properties) {
@@ -41,6 +44,17 @@ public class MemoryMetricsStore implements IcebergMetricsStore {
     this.recordTime = Instant.now();
   }
 
+  @Override
+  public void recordMetrics(List<IcebergMetricsRecord> metricsRecords) {
+    metricsRecords.forEach(
+        metricsRecord ->
+            recordMetric(
+                metricsRecord.getCatalog(),
+                metricsRecord.getNamespace(),
+                metricsRecord.getMetricsReport()));
+    batchSizes.add(metricsRecords.size());
+  }
+
   @Override
   public void close() {}
 
@@ -58,4 +72,8 @@ public class MemoryMetricsStore implements IcebergMetricsStore {
   Map<String, String> getProperties() {
     return properties;
   }
+
+  List<Integer> getBatchSizes() {
+    return batchSizes;
+  }
 }
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
@@ -144,6 +145,48 @@ public class TestIcebergMetricsManager {
     // Second metric should fail because queue is full
     boolean result2 = icebergMetricsManager.recordMetric("a", Namespace.of("a"), metricsReport2);
     Assertions.assertFalse(result2, "Second metric should fail when queue is full");
+    Assertions.assertEquals(
+        1,
+        icebergMetricsManager
+            .getMetricsSource()
+            .getCounter(IcebergMetricsReportMetricsSource.REPORTS_DROPPED_QUEUE_FULL)
+            .getCount());
+
+    icebergMetricsManager.close();
+  }
+
+  @Test
+  void testRecordMetricsInBatch() {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_METRICS_STORE,
+            MemoryMetricsStore.class.getName(),
+            IcebergConstants.ICEBERG_METRICS_BATCH_SIZE,
+            "3",
+            IcebergConstants.ICEBERG_METRICS_BATCH_LINGER_MS,
+            "10");
+    IcebergConfig icebergConfig = new IcebergConfig(properties);
+    IcebergMetricsManager icebergMetricsManager = new IcebergMetricsManager(icebergConfig);
+    // Queue the reports before starting the writer, so they are written in full batches
+    for (int i = 0; i < 5; i++) {
+      Assertions.assertTrue(
+          icebergMetricsManager.recordMetric("a", Namespace.of("a"), createMetricsReport()));
+    }
+    icebergMetricsManager.start();
+
+    MemoryMetricsStore memoryMetricsStore =
+        (MemoryMetricsStore) icebergMetricsManager.getIcebergMetricsStore();
+    await()
+        .atMost(20, TimeUnit.SECONDS)
+        .pollInterval(100, TimeUnit.MILLISECONDS)
+        .untilAsserted(
+            () -> Assertions.assertEquals(Arrays.asList(3, 2), memoryMetricsStore.getBatchSizes()));
+    Assertions.assertEquals(
+        5,
+        icebergMetricsManager
+            .getMetricsSource()
+            .getCounter(IcebergMetricsReportMetricsSource.REPORTS_WRITTEN)
+            .getCount());
 
     icebergMetricsManager.close();
   }
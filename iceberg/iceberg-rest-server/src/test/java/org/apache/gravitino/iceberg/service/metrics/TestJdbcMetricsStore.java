@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.integration.test.container.ContainerSuite;
 import org.apache.gravitino.integration.test.util.TestDatabaseName;
 import org.apache.gravitino.json.JsonUtils;
@@ -200,6 +201,31 @@ public class TestJdbcMetricsStore {
       count = metricsStore.connections.run(getTotal(countSql2));
       Assertions.assertEquals(0, count);
 
+      // Write several reports in one transaction
+      metricsStore.recordMetrics(
+          Arrays.asList(
+              new IcebergMetricsRecord("a", Namespace.of("a"), commitReport),
+              new IcebergMetricsRecord("a", Namespace.of("b"), scanReport),
+              new IcebergMetricsRecord("a", Namespace.of("c"), commitReport)));
+      count = metricsStore.connections.run(getTotal(countSql));
+      Assertions.assertEquals(2, count);
+      count = metricsStore.connections.run(getTotal(countSql2));
+      Assertions.assertEquals(1, count);
+
+      // A report that can't be written is dropped without losing the rest of the batch
+      metricsStore.clean(Instant.now());
+      CommitReport invalidReport =
+          ImmutableCommitReport.copyOf(commitReport).withTableName(StringUtils.repeat("t", 300));
+      metricsStore.recordMetrics(
+          Arrays.asList(
+              new IcebergMetricsRecord("a", Namespace.of("a"), commitReport),
+              new IcebergMetricsRecord("a", Namespace.of("b"), invalidReport),
+              new IcebergMetricsRecord("a", Namespace.of("c"), scanReport)));
+      count = metricsStore.connections.run(getTotal(countSql));
+      Assertions.assertEquals(1, count);
+      count = metricsStore.connections.run(getTotal(countSql2));
+      Assertions.assertEquals(1, count);
+
       metricsStore.close();
     }
   }
@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.planning;
+
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.exceptions.ServiceUnavailableException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.rest.PlanStatus;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergScanPlanManager {
+
+  private static final TableIdentifier TABLE = TableIdentifier.of(Namespace.of("db"), "tbl");
+  private static final Map<Integer, PartitionSpec> SPECS =
+      ImmutableMap.of(0, PartitionSpec.unpartitioned());
+
+  private IcebergScanPlanManager manager;
+
+  @AfterEach
+  public void tearDown() {
+    if (manager != null) {
+      manager.close();
+    }
+  }
+
+  @Test
+  public void testPlanTasksAreChained() throws InterruptedException {
+    manager = new IcebergScanPlanManager("catalog", 2, 4, 10, 2, 60_000L);
+    PlanTableScanResponse submitted = manager.submit(TABLE, SPECS, tasks(25, null));
+    Assertions.assertEquals(PlanStatus.SUBMITTED, submitted.planStatus());
+    Assertions.assertNotNull(submitted.planId());
+
+    FetchPlanningResultResponse result = awaitCompleted(submitted.planId());
+    Assertions.assertEquals(1, result.planTasks().size());
+
+    int fetched = 0;
+    int planTasks = 0;
+    String last = null;
+    int lastSize = 0;
+    List<String> next = result.planTasks();
+    while (next != null && !next.isEmpty()) {
+      last = next.get(0);
+      FetchScanTasksResponse response =
+          manager.fetchScanTasks(TABLE, new FetchScanTasksRequest(last));
+      Assertions.assertTrue(response.fileScanTasks().size() <= 10);
+      fetched += response.fileScanTasks().size();
+      lastSize = response.fileScanTasks().size();
+      planTasks++;
+      next = response.planTasks();
+    }
+
+    Assertions.assertEquals(25, fetched);
+    Assertions.assertTrue(planTasks >= 3);
+    Assertions.assertEquals(0, manager.plansInFlight());
+
+    // The last plan task stays available for a retried fetch until the plan is cancelled.
+    Assertions.assertEquals(1, manager.plansRetained());
+    FetchScanTasksResponse retried = manager.fetchScanTasks(TABLE, new FetchScanTasksRequest(last));
+    Assertions.assertEquals(lastSize, retried.fileScanTasks().size());
+    Assertions.assertTrue(retried.planTasks() == null || retried.planTasks().isEmpty());
+
+    manager.cancel(TABLE, submitted.planId());
+    Assertions.assertEquals(0, manager.plansRetained());
+    String cancelled = last;
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () -> manager.fetchScanTasks(TABLE, new FetchScanTasksRequest(cancelled)));
+  }
+
+  @Test
+  public void testFullyFetchedPlansDoNotCountAsInFlight() throws InterruptedException {
+    manager = new IcebergScanPlanManager("catalog", 1, 1, 10, 1, 60_000L);
+    PlanTableScanResponse submitted = manager.submit(TABLE, SPECS, tasks(5, null));
+    FetchPlanningResultResponse result = awaitCompleted(submitted.planId());
+    FetchScanTasksResponse response =
+        manager.fetchScanTasks(TABLE, new FetchScanTasksRequest(result.planTasks().get(0)));
+    Assertions.assertTrue(response.planTasks() == null || response.planTasks().isEmpty());
+
+    manager.submit(TABLE, SPECS, tasks(5, null));
+    Assertions.assertEquals(1, manager.plansInFlight());
+    Assertions.assertEquals(2, manager.plansRetained());
+  }
+
+  @Test
+  public void testPlanningRunsAsCaller() throws Exception {
+    manager = new IcebergScanPlanManager("catalog", 1, 4, 10, 2, 60_000L);
+    AtomicReference<String> planningUser = new AtomicReference<>();
+    Iterable<FileScanTask> recording =
+        () -> {
+          planningUser.set(PrincipalUtils.getCurrentUserName());
+          return tasks(1, null).iterator();
+        };
+    PlanTableScanResponse submitted =
+        PrincipalUtils.doAs(
+            new UserPrincipal("alice"),
+            () -> manager.submit(TABLE, SPECS, CloseableIterable.withNoopClose(recording)));
+
+    awaitCompleted(submitted.planId());
+    Assertions.assertEquals("alice", planningUser.get());
+  }
+
+  @Test
+  public void testBufferedPlanTasksAreBounded() throws InterruptedException {
+    manager = new IcebergScanPlanManager("catalog", 1, 4, 1, 2, 60_000L);
+    PlanTableScanResponse submitted = manager.submit(TABLE, SPECS, tasks(100, null));
+    FetchPlanningResultResponse result = awaitCompleted(submitted.planId());
+
+    awaitBuffered(2);
+    // Planning pauses once two plan tasks wait for the client.
+    TimeUnit.MILLISECONDS.sleep(200);
+    Assertions.assertEquals(2, manager.bufferedPlanTasks());
+
+    FetchScanTasksResponse first =
+        manager.fetchScanTasks(TABLE, new FetchScanTasksRequest(result.planTasks().get(0)));
+    Assertions.assertEquals(1, first.fileScanTasks().size());
+    // A retry of the last fetched plan task is still served.
+    FetchScanTasksResponse retried =
+        manager.fetchScanTasks(TABLE, new FetchScanTasksRequest(result.planTasks().get(0)));
+    Assertions.assertEquals(1, retried.fileScanTasks().size());
+
+    FetchScanTasksResponse second =
+        manager.fetchScanTasks(TABLE, new FetchScanTasksRequest(first.planTasks().get(0)));
+    Assertions.assertEquals(1, second.fileScanTasks().size());
+    // The first plan task is released once the client moved on.
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () -> manager.fetchScanTasks(TABLE, new FetchScanTasksRequest(result.planTasks().get(0))));
+    Assertions.assertTrue(manager.bufferedPlanTasks() <= 3);
+  }
+
+  @Test
+  public void testEmptyPlan() throws InterruptedException {
+    manager = new IcebergScanPlanManager("catalog", 1, 4, 10, 2, 60_000L);
+    PlanTableScanResponse submitted = manager.submit(TABLE, SPECS, tasks(0, null));
+    FetchPlanningResultResponse result = awaitCompleted(submitted.planId());
+    Assertions.assertTrue(result.planTasks() == null || result.planTasks().isEmpty());
+    Assertions.assertTrue(result.fileScanTasks().isEmpty());
+  }
+
+  @Test
+  public void testRejectTooManyPlans() {
+    manager = new IcebergScanPlanManager("catalog", 1, 1, 1, 1, 60_000L);
+    manager.submit(TABLE, SPECS, tasks(100, null));
+    AtomicBoolean closed = new AtomicBoolean(false);
+    Assertions.assertThrows(
+        ServiceUnavailableException.class, () -> manager.submit(TABLE, SPECS, tasks(1, closed)));
+    Assertions.assertTrue(closed.get());
+    Assertions.assertEquals(1, manager.plansInFlight());
+  }
+
+  @Test
+  public void testCancelReleasesPlan() throws InterruptedException {
+    manager = new IcebergScanPlanManager("catalog", 1, 4, 1, 1, 60_000L);
+    AtomicBoolean closed = new AtomicBoolean(false);
+    PlanTableScanResponse submitted = manager.submit(TABLE, SPECS, tasks(100, closed));
+    awaitCompleted(submitted.planId());
+
+    manager.cancel(TABLE, submitted.planId());
+    Assertions.assertEquals(0, manager.plansInFlight());
+    Assertions.assertThrows(
+        NotFoundException.class, () -> manager.fetchPlanningResult(TABLE, submitted.planId()));
+    Assertions.assertThrows(
+        NotFoundException.class, () -> manager.cancel(TABLE, submitted.planId()));
+
+    long deadline = System.currentTimeMillis() + 10_000L;
+    while (!closed.get() && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    Assertions.assertTrue(closed.get());
+  }
+
+  @Test
+  public void testPlanIsBoundToTable() {
+    manager = new IcebergScanPlanManager("catalog", 1, 4, 10, 2, 60_000L);
+    PlanTableScanResponse submitted = manager.submit(TABLE, SPECS, tasks(5, null));
+    TableIdentifier other = TableIdentifier.of(Namespace.of("db"), "other");
+
+    Assertions.assertThrows(
+        NotFoundException.class, () -> manager.fetchPlanningResult(other, submitted.planId()));
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () -> manager.fetchScanTasks(other, new FetchScanTasksRequest(submitted.planId() + ":0")));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> manager.fetchScanTasks(TABLE, new FetchScanTasksRequest("invalid")));
+  }
+
+  @Test
+  public void testFailedPlan() throws InterruptedException {
+    manager = new IcebergScanPlanManager("catalog", 1, 4, 10, 2, 60_000L);
+    Iterable<FileScanTask> failing =
+        () -> {
+          throw new IllegalStateException("manifest is unreadable");
+        };
+    PlanTableScanResponse submitted =
+        manager.submit(TABLE, SPECS, CloseableIterable.withNoopClose(failing));
+
+    long deadline = System.currentTimeMillis() + 10_000L;
+    RuntimeException failure = null;
+    while (failure == null && System.currentTimeMillis() < deadline) {
+      try {
+        manager.fetchPlanningResult(TABLE, submitted.planId());
+        TimeUnit.MILLISECONDS.sleep(10);
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+    }
+    Assertions.assertNotNull(failure);
+    Assertions.assertTrue(failure.getMessage().contains("manifest is unreadable"));
+    Assertions.assertEquals(0, manager.plansInFlight());
+  }
+
+  @Test
+  public void testExpirePlans() throws InterruptedException {
+    manager = new IcebergScanPlanManager("catalog", 1, 4, 1, 1, 50L);
+    AtomicBoolean closed = new AtomicBoolean(false);
+    manager.submit(TABLE, SPECS, tasks(100, closed));
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    manager.expirePlans();
+    Assertions.assertEquals(0, manager.plansInFlight());
+    Assertions.assertEquals(0, manager.plansRetained());
+  }
+
+  private FetchPlanningResultResponse awaitCompleted(String planId) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000L;
+    while (System.currentTimeMillis() < deadline) {
+      FetchPlanningResultResponse result = manager.fetchPlanningResult(TABLE, planId);
+      if (result.planStatus() == PlanStatus.COMPLETED) {
+        return result;
+      }
+      Assertions.assertEquals(PlanStatus.SUBMITTED, result.planStatus());
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    throw new AssertionError("Scan plan " + planId + " did not complete");
+  }
+
+  private void awaitBuffered(int expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000L;
+    while (manager.bufferedPlanTasks() < expected && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    Assertions.assertEquals(expected, manager.bufferedPlanTasks());
+  }
+
+  private static CloseableIterable<FileScanTask> tasks(int count, AtomicBoolean closed) {
+    List<FileScanTask> tasks =
+        IntStream.range(0, count)
+            .mapToObj(i -> mock(FileScanTask.class))
+            .collect(Collectors.toCollection(ArrayList::new));
+    return CloseableIterable.combine(
+        tasks,
+        () -> {
+          if (closed != null) {
+            closed.set(true);
+          }
+        });
+  }
+}
@@ -903,6 +903,36 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     Assertions.assertFalse(etag.isEmpty(), "ETag header should not be empty");
   }
 
+  @ParameterizedTest
+  @MethodSource("org.apache.gravitino.iceberg.service.rest.IcebergRestTestUtil#testNamespaces")
+  void testUpdateTableWithDeltaResponse(Namespace namespace) throws Exception {
+    verifyCreateNamespaceSucc(namespace);
+    verifyCreateTableSucc(namespace, "update_delta_foo1");
+    TableMetadata metadata = getTableMeta(namespace, "update_delta_foo1");
+
+    TableMetadata newMetadata = metadata.updateSchema(newTableSchema);
+    List<MetadataUpdate> metadataUpdates = newMetadata.changes();
+    UpdateTableRequest updateTableRequest =
+        new UpdateTableRequest(
+            UpdateRequirements.forUpdateTable(metadata, metadataUpdates), metadataUpdates);
+    Response response =
+        getTableClientBuilder(namespace, Optional.of("update_delta_foo1"))
+            .header(
+                IcebergTableOperations.X_GRAVITINO_COMMIT_RESPONSE,
+                IcebergTableOperations.COMMIT_RESPONSE_DELTA)
+            .post(Entity.entity(updateTableRequest, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertNotNull(response.getHeaderString("ETag"));
+
+    JsonNode deltaResponse = JsonUtil.mapper().readTree(response.readEntity(String.class));
+    Assertions.assertFalse(deltaResponse.has("metadata"));
+    Assertions.assertTrue(deltaResponse.get("refs").isEmpty());
+    TableMetadata committed = getTableMeta(namespace, "update_delta_foo1");
+    Assertions.assertEquals(newTableSchema.columns(), committed.schema().columns());
+    Assertions.assertEquals(
+        committed.metadataFileLocation(), deltaResponse.get("metadata-location").asText());
+  }
+
   @ParameterizedTest
   @MethodSource("org.apache.gravitino.iceberg.service.rest.IcebergRestTestUtil#testNamespaces")
   void testLoadTableReturnsETag(Namespace namespace) {
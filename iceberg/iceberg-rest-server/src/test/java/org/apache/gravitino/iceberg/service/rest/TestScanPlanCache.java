@@ -24,10 +24,14 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.apache.gravitino.iceberg.service.cache.LocalScanPlanCache;
 import org.apache.gravitino.iceberg.service.cache.ScanPlanCache;
 import org.apache.gravitino.iceberg.service.cache.ScanPlanCacheKey;
+import org.apache.gravitino.iceberg.service.cache.ScanPlanWeigher;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.catalog.Namespace;
@@ -300,4 +304,62 @@ public class TestScanPlanCache {
     Assertions.assertEquals(
         filterStr1, filterStr2, "Expression string representations should be equal");
   }
+
+  @Test
+  public void testScanPlanWeigher() {
+    PlanTableScanResponse emptyResponse = mockResponse(Collections.emptyList());
+    PlanTableScanResponse smallResponse = mockResponse(Arrays.asList(mockTask(10)));
+    PlanTableScanResponse largeResponse =
+        mockResponse(Arrays.asList(mockTask(10), mockTask(10), mockTask(1000)));
+
+    ScanPlanWeigher weigher = ScanPlanWeigher.getInstance();
+    int emptyWeight = weigher.weigh(null, emptyResponse);
+    int smallWeight = weigher.weigh(null, smallResponse);
+    int largeWeight = weigher.weigh(null, largeResponse);
+    Assertions.assertTrue(emptyWeight > 0);
+    Assertions.assertTrue(smallWeight > emptyWeight);
+    Assertions.assertTrue(largeWeight > 3 * (smallWeight - emptyWeight));
+  }
+
+  @Test
+  public void testCacheBoundedByWeight() throws Exception {
+    scanPlanCache.close();
+    scanPlanCache = new LocalScanPlanCache();
+    scanPlanCache.initialize(10, 4096, 60);
+
+    PlanTableScanRequest smallRequest = PlanTableScanRequest.builder().withSnapshotId(1L).build();
+    PlanTableScanRequest largeRequest =
+        PlanTableScanRequest.builder().withSelect(Arrays.asList("id")).withSnapshotId(1L).build();
+    ScanPlanCacheKey smallKey = ScanPlanCacheKey.create(tableIdentifier, mockTable, smallRequest);
+    ScanPlanCacheKey largeKey = ScanPlanCacheKey.create(tableIdentifier, mockTable, largeRequest);
+
+    scanPlanCache.put(smallKey, mockResponse(Arrays.asList(mockTask(10))));
+    Assertions.assertTrue(scanPlanCache.get(smallKey).isPresent());
+
+    // A plan larger than the whole cache is not kept, even though the capacity is not reached.
+    scanPlanCache.put(largeKey, mockResponse(Arrays.asList(mockTask(4096))));
+    Assertions.assertFalse(scanPlanCache.get(largeKey).isPresent());
+  }
+
+  @Test
+  public void testInvalidMaxWeight() {
+    ScanPlanCache cache = new LocalScanPlanCache();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> cache.initialize(10, -1, 60));
+  }
+
+  private static PlanTableScanResponse mockResponse(List<FileScanTask> tasks) {
+    PlanTableScanResponse response = mock(PlanTableScanResponse.class);
+    when(response.planStatus()).thenReturn(PlanStatus.COMPLETED);
+    when(response.fileScanTasks()).thenReturn(tasks);
+    return response;
+  }
+
+  private static FileScanTask mockTask(int locationLength) {
+    DataFile file = mock(DataFile.class);
+    when(file.location()).thenReturn("s3://bucket/" + "a".repeat(locationLength));
+    FileScanTask task = mock(FileScanTask.class);
+    when(task.file()).thenReturn(file);
+    when(task.deletes()).thenReturn(Collections.emptyList());
+    return task;
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.authorization.Privilege;
+import org.casbin.jcasbin.main.Enforcer;
+import org.casbin.jcasbin.main.SyncedEnforcer;
+import org.casbin.jcasbin.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark comparing the JCasbin enforcer with the {@link PrivilegeBitmapIndex} when a list of
+ * tables is filtered, which asks for one decision per table.
+ *
+ * <p>The user is bound to {@code roleCount} roles. Every role allows {@code SELECT_TABLE} on a
+ * disjoint share of the tables and denies it on one table, so that both the allow and the deny
+ * policies are evaluated. Both engines hold the same policies and must count the same tables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PrivilegeEngineBenchmark {
+
+  private static final String USER_ID = "1";
+  private static final String TABLE_TYPE = MetadataObject.Type.TABLE.name();
+  private static final Privilege.Name PRIVILEGE = Privilege.Name.SELECT_TABLE;
+
+  @Param({"1000", "20000"})
+  public int tableCount;
+
+  @Param({"1", "10"})
+  public int roleCount;
+
+  private Enforcer enforcer;
+  private PrivilegeBitmapIndex privilegeIndex;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    enforcer = new SyncedEnforcer(loadModel(), new GravitinoAdapter());
+    privilegeIndex = new PrivilegeBitmapIndex();
+
+    for (long roleId = 0; roleId < roleCount; roleId++) {
+      RolePrivilegeBitmap.Builder builder = RolePrivilegeBitmap.builder();
+      String role = String.valueOf(roleId);
+      for (long tableId = roleId; tableId < tableCount; tableId += roleCount) {
+        enforcer.addPolicy(role, TABLE_TYPE, String.valueOf(tableId), PRIVILEGE.name(), "allow");
+        builder.allow(tableId, PRIVILEGE);
+      }
+      enforcer.addPolicy(role, TABLE_TYPE, String.valueOf(roleId), PRIVILEGE.name(), "deny");
+      builder.deny(roleId, PRIVILEGE);
+
+      enforcer.addRoleForUser(USER_ID, role);
+      privilegeIndex.putRole(roleId, builder.build());
+      privilegeIndex.bindUserRole(Long.parseLong(USER_ID), roleId);
+    }
+
+    int enforcerCount = filterWithEnforcer();
+    int bitmapCount = filterWithBitmap();
+    if (enforcerCount != bitmapCount || enforcerCount != tableCount - roleCount) {
+      throw new IllegalStateException(
+          String.format(
+              "Engines disagree, enforcer allows %d tables and bitmap allows %d tables",
+              enforcerCount, bitmapCount));
+    }
+  }
+
+  @Benchmark
+  public int filterWithEnforcer() {
+    int allowed = 0;
+    for (long tableId = 0; tableId < tableCount; tableId++) {
+      if (enforcer.enforce(USER_ID, TABLE_TYPE, String.valueOf(tableId), PRIVILEGE.name())) {
+        allowed++;
+      }
+    }
+    return allowed;
+  }
+
+  @Benchmark
+  public int filterWithBitmap() {
+    long userId = Long.parseLong(USER_ID);
+    int allowed = 0;
+    for (long tableId = 0; tableId < tableCount; tableId++) {
+      if (privilegeIndex.allows(userId, tableId, PRIVILEGE)) {
+        allowed++;
+      }
+    }
+    return allowed;
+  }
+
+  private static Model loadModel() throws IOException {
+    Model model = new Model();
+    try (InputStream modelStream =
+        PrivilegeEngineBenchmark.class.getResourceAsStream("/jcasbin_model.conf")) {
+      model.loadModelFromText(new String(modelStream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+    return model;
+  }
+}
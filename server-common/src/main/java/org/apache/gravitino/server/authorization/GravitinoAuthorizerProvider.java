@@ -22,7 +22,10 @@ import java.io.IOException;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.AuthorizationMetricsSource;
 import org.apache.gravitino.server.ServerConfig;
+import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionCompiler;
 
 /**
  * Used to initialize and store {@link GravitinoAuthorizer}. When Gravitino Server starts up, it
@@ -38,6 +41,8 @@ public class GravitinoAuthorizerProvider implements Closeable {
 
   private volatile GravitinoAuthorizer gravitinoAuthorizer;
 
+  private AuthorizationMetricsSource metricsSource;
+
   /**
    * Instantiate the {@link GravitinoAuthorizer}, and then execute the initialize method in the
    * GravitinoAuthorizer.
@@ -63,11 +68,22 @@ public class GravitinoAuthorizerProvider implements Closeable {
           }
           gravitinoAuthorizer.initialize();
           GravitinoEnv.getInstance().setGravitinoAuthorizer(gravitinoAuthorizer);
+          registerMetricsSource();
         }
       }
     }
   }
 
+  private void registerMetricsSource() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics System could be null in UT.
+    if (metricsSystem != null) {
+      metricsSource = new AuthorizationMetricsSource();
+      metricsSystem.register(metricsSource);
+      AuthorizationExpressionCompiler.setMetricsSource(metricsSource);
+    }
+  }
+
   public static GravitinoAuthorizerProvider getInstance() {
     return INSTANCE;
   }
@@ -84,6 +100,14 @@ public class GravitinoAuthorizerProvider implements Closeable {
   @Override
   public void close() throws IOException {
     GravitinoEnv.getInstance().setGravitinoAuthorizer(null);
+    if (metricsSource != null) {
+      AuthorizationExpressionCompiler.setMetricsSource(null);
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.unregister(metricsSource);
+      }
+      metricsSource = null;
+    }
     if (gravitinoAuthorizer != null) {
       gravitinoAuthorizer.close();
     }
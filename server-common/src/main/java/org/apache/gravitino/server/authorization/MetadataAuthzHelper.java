@@ -17,18 +17,15 @@
 
 package org.apache.gravitino.server.authorization;
 
-import com.google.common.base.Preconditions;
 import java.lang.reflect.Array;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -60,7 +57,6 @@ import org.slf4j.LoggerFactory;
 public class MetadataAuthzHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(MetadataAuthzHelper.class);
-  private static volatile Executor executor = null;
 
   /**
    * Entity types that support batch get operations for cache preloading. These types have
@@ -116,6 +112,7 @@ public class MetadataAuthzHelper {
    */
   public static MetadataObjectDTO[] filterMetadataObject(
       String metalake, MetadataObjectDTO[] metadataObjects) {
+    preloadMetadataObjects(metalake, Arrays.asList(metadataObjects));
     return doFilter(
         AuthorizationExpressionConstants.CAN_ACCESS_METADATA,
         metadataObjects,
@@ -139,6 +136,7 @@ public class MetadataAuthzHelper {
    */
   public static MetadataObject[] filterMetadataObject(
       String metalake, MetadataObject[] metadataObjects) {
+    preloadMetadataObjects(metalake, Arrays.asList(metadataObjects));
     return doFilter(
         AuthorizationExpressionConstants.CAN_ACCESS_METADATA,
         metadataObjects,
@@ -167,8 +165,6 @@ public class MetadataAuthzHelper {
       String expression,
       Entity.EntityType entityType,
       NameIdentifier[] nameIdentifiers) {
-    preloadToCache(entityType, nameIdentifiers);
-    preloadOwner(entityType, nameIdentifiers);
     return filterByExpression(metalake, expression, entityType, nameIdentifiers, e -> e);
   }
 
@@ -212,6 +208,7 @@ public class MetadataAuthzHelper {
       Entity.EntityType entityType,
       E[] entities,
       Function<E, NameIdentifier> toNameIdentifier) {
+    preload(entityType, entities, toNameIdentifier);
     GravitinoAuthorizer authorizer =
         GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
     AuthorizationRequestContext authorizationRequestContext = new AuthorizationRequestContext();
@@ -254,6 +251,7 @@ public class MetadataAuthzHelper {
       Function<E, NameIdentifier> toNameIdentifier,
       Principal currentPrincipal,
       GravitinoAuthorizer authorizer) {
+    preload(entityType, entities, toNameIdentifier);
     AuthorizationRequestContext authorizationRequestContext = new AuthorizationRequestContext();
     return doFilter(
         expression,
@@ -292,39 +290,47 @@ public class MetadataAuthzHelper {
     if (!enableAuthorization()) {
       return entities;
     }
-    checkExecutor();
     authorizationRequestContext.setOriginalAuthorizationExpression(expression);
-    List<CompletableFuture<E>> futures = new ArrayList<>();
+    List<Map<Entity.EntityType, NameIdentifier>> metadataNamesList =
+        new ArrayList<>(entities.length);
+    List<Optional<String>> entityTypes = new ArrayList<>(entities.length);
     for (E entity : entities) {
-      futures.add(
-          CompletableFuture.supplyAsync(
-              () -> {
-                try {
-                  return PrincipalUtils.doAs(
-                      currentPrincipal,
-                      () -> {
-                        AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
-                            new AuthorizationExpressionEvaluator(expression, authorizer);
-                        return authorizationExpressionEvaluator.evaluate(
-                                extractMetadataNamesMap.apply(entity),
-                                authorizationRequestContext,
-                                currentPrincipal,
-                                Optional.ofNullable(extractEntityType.apply(entity))
-                                    .map(Entity.EntityType::name))
-                            ? entity
-                            : null;
-                      });
-                } catch (Exception e) {
-                  LOG.error("GravitinoAuthorize error:{}", e.getMessage(), e);
-                  return null;
-                }
-              },
-              executor));
+      try {
+        metadataNamesList.add(extractMetadataNamesMap.apply(entity));
+        entityTypes.add(
+            Optional.ofNullable(extractEntityType.apply(entity)).map(Entity.EntityType::name));
+      } catch (Exception e) {
+        // Entities that can not be resolved are filtered out, the rest of the batch goes on.
+        LOG.error("GravitinoAuthorize error:{}", e.getMessage(), e);
+        metadataNamesList.add(null);
+        entityTypes.add(Optional.empty());
+      }
+    }
+
+    boolean[] authorized;
+    try {
+      authorized =
+          PrincipalUtils.doAs(
+              currentPrincipal,
+              () ->
+                  new AuthorizationExpressionEvaluator(expression, authorizer)
+                      .evaluateBatch(
+                          metadataNamesList,
+                          entityTypes,
+                          authorizationRequestContext,
+                          currentPrincipal));
+    } catch (Exception e) {
+      LOG.error("GravitinoAuthorize error:{}", e.getMessage(), e);
+      authorized = new boolean[entities.length];
     }
-    return futures.stream()
-        .map(CompletableFuture::join)
-        .filter(Objects::nonNull)
-        .toArray(size -> createArray(entities.getClass().getComponentType(), size));
+
+    List<E> filtered = new ArrayList<>();
+    for (int i = 0; i < entities.length; i++) {
+      if (authorized[i]) {
+        filtered.add(entities[i]);
+      }
+    }
+    return filtered.toArray(createArray(entities.getClass().getComponentType(), 0));
   }
 
   @SuppressWarnings("unchecked")
@@ -337,24 +343,50 @@ public class MetadataAuthzHelper {
     return config != null && config.get(Configs.ENABLE_AUTHORIZATION);
   }
 
-  private static void checkExecutor() {
-    if (executor == null) {
-      synchronized (MetadataAuthzHelper.class) {
-        if (executor == null) {
-          executor =
-              Executors.newFixedThreadPool(
-                  GravitinoEnv.getInstance()
-                      .config()
-                      .get(Configs.GRAVITINO_AUTHORIZATION_THREAD_POOL_SIZE),
-                  runnable -> {
-                    Thread thread = new Thread(runnable);
-                    thread.setDaemon(true);
-                    thread.setName("MetadataFilterHelper-ThreadPool-" + thread.getId());
-                    return thread;
-                  });
-        }
+  /**
+   * Resolves the entities that are about to be authorized with batched store reads, so that the
+   * per-entity authorization checks are served from the entity cache instead of issuing one
+   * backend round trip per entity.
+   */
+  private static <E> void preload(
+      Entity.EntityType entityType, E[] entities, Function<E, NameIdentifier> toNameIdentifier) {
+    if (!enableAuthorization()
+        || !GravitinoEnv.getInstance().cacheEnabled()
+        || entities.length == 0) {
+      return;
+    }
+
+    NameIdentifier[] nameIdentifiers =
+        Arrays.stream(entities).map(toNameIdentifier).toArray(NameIdentifier[]::new);
+    preloadToCache(entityType, nameIdentifiers);
+    preloadOwner(entityType, nameIdentifiers);
+  }
+
+  private static void preloadMetadataObjects(
+      String metalake, List<? extends MetadataObject> metadataObjects) {
+    if (!enableAuthorization()
+        || !GravitinoEnv.getInstance().cacheEnabled()
+        || metadataObjects.isEmpty()) {
+      return;
+    }
+
+    // Metadata objects of different types may be mixed in one response, batch them per type
+    Map<Entity.EntityType, List<NameIdentifier>> identsByType = new LinkedHashMap<>();
+    for (MetadataObject metadataObject : metadataObjects) {
+      Entity.EntityType entityType = MetadataObjectUtil.toEntityType(metadataObject.type());
+      if (SUPPORTED_PRELOAD_ENTITY_TYPES.contains(entityType)) {
+        identsByType
+            .computeIfAbsent(entityType, k -> new ArrayList<>())
+            .add(MetadataObjectUtil.toEntityIdent(metalake, metadataObject));
       }
     }
+
+    identsByType.forEach(
+        (entityType, idents) -> {
+          NameIdentifier[] nameIdentifiers = idents.toArray(new NameIdentifier[0]);
+          preloadToCache(entityType, nameIdentifiers);
+          preloadOwner(entityType, nameIdentifiers);
+        });
   }
 
   private static void preloadToCache(
@@ -371,27 +403,36 @@ public class MetadataAuthzHelper {
       return;
     }
 
-    if (REQUIRE_SCHEMA_EXISTS.contains(entityType)) {
-      // For entity types that require schema existence, check if the schema exists before
-      // preloading to cache
-      Namespace firstNamespace = nameIdentifiers[0].namespace();
-      Preconditions.checkArgument(
-          Arrays.stream(nameIdentifiers).allMatch(id -> id.namespace().equals(firstNamespace)),
-          "All identifiers must have the same schema");
-
-      if (!GravitinoEnv.getInstance()
-          .schemaDispatcher()
-          .schemaExists(NameIdentifier.parse(firstNamespace.toString()))) {
-        return;
+    List<NameIdentifier> preloadIdents = Arrays.asList(nameIdentifiers);
+    try {
+      if (REQUIRE_SCHEMA_EXISTS.contains(entityType)) {
+        // For entity types that require schema existence, only preload the identifiers whose
+        // schema exists. The schema check is done once per distinct schema.
+        Map<Namespace, Boolean> schemaExists = new HashMap<>();
+        preloadIdents =
+            preloadIdents.stream()
+                .filter(
+                    ident ->
+                        schemaExists.computeIfAbsent(
+                            ident.namespace(),
+                            namespace ->
+                                GravitinoEnv.getInstance()
+                                    .schemaDispatcher()
+                                    .schemaExists(NameIdentifier.parse(namespace.toString()))))
+                .toList();
+        if (preloadIdents.isEmpty()) {
+          return;
+        }
       }
-    }
 
-    GravitinoEnv.getInstance()
-        .entityStore()
-        .batchGet(
-            Arrays.asList(nameIdentifiers),
-            entityType,
-            EntityClassMapper.getEntityClass(entityType));
+      // The entity store groups the identifiers by parent, so identifiers from different
+      // namespaces are resolved with one backend round trip per parent.
+      GravitinoEnv.getInstance()
+          .entityStore()
+          .batchGet(preloadIdents, entityType, EntityClassMapper.getEntityClass(entityType));
+    } catch (Exception e) {
+      LOG.warn("Ignore preloadToCache error:{}", e.getMessage(), e);
+    }
   }
 
   private static void preloadOwner(Entity.EntityType entityType, NameIdentifier[] nameIdentifiers) {
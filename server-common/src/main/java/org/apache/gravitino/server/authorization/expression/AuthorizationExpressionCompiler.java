@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.expression;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import ognl.Ognl;
+import ognl.OgnlException;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.authorization.AuthorizationChecker;
+import org.apache.gravitino.authorization.AuthorizationRequestContext;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.metrics.source.AuthorizationMetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles authorization expressions once and caches them by expression text. The expressions on
+ * the REST methods are static, so they are compiled when the server builds the method interceptors
+ * and every request afterwards only evaluates the compiled form.
+ *
+ * <p>The OGNL expression produced by {@link AuthorizationExpressionConverter} only uses {@code &&},
+ * {@code ||}, {@code !}, parentheses, {@code entityType == '...'} and calls on the {@code
+ * authorizer} variable. Such an expression is compiled into a tree of typed {@link
+ * AuthorizationChecker} calls. Anything else keeps its parsed OGNL tree, so custom expressions
+ * behave as before.
+ */
+public class AuthorizationExpressionCompiler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AuthorizationExpressionCompiler.class);
+
+  private static final String AUTHORIZER_PREFIX = "authorizer.";
+
+  private static final Map<String, CompiledAuthorizationExpression> COMPILED_EXPRESSIONS =
+      new ConcurrentHashMap<>();
+
+  private static volatile AuthorizationMetricsSource metricsSource;
+
+  private AuthorizationExpressionCompiler() {}
+
+  /**
+   * Compiles the authorization expression, or returns the cached result of an earlier call.
+   *
+   * @param expression authorization expression
+   * @return the compiled expression
+   */
+  public static CompiledAuthorizationExpression compile(String expression) {
+    return COMPILED_EXPRESSIONS.computeIfAbsent(
+        expression, AuthorizationExpressionCompiler::doCompile);
+  }
+
+  /**
+   * Sets the metrics source that receives the per-expression evaluation timers. Passing null stops
+   * the timing.
+   *
+   * @param source the metrics source, or null
+   */
+  public static void setMetricsSource(@Nullable AuthorizationMetricsSource source) {
+    metricsSource = source;
+  }
+
+  @Nullable
+  static AuthorizationMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  private static CompiledAuthorizationExpression doCompile(String expression) {
+    String ognlExpression = AuthorizationExpressionConverter.convertToOgnlExpression(expression);
+    Object ognlTree;
+    try {
+      ognlTree = Ognl.parseExpression(ognlExpression);
+    } catch (OgnlException e) {
+      throw new RuntimeException(e);
+    }
+
+    CompiledAuthorizationExpression.Node root = null;
+    try {
+      root = new Parser(ognlExpression).parse();
+    } catch (IllegalArgumentException e) {
+      LOG.debug("Authorization expression is evaluated with OGNL: {}", e.getMessage());
+    }
+
+    String normalized = expression.trim().replaceAll("\\s+", " ");
+    String id = String.format("%08x", normalized.hashCode());
+    LOG.info(
+        "Compiled authorization expression {} ({}): {}",
+        id,
+        root != null ? "typed" : "ognl",
+        normalized);
+    return new CompiledAuthorizationExpression(id, expression, root, ognlTree);
+  }
+
+  /** An argument of an authorizer call, either a variable or a constant. */
+  private interface Argument {
+    Object value(Map<String, Object> variables);
+  }
+
+  /** Recursive descent parser of the OGNL subset produced by the converter. */
+  private static class Parser {
+
+    private final String text;
+    private int pos;
+
+    private Parser(String text) {
+      this.text = text;
+    }
+
+    private CompiledAuthorizationExpression.Node parse() {
+      CompiledAuthorizationExpression.Node node = parseOr();
+      skipWhitespace();
+      check(pos == text.length(), "unexpected input at " + pos);
+      return node;
+    }
+
+    private CompiledAuthorizationExpression.Node parseOr() {
+      List<CompiledAuthorizationExpression.Node> operands = new ArrayList<>();
+      operands.add(parseAnd());
+      while (consume("||")) {
+        operands.add(parseAnd());
+      }
+      if (operands.size() == 1) {
+        return operands.get(0);
+      }
+      CompiledAuthorizationExpression.Node[] nodes =
+          operands.toArray(new CompiledAuthorizationExpression.Node[0]);
+      return variables -> {
+        for (CompiledAuthorizationExpression.Node node : nodes) {
+          if (node.evaluate(variables)) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+
+    private CompiledAuthorizationExpression.Node parseAnd() {
+      List<CompiledAuthorizationExpression.Node> operands = new ArrayList<>();
+      operands.add(parseUnary());
+      while (consume("&&")) {
+        operands.add(parseUnary());
+      }
+      if (operands.size() == 1) {
+        return operands.get(0);
+      }
+      CompiledAuthorizationExpression.Node[] nodes =
+          operands.toArray(new CompiledAuthorizationExpression.Node[0]);
+      return variables -> {
+        for (CompiledAuthorizationExpression.Node node : nodes) {
+          if (!node.evaluate(variables)) {
+            return false;
+          }
+        }
+        return true;
+      };
+    }
+
+    private CompiledAuthorizationExpression.Node parseUnary() {
+      if (consume("!")) {
+        CompiledAuthorizationExpression.Node operand = parseUnary();
+        return variables -> !operand.evaluate(variables);
+      }
+      if (consume("(")) {
+        CompiledAuthorizationExpression.Node node = parseOr();
+        check(consume(")"), "missing ')' at " + pos);
+        return node;
+      }
+
+      String identifier = parseIdentifier();
+      if ("true".equals(identifier)) {
+        return variables -> true;
+      }
+      if ("false".equals(identifier)) {
+        return variables -> false;
+      }
+      if (consume("==")) {
+        check(identifier.indexOf('.') < 0, "unsupported comparison on " + identifier);
+        String literal = parseStringLiteral();
+        return variables -> literal.equals(variables.get(identifier));
+      }
+      check(identifier.startsWith(AUTHORIZER_PREFIX) && consume("("), "unsupported " + identifier);
+      return authorizerCall(identifier.substring(AUTHORIZER_PREFIX.length()), parseArguments());
+    }
+
+    private List<Argument> parseArguments() {
+      List<Argument> arguments = new ArrayList<>();
+      if (consume(")")) {
+        return arguments;
+      }
+      do {
+        arguments.add(parseArgument());
+      } while (consume(","));
+      check(consume(")"), "missing ')' at " + pos);
+      return arguments;
+    }
+
+    private Argument parseArgument() {
+      skipWhitespace();
+      if (pos < text.length() && text.charAt(pos) == '@') {
+        int classEnd = text.indexOf('@', pos + 1);
+        check(classEnd > pos, "unterminated static reference at " + pos);
+        String className = text.substring(pos + 1, classEnd);
+        pos = classEnd + 1;
+        Object constant = resolveConstant(className, parseIdentifier());
+        return variables -> constant;
+      }
+      String variable = parseIdentifier();
+      return variables -> variables.get(variable);
+    }
+
+    private String parseIdentifier() {
+      skipWhitespace();
+      int start = pos;
+      while (pos < text.length()
+          && (Character.isLetterOrDigit(text.charAt(pos))
+              || text.charAt(pos) == '_'
+              || text.charAt(pos) == '.')) {
+        pos++;
+      }
+      check(pos > start, "identifier expected at " + start);
+      return text.substring(start, pos);
+    }
+
+    private String parseStringLiteral() {
+      skipWhitespace();
+      check(pos < text.length() && text.charAt(pos) == '\'', "string expected at " + pos);
+      int end = text.indexOf('\'', pos + 1);
+      // OGNL reads a single quoted character as a char, keep that case on OGNL.
+      check(end > pos + 2, "string literal expected at " + pos);
+      String literal = text.substring(pos + 1, end);
+      pos = end + 1;
+      return literal;
+    }
+
+    private boolean consume(String token) {
+      skipWhitespace();
+      if (!text.startsWith(token, pos)) {
+        return false;
+      }
+      // "!" must not swallow the first character of "!=".
+      if ("!".equals(token) && text.startsWith("!=", pos)) {
+        return false;
+      }
+      pos += token.length();
+      return true;
+    }
+
+    private void skipWhitespace() {
+      while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+        pos++;
+      }
+    }
+  }
+
+  private static Object resolveConstant(String className, String name) {
+    if (Privilege.Name.class.getName().equals(className)) {
+      return Privilege.Name.valueOf(name);
+    }
+    if (Entity.EntityType.class.getName().equals(className)) {
+      return Entity.EntityType.valueOf(name);
+    }
+    throw new IllegalArgumentException("unsupported static reference " + className);
+  }
+
+  private static CompiledAuthorizationExpression.Node authorizerCall(
+      String method, List<Argument> arguments) {
+    Argument[] args = arguments.toArray(new Argument[0]);
+    switch (method + "/" + args.length) {
+      case "authorize/5":
+        return variables ->
+            authorizer(variables)
+                .authorize(
+                    (Principal) args[0].value(variables),
+                    asString(args[1].value(variables)),
+                    (MetadataObject) args[2].value(variables),
+                    (Privilege.Name) args[3].value(variables),
+                    (AuthorizationRequestContext) args[4].value(variables));
+      case "deny/5":
+        return variables ->
+            authorizer(variables)
+                .deny(
+                    (Principal) args[0].value(variables),
+                    asString(args[1].value(variables)),
+                    (MetadataObject) args[2].value(variables),
+                    (Privilege.Name) args[3].value(variables),
+                    (AuthorizationRequestContext) args[4].value(variables));
+      case "isOwner/4":
+        return variables ->
+            authorizer(variables)
+                .isOwner(
+                    (Principal) args[0].value(variables),
+                    asString(args[1].value(variables)),
+                    (MetadataObject) args[2].value(variables),
+                    (AuthorizationRequestContext) args[3].value(variables));
+      case "isSelf/3":
+        return variables ->
+            authorizer(variables)
+                .isSelf(
+                    (Entity.EntityType) args[0].value(variables),
+                    (NameIdentifier) args[1].value(variables),
+                    (AuthorizationRequestContext) args[2].value(variables));
+      case "isServiceAdmin/0":
+        return variables -> authorizer(variables).isServiceAdmin();
+      case "isMetalakeUser/2":
+        return variables ->
+            authorizer(variables)
+                .isMetalakeUser(
+                    asString(args[0].value(variables)),
+                    (AuthorizationRequestContext) args[1].value(variables));
+      case "hasSetOwnerPermission/4":
+        return variables ->
+            authorizer(variables)
+                .hasSetOwnerPermission(
+                    asString(args[0].value(variables)),
+                    asString(args[1].value(variables)),
+                    asString(args[2].value(variables)),
+                    (AuthorizationRequestContext) args[3].value(variables));
+      case "hasMetadataPrivilegePermission/4":
+        return variables ->
+            authorizer(variables)
+                .hasMetadataPrivilegePermission(
+                    asString(args[0].value(variables)),
+                    asString(args[1].value(variables)),
+                    asString(args[2].value(variables)),
+                    (AuthorizationRequestContext) args[3].value(variables));
+      default:
+        throw new IllegalArgumentException("unsupported authorizer call " + method);
+    }
+  }
+
+  private static AuthorizationChecker authorizer(Map<String, Object> variables) {
+    return (AuthorizationChecker) variables.get("authorizer");
+  }
+
+  @Nullable
+  private static String asString(@Nullable Object value) {
+    return value == null ? null : value.toString();
+  }
+
+  private static void check(boolean condition, String message) {
+    if (!condition) {
+      throw new IllegalArgumentException(message);
+    }
+  }
+}
@@ -18,17 +18,17 @@
 package org.apache.gravitino.server.authorization.expression;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import ognl.Ognl;
-import ognl.OgnlContext;
-import ognl.OgnlException;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.authorization.AuthorizationChecker;
 import org.apache.gravitino.authorization.AuthorizationRequestContext;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
 import org.apache.gravitino.server.authorization.GravitinoAuthorizerProvider;
@@ -40,15 +40,15 @@ import org.slf4j.LoggerFactory;
 /** Evaluate the runtime result of the AuthorizationExpression. */
 public class AuthorizationExpressionEvaluator {
 
-  private final String ognlAuthorizationExpression;
+  private final CompiledAuthorizationExpression compiledExpression;
   private final GravitinoAuthorizer authorizer;
 
   private static final Logger LOGGER =
       LoggerFactory.getLogger(AuthorizationExpressionEvaluator.class);
 
   /**
-   * Use {@link AuthorizationExpressionConverter} to convert the authorization expression into an
-   * OGNL expression, and then call {@link GravitinoAuthorizer} to perform permission verification.
+   * Use {@link AuthorizationExpressionCompiler} to compile the authorization expression once, and
+   * then call {@link GravitinoAuthorizer} to perform permission verification.
    *
    * @param expression authorization expression
    */
@@ -64,16 +64,18 @@ public class AuthorizationExpressionEvaluator {
    * @param authorizer GravitinoAuthorizer instance
    */
   public AuthorizationExpressionEvaluator(String expression, GravitinoAuthorizer authorizer) {
-    this.ognlAuthorizationExpression =
-        AuthorizationExpressionConverter.convertToOgnlExpression(expression);
+    this.compiledExpression = AuthorizationExpressionCompiler.compile(expression);
     this.authorizer = authorizer;
   }
 
   /**
-   * Use OGNL expressions to invoke GravitinoAuthorizer for authorizing multiple types of metadata
-   * IDs.
+   * Evaluates the expression for the current principal. The {@link CompiledAuthorizationExpression}
+   * authorizes the metadata objects with a tree of typed {@link AuthorizationChecker} calls on the
+   * {@link GravitinoAuthorizer}. Only custom expressions the compiler can't type are evaluated
+   * with OGNL.
    *
    * @param metadataNames key-metadata type, value-metadata NameIdentifier
+   * @param requestContext authorization request context
    * @return authorization result
    */
   public boolean evaluate(
@@ -85,8 +87,8 @@ public class AuthorizationExpressionEvaluator {
   }
 
   /**
-   * Use OGNL expressions to invoke GravitinoAuthorizer for authorizing multiple types of metadata
-   * IDs.
+   * Evaluates the compiled expression for the given principal, see {@link #evaluate(Map,
+   * AuthorizationRequestContext)}.
    *
    * @param metadataNames key-metadata type, value-metadata NameIdentifier
    * @param requestContext authorization request context
@@ -103,8 +105,8 @@ public class AuthorizationExpressionEvaluator {
   }
 
   /**
-   * Use OGNL expressions to invoke GravitinoAuthorizer for authorizing multiple types of metadata
-   * IDs.
+   * Evaluates the compiled expression for the current principal, with the params of the request
+   * path available to the expression.
    *
    * @param metadataNames key-metadata type, value-metadata NameIdentifier
    * @param pathParams params from request path
@@ -121,8 +123,68 @@ public class AuthorizationExpressionEvaluator {
   }
 
   /**
-   * Use OGNL expressions to invoke GravitinoAuthorizer for authorizing multiple types of metadata
-   * IDs.
+   * Evaluates the expression against a batch of entities in the calling thread. The expression is
+   * parsed once, and each privilege check it reaches is authorized for the whole batch at once
+   * through {@link BatchAuthorizationView}, so the authorizer can resolve the batch in bulk. An
+   * entity whose evaluation fails, or whose metadata names are null, is treated as not authorized.
+   *
+   * @param metadataNamesList per entity, key-metadata type, value-metadata NameIdentifier
+   * @param entityTypes per entity, the entity type
+   * @param requestContext authorization request context
+   * @param currentPrincipal current principal
+   * @return authorization results, in the same order as {@code metadataNamesList}
+   */
+  public boolean[] evaluateBatch(
+      List<Map<Entity.EntityType, NameIdentifier>> metadataNamesList,
+      List<Optional<String>> entityTypes,
+      AuthorizationRequestContext requestContext,
+      Principal currentPrincipal) {
+    BatchAuthorizationView batchAuthorizer = new BatchAuthorizationView(authorizer);
+    List<Map<String, Object>> variablesList = new ArrayList<>(metadataNamesList.size());
+    for (int i = 0; i < metadataNamesList.size(); i++) {
+      Map<Entity.EntityType, NameIdentifier> metadataNames = metadataNamesList.get(i);
+      Map<String, Object> variables = null;
+      if (metadataNames != null) {
+        try {
+          variables =
+              createVariables(
+                  metadataNames,
+                  new HashMap<>(),
+                  requestContext,
+                  currentPrincipal,
+                  entityTypes.get(i),
+                  batchAuthorizer);
+          String metalake = (String) variables.get("METALAKE_NAME");
+          for (Entity.EntityType type : metadataNames.keySet()) {
+            if (isMetadataType(type)) {
+              batchAuthorizer.addCandidate(metalake, (MetadataObject) variables.get(type.name()));
+            }
+          }
+        } catch (Exception e) {
+          LOGGER.error("GravitinoAuthorize error:{}", e.getMessage(), e);
+          variables = null;
+        }
+      }
+      variablesList.add(variables);
+    }
+
+    boolean[] results = new boolean[variablesList.size()];
+    for (int i = 0; i < results.length; i++) {
+      if (variablesList.get(i) == null) {
+        continue;
+      }
+      try {
+        results[i] = compiledExpression.evaluate(variablesList.get(i));
+      } catch (Exception e) {
+        LOGGER.error("GravitinoAuthorize error:{}", e.getMessage(), e);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Binds the metadata objects, the path params and the principal to the expression variables,
+   * then evaluates the {@link CompiledAuthorizationExpression} against them.
    *
    * @param metadataNames key-metadata type, value-metadata NameIdentifier
    * @param pathParams params from request path
@@ -136,29 +198,37 @@ public class AuthorizationExpressionEvaluator {
       AuthorizationRequestContext requestContext,
       Principal currentPrincipal,
       Optional<String> entityType) {
-    OgnlContext ognlContext = Ognl.createDefaultContext(null);
-    ognlContext.put("principal", currentPrincipal);
-    ognlContext.put("authorizer", authorizer);
-    ognlContext.put("authorizationContext", requestContext);
-    ognlContext.put("entityType", entityType.orElse(null));
-    ognlContext.putAll(pathParams);
+    return compiledExpression.evaluate(
+        createVariables(
+            metadataNames, pathParams, requestContext, currentPrincipal, entityType, authorizer));
+  }
+
+  private static Map<String, Object> createVariables(
+      Map<Entity.EntityType, NameIdentifier> metadataNames,
+      Map<String, Object> pathParams,
+      AuthorizationRequestContext requestContext,
+      Principal currentPrincipal,
+      Optional<String> entityType,
+      AuthorizationChecker authorizer) {
+    Map<String, Object> variables = new HashMap<>();
+    variables.put("principal", currentPrincipal);
+    variables.put("authorizer", authorizer);
+    variables.put("authorizationContext", requestContext);
+    variables.put("entityType", entityType.orElse(null));
+    variables.putAll(pathParams);
     metadataNames.forEach(
         (type, entityNameIdent) -> {
           if (isMetadataType(type)) {
             MetadataObject metadataObject =
                 NameIdentifierUtil.toMetadataObject(entityNameIdent, type);
-            ognlContext.put(type.name(), metadataObject);
+            variables.put(type.name(), metadataObject);
           }
-          ognlContext.put(type.name() + "_NAME_IDENT", entityNameIdent);
+          variables.put(type.name() + "_NAME_IDENT", entityNameIdent);
         });
     NameIdentifier nameIdentifier = metadataNames.get(Entity.EntityType.METALAKE);
-    ognlContext.put(
+    variables.put(
         "METALAKE_NAME", Optional.ofNullable(nameIdentifier).map(NameIdentifier::name).orElse(""));
-    try {
-      return (boolean) Ognl.getValue(ognlAuthorizationExpression, ognlContext);
-    } catch (OgnlException e) {
-      throw new RuntimeException(e);
-    }
+    return variables;
   }
 
   private static boolean isMetadataType(Entity.EntityType type) {
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.expression;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.authorization.AuthorizationChecker;
+import org.apache.gravitino.authorization.AuthorizationRequestContext;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privilege;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Answers the privilege checks of an authorization expression evaluated against a whole batch of
+ * entities. The first time a privilege check on a metadata type is reached, it is performed for
+ * every object of that type in the batch with a single {@link GravitinoAuthorizer#authorizeBatch}
+ * or {@link GravitinoAuthorizer#denyBatch} call, and the remaining entities are answered from
+ * memory. If the batch call fails, the objects of that type are checked one by one instead. All
+ * other checks are delegated to the underlying {@link GravitinoAuthorizer}.
+ *
+ * <p>The view is bound to the {@code authorizer} variable of the expression. It only answers the
+ * checks of {@link AuthorizationChecker}, the lifecycle and change hooks stay with the underlying
+ * authorizer. An instance serves one batch for one principal on one thread.
+ */
+public class BatchAuthorizationView implements AuthorizationChecker {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchAuthorizationView.class);
+
+  private final GravitinoAuthorizer authorizer;
+
+  /** key-metalake name, value-candidate metadata objects of the batch grouped by type */
+  private final Map<String, Map<MetadataObject.Type, Set<MetadataObject>>> candidates =
+      new HashMap<>();
+
+  private final Map<String, Map<Privilege.Name, Decisions>> allowResults = new HashMap<>();
+
+  private final Map<String, Map<Privilege.Name, Decisions>> denyResults = new HashMap<>();
+
+  BatchAuthorizationView(GravitinoAuthorizer authorizer) {
+    this.authorizer = authorizer;
+  }
+
+  void addCandidate(String metalake, MetadataObject metadataObject) {
+    candidates
+        .computeIfAbsent(metalake, k -> new HashMap<>())
+        .computeIfAbsent(metadataObject.type(), k -> new LinkedHashSet<>())
+        .add(metadataObject);
+  }
+
+  @Override
+  public boolean authorize(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext) {
+    if (metadataObject == null) {
+      return authorizer.authorize(principal, metalake, null, privilege, requestContext);
+    }
+    return batchCheck(
+        allowResults,
+        metalake,
+        metadataObject,
+        privilege,
+        batch -> authorizer.authorizeBatch(principal, metalake, batch, privilege, requestContext),
+        object -> authorizer.authorize(principal, metalake, object, privilege, requestContext));
+  }
+
+  @Override
+  public boolean deny(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext) {
+    if (metadataObject == null) {
+      return authorizer.deny(principal, metalake, null, privilege, requestContext);
+    }
+    return batchCheck(
+        denyResults,
+        metalake,
+        metadataObject,
+        privilege,
+        batch -> authorizer.denyBatch(principal, metalake, batch, privilege, requestContext),
+        object -> authorizer.deny(principal, metalake, object, privilege, requestContext));
+  }
+
+  @Override
+  public boolean isOwner(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      AuthorizationRequestContext requestContext) {
+    return authorizer.isOwner(principal, metalake, metadataObject, requestContext);
+  }
+
+  @Override
+  public boolean isServiceAdmin() {
+    return authorizer.isServiceAdmin();
+  }
+
+  @Override
+  public boolean isSelf(
+      Entity.EntityType type,
+      NameIdentifier nameIdentifier,
+      AuthorizationRequestContext requestContext) {
+    return authorizer.isSelf(type, nameIdentifier, requestContext);
+  }
+
+  @Override
+  public boolean isMetalakeUser(String metalake, AuthorizationRequestContext requestContext) {
+    return authorizer.isMetalakeUser(metalake, requestContext);
+  }
+
+  @Override
+  public boolean hasSetOwnerPermission(
+      String metalake, String type, String fullName, AuthorizationRequestContext requestContext) {
+    return authorizer.hasSetOwnerPermission(metalake, type, fullName, requestContext);
+  }
+
+  @Override
+  public boolean hasMetadataPrivilegePermission(
+      String metalake, String type, String fullName, AuthorizationRequestContext requestContext) {
+    return authorizer.hasMetadataPrivilegePermission(metalake, type, fullName, requestContext);
+  }
+
+  private boolean batchCheck(
+      Map<String, Map<Privilege.Name, Decisions>> decisions,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege,
+      Function<List<MetadataObject>, boolean[]> batchChecker,
+      Predicate<MetadataObject> singleChecker) {
+    Decisions privilegeDecisions =
+        decisions
+            .computeIfAbsent(metalake, k -> new HashMap<>())
+            .computeIfAbsent(privilege, k -> new Decisions());
+    Map<MetadataObject, Boolean> results = privilegeDecisions.results;
+    Boolean result = results.get(metadataObject);
+    if (result != null) {
+      return result;
+    }
+
+    // Once a type has been checked for a privilege every candidate of that type has a result, so
+    // a miss here is either the first check of the type, an object outside the batch, or an object
+    // of a type whose batch check failed.
+    Set<MetadataObject> sameType =
+        candidates
+            .getOrDefault(metalake, Collections.emptyMap())
+            .getOrDefault(metadataObject.type(), Collections.emptySet());
+    if (sameType.contains(metadataObject)
+        && !privilegeDecisions.failedTypes.contains(metadataObject.type())) {
+      List<MetadataObject> batch = new ArrayList<>(sameType);
+      try {
+        boolean[] batchResults = batchChecker.apply(batch);
+        for (int i = 0; i < batch.size(); i++) {
+          results.put(batch.get(i), batchResults[i]);
+        }
+        return results.get(metadataObject);
+      } catch (RuntimeException e) {
+        // Check the objects of the type one by one from now on, so a failure only affects the
+        // object it comes from.
+        LOG.warn("Failed to check {} for a batch of {}", privilege, metadataObject.type(), e);
+        privilegeDecisions.failedTypes.add(metadataObject.type());
+      }
+    }
+
+    result = singleChecker.test(metadataObject);
+    results.put(metadataObject, result);
+    return result;
+  }
+
+  /** The results of one privilege check, and the metadata types whose batch check failed. */
+  private static final class Decisions {
+    private final Map<MetadataObject, Boolean> results = new HashMap<>();
+    private final Set<MetadataObject.Type> failedTypes = new HashSet<>();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.expression;
+
+import com.codahale.metrics.Timer;
+import java.util.Map;
+import javax.annotation.Nullable;
+import ognl.Ognl;
+import ognl.OgnlContext;
+import ognl.OgnlException;
+import org.apache.gravitino.metrics.source.AuthorizationMetricsSource;
+
+/**
+ * An authorization expression compiled once by {@link AuthorizationExpressionCompiler}. Expressions
+ * built from the constructs produced by {@link AuthorizationExpressionConverter} are compiled into
+ * a tree of typed {@link org.apache.gravitino.authorization.AuthorizationChecker} calls that
+ * short-circuits exactly like the OGNL expression it replaces. Any other expression is evaluated
+ * from its parsed OGNL tree.
+ */
+public class CompiledAuthorizationExpression {
+
+  /** A node of a compiled expression, evaluated against the expression variables. */
+  interface Node {
+    boolean evaluate(Map<String, Object> variables);
+  }
+
+  private final String id;
+  private final String expression;
+  @Nullable private final Node root;
+  private final Object ognlTree;
+
+  CompiledAuthorizationExpression(
+      String id, String expression, @Nullable Node root, Object ognlTree) {
+    this.id = id;
+    this.expression = expression;
+    this.root = root;
+    this.ognlTree = ognlTree;
+  }
+
+  /**
+   * Returns the id of the expression, which names its evaluation timer.
+   *
+   * @return the expression id
+   */
+  public String id() {
+    return id;
+  }
+
+  /**
+   * Returns the authorization expression this was compiled from.
+   *
+   * @return the authorization expression
+   */
+  public String expression() {
+    return expression;
+  }
+
+  /**
+   * Returns whether the expression was compiled into typed authorizer calls rather than kept as an
+   * OGNL tree.
+   *
+   * @return whether the expression is evaluated without OGNL
+   */
+  public boolean isTyped() {
+    return root != null;
+  }
+
+  boolean evaluate(Map<String, Object> variables) {
+    AuthorizationMetricsSource metricsSource = AuthorizationExpressionCompiler.metricsSource();
+    if (metricsSource == null) {
+      return doEvaluate(variables);
+    }
+    try (Timer.Context ignored = metricsSource.expressionEvaluationTimer(id).time()) {
+      return doEvaluate(variables);
+    }
+  }
+
+  private boolean doEvaluate(Map<String, Object> variables) {
+    if (root != null) {
+      return root.evaluate(variables);
+    }
+    OgnlContext ognlContext = Ognl.createDefaultContext(null);
+    ognlContext.putAll(variables);
+    try {
+      return (boolean) Ognl.getValue(ognlTree, ognlContext);
+    } catch (OgnlException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
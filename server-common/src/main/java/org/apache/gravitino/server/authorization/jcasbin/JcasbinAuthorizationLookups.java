@@ -18,6 +18,10 @@
  */
 package org.apache.gravitino.server.authorization.jcasbin;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.authorization.AuthorizationRequestContext;
@@ -84,6 +88,44 @@ public class JcasbinAuthorizationLookups {
     }
   }
 
+  /**
+   * Bulk variant of {@link #resolveMetadataId} used by batch authorization. Objects already held by
+   * the shared {@code metadataIdCache} are copied into the request tier; the remaining ones are
+   * resolved with {@link MetadataIdConverter#getIDs}, which issues one batched read per metadata
+   * type, and populate both tiers. Missing objects are left unresolved so a later {@link
+   * #resolveMetadataId} call still reports them as absent.
+   */
+  public void preloadMetadataIds(
+      List<MetadataObject> metadataObjects,
+      String metalake,
+      AuthorizationRequestContext requestContext) {
+    Map<String, MetadataObject> misses = new LinkedHashMap<>();
+    for (MetadataObject metadataObject : metadataObjects) {
+      String cacheKey = JcasbinAuthorizationCacheKeys.metadataIdCacheKey(metalake, metadataObject);
+      Optional<Long> cachedId = metadataIdCache.getIfPresent(cacheKey);
+      if (cachedId.isPresent()) {
+        requestContext.computeMetadataIdIfAbsent(cacheKey, k -> cachedId.get());
+      } else {
+        misses.putIfAbsent(cacheKey, metadataObject);
+      }
+    }
+    if (misses.isEmpty()) {
+      return;
+    }
+
+    Map<MetadataObject, Long> loadedIds =
+        MetadataIdConverter.getIDs(new ArrayList<>(misses.values()), metalake);
+    misses.forEach(
+        (cacheKey, metadataObject) -> {
+          Long loadedId = loadedIds.get(metadataObject);
+          if (loadedId != null) {
+            // Go through the atomic loader so a concurrent single lookup keeps its value.
+            Long id = metadataIdCache.get(cacheKey, k -> loadedId);
+            requestContext.computeMetadataIdIfAbsent(cacheKey, k -> id);
+          }
+        });
+  }
+
   private static Long loadMetadataId(MetadataObject metadataObject, String metalake) {
     return MetadataIdConverter.getID(metadataObject, metalake)
         .orElseThrow(
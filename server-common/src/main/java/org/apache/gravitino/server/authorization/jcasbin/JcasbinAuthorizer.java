@@ -56,6 +56,8 @@ import org.apache.gravitino.authorization.SecurableObject;
 import org.apache.gravitino.cache.CaffeineGravitinoCache;
 import org.apache.gravitino.cache.GravitinoCache;
 import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.AuthorizationDecisionCacheMetricsSource;
 import org.apache.gravitino.server.authorization.MetadataIdConverter;
 import org.apache.gravitino.storage.relational.SupportsEntityChangeLog;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
@@ -110,6 +112,15 @@ import org.slf4j.LoggerFactory;
  * <p>JCasbin enforcer state ({@link #allowEnforcer}/{@link #denyEnforcer}) is kept in sync with
  * {@link #loadedRoles} via the removal listener inside {@link JcasbinLoadedRolesCache} — evicting a
  * role id also deletes that role's policies from both enforcers.
+ *
+ * <p>With {@code gravitino.authorization.jcasbin.privilegeEngine=bitmap}, the loaded roles are
+ * compiled into the {@link PrivilegeBitmapIndex} instead of the enforcers, and decisions are
+ * bitwise ORs over the bitmaps of the user's roles. The role loading and invalidation above are
+ * unchanged.
+ *
+ * <p>With a positive {@code gravitino.authorization.jcasbin.decisionCacheSize}, allow and deny
+ * decisions are also kept in the {@link JcasbinDecisionCache}, keyed by the role versions of the
+ * user; see that class for the strict and non-strict consistency models.
  */
 public class JcasbinAuthorizer implements GravitinoAuthorizer {
 
@@ -127,6 +138,9 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
   /** deny internal authorizer */
   private InternalAuthorizer denyInternalAuthorizer;
 
+  /** Compiled role privileges, replaces the enforcers when the bitmap engine is enabled. */
+  private PrivilegeBitmapIndex privilegeIndex;
+
   // ---- Version-validated caches (strong consistency) ----
 
   /**
@@ -160,6 +174,11 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
   /** Background HA invalidator for {@link #metadataIdCache} and {@link #ownerRelCache}. */
   private JcasbinChangeListener changePoller;
 
+  /** Optional cache of allow and deny decisions, null when disabled. */
+  private JcasbinDecisionCache decisionCache;
+
+  private AuthorizationDecisionCacheMetricsSource decisionCacheMetricsSource;
+
   @Override
   public void initialize() {
     long cacheExpirationSecs =
@@ -179,17 +198,40 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
             .config()
             .get(Configs.GRAVITINO_AUTHORIZATION_CHANGE_POLL_INTERVAL_SECS);
 
+    String privilegeEngine =
+        GravitinoEnv.getInstance()
+            .config()
+            .get(Configs.GRAVITINO_AUTHORIZATION_PRIVILEGE_ENGINE);
+
+    long decisionCacheSize =
+        GravitinoEnv.getInstance()
+            .config()
+            .get(Configs.GRAVITINO_AUTHORIZATION_DECISION_CACHE_SIZE);
+    boolean decisionCacheStrict =
+        GravitinoEnv.getInstance()
+            .config()
+            .get(Configs.GRAVITINO_AUTHORIZATION_DECISION_CACHE_STRICT);
+    long decisionCacheNonStrictTtlSecs =
+        GravitinoEnv.getInstance()
+            .config()
+            .get(Configs.GRAVITINO_AUTHORIZATION_DECISION_CACHE_NON_STRICT_TTL_SECS);
+
     long ttlMs = TimeUnit.SECONDS.toMillis(cacheExpirationSecs);
 
     // Initialize enforcers before caches that reference them in removal listeners
     allowEnforcer = new SyncedEnforcer(getModel("/jcasbin_model.conf"), new GravitinoAdapter());
-    allowInternalAuthorizer = new InternalAuthorizer(allowEnforcer);
+    allowInternalAuthorizer = new InternalAuthorizer(allowEnforcer, false);
     denyEnforcer = new SyncedEnforcer(getModel("/jcasbin_model.conf"), new GravitinoAdapter());
-    denyInternalAuthorizer = new InternalAuthorizer(denyEnforcer);
+    denyInternalAuthorizer = new InternalAuthorizer(denyEnforcer, true);
+    if (Configs.BITMAP_PRIVILEGE_ENGINE.equalsIgnoreCase(privilegeEngine)) {
+      privilegeIndex = new PrivilegeBitmapIndex();
+    }
 
     // loadedRoles: roleId -> updated_at.
-    // When evicted, we must clean up the corresponding JCasbin policies.
-    loadedRoles = new JcasbinLoadedRolesCache(ttlMs, roleCacheSize, allowEnforcer, denyEnforcer);
+    // When evicted, we must clean up the corresponding JCasbin policies or compiled privileges.
+    loadedRoles =
+        new JcasbinLoadedRolesCache(
+            ttlMs, roleCacheSize, allowEnforcer, denyEnforcer, privilegeIndex);
 
     userRoleCache = new CaffeineGravitinoCache<>(ttlMs, roleCacheSize);
     groupRoleCache = new CaffeineGravitinoCache<>(ttlMs, roleCacheSize);
@@ -199,7 +241,23 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     metadataIdCache = new CaffeineGravitinoCache<>(ttlMs, metadataIdCacheSize);
     ownerRelCache = new CaffeineGravitinoCache<>(ttlMs, ownerCacheSize);
     lookups = new JcasbinAuthorizationLookups(metadataIdCache, ownerRelCache);
-    changePoller = new JcasbinChangeListener(metadataIdCache, ownerRelCache, pollIntervalSecs);
+    if (decisionCacheSize > 0) {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      // Metrics System could be null in UT.
+      if (metricsSystem != null) {
+        decisionCacheMetricsSource = new AuthorizationDecisionCacheMetricsSource();
+        metricsSystem.register(decisionCacheMetricsSource);
+      }
+      decisionCache =
+          new JcasbinDecisionCache(
+              ttlMs,
+              Math.min(ttlMs, TimeUnit.SECONDS.toMillis(decisionCacheNonStrictTtlSecs)),
+              decisionCacheSize,
+              decisionCacheStrict,
+              decisionCacheMetricsSource);
+    }
+    changePoller =
+        new JcasbinChangeListener(metadataIdCache, ownerRelCache, pollIntervalSecs, decisionCache);
     EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
     if (entityStore instanceof SupportsEntityChangeLog) {
       ((SupportsEntityChangeLog) entityStore).registerEntityChangeLogListener(changePoller);
@@ -285,6 +343,70 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     return result;
   }
 
+  /**
+   * Resolves the metadata ids of the whole batch with one batched read per metadata type before
+   * authorizing each object, so the per-object checks below only hit the request-level caches and
+   * the in-memory policy engine. An object whose check fails is not authorized, without failing
+   * the rest of the batch.
+   */
+  @Override
+  public boolean[] authorizeBatch(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext) {
+    preloadMetadataIds(metalake, metadataObjects, requestContext);
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      MetadataObject metadataObject = metadataObjects.get(i);
+      try {
+        results[i] = authorize(principal, metalake, metadataObject, privilege, requestContext);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to authorize {} for {} in a batch", privilege, metadataObject, e);
+        results[i] = false;
+      }
+    }
+    return results;
+  }
+
+  /** Batch counterpart of {@link #authorizeBatch}, an object whose check fails is denied. */
+  @Override
+  public boolean[] denyBatch(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege,
+      AuthorizationRequestContext requestContext) {
+    preloadMetadataIds(metalake, metadataObjects, requestContext);
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      MetadataObject metadataObject = metadataObjects.get(i);
+      try {
+        results[i] = deny(principal, metalake, metadataObject, privilege, requestContext);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to check the deny of {} for {} in a batch", privilege, metadataObject, e);
+        results[i] = true;
+      }
+    }
+    return results;
+  }
+
+  private void preloadMetadataIds(
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      AuthorizationRequestContext requestContext) {
+    if (metadataObjects.size() < 2) {
+      return;
+    }
+    try {
+      lookups.preloadMetadataIds(metadataObjects, metalake, requestContext);
+    } catch (Exception e) {
+      // The per-object checks resolve whatever the bulk read could not, so just fall back to them.
+      LOG.warn("Failed to preload metadata ids for batch authorization", e);
+    }
+  }
+
   @Override
   public boolean isOwner(
       Principal principal,
@@ -513,16 +635,19 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
   @Override
   public void handleRolePrivilegeChange(Long roleId) {
     loadedRoles.invalidate(roleId);
+    invalidateDecisions();
   }
 
   @Override
   public void handleUserRoleRelChange(String metalake, String userName) {
     userRoleCache.invalidate(JcasbinAuthorizationCacheKeys.userRoleKey(metalake, userName));
+    invalidateDecisions();
   }
 
   @Override
   public void handleGroupRoleRelChange(String metalake, String groupName) {
     groupRoleCache.invalidate(JcasbinAuthorizationCacheKeys.groupRoleKey(metalake, groupName));
+    invalidateDecisions();
   }
 
   @Override
@@ -538,6 +663,7 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     } catch (RuntimeException e) {
       LOG.warn("Failed to resolve metadata id for owner cache invalidation: {}", metadataObject, e);
     }
+    invalidateDecisions();
   }
 
   @Override
@@ -551,6 +677,17 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     } else {
       metadataIdCache.invalidate(cacheKey);
     }
+    invalidateDecisions();
+  }
+
+  /**
+   * Drops the cached decisions. A strict decision cache would not serve stale decisions after a
+   * role change anyway, but the entries of the old role versions are dead weight until they expire.
+   */
+  private void invalidateDecisions() {
+    if (decisionCache != null) {
+      decisionCache.invalidateAll();
+    }
   }
 
   @Override
@@ -562,6 +699,13 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       }
       changePoller.close();
     }
+    if (decisionCacheMetricsSource != null) {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.unregister(decisionCacheMetricsSource);
+      }
+      decisionCacheMetricsSource = null;
+    }
     if (userRoleCache != null) {
       userRoleCache.close();
     }
@@ -571,6 +715,9 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     if (loadedRoles != null) {
       loadedRoles.close();
     }
+    if (privilegeIndex != null) {
+      privilegeIndex.clear();
+    }
     if (metadataIdCache != null) {
       metadataIdCache.close();
     }
@@ -609,8 +756,12 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
 
     Enforcer enforcer;
 
-    public InternalAuthorizer(Enforcer enforcer) {
+    /** Whether this authorizer answers deny decisions rather than allow decisions. */
+    private final boolean denyDecision;
+
+    public InternalAuthorizer(Enforcer enforcer, boolean denyDecision) {
       this.enforcer = enforcer;
+      this.denyDecision = denyDecision;
     }
 
     private boolean authorizeInternal(
@@ -636,6 +787,26 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
           AuthConstants.OWNER.equals(privilege)
               && requestContext.getPrefetchedRoleVersions() == null;
 
+      // OWNER decisions depend on ownership rather than on roles, so they are never cached.
+      boolean cacheable =
+          decisionCache != null
+              && metadataObject != null
+              && !AuthConstants.OWNER.equals(privilege);
+      String subjectKey = null;
+      if (cacheable && !decisionCache.isStrict()) {
+        subjectKey =
+            JcasbinDecisionCache.subjectKey(metalake, username, currentPrincipalGroupNames());
+        Optional<Boolean> cached =
+            decisionCache.lookupUnvalidated(
+                subjectKey,
+                () -> lookups.resolveMetadataId(metadataObject, metalake, requestContext),
+                privilege,
+                denyDecision);
+        if (cached.isPresent()) {
+          return cached.get();
+        }
+      }
+
       long userId;
       UserUpdatedAt userInfo;
       try {
@@ -670,6 +841,40 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       if (metadataObject == null) {
         return false;
       }
+
+      long[] roleVersionVector = requestContext.getRoleVersionVector();
+      if (!cacheable || roleVersionVector == null) {
+        return authorizeWithInheritance(
+            userId, metalake, metadataObject, privilege, requestContext);
+      }
+      Optional<Long> metadataId =
+          lookups.resolveMetadataId(metadataObject, metalake, requestContext);
+      if (!metadataId.isPresent()) {
+        // An ancestor schema may still grant the privilege, leave this rare case uncached.
+        return authorizeWithInheritance(
+            userId, metalake, metadataObject, privilege, requestContext);
+      }
+      if (subjectKey != null) {
+        roleVersionVector = decisionCache.recordSubject(subjectKey, userId, roleVersionVector);
+      }
+      long resolvedUserId = userId;
+      return decisionCache.get(
+          userId,
+          metadataId.get(),
+          privilege,
+          denyDecision,
+          roleVersionVector,
+          () ->
+              authorizeWithInheritance(
+                  resolvedUserId, metalake, metadataObject, privilege, requestContext));
+    }
+
+    private boolean authorizeWithInheritance(
+        long userId,
+        String metalake,
+        MetadataObject metadataObject,
+        String privilege,
+        AuthorizationRequestContext requestContext) {
       // For SCHEMA objects with hierarchical schema names (for example, parent=catalog and
       // name="A:B:C"), walk the logical parent chain from the outermost ancestor down to the
       // schema itself so that a privilege granted on an ancestor schema short-circuits the check
@@ -722,12 +927,28 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
         return ownerMatchesUserOrGroups(
             owner, PrincipalUtils.getCurrentPrincipal(), metalake, requestContext);
       }
+      if (privilegeIndex != null) {
+        return authorizeByPrivilegeIndex(userId, metadataId, privilege);
+      }
       return enforcer.enforce(
           String.valueOf(userId),
           String.valueOf(metadataObject.type()),
           String.valueOf(metadataId),
           privilege);
     }
+
+    private boolean authorizeByPrivilegeIndex(long userId, long metadataId, String privilege) {
+      Privilege.Name privilegeName;
+      try {
+        privilegeName = Privilege.Name.valueOf(privilege);
+      } catch (IllegalArgumentException e) {
+        // Like the JCasbin matchers, a privilege that no policy can hold is never granted.
+        return false;
+      }
+      return denyDecision
+          ? privilegeIndex.denies(userId, metadataId, privilegeName)
+          : privilegeIndex.allows(userId, metadataId, privilegeName);
+    }
   }
 
   // ---------------------------------------------------------------------------
@@ -933,10 +1154,18 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
             desiredRoleIds.add(String.valueOf(id));
           }
           String userIdStr = String.valueOf(userId);
-          for (String currentRole : allowEnforcer.getRolesForUser(userIdStr)) {
-            if (!desiredRoleIds.contains(currentRole)) {
-              allowEnforcer.deleteRoleForUser(userIdStr, currentRole);
-              denyEnforcer.deleteRoleForUser(userIdStr, currentRole);
+          if (privilegeIndex != null) {
+            for (Long currentRole : privilegeIndex.rolesForUser(userId)) {
+              if (!desiredRoleIds.contains(String.valueOf(currentRole))) {
+                privilegeIndex.unbindUserRole(userId, currentRole);
+              }
+            }
+          } else {
+            for (String currentRole : allowEnforcer.getRolesForUser(userIdStr)) {
+              if (!desiredRoleIds.contains(currentRole)) {
+                allowEnforcer.deleteRoleForUser(userIdStr, currentRole);
+                denyEnforcer.deleteRoleForUser(userIdStr, currentRole);
+              }
             }
           }
 
@@ -944,12 +1173,30 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
           // load stale ones (1 query for the version probe).
           List<Long> allRoleIds = new ArrayList<>(userDirectRoleIds);
           allRoleIds.addAll(groupInheritedRoleIds);
-          if (!allRoleIds.isEmpty()) {
-            versionCheckAndLoadRoles(metalake, allRoleIds, requestContext);
+          List<RoleUpdatedAt> roleVersions =
+              allRoleIds.isEmpty()
+                  ? new ArrayList<>()
+                  : versionCheckAndLoadRoles(metalake, allRoleIds, requestContext);
+          if (decisionCache != null) {
+            requestContext.setRoleVersionVector(loadedRoleVersionVector(roleVersions));
           }
         });
   }
 
+  /**
+   * Returns the role version vector of the request, or null if a role could not be loaded at its
+   * current version, in which case decisions made without its policies must not be cached.
+   */
+  private long[] loadedRoleVersionVector(List<RoleUpdatedAt> roleVersions) {
+    for (RoleUpdatedAt rv : roleVersions) {
+      Optional<Long> loadedUpdatedAt = loadedRoles.getIfPresent(rv.getRoleId());
+      if (!loadedUpdatedAt.isPresent() || loadedUpdatedAt.get() < rv.getUpdatedAt()) {
+        return null;
+      }
+    }
+    return JcasbinDecisionCache.roleVersionVector(roleVersions);
+  }
+
   private List<Long> loadUserRoles(
       String metalake, String username, long userId, UserUpdatedAt userInfo) {
     String userCacheKey = JcasbinAuthorizationCacheKeys.userRoleKey(metalake, username);
@@ -1048,7 +1295,11 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     return groups.stream().map(UserGroup::getGroupName).collect(Collectors.toList());
   }
 
-  private void versionCheckAndLoadRoles(
+  /**
+   * Loads the policies of the given roles that are missing or stale, and returns the current
+   * versions of the roles that still exist.
+   */
+  private List<RoleUpdatedAt> versionCheckAndLoadRoles(
       String metalake, List<Long> roleIds, AuthorizationRequestContext requestContext) {
     List<Long> uniqueRoleIds = roleIds.stream().distinct().collect(Collectors.toList());
 
@@ -1093,7 +1344,7 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     }
 
     if (staleRoleVersions.isEmpty()) {
-      return;
+      return roleVersions;
     }
 
     EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
@@ -1143,22 +1394,34 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       Optional<Long> cachedUpdatedAt = loadedRoles.getIfPresent(roleId);
 
       // Refresh only permission policies. deleteRole would also remove the current user's freshly
-      // bound grouping links.
-      if (cachedUpdatedAt.isPresent()) {
+      // bound grouping links. The bitmap engine swaps in the rebuilt bitmap in one step, so it
+      // skips the clear and concurrent checks never see the role without privileges.
+      if (cachedUpdatedAt.isPresent() && privilegeIndex == null) {
         clearRolePolicies(roleId);
       }
       loadPolicyByRoleEntity(roleEntity, requestContext);
       loadedRoles.put(roleId, dbUpdatedAt);
     }
+    return roleVersions;
   }
 
   private void clearRolePolicies(long roleId) {
+    if (privilegeIndex != null) {
+      privilegeIndex.removeRole(roleId);
+      return;
+    }
     String roleIdStr = String.valueOf(roleId);
     allowEnforcer.removeFilteredPolicy(0, roleIdStr);
     denyEnforcer.removeFilteredPolicy(0, roleIdStr);
   }
 
   private void bindUserRoles(long userId, List<Long> roleIds) {
+    if (privilegeIndex != null) {
+      for (Long roleId : roleIds) {
+        privilegeIndex.bindUserRole(userId, roleId);
+      }
+      return;
+    }
     for (Long roleId : roleIds) {
       allowEnforcer.addRoleForUser(String.valueOf(userId), String.valueOf(roleId));
       denyEnforcer.addRoleForUser(String.valueOf(userId), String.valueOf(roleId));
@@ -1173,6 +1436,8 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       RoleEntity roleEntity, AuthorizationRequestContext requestContext) {
     String metalake = NameIdentifierUtil.getMetalake(roleEntity.nameIdentifier());
     List<SecurableObject> securableObjects = roleEntity.securableObjects();
+    RolePrivilegeBitmap.Builder bitmapBuilder =
+        privilegeIndex == null ? null : RolePrivilegeBitmap.builder();
 
     for (SecurableObject securableObject : securableObjects) {
       Optional<Long> metadataId =
@@ -1183,6 +1448,16 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       }
       for (Privilege privilege : securableObject.privileges()) {
         Privilege.Condition condition = privilege.condition();
+        if (bitmapBuilder != null) {
+          Privilege.Name privilegeName =
+              AuthorizationUtils.replaceLegacyPrivilegeName(privilege.name());
+          if (AuthConstants.DENY.equalsIgnoreCase(condition.name())) {
+            bitmapBuilder.deny(metadataId.get(), privilegeName);
+          } else {
+            bitmapBuilder.allow(metadataId.get(), privilegeName);
+          }
+          continue;
+        }
         if (AuthConstants.DENY.equalsIgnoreCase(condition.name())) {
           denyEnforcer.addPolicy(
               String.valueOf(roleEntity.id()),
@@ -1204,5 +1479,8 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
             condition.name().toLowerCase(Locale.ROOT));
       }
     }
+    if (bitmapBuilder != null) {
+      privilegeIndex.putRole(roleEntity.id(), bitmapBuilder.build());
+    }
   }
 }
@@ -31,6 +31,7 @@ import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.cache.GravitinoCache;
@@ -45,7 +46,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Eventual-consistency invalidator for {@link JcasbinAuthorizer}'s {@code metadataIdCache} and
- * {@code ownerRelCache}.
+ * {@code ownerRelCache}, and for its {@link JcasbinDecisionCache} if there is one.
  *
  * <p>This class polls {@code owner_meta} itself and receives {@code entity_change_log} batches from
  * the global entity change log poller.
@@ -58,6 +59,7 @@ public class JcasbinChangeListener implements EntityChangeLogListener, AutoClose
 
   private final GravitinoCache<String, Long> metadataIdCache;
   private final GravitinoCache<Long, Optional<OwnerInfo>> ownerRelCache;
+  @Nullable private final JcasbinDecisionCache decisionCache;
   private final long pollIntervalSecs;
 
   private ScheduledExecutorService scheduler;
@@ -78,10 +80,25 @@ public class JcasbinChangeListener implements EntityChangeLogListener, AutoClose
       GravitinoCache<String, Long> metadataIdCache,
       GravitinoCache<Long, Optional<OwnerInfo>> ownerRelCache,
       long pollIntervalSecs) {
+    this(metadataIdCache, ownerRelCache, pollIntervalSecs, null);
+  }
+
+  /**
+   * @param metadataIdCache the metadata-id cache to invalidate on entity changes
+   * @param ownerRelCache the owner cache to invalidate on owner changes
+   * @param pollIntervalSecs interval between successive polling cycles
+   * @param decisionCache the decision cache to drop on entity and owner changes, or null
+   */
+  JcasbinChangeListener(
+      GravitinoCache<String, Long> metadataIdCache,
+      GravitinoCache<Long, Optional<OwnerInfo>> ownerRelCache,
+      long pollIntervalSecs,
+      @Nullable JcasbinDecisionCache decisionCache) {
     Preconditions.checkArgument(pollIntervalSecs > 0, "pollIntervalSecs must be positive");
     this.metadataIdCache = metadataIdCache;
     this.ownerRelCache = ownerRelCache;
     this.pollIntervalSecs = pollIntervalSecs;
+    this.decisionCache = decisionCache;
   }
 
   /**
@@ -195,6 +212,7 @@ public class JcasbinChangeListener implements EntityChangeLogListener, AutoClose
         });
     ownerPollHighWaterUpdatedAt = maxSeenUpdatedAt[0];
     ownerPollHighWaterUpdatedAtId = maxSeenUpdatedAtId[0];
+    invalidateDecisions();
   }
 
   /**
@@ -238,6 +256,19 @@ public class JcasbinChangeListener implements EntityChangeLogListener, AutoClose
       }
     }
     invalidateCoalescedKeys(containerPrefixes, leafKeys);
+    if (!containerPrefixes.isEmpty() || !leafKeys.isEmpty()) {
+      invalidateDecisions();
+    }
+  }
+
+  /**
+   * Drops every cached decision. Decisions are keyed by metadata id rather than by name, so there
+   * is no cheap way to find the entries under a changed name; changes are rare compared to checks.
+   */
+  private void invalidateDecisions() {
+    if (decisionCache != null) {
+      decisionCache.invalidateAll();
+    }
   }
 
   @Override
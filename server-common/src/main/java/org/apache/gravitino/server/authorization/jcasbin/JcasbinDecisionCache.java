@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.apache.gravitino.metrics.source.AuthorizationDecisionCacheMetricsSource;
+import org.apache.gravitino.storage.relational.po.auth.RoleUpdatedAt;
+
+/**
+ * Bounded cache of JCasbin allow and deny decisions, including negative ones, keyed by {@code
+ * (userId, metadataId, privilege, allow/deny, role version vector)}.
+ *
+ * <p>The role version vector is the sorted list of {@code (roleId, updated_at)} pairs of every role
+ * the user holds. Any grant, revoke, or role privilege change moves a version or the role set, so
+ * such a change never hits an old entry. A drop and re-create gets a new metadata id, which does
+ * not hit an old entry either. The decisions never depend on ownership, because {@code OWNER} is
+ * resolved from the owner cache and never cached here.
+ *
+ * <p>In strict mode, the {@link JcasbinAuthorizer} only looks up a decision after the role
+ * versions have been validated for the request, so a cached decision is exactly as fresh as an
+ * uncached one. Otherwise, the vector last seen for the {@code (metalake, user, groups)} subject
+ * is reused without touching the backend. The whole cache is then dropped whenever {@link
+ * JcasbinChangeListener} observes an entity or owner change or a local role, user, group or owner
+ * change is handled. Role changes made on other servers are not observed, so the vector of a
+ * subject is only reused for a short subject TTL, after which it is validated again and a changed
+ * vector misses the old decisions. The decisions themselves expire after the authorization cache
+ * TTL.
+ */
+class JcasbinDecisionCache {
+
+  private final boolean strict;
+  private final Cache<DecisionKey, Boolean> decisions;
+  private final Cache<String, SubjectVersion> subjects;
+  @Nullable private final AuthorizationDecisionCacheMetricsSource metricsSource;
+
+  JcasbinDecisionCache(
+      long ttlMs,
+      long subjectTtlMs,
+      long maxSize,
+      boolean strict,
+      @Nullable AuthorizationDecisionCacheMetricsSource metricsSource) {
+    this.strict = strict;
+    this.decisions =
+        Caffeine.newBuilder()
+            .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(maxSize)
+            .build();
+    // The subject snapshots are only written when the vector changes, so a subject is validated
+    // against the backend again at least once per subject TTL.
+    this.subjects =
+        Caffeine.newBuilder()
+            .expireAfterWrite(subjectTtlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(maxSize)
+            .build();
+    this.metricsSource = metricsSource;
+  }
+
+  boolean isStrict() {
+    return strict;
+  }
+
+  /**
+   * Builds the role version vector from the versions of the roles the user holds.
+   *
+   * @param roleVersions the versions of the user's roles, in any order
+   * @return sorted {@code (roleId, updated_at)} pairs
+   */
+  static long[] roleVersionVector(Collection<RoleUpdatedAt> roleVersions) {
+    TreeSet<RoleUpdatedAt> sorted =
+        new TreeSet<>(
+            (a, b) ->
+                a.getRoleId() != b.getRoleId()
+                    ? Long.compare(a.getRoleId(), b.getRoleId())
+                    : Long.compare(a.getUpdatedAt(), b.getUpdatedAt()));
+    sorted.addAll(roleVersions);
+    long[] vector = new long[sorted.size() * 2];
+    int i = 0;
+    for (RoleUpdatedAt roleVersion : sorted) {
+      vector[i++] = roleVersion.getRoleId();
+      vector[i++] = roleVersion.getUpdatedAt();
+    }
+    return vector;
+  }
+
+  /**
+   * Builds the subject key of a user and the groups it was authenticated with.
+   *
+   * @param metalake the metalake
+   * @param userName the user name
+   * @param groupNames the group names of the principal
+   * @return the subject key
+   */
+  static String subjectKey(String metalake, String userName, List<String> groupNames) {
+    StringBuilder key =
+        new StringBuilder(JcasbinAuthorizationCacheKeys.userRoleKey(metalake, userName));
+    for (String groupName : new TreeSet<>(groupNames)) {
+      key.append('\u0000').append(groupName);
+    }
+    return key.toString();
+  }
+
+  /**
+   * Remembers the user id and role version vector last validated for a subject, and returns the
+   * vector instance to use in decision keys. An unchanged vector is shared with the previous
+   * snapshot so that the entries of a user do not each hold their own copy.
+   *
+   * @param subjectKey the subject key
+   * @param userId the user id
+   * @param vector the role version vector validated for the request
+   * @return an equal, possibly shared, vector
+   */
+  long[] recordSubject(String subjectKey, long userId, long[] vector) {
+    SubjectVersion previous = subjects.getIfPresent(subjectKey);
+    if (previous != null
+        && previous.userId == userId
+        && Arrays.equals(previous.roleVersionVector, vector)) {
+      return previous.roleVersionVector;
+    }
+    subjects.put(subjectKey, new SubjectVersion(userId, vector));
+    return vector;
+  }
+
+  /**
+   * Looks up a decision with the vector last recorded for the subject, without any backend access.
+   * Only used when the cache is not strict.
+   *
+   * @param subjectKey the subject key
+   * @param metadataIdResolver resolves the metadata id of the checked object
+   * @param privilege the privilege
+   * @param deny whether this is a deny decision
+   * @return the cached decision, or empty if there is none
+   */
+  Optional<Boolean> lookupUnvalidated(
+      String subjectKey,
+      Supplier<Optional<Long>> metadataIdResolver,
+      String privilege,
+      boolean deny) {
+    SubjectVersion subject = subjects.getIfPresent(subjectKey);
+    if (subject == null) {
+      return Optional.empty();
+    }
+    Optional<Long> metadataId = metadataIdResolver.get();
+    if (!metadataId.isPresent()) {
+      return Optional.empty();
+    }
+    Boolean decision =
+        decisions.getIfPresent(
+            new DecisionKey(
+                subject.userId, metadataId.get(), privilege, deny, subject.roleVersionVector));
+    if (decision != null) {
+      recordHit();
+    }
+    return Optional.ofNullable(decision);
+  }
+
+  /**
+   * Returns the cached decision, or computes and caches it.
+   *
+   * @param userId the user id
+   * @param metadataId the metadata id of the checked object
+   * @param privilege the privilege
+   * @param deny whether this is a deny decision
+   * @param vector the role version vector validated for the request
+   * @param loader computes the decision on a miss
+   * @return the decision
+   */
+  boolean get(
+      long userId,
+      long metadataId,
+      String privilege,
+      boolean deny,
+      long[] vector,
+      Supplier<Boolean> loader) {
+    DecisionKey key = new DecisionKey(userId, metadataId, privilege, deny, vector);
+    Boolean decision = decisions.getIfPresent(key);
+    if (decision != null) {
+      recordHit();
+      return decision;
+    }
+    if (metricsSource != null) {
+      metricsSource.recordMiss();
+    }
+    decision = loader.get();
+    decisions.put(key, decision);
+    return decision;
+  }
+
+  /** Drops every cached decision and subject snapshot. */
+  void invalidateAll() {
+    decisions.invalidateAll();
+    subjects.invalidateAll();
+    if (metricsSource != null) {
+      metricsSource.recordInvalidation();
+    }
+  }
+
+  @VisibleForTesting
+  long size() {
+    decisions.cleanUp();
+    return decisions.estimatedSize();
+  }
+
+  private void recordHit() {
+    if (metricsSource != null) {
+      metricsSource.recordHit();
+    }
+  }
+
+  private static final class SubjectVersion {
+    private final long userId;
+    private final long[] roleVersionVector;
+
+    private SubjectVersion(long userId, long[] roleVersionVector) {
+      this.userId = userId;
+      this.roleVersionVector = roleVersionVector;
+    }
+  }
+
+  private static final class DecisionKey {
+    private final long userId;
+    private final long metadataId;
+    private final String privilege;
+    private final boolean deny;
+    private final long[] roleVersionVector;
+    private final int hash;
+
+    private DecisionKey(
+        long userId, long metadataId, String privilege, boolean deny, long[] roleVersionVector) {
+      this.userId = userId;
+      this.metadataId = metadataId;
+      this.privilege = privilege;
+      this.deny = deny;
+      this.roleVersionVector = roleVersionVector;
+      this.hash =
+          31 * Objects.hash(userId, metadataId, privilege, deny)
+              + Arrays.hashCode(roleVersionVector);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DecisionKey)) {
+        return false;
+      }
+      DecisionKey that = (DecisionKey) o;
+      return userId == that.userId
+          && metadataId == that.metadataId
+          && deny == that.deny
+          && privilege.equals(that.privilege)
+          && Arrays.equals(roleVersionVector, that.roleVersionVector);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -23,12 +23,14 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.apache.gravitino.cache.GravitinoCache;
 import org.casbin.jcasbin.main.Enforcer;
 
 /**
  * A {@link GravitinoCache} of {@code roleId -> updated_at} that synchronously deletes the role's
- * JCasbin policies from both enforcers when a key is evicted (by TTL, size, or explicit
+ * JCasbin policies from both enforcers, and its compiled privileges from the {@link
+ * PrivilegeBitmapIndex} if there is one, when a key is evicted (by TTL, size, or explicit
  * invalidate).
  *
  * <p>Uses a raw Caffeine cache internally so it can attach a removal listener with {@code
@@ -39,7 +41,12 @@ class JcasbinLoadedRolesCache implements GravitinoCache<Long, Long> {
 
   private final Cache<Long, Long> cache;
 
-  JcasbinLoadedRolesCache(long ttlMs, long maxSize, Enforcer allowEnforcer, Enforcer denyEnforcer) {
+  JcasbinLoadedRolesCache(
+      long ttlMs,
+      long maxSize,
+      Enforcer allowEnforcer,
+      Enforcer denyEnforcer,
+      @Nullable PrivilegeBitmapIndex privilegeIndex) {
     this.cache =
         Caffeine.newBuilder()
             .expireAfterAccess(ttlMs, TimeUnit.MILLISECONDS)
@@ -50,6 +57,9 @@ class JcasbinLoadedRolesCache implements GravitinoCache<Long, Long> {
                   if (roleId != null && cause != RemovalCause.REPLACED) {
                     allowEnforcer.deleteRole(String.valueOf(roleId));
                     denyEnforcer.deleteRole(String.valueOf(roleId));
+                    if (privilegeIndex != null) {
+                      privilegeIndex.removeRole(roleId);
+                    }
                   }
                 })
             .build();
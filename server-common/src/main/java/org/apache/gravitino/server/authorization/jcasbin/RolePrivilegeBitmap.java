@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import com.google.common.base.Preconditions;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.gravitino.authorization.Privilege;
+
+/**
+ * The compiled policies of one role. For every metadata id the role holds privileges on, it keeps a
+ * bitmap of the allowed privileges and a bitmap of the denied privileges, where bit {@code i}
+ * stands for the privilege whose {@link Privilege.Name} ordinal is {@code i}.
+ *
+ * <p>Instances are immutable; reloading a role replaces the whole instance, so readers never see a
+ * partially loaded role.
+ */
+final class RolePrivilegeBitmap {
+
+  static {
+    Preconditions.checkState(
+        Privilege.Name.values().length <= Long.SIZE,
+        "Privilege bitmaps hold at most %s privileges",
+        Long.SIZE);
+  }
+
+  private final LongBitsMap allowBits;
+  private final LongBitsMap denyBits;
+
+  private RolePrivilegeBitmap(LongBitsMap allowBits, LongBitsMap denyBits) {
+    this.allowBits = allowBits;
+    this.denyBits = denyBits;
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  static long bit(Privilege.Name privilege) {
+    return 1L << privilege.ordinal();
+  }
+
+  /** Returns the bitmap of the privileges the role allows on the metadata object. */
+  long allowBits(long metadataId) {
+    return allowBits.get(metadataId);
+  }
+
+  /** Returns the bitmap of the privileges the role denies on the metadata object. */
+  long denyBits(long metadataId) {
+    return denyBits.get(metadataId);
+  }
+
+  static final class Builder {
+    private final Map<Long, Long> allowBits = new HashMap<>();
+    private final Map<Long, Long> denyBits = new HashMap<>();
+
+    private Builder() {}
+
+    Builder allow(long metadataId, Privilege.Name privilege) {
+      allowBits.merge(metadataId, bit(privilege), (a, b) -> a | b);
+      return this;
+    }
+
+    Builder deny(long metadataId, Privilege.Name privilege) {
+      denyBits.merge(metadataId, bit(privilege), (a, b) -> a | b);
+      return this;
+    }
+
+    RolePrivilegeBitmap build() {
+      return new RolePrivilegeBitmap(new LongBitsMap(allowBits), new LongBitsMap(denyBits));
+    }
+  }
+
+  /**
+   * An immutable open addressing map from a metadata id to a non-zero bitmap, backed by two
+   * primitive arrays so that a lookup neither boxes the key nor chases pointers. A zero value marks
+   * an empty slot, which is why only non-zero bitmaps are stored.
+   */
+  private static final class LongBitsMap {
+    private final long[] keys;
+    private final long[] values;
+    private final int mask;
+
+    private LongBitsMap(Map<Long, Long> bitsById) {
+      // Keep the load factor at or below 0.5 so that probe sequences stay short.
+      int capacity = Integer.highestOneBit(Math.max(bitsById.size(), 1) * 4 - 1);
+      this.keys = new long[capacity];
+      this.values = new long[capacity];
+      this.mask = capacity - 1;
+      for (Map.Entry<Long, Long> entry : bitsById.entrySet()) {
+        if (entry.getValue() == 0L) {
+          continue;
+        }
+        int slot = slot(entry.getKey());
+        while (values[slot] != 0L) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = entry.getKey();
+        values[slot] = entry.getValue();
+      }
+    }
+
+    private long get(long key) {
+      int slot = slot(key);
+      while (values[slot] != 0L) {
+        if (keys[slot] == key) {
+          return values[slot];
+        }
+        slot = (slot + 1) & mask;
+      }
+      return 0L;
+    }
+
+    private int slot(long key) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+  }
+}
@@ -210,10 +210,15 @@ public class Utils {
   }
 
   public static Map<String, String> filterFilesetAuditHeaders(HttpServletRequest httpRequest) {
+    return filterFilesetAuditContext(
+        httpRequest.getHeader(FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE),
+        httpRequest.getHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION));
+  }
+
+  public static Map<String, String> filterFilesetAuditContext(
+      String internalClientType, String dataOperation) {
     Map<String, String> filteredHeaders = Maps.newHashMap();
 
-    String internalClientType =
-        httpRequest.getHeader(FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE);
     if (StringUtils.isNotBlank(internalClientType)) {
       filteredHeaders.put(
           FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
@@ -222,8 +227,6 @@ public class Utils {
               : InternalClientType.UNKNOWN.name());
     }
 
-    String dataOperation =
-        httpRequest.getHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION);
     if (StringUtils.isNotBlank(dataOperation)) {
       filteredHeaders.put(
           FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
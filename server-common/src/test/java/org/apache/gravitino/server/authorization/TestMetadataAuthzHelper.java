@@ -23,8 +23,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
-import java.lang.reflect.Field;
-import java.util.concurrent.Executor;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -32,6 +33,8 @@ import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.authorization.AuthorizationRequestContext;
+import org.apache.gravitino.authorization.Privilege;
 import org.apache.gravitino.dto.tag.MetadataObjectDTO;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
@@ -65,7 +68,6 @@ public class TestMetadataAuthzHelper {
 
   @Test
   public void testFilterByExpression() {
-    makeCompletableFutureUseCurrentThread();
     try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
         MockedStatic<GravitinoAuthorizerProvider> mockStatic =
             mockStatic(GravitinoAuthorizerProvider.class)) {
@@ -100,9 +102,102 @@ public class TestMetadataAuthzHelper {
     }
   }
 
+  @Test
+  public void testFilterByExpressionAuthorizesInBatches() {
+    try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
+        MockedStatic<GravitinoAuthorizerProvider> mockStatic =
+            mockStatic(GravitinoAuthorizerProvider.class)) {
+      principalUtilsMocked
+          .when(PrincipalUtils::getCurrentPrincipal)
+          .thenReturn(new UserPrincipal("tester"));
+      principalUtilsMocked.when(() -> PrincipalUtils.doAs(any(), any())).thenCallRealMethod();
+
+      BatchCountingAuthorizer authorizer = new BatchCountingAuthorizer();
+      GravitinoAuthorizerProvider mockedProvider = mock(GravitinoAuthorizerProvider.class);
+      mockStatic.when(GravitinoAuthorizerProvider::getInstance).thenReturn(mockedProvider);
+      when(mockedProvider.getGravitinoAuthorizer()).thenReturn(authorizer);
+      NameIdentifier[] nameIdentifiers = new NameIdentifier[4];
+      nameIdentifiers[0] = NameIdentifierUtil.ofSchema("testMetalake", "testCatalog", "testSchema");
+      nameIdentifiers[1] =
+          NameIdentifierUtil.ofSchema("testMetalake", "testCatalog", "testSchema2");
+      nameIdentifiers[2] =
+          NameIdentifierUtil.ofSchema("testMetalake", "testCatalog2", "testSchema");
+      nameIdentifiers[3] =
+          NameIdentifierUtil.ofSchema("testMetalake", "testCatalog", "testSchema3");
+      NameIdentifier[] filtered =
+          MetadataAuthzHelper.filterByExpression(
+              "testMetalake",
+              "CATALOG::USE_CATALOG && SCHEMA::USE_SCHEMA",
+              Entity.EntityType.SCHEMA,
+              nameIdentifiers);
+      Assertions.assertEquals(1, filtered.length);
+      Assertions.assertEquals("testMetalake.testCatalog.testSchema", filtered[0].toString());
+
+      // One batch per privilege check: the two distinct catalogs, then the four schemas.
+      Assertions.assertEquals(2, authorizer.batchSizes.size());
+      Assertions.assertEquals(2, authorizer.batchSizes.get(0));
+      Assertions.assertEquals(4, authorizer.batchSizes.get(1));
+    }
+  }
+
+  @Test
+  public void testFilterByExpressionWithFailingCheckInBatch() {
+    try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
+        MockedStatic<GravitinoAuthorizerProvider> mockStatic =
+            mockStatic(GravitinoAuthorizerProvider.class)) {
+      principalUtilsMocked
+          .when(PrincipalUtils::getCurrentPrincipal)
+          .thenReturn(new UserPrincipal("tester"));
+      principalUtilsMocked.when(() -> PrincipalUtils.doAs(any(), any())).thenCallRealMethod();
+
+      // The check of the second schema throws in the middle of the batch.
+      BatchCountingAuthorizer authorizer = new FailingAuthorizer(false);
+      GravitinoAuthorizerProvider mockedProvider = mock(GravitinoAuthorizerProvider.class);
+      mockStatic.when(GravitinoAuthorizerProvider::getInstance).thenReturn(mockedProvider);
+      when(mockedProvider.getGravitinoAuthorizer()).thenReturn(authorizer);
+      NameIdentifier[] filtered =
+          MetadataAuthzHelper.filterByExpression(
+              "testMetalake",
+              "CATALOG::USE_CATALOG && SCHEMA::USE_SCHEMA",
+              Entity.EntityType.SCHEMA,
+              schemasWithFailingCheck());
+      Assertions.assertEquals(1, filtered.length);
+      Assertions.assertEquals("testMetalake.testCatalog.testSchema", filtered[0].toString());
+
+      // Only the failing schema is denied, and the batch isn't checked again.
+      Assertions.assertEquals(List.of(2, 4), authorizer.batchSizes);
+    }
+  }
+
+  @Test
+  public void testFilterByExpressionFallsBackWhenBatchFails() {
+    try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
+        MockedStatic<GravitinoAuthorizerProvider> mockStatic =
+            mockStatic(GravitinoAuthorizerProvider.class)) {
+      principalUtilsMocked
+          .when(PrincipalUtils::getCurrentPrincipal)
+          .thenReturn(new UserPrincipal("tester"));
+      principalUtilsMocked.when(() -> PrincipalUtils.doAs(any(), any())).thenCallRealMethod();
+
+      // The batch check of the schemas throws, so they are checked one by one.
+      BatchCountingAuthorizer authorizer = new FailingAuthorizer(true);
+      GravitinoAuthorizerProvider mockedProvider = mock(GravitinoAuthorizerProvider.class);
+      mockStatic.when(GravitinoAuthorizerProvider::getInstance).thenReturn(mockedProvider);
+      when(mockedProvider.getGravitinoAuthorizer()).thenReturn(authorizer);
+      NameIdentifier[] filtered =
+          MetadataAuthzHelper.filterByExpression(
+              "testMetalake",
+              "CATALOG::USE_CATALOG && SCHEMA::USE_SCHEMA",
+              Entity.EntityType.SCHEMA,
+              schemasWithFailingCheck());
+      Assertions.assertEquals(1, filtered.length);
+      Assertions.assertEquals("testMetalake.testCatalog.testSchema", filtered[0].toString());
+      Assertions.assertEquals(List.of(2, 4), authorizer.batchSizes);
+    }
+  }
+
   @Test
   public void testFilterMetadataObject() {
-    makeCompletableFutureUseCurrentThread();
     try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
         MockedStatic<GravitinoAuthorizerProvider> mockStatic =
             mockStatic(GravitinoAuthorizerProvider.class)) {
@@ -147,7 +242,6 @@ public class TestMetadataAuthzHelper {
 
   @Test
   public void testFilterMetadataObjectDTO() {
-    makeCompletableFutureUseCurrentThread();
     try (MockedStatic<PrincipalUtils> principalUtilsMocked = mockStatic(PrincipalUtils.class);
         MockedStatic<GravitinoAuthorizerProvider> mockStatic =
             mockStatic(GravitinoAuthorizerProvider.class)) {
@@ -190,15 +284,64 @@ public class TestMetadataAuthzHelper {
     }
   }
 
-  private static void makeCompletableFutureUseCurrentThread() {
-    try {
-      Executor currentThread = Runnable::run;
-      Class<MetadataAuthzHelper> jcasbinAuthorizerClass = MetadataAuthzHelper.class;
-      Field field = jcasbinAuthorizerClass.getDeclaredField("executor");
-      field.setAccessible(true);
-      field.set(null, currentThread);
-    } catch (Exception e) {
-      throw new RuntimeException(e);
+  private static class BatchCountingAuthorizer extends MockGravitinoAuthorizer {
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @Override
+    public boolean[] authorizeBatch(
+        Principal principal,
+        String metalake,
+        List<MetadataObject> metadataObjects,
+        Privilege.Name privilege,
+        AuthorizationRequestContext requestContext) {
+      batchSizes.add(metadataObjects.size());
+      return super.authorizeBatch(principal, metalake, metadataObjects, privilege, requestContext);
+    }
+  }
+
+  private static NameIdentifier[] schemasWithFailingCheck() {
+    return new NameIdentifier[] {
+      NameIdentifierUtil.ofSchema("testMetalake", "testCatalog", "testSchema"),
+      NameIdentifierUtil.ofSchema("testMetalake", "testCatalog", "failingSchema"),
+      NameIdentifierUtil.ofSchema("testMetalake", "testCatalog2", "testSchema"),
+      NameIdentifierUtil.ofSchema("testMetalake", "testCatalog", "testSchema3")
+    };
+  }
+
+  /** Throws on the check of {@code failingSchema}, or on every batch check of schemas. */
+  private static class FailingAuthorizer extends BatchCountingAuthorizer {
+    private final boolean failSchemaBatches;
+
+    private FailingAuthorizer(boolean failSchemaBatches) {
+      this.failSchemaBatches = failSchemaBatches;
+    }
+
+    @Override
+    public boolean authorize(
+        Principal principal,
+        String metalake,
+        MetadataObject metadataObject,
+        Privilege.Name privilege,
+        AuthorizationRequestContext requestContext) {
+      if (!failSchemaBatches && "failingSchema".equals(metadataObject.name())) {
+        throw new IllegalStateException("Failed to check " + metadataObject.name());
+      }
+      return super.authorize(principal, metalake, metadataObject, privilege, requestContext);
+    }
+
+    @Override
+    public boolean[] authorizeBatch(
+        Principal principal,
+        String metalake,
+        List<MetadataObject> metadataObjects,
+        Privilege.Name privilege,
+        AuthorizationRequestContext requestContext) {
+      boolean[] results =
+          super.authorizeBatch(principal, metalake, metadataObjects, privilege, requestContext);
+      if (failSchemaBatches && metadataObjects.get(0).type() == MetadataObject.Type.SCHEMA) {
+        throw new IllegalStateException("Failed to check a batch of schemas");
+      }
+      return results;
     }
   }
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.expression;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import ognl.Ognl;
+import ognl.OgnlContext;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.authorization.AuthorizationRequestContext;
+import org.apache.gravitino.metrics.source.AuthorizationMetricsSource;
+import org.apache.gravitino.server.authorization.MockGravitinoAuthorizer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test for {@link AuthorizationExpressionCompiler} */
+public class TestAuthorizationExpressionCompiler {
+
+  @Test
+  public void testCompileIsCached() {
+    String expression = "METALAKE::OWNER || CATALOG::USE_CATALOG";
+    CompiledAuthorizationExpression compiled = AuthorizationExpressionCompiler.compile(expression);
+    Assertions.assertSame(compiled, AuthorizationExpressionCompiler.compile(expression));
+    Assertions.assertEquals(expression, compiled.expression());
+    Assertions.assertTrue(compiled.isTyped());
+  }
+
+  @Test
+  public void testBuiltInExpressionsAreTyped() throws IllegalAccessException {
+    for (Field field : AuthorizationExpressionConstants.class.getFields()) {
+      if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+        continue;
+      }
+      String expression = (String) field.get(null);
+      Assertions.assertTrue(
+          AuthorizationExpressionCompiler.compile(expression).isTyped(), field.getName());
+    }
+  }
+
+  @Test
+  public void testUnsupportedExpressionFallsBackToOgnl() {
+    CompiledAuthorizationExpression compiled = AuthorizationExpressionCompiler.compile("1 == 1");
+    Assertions.assertFalse(compiled.isTyped());
+    Assertions.assertTrue(compiled.evaluate(new HashMap<>()));
+  }
+
+  @Test
+  public void testTypedEvaluationMatchesOgnl() throws Exception {
+    String[] expressions = {
+      AuthorizationExpressionConstants.LOAD_TABLE_AUTHORIZATION_EXPRESSION,
+      AuthorizationExpressionConstants.FILTER_TABLE_AUTHORIZATION_EXPRESSION,
+      AuthorizationExpressionConstants.CAN_ACCESS_METADATA,
+      "METALAKE::OWNER || (CATALOG::USE_CATALOG && !SCHEMA::USE_SCHEMA)"
+    };
+    for (String expression : expressions) {
+      CompiledAuthorizationExpression compiled =
+          AuthorizationExpressionCompiler.compile(expression);
+      Assertions.assertTrue(compiled.isTyped(), expression);
+      Object ognlTree =
+          Ognl.parseExpression(
+              AuthorizationExpressionConverter.convertToOgnlExpression(expression));
+      for (String metalake : new String[] {"testMetalake", "metalakeWithOwner"}) {
+        for (String schema : new String[] {"testSchema", "otherSchema"}) {
+          for (String table : new String[] {"testTable", "otherTable"}) {
+            Map<String, Object> variables = createVariables(metalake, schema, table);
+            OgnlContext ognlContext = Ognl.createDefaultContext(null);
+            ognlContext.putAll(variables);
+            Assertions.assertEquals(
+                Ognl.getValue(ognlTree, ognlContext),
+                compiled.evaluate(variables),
+                expression + " on " + variables);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testEvaluationIsTimed() {
+    CompiledAuthorizationExpression compiled =
+        AuthorizationExpressionCompiler.compile("CATALOG::USE_CATALOG");
+    AuthorizationMetricsSource metricsSource = new AuthorizationMetricsSource();
+    AuthorizationExpressionCompiler.setMetricsSource(metricsSource);
+    try {
+      Assertions.assertTrue(
+          compiled.evaluate(createVariables("testMetalake", "testSchema", "testTable")));
+      Assertions.assertEquals(1, metricsSource.expressionEvaluationTimer(compiled.id()).getCount());
+    } finally {
+      AuthorizationExpressionCompiler.setMetricsSource(null);
+    }
+  }
+
+  private static Map<String, Object> createVariables(String metalake, String schema, String table) {
+    Map<String, Object> variables = new HashMap<>();
+    variables.put("principal", new UserPrincipal("tester"));
+    variables.put("authorizer", new MockGravitinoAuthorizer());
+    variables.put("authorizationContext", new AuthorizationRequestContext());
+    variables.put("entityType", "TABLE");
+    variables.put("METALAKE_NAME", metalake);
+    variables.put("METALAKE", MetadataObjects.of(null, metalake, MetadataObject.Type.METALAKE));
+    variables.put("CATALOG", MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG));
+    variables.put("SCHEMA", MetadataObjects.of("testCatalog", schema, MetadataObject.Type.SCHEMA));
+    variables.put(
+        "TABLE", MetadataObjects.of("testCatalog." + schema, table, MetadataObject.Type.TABLE));
+    return variables;
+  }
+}
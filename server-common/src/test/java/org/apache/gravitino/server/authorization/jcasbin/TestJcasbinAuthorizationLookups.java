@@ -19,13 +19,17 @@
 package org.apache.gravitino.server.authorization.jcasbin;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import org.apache.gravitino.MetadataObject;
@@ -33,6 +37,7 @@ import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.authorization.AuthorizationRequestContext;
 import org.apache.gravitino.cache.CaffeineGravitinoCache;
 import org.apache.gravitino.cache.GravitinoCache;
+import org.apache.gravitino.server.authorization.MetadataIdConverter;
 import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
 import org.apache.gravitino.storage.relational.po.auth.OwnerInfo;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -63,6 +68,46 @@ public class TestJcasbinAuthorizationLookups {
     Assertions.assertEquals(0, metadataIdCache.putCount);
   }
 
+  @Test
+  void testPreloadMetadataIdsResolvesMissesInOneBatch() {
+    MetadataObject table1 =
+        MetadataObjects.of(Arrays.asList("cat1", "sch1", "tbl1"), MetadataObject.Type.TABLE);
+    MetadataObject table2 =
+        MetadataObjects.of(Arrays.asList("cat1", "sch1", "tbl2"), MetadataObject.Type.TABLE);
+    MetadataObject missing =
+        MetadataObjects.of(Arrays.asList("cat1", "sch1", "tbl3"), MetadataObject.Type.TABLE);
+    CountingCache<Long, Optional<OwnerInfo>> ownerRelCache = new CountingCache<>();
+    AuthorizationRequestContext requestContext = new AuthorizationRequestContext();
+
+    try (CaffeineGravitinoCache<String, Long> metadataIdCache =
+            new CaffeineGravitinoCache<>(60_000L, 100L);
+        MockedStatic<MetadataIdConverter> converter = mockStatic(MetadataIdConverter.class)) {
+      metadataIdCache.put(JcasbinAuthorizationCacheKeys.metadataIdCacheKey("ml1", table1), 100L);
+      converter
+          .when(() -> MetadataIdConverter.getIDs(anyList(), eq("ml1")))
+          .thenReturn(ImmutableMap.of(table2, 200L));
+      converter.when(() -> MetadataIdConverter.getID(missing, "ml1")).thenReturn(Optional.empty());
+      JcasbinAuthorizationLookups lookups =
+          new JcasbinAuthorizationLookups(metadataIdCache, ownerRelCache);
+
+      lookups.preloadMetadataIds(Arrays.asList(table1, table2, missing), "ml1", requestContext);
+
+      // Only the shared cache misses are resolved, with a single batched lookup.
+      converter.verify(
+          () -> MetadataIdConverter.getIDs(eq(List.of(table2, missing)), eq("ml1")), times(1));
+      Assertions.assertEquals(
+          Optional.of(100L), lookups.resolveMetadataId(table1, "ml1", requestContext));
+      Assertions.assertEquals(
+          Optional.of(200L), lookups.resolveMetadataId(table2, "ml1", requestContext));
+      Assertions.assertEquals(
+          Optional.of(200L),
+          metadataIdCache.getIfPresent(
+              JcasbinAuthorizationCacheKeys.metadataIdCacheKey("ml1", table2)));
+      Assertions.assertFalse(lookups.resolveMetadataId(missing, "ml1", requestContext).isPresent());
+      converter.verify(() -> MetadataIdConverter.getID(any(), any()), times(1));
+    }
+  }
+
   @Test
   void testResolveOwnerIdCachesPositiveOwnerInSharedCache() {
     CountingCache<String, Long> metadataIdCache = new CountingCache<>(100L);
@@ -51,6 +51,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
@@ -1228,6 +1229,125 @@ public class TestJcasbinAuthorizer {
     getLoadedRolesCache(jcasbinAuthorizer).invalidateAll();
   }
 
+  @Test
+  public void testAuthorizeWithBitmapEngine() throws Exception {
+    ServerConfig config = new ServerConfig();
+    config.set(Configs.GRAVITINO_AUTHORIZATION_PRIVILEGE_ENGINE, Configs.BITMAP_PRIVILEGE_ENGINE);
+    when(gravitinoEnv.config()).thenReturn(config);
+    jcasbinAuthorizer.close();
+    jcasbinAuthorizer = new JcasbinAuthorizer();
+    try {
+      jcasbinAuthorizer.initialize();
+    } finally {
+      when(gravitinoEnv.config()).thenReturn(new ServerConfig());
+    }
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    MetadataObject catalog = MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG);
+    assertFalse(doAuthorize(currentPrincipal));
+
+    RoleEntity allowRole =
+        mockRoleInStore(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    mockDirectUserRoles(allowRole);
+    assertTrue(doAuthorize(currentPrincipal));
+    // The bitmap engine compiles the role instead of adding policies to the enforcers
+    assertTrue(
+        getAllowEnforcer(jcasbinAuthorizer)
+            .getFilteredPolicy(0, String.valueOf(ALLOW_ROLE_ID))
+            .isEmpty());
+
+    RoleEntity denyRole =
+        mockRoleInStore(DENY_ROLE_ID, "denyRole", ImmutableList.of(getDenySecurableObject()));
+    mockDirectUserRoles(allowRole, denyRole);
+    assertFalse(doAuthorize(currentPrincipal));
+    assertTrue(
+        jcasbinAuthorizer.deny(
+            currentPrincipal, METALAKE, catalog, USE_CATALOG, new AuthorizationRequestContext()));
+
+    // Unassigning the deny role unbinds it from the user
+    mockDirectUserRoles(allowRole);
+    assertTrue(doAuthorize(currentPrincipal));
+    assertFalse(
+        jcasbinAuthorizer.deny(
+            currentPrincipal, METALAKE, catalog, USE_CATALOG, new AuthorizationRequestContext()));
+
+    // Evicting the role drops its compiled privileges, the next request loads them again
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
+    assertFalse(getPrivilegeIndex(jcasbinAuthorizer).containsRole(ALLOW_ROLE_ID));
+    assertTrue(doAuthorize(currentPrincipal));
+    assertTrue(getPrivilegeIndex(jcasbinAuthorizer).containsRole(ALLOW_ROLE_ID));
+  }
+
+  @Test
+  public void testAuthorizeWithDecisionCache() throws Exception {
+    ServerConfig config = new ServerConfig();
+    config.set(Configs.GRAVITINO_AUTHORIZATION_DECISION_CACHE_SIZE, 1000L);
+    reinitializeAuthorizer(config);
+    JcasbinDecisionCache decisionCache = getDecisionCache(jcasbinAuthorizer);
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+
+    // Negative decisions are cached as well
+    assertFalse(doAuthorize(currentPrincipal));
+    Assertions.assertEquals(1, decisionCache.size());
+
+    // Granting a role changes the role version vector, so the cached denial is not reused
+    RoleEntity allowRole =
+        mockRoleInStore(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    mockDirectUserRoles(allowRole);
+    assertTrue(doAuthorize(currentPrincipal));
+    Assertions.assertEquals(2, decisionCache.size());
+
+    // A repeated check is answered from the cache without consulting the policies
+    getAllowEnforcer(jcasbinAuthorizer).removeFilteredPolicy(0, String.valueOf(ALLOW_ROLE_ID));
+    assertTrue(doAuthorize(currentPrincipal));
+    Assertions.assertEquals(2, decisionCache.size());
+
+    // A role change drops the decisions and the next request loads the policies again
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
+    Assertions.assertEquals(0, decisionCache.size());
+    assertTrue(doAuthorize(currentPrincipal));
+  }
+
+  @Test
+  public void testNonStrictDecisionCacheSkipsBackend() throws Exception {
+    ServerConfig config = new ServerConfig();
+    config.set(Configs.GRAVITINO_AUTHORIZATION_DECISION_CACHE_SIZE, 1000L);
+    config.set(Configs.GRAVITINO_AUTHORIZATION_DECISION_CACHE_STRICT, false);
+    reinitializeAuthorizer(config);
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+
+    RoleEntity allowRole =
+        mockRoleInStore(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    mockDirectUserRoles(allowRole);
+    assertTrue(doAuthorize(currentPrincipal));
+
+    try {
+      // The user is dropped on another server, the cached decision is served without a probe
+      when(userMetaMapper.getUserUpdatedAt(eq(METALAKE), eq(USERNAME))).thenReturn(null);
+      Mockito.clearInvocations(userMetaMapper);
+      assertTrue(doAuthorize(currentPrincipal));
+      verify(userMetaMapper, Mockito.never()).getUserUpdatedAt(anyString(), anyString());
+      verify(userMetaMapper, Mockito.never())
+          .batchGetAuthSubjectsForUser(anyString(), anyString(), anyList());
+
+      // Once a change is observed, the decision is made against the backend again
+      jcasbinAuthorizer.handleUserRoleRelChange(METALAKE, USERNAME);
+      assertFalse(doAuthorize(currentPrincipal));
+    } finally {
+      mockDirectUserRoles();
+    }
+  }
+
+  private void reinitializeAuthorizer(ServerConfig config) throws IOException {
+    when(gravitinoEnv.config()).thenReturn(config);
+    jcasbinAuthorizer.close();
+    jcasbinAuthorizer = new JcasbinAuthorizer();
+    try {
+      jcasbinAuthorizer.initialize();
+    } finally {
+      when(gravitinoEnv.config()).thenReturn(new ServerConfig());
+    }
+  }
+
   /**
    * Sets the current principal mock to a {@link UserPrincipal} with the given group, or with no
    * groups when {@code groupName} is null. Returns the principal for use in assertions.
@@ -1795,6 +1915,20 @@ public class TestJcasbinAuthorizer {
     return (Enforcer) field.get(authorizer);
   }
 
+  private static JcasbinDecisionCache getDecisionCache(JcasbinAuthorizer authorizer)
+      throws Exception {
+    Field field = JcasbinAuthorizer.class.getDeclaredField("decisionCache");
+    field.setAccessible(true);
+    return (JcasbinDecisionCache) field.get(authorizer);
+  }
+
+  private static PrivilegeBitmapIndex getPrivilegeIndex(JcasbinAuthorizer authorizer)
+      throws Exception {
+    Field field = JcasbinAuthorizer.class.getDeclaredField("privilegeIndex");
+    field.setAccessible(true);
+    return (PrivilegeBitmapIndex) field.get(authorizer);
+  }
+
   private static Enforcer getDenyEnforcer(JcasbinAuthorizer authorizer) throws Exception {
     Field field = JcasbinAuthorizer.class.getDeclaredField("denyEnforcer");
     field.setAccessible(true);
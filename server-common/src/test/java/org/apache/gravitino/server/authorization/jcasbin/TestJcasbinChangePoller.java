@@ -102,6 +102,24 @@ public class TestJcasbinChangePoller {
     Assertions.assertEquals(List.of(), metadataIdCache.invalidatedKeys);
   }
 
+  @Test
+  void testEntityChangesDropCachedDecisions() {
+    RecordingCache<String, Long> metadataIdCache = new RecordingCache<>();
+    RecordingCache<Long, Optional<OwnerInfo>> ownerRelCache = new RecordingCache<>();
+    JcasbinDecisionCache decisionCache =
+        new JcasbinDecisionCache(60_000L, 60_000L, 100L, true, null);
+    decisionCache.get(1L, 2L, "USE_CATALOG", false, new long[0], () -> true);
+    Assertions.assertEquals(1, decisionCache.size());
+
+    JcasbinChangeListener poller =
+        new JcasbinChangeListener(metadataIdCache, ownerRelCache, 1, decisionCache);
+    poller.onEntityChange(List.of());
+    Assertions.assertEquals(1, decisionCache.size());
+
+    poller.onEntityChange(List.of(change(1L, MetadataObject.Type.TABLE, "ml1.cat1.sch1.tbl1")));
+    Assertions.assertEquals(0, decisionCache.size());
+  }
+
   @Test
   void testPollCursorAdvancementIsSynchronized() throws NoSuchMethodException {
     Method pollOwnerChanges = JcasbinChangeListener.class.getDeclaredMethod("pollOwnerChanges");
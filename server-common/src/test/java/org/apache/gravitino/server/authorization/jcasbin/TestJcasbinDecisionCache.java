@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class TestJcasbinDecisionCache {
+
+  @Test
+  public void testUnvalidatedLookupStopsAfterSubjectTtl() throws InterruptedException {
+    JcasbinDecisionCache cache = new JcasbinDecisionCache(60_000L, 200L, 100L, false, null);
+    String subjectKey =
+        JcasbinDecisionCache.subjectKey("metalake", "user", Collections.emptyList());
+    long[] vector = cache.recordSubject(subjectKey, 1L, new long[] {10L, 100L});
+    assertTrue(cache.get(1L, 2L, "SELECT_TABLE", false, vector, () -> true));
+
+    // The decision is served without validating the role versions while the subject is fresh
+    assertEquals(
+        Optional.of(true),
+        cache.lookupUnvalidated(subjectKey, () -> Optional.of(2L), "SELECT_TABLE", false));
+
+    // Once the subject expires, the role versions have to be validated again, even though the
+    // decision itself is still cached
+    Thread.sleep(300);
+    assertFalse(
+        cache
+            .lookupUnvalidated(subjectKey, () -> Optional.of(2L), "SELECT_TABLE", false)
+            .isPresent());
+    assertEquals(1, cache.size());
+
+    // A role change made on another server moves the vector, so the old decision is missed
+    long[] changedVector = cache.recordSubject(subjectKey, 1L, new long[] {10L, 101L});
+    assertFalse(cache.get(1L, 2L, "SELECT_TABLE", false, changedVector, () -> false));
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authorization.jcasbin;
+
+import static org.apache.gravitino.authorization.Privilege.Name.SELECT_TABLE;
+import static org.apache.gravitino.authorization.Privilege.Name.USE_CATALOG;
+import static org.apache.gravitino.authorization.Privilege.Name.USE_SCHEMA;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link PrivilegeBitmapIndex} and {@link RolePrivilegeBitmap}. */
+public class TestPrivilegeBitmapIndex {
+
+  private static final long USER_ID = 1L;
+
+  @Test
+  void testRolePrivilegeBitmapLookup() {
+    RolePrivilegeBitmap.Builder builder = RolePrivilegeBitmap.builder();
+    // Enough metadata ids to exercise collisions of the open addressing map
+    for (long id = 1; id <= 1000; id++) {
+      builder.allow(id * 31, USE_CATALOG);
+    }
+    builder.allow(31L, USE_SCHEMA).deny(62L, SELECT_TABLE);
+    RolePrivilegeBitmap role = builder.build();
+
+    for (long id = 1; id < 1000; id++) {
+      Assertions.assertEquals(RolePrivilegeBitmap.bit(USE_CATALOG), role.allowBits(id * 31 + 31));
+    }
+    Assertions.assertEquals(
+        RolePrivilegeBitmap.bit(USE_CATALOG) | RolePrivilegeBitmap.bit(USE_SCHEMA),
+        role.allowBits(31L));
+    Assertions.assertEquals(RolePrivilegeBitmap.bit(SELECT_TABLE), role.denyBits(62L));
+    Assertions.assertEquals(0L, role.allowBits(32L));
+    Assertions.assertEquals(0L, role.denyBits(31L));
+    Assertions.assertEquals(0L, RolePrivilegeBitmap.builder().build().allowBits(31L));
+  }
+
+  @Test
+  void testAllowsUnionOfBoundRoles() {
+    PrivilegeBitmapIndex index = new PrivilegeBitmapIndex();
+    index.putRole(10L, RolePrivilegeBitmap.builder().allow(100L, USE_CATALOG).build());
+    index.putRole(11L, RolePrivilegeBitmap.builder().allow(200L, USE_SCHEMA).build());
+
+    Assertions.assertFalse(index.allows(USER_ID, 100L, USE_CATALOG));
+
+    index.bindUserRole(USER_ID, 10L);
+    index.bindUserRole(USER_ID, 11L);
+    Assertions.assertTrue(index.allows(USER_ID, 100L, USE_CATALOG));
+    Assertions.assertTrue(index.allows(USER_ID, 200L, USE_SCHEMA));
+    Assertions.assertFalse(index.allows(USER_ID, 100L, USE_SCHEMA));
+    Assertions.assertFalse(index.allows(2L, 100L, USE_CATALOG));
+    Assertions.assertEquals(Set.of(10L, 11L), new HashSet<>(index.rolesForUser(USER_ID)));
+
+    // Reloading a role replaces its bitmap in place
+    index.putRole(11L, RolePrivilegeBitmap.builder().allow(300L, USE_SCHEMA).build());
+    Assertions.assertFalse(index.allows(USER_ID, 200L, USE_SCHEMA));
+    Assertions.assertTrue(index.allows(USER_ID, 300L, USE_SCHEMA));
+
+    index.unbindUserRole(USER_ID, 11L);
+    Assertions.assertFalse(index.allows(USER_ID, 200L, USE_SCHEMA));
+
+    // A removed role grants nothing even if it is still bound to the user
+    index.removeRole(10L);
+    Assertions.assertFalse(index.containsRole(10L));
+    Assertions.assertFalse(index.allows(USER_ID, 100L, USE_CATALOG));
+  }
+
+  @Test
+  void testDenyOfAnyRoleWins() {
+    PrivilegeBitmapIndex index = new PrivilegeBitmapIndex();
+    index.putRole(10L, RolePrivilegeBitmap.builder().allow(100L, USE_CATALOG).build());
+    index.putRole(
+        11L,
+        RolePrivilegeBitmap.builder().allow(100L, USE_SCHEMA).deny(100L, USE_CATALOG).build());
+    index.bindUserRole(USER_ID, 10L);
+    Assertions.assertTrue(index.allows(USER_ID, 100L, USE_CATALOG));
+    Assertions.assertFalse(index.denies(USER_ID, 100L, USE_CATALOG));
+
+    index.bindUserRole(USER_ID, 11L);
+    Assertions.assertFalse(index.allows(USER_ID, 100L, USE_CATALOG));
+    Assertions.assertTrue(index.allows(USER_ID, 100L, USE_SCHEMA));
+    Assertions.assertTrue(index.denies(USER_ID, 100L, USE_CATALOG));
+    Assertions.assertFalse(index.denies(USER_ID, 100L, USE_SCHEMA));
+
+    index.clear();
+    Assertions.assertFalse(index.denies(USER_ID, 100L, USE_CATALOG));
+  }
+}
@@ -49,6 +49,7 @@ import org.apache.gravitino.listener.api.event.server.AuthorizationDenialFailure
 import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
 import org.apache.gravitino.server.authorization.annotations.AuthorizationRequest;
 import org.apache.gravitino.server.authorization.annotations.ExpressionCondition;
+import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionCompiler;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.server.web.filter.authorization.AuthorizationExecutor;
 import org.apache.gravitino.server.web.filter.authorization.AuthorizeExecutorFactory;
@@ -87,6 +88,8 @@ import org.slf4j.LoggerFactory;
  */
 public class GravitinoInterceptionService implements InterceptionService {
 
+  private static final Logger LOG = LoggerFactory.getLogger(GravitinoInterceptionService.class);
+
   @Override
   public Filter getDescriptorFilter() {
     return new ClassListFilter(
@@ -116,9 +119,39 @@ public class GravitinoInterceptionService implements InterceptionService {
 
   @Override
   public List<MethodInterceptor> getMethodInterceptors(Method method) {
+    precompileExpressions(method);
     return ImmutableList.of(new MetadataAuthorizationMethodInterceptor());
   }
 
+  /**
+   * The expressions on the REST methods are static, so compile them once while the interceptors
+   * are built instead of on the first request that hits each endpoint.
+   */
+  private static void precompileExpressions(Method method) {
+    AuthorizationExpression expressionAnnotation =
+        method.getAnnotation(AuthorizationExpression.class);
+    if (expressionAnnotation == null) {
+      return;
+    }
+    for (String expression :
+        ImmutableList.of(
+            expressionAnnotation.expression(),
+            expressionAnnotation.secondaryExpression(),
+            expressionAnnotation.allowCheckExistence())) {
+      if (StringUtils.isNotBlank(expression)) {
+        try {
+          AuthorizationExpressionCompiler.compile(expression);
+        } catch (Exception e) {
+          LOG.warn(
+              "Failed to compile authorization expression of {}.{}",
+              method.getDeclaringClass().getSimpleName(),
+              method.getName(),
+              e);
+        }
+      }
+    }
+  }
+
   @Override
   public List<ConstructorInterceptor> getConstructorInterceptors(Constructor<?> constructor) {
     return Collections.emptyList();
@@ -46,10 +46,14 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
+import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.catalog.FilesetDispatcher;
+import org.apache.gravitino.dto.requests.FileLocationAccessRequest;
+import org.apache.gravitino.dto.requests.FileLocationAccessesRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileInfoListResponse;
@@ -406,4 +410,74 @@ public class FilesetOperations {
       CallerContext.CallerContextHolder.remove();
     }
   }
+
+  @POST
+  @Path("{fileset}/location/accesses")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(
+      name = "report-file-location-accesses." + MetricNames.HTTP_PROCESS_DURATION,
+      absolute = true)
+  @ResponseMetered(name = "report-file-location-accesses", absolute = true)
+  @AuthorizationExpression(
+      expression = AuthorizationExpressionConstants.LOAD_FILESET_AUTHORIZATION_EXPRESSION,
+      accessMetadataType = MetadataObject.Type.FILESET)
+  public Response reportFileLocationAccesses(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @PathParam("fileset") @AuthorizationMetadata(type = Entity.EntityType.FILESET) String fileset,
+      FileLocationAccessesRequest request) {
+    LOG.debug(
+        "Received report file location accesses request: {}.{}.{}.{}",
+        metalake,
+        catalog,
+        schema,
+        fileset);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
+            // Replay every access through the dispatcher, so that each of them produces the same
+            // audit event as a get file location request. A failed access is already recorded by
+            // its failure event, it should not prevent the rest of the batch from being audited.
+            int failures = 0;
+            for (FileLocationAccessRequest access : request.getAccesses()) {
+              try {
+                Map<String, String> auditContext =
+                    Utils.filterFilesetAuditContext(
+                        access.getClientType(), access.getDataOperation());
+                // Audit the access at the time the client made it rather than when it was
+                // reported.
+                if (access.getAccessTime() != null) {
+                  auditContext.put(
+                      FilesetAuditConstants.ACCESS_TIME, String.valueOf(access.getAccessTime()));
+                }
+                if (!auditContext.isEmpty()) {
+                  CallerContext.CallerContextHolder.set(
+                      CallerContext.builder().withContext(auditContext).build());
+                }
+                dispatcher.getFileLocation(ident, access.getSubPath(), access.getLocationName());
+              } catch (Exception e) {
+                failures++;
+                LOG.debug("Failed to replay file location access {} of {}", access, ident, e);
+              } finally {
+                CallerContext.CallerContextHolder.remove();
+              }
+            }
+            if (failures > 0) {
+              LOG.warn(
+                  "{} of {} reported file location accesses of fileset {} failed",
+                  failures,
+                  request.getAccesses().size(),
+                  ident);
+            }
+            return Utils.ok(new BaseResponse());
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleFilesetException(OperationType.GET, fileset, schema, e);
+    }
+  }
 }
@@ -31,9 +31,12 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
@@ -53,9 +56,12 @@ import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.requests.FileLocationAccessRequest;
+import org.apache.gravitino.dto.requests.FileLocationAccessesRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
@@ -676,6 +682,92 @@ public class TestFilesetOperations extends BaseOperationsTest {
     Assertions.assertNull(CallerContext.CallerContextHolder.get());
   }
 
+  @Test
+  public void testReportFileLocationAccesses() {
+    NameIdentifier fullIdentifier = NameIdentifier.of(metalake, catalog, schema, "fileset5");
+    List<Map<String, String>> replayedContexts = Lists.newArrayList();
+    when(dispatcher.getFileLocation(Mockito.eq(fullIdentifier), any(), any()))
+        .thenAnswer(
+            (Answer<String>)
+                invocation -> {
+                  CallerContext context = CallerContext.CallerContextHolder.get();
+                  replayedContexts.add(
+                      context == null ? ImmutableMap.of() : ImmutableMap.copyOf(context.context()));
+                  return invocation.getArgument(1);
+                });
+    doThrow(new NoSuchLocationNameException("no found"))
+        .when(dispatcher)
+        .getFileLocation(fullIdentifier, "/test/2", "not_exist");
+
+    FileLocationAccessesRequest req =
+        new FileLocationAccessesRequest(
+            ImmutableList.of(
+                FileLocationAccessRequest.builder()
+                    .subPath("/test/1")
+                    .clientType(InternalClientType.HADOOP_GVFS.name())
+                    .dataOperation(FilesetDataOperation.OPEN.name())
+                    .accessTime(1700000000000L)
+                    .build(),
+                FileLocationAccessRequest.builder()
+                    .subPath("/test/2")
+                    .locationName("not_exist")
+                    .clientType(InternalClientType.HADOOP_GVFS.name())
+                    .dataOperation(FilesetDataOperation.CREATE.name())
+                    .build(),
+                FileLocationAccessRequest.builder()
+                    .subPath("/test/3")
+                    .clientType(InternalClientType.HADOOP_GVFS.name())
+                    .dataOperation("invalid")
+                    .build()));
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset5/location/accesses")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(0, resp.readEntity(BaseResponse.class).getCode());
+
+    // The failed access does not stop the others from being replayed.
+    Mockito.verify(dispatcher).getFileLocation(fullIdentifier, "/test/1", null);
+    Mockito.verify(dispatcher).getFileLocation(fullIdentifier, "/test/3", null);
+    Assertions.assertEquals(2, replayedContexts.size());
+    Assertions.assertEquals(
+        ImmutableMap.of(
+            FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
+            InternalClientType.HADOOP_GVFS.name(),
+            FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+            FilesetDataOperation.OPEN.name(),
+            FilesetAuditConstants.ACCESS_TIME,
+            "1700000000000"),
+        replayedContexts.get(0));
+    Assertions.assertEquals(
+        FilesetDataOperation.UNKNOWN.name(),
+        replayedContexts.get(1).get(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION));
+
+    // Test invalid request
+    FileLocationAccessesRequest invalidReq = new FileLocationAccessesRequest(null);
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema) + "fileset5/location/accesses")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(invalidReq, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+
+    // Test a batch larger than the server accepts
+    FileLocationAccessesRequest tooLargeReq =
+        new FileLocationAccessesRequest(
+            Collections.nCopies(
+                FileLocationAccessesRequest.MAX_ACCESSES + 1,
+                FileLocationAccessRequest.builder().subPath("/test/1").build()));
+    Response resp2 =
+        target(filesetPath(metalake, catalog, schema) + "fileset5/location/accesses")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(tooLargeReq, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+    Assertions.assertEquals(2, replayedContexts.size());
+  }
+
   private void assertUpdateFileset(FilesetUpdatesRequest req, Fileset updatedFileset) {
     when(dispatcher.alterFileset(any(), any(FilesetChange.class))).thenReturn(updatedFileset);
 